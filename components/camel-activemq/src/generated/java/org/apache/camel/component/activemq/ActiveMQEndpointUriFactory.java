@@ -21,7 +21,7 @@ public class ActiveMQEndpointUriFactory extends org.apache.camel.support.compone
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(100);
+        Set<String> props = new HashSet<>(104);
         props.add("acceptMessagesWhileStopping");
         props.add("acknowledgementModeName");
         props.add("allowAdditionalHeaders");
@@ -85,6 +85,10 @@ public class ActiveMQEndpointUriFactory extends org.apache.camel.support.compone
         props.add("password");
         props.add("preserveMessageQos");
         props.add("priority");
+        props.add("producerBatchSize");
+        props.add("producerBatchTimeout");
+        props.add("producerSessionCache");
+        props.add("producerSessionCacheSize");
         props.add("pubSubNoLocal");
         props.add("receiveTimeout");
         props.add("recoveryInterval");
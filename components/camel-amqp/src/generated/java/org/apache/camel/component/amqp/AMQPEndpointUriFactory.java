@@ -21,7 +21,7 @@ public class AMQPEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(99);
+        Set<String> props = new HashSet<>(103);
         props.add("acceptMessagesWhileStopping");
         props.add("acknowledgementModeName");
         props.add("allowAdditionalHeaders");
@@ -84,6 +84,10 @@ public class AMQPEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("password");
         props.add("preserveMessageQos");
         props.add("priority");
+        props.add("producerBatchSize");
+        props.add("producerBatchTimeout");
+        props.add("producerSessionCache");
+        props.add("producerSessionCacheSize");
         props.add("pubSubNoLocal");
         props.add("receiveTimeout");
         props.add("recoveryInterval");
@@ -18,6 +18,8 @@ public class BindyCsvDataFormatConfigurer extends PropertyConfigurerSupport impl
     public boolean configure(CamelContext camelContext, Object target, String name, Object value, boolean ignoreCase) {
         BindyCsvDataFormat dataformat = (BindyCsvDataFormat) target;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "lazyload":
+        case "lazyLoad": dataformat.setLazyLoad(property(camelContext, boolean.class, value)); return true;
         case "locale": dataformat.setLocale(property(camelContext, java.lang.String.class, value)); return true;
         case "classtype":
         case "classType": dataformat.setClassType(property(camelContext, java.lang.Class.class, value)); return true;
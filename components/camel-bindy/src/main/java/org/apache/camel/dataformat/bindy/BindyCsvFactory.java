@@ -16,6 +16,8 @@
  */
 package org.apache.camel.dataformat.bindy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -57,6 +59,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
     private Map<Integer, DataField> dataFields = new LinkedHashMap<>();
     private Map<Integer, Field> annotatedFields = new LinkedHashMap<>();
     private Map<String, Integer> sections = new HashMap<>();
+    private volatile DataFieldBinding[] bindings;
 
     private int numberOptionalFields;
     private int numberMandatoryFields;
@@ -169,23 +172,19 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
     @Override
     public void bind(CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line) throws Exception {
 
+        DataFieldBinding[] bindings = getBindings();
         int pos = 1;
         int counterMandatoryFields = 0;
 
         for (String data : tokens) {
 
             // Get DataField from model
-            DataField dataField = dataFields.get(pos);
+            DataFieldBinding binding = pos < bindings.length ? bindings[pos] : null;
 
             // If a DataField can be skipped, it needs to check whether it is in dataFields keyset
-            if (isSkipField()) {
-                if (dataFields.keySet().contains(pos)) {
-                    counterMandatoryFields
-                            = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
-                }
-            } else {
+            if (!isSkipField() || binding != null) {
                 counterMandatoryFields
-                        = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                        = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, binding);
             }
 
             ++pos;
@@ -204,12 +203,31 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     }
 
+    /**
+     * The bindings of the data fields indexed by position, which are created once for the model.
+     */
+    private DataFieldBinding[] getBindings() {
+        DataFieldBinding[] answer = bindings;
+        if (answer == null) {
+            answer = new DataFieldBinding[maxpos + 1];
+            for (Map.Entry<Integer, DataField> entry : dataFields.entrySet()) {
+                int pos = entry.getKey();
+                if (pos > 0) {
+                    answer[pos] = new DataFieldBinding(entry.getValue(), annotatedFields.get(pos));
+                }
+            }
+            bindings = answer;
+        }
+        return answer;
+    }
+
     private int setDataFieldValue(
             CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data,
-            DataField dataField)
+            DataFieldBinding binding)
             throws Exception {
-        org.apache.camel.util.ObjectHelper.notNull(dataField,
+        org.apache.camel.util.ObjectHelper.notNull(binding,
                 "No position " + pos + " defined for the field: " + data + ", line: " + line);
+        DataField dataField = binding.dataField;
 
         if (dataField.trim()) {
             data = data.trim();
@@ -227,23 +245,15 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             }
         }
 
-        // Get Field to be setted
-        Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
-
         if (LOG.isDebugEnabled()) {
-            LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, field.getType());
+            LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, binding.field.getType());
         }
 
         // Create format object to format the field
-        FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                field.getType(),
-                field.getAnnotation(BindyConverter.class),
-                getLocale());
-        Format<?> format = formatFactory.getFormat(formattingOptions);
+        Format<?> format = binding.getFormat();
 
         // field object to be set
-        Object modelField = model.get(field.getDeclaringClass().getName());
+        Object modelField = model.get(binding.modelName);
 
         // format the data received
         Object value;
@@ -251,7 +261,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         if (!data.isEmpty()) {
             try {
                 if (quoting && quote != null && (data.contains("\\" + quote) || data.contains(quote)) && quotingEscaped) {
-                    value = format.parse(data.replaceAll("\\\\" + quote, "\\" + quote));
+                    value = format.parse(data.replace("\\" + quote, quote));
                 } else if (quote != null && quote.equals(DOUBLE_QUOTES_SYMBOL)
                         && data.contains(DOUBLE_QUOTES_SYMBOL + DOUBLE_QUOTES_SYMBOL) && !quotingEscaped) {
                     // If double-quotes are used to enclose fields, the two double
@@ -270,37 +280,15 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             if (!dataField.defaultValue().isEmpty()) {
                 value = format.parse(dataField.defaultValue());
             } else {
-                value = getDefaultValueForPrimitive(field.getType());
+                value = getDefaultValueForPrimitive(binding.field.getType());
             }
         }
 
         if (value != null && !dataField.method().isEmpty()) {
-            Class<?> clazz;
-            if (dataField.method().contains(".")) {
-                clazz = camelContext.getClassResolver()
-                        .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
-            } else {
-                clazz = field.getType();
-            }
-
-            String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
-                    dataField.method().length());
-
-            Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
-            if (m != null) {
-                // this method must be static and return type
-                // must be the same as the datafield and
-                // must receive only the datafield value
-                // as the method argument
-                value = ObjectHelper.invokeMethod(m, null, value);
-            } else {
-                // fallback to method without parameter, that is on the value itself
-                m = ReflectionHelper.findMethod(clazz, methodName);
-                value = ObjectHelper.invokeMethod(m, value);
-            }
+            value = binding.invokeMethod(camelContext, value);
         }
 
-        field.set(modelField, value);
+        binding.set(modelField, value);
         return counterMandatoryFields;
     }
 
@@ -802,4 +790,97 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
     public boolean isTrimLine() {
         return trimLine;
     }
+
+    /**
+     * The binding of a data field, which holds what is needed to set the field, so it is only looked up once per model
+     * instead of for each line.
+     */
+    private final class DataFieldBinding {
+
+        private final DataField dataField;
+        private final Field field;
+        private final String modelName;
+        private final MethodHandle setter;
+        private volatile Format<?> format;
+        private volatile Method method;
+        private volatile boolean methodOnValue;
+
+        private DataFieldBinding(DataField dataField, Field field) {
+            this.dataField = dataField;
+            this.field = field;
+            this.modelName = field.getDeclaringClass().getName();
+            field.setAccessible(true);
+            MethodHandle mh;
+            try {
+                mh = MethodHandles.lookup().unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                // fallback to set the field using reflection
+                mh = null;
+            }
+            this.setter = mh;
+        }
+
+        Format<?> getFormat() throws Exception {
+            Format<?> answer = format;
+            if (answer == null) {
+                FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
+                        field.getType(),
+                        field.getAnnotation(BindyConverter.class),
+                        getLocale());
+                answer = formatFactory.getFormat(formattingOptions);
+                // a custom converter is created for each use
+                if (formattingOptions.getBindyConverter() == null) {
+                    format = answer;
+                }
+            }
+            return answer;
+        }
+
+        Object invokeMethod(CamelContext camelContext, Object value) throws Exception {
+            Method m = method;
+            if (m == null) {
+                Class<?> clazz;
+                if (dataField.method().contains(".")) {
+                    clazz = camelContext.getClassResolver()
+                            .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
+                } else {
+                    clazz = field.getType();
+                }
+
+                String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
+                        dataField.method().length());
+
+                m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
+                if (m == null) {
+                    // fallback to method without parameter, that is on the value itself
+                    m = ReflectionHelper.findMethod(clazz, methodName);
+                    methodOnValue = true;
+                }
+                method = m;
+            }
+            if (methodOnValue) {
+                return ObjectHelper.invokeMethod(m, value);
+            } else {
+                // this method must be static and return type
+                // must be the same as the datafield and
+                // must receive only the datafield value
+                // as the method argument
+                return ObjectHelper.invokeMethod(m, null, value);
+            }
+        }
+
+        void set(Object target, Object value) throws Exception {
+            if (setter == null) {
+                field.set(target, value);
+                return;
+            }
+            try {
+                setter.invoke(target, value);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
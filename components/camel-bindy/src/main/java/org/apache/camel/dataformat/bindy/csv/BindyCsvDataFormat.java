@@ -17,24 +17,25 @@
 package org.apache.camel.dataformat.bindy.csv;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyCsvFactory;
@@ -54,6 +55,10 @@ import org.slf4j.LoggerFactory;
 @Dataformat("bindyCsv")
 public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     private static final Logger LOG = LoggerFactory.getLogger(BindyCsvDataFormat.class);
+    private static final Pattern TRAILING_WHITESPACE = Pattern.compile("[ \\n\\x0B\\f\\r]+$");
+
+    private boolean lazyLoad;
+    private volatile BindyCsvTokenizer tokenizer;
 
     public BindyCsvDataFormat() {
     }
@@ -67,6 +72,19 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         return "bindyCsv";
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads and binds the lines on the fly, instead of
+     * reading all the lines into a list of models. The iterator can be used with the Splitter in streaming mode, to
+     * process large CSV files with a low memory footprint.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void marshal(Exchange exchange, Object body, OutputStream outputStream) throws Exception {
@@ -158,14 +176,20 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
             in = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
 
-            // Retrieve the separator defined to split the record
-            String separator = factory.getSeparator();
-            String quote = factory.getQuote();
-            org.apache.camel.util.ObjectHelper.notNull(separator,
-                    "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
-            Boolean removeQuotes = factory.getRemoveQuotes();
+            BindyCsvTokenizer tokenizer = getTokenizer(factory);
             AtomicInteger count = new AtomicInteger();
 
+            if (isLazyLoad()) {
+                BindyCsvIterator iterator = new BindyCsvIterator(factory, tokenizer, new BufferedReader(in));
+                in = null;
+                // fail early if there are no records, as when not lazy loading
+                if (!iterator.hasNext() && !isAllowEmptyStream()) {
+                    iterator.close();
+                    throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
+                }
+                return iterator;
+            }
+
             // Use a Stream to stream a file across.
             try (Stream<String> lines = new BufferedReader(in).lines()) {
                 int linesToSkip = 0;
@@ -180,7 +204,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 // If the internals of the consumer fail, we unrap the checked exception upstream.
                 try {
                     lines.skip(linesToSkip)
-                            .forEachOrdered(consumeFile(factory, models, separator, removeQuotes, quote, count));
+                            .forEachOrdered(consumeFile(factory, models, tokenizer, count));
                 } catch (WrappedException e) {
                     throw e.getWrappedException();
                 }
@@ -201,174 +225,142 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
     }
 
+    private BindyCsvTokenizer getTokenizer(BindyCsvFactory factory) {
+        BindyCsvTokenizer answer = tokenizer;
+        if (answer == null) {
+            // Retrieve the separator defined to split the record
+            String separator = factory.getSeparator();
+            org.apache.camel.util.ObjectHelper.notNull(separator,
+                    "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
+            answer = new BindyCsvTokenizer(
+                    separator, factory.getQuote(), Boolean.TRUE.equals(factory.getRemoveQuotes()),
+                    factory.getAutospanLine(), factory.getMaxpos());
+            tokenizer = answer;
+        }
+        return answer;
+    }
+
     private Consumer<String> consumeFile(
-            BindyCsvFactory factory, List<Map<String, Object>> models,
-            String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
+            BindyCsvFactory factory, List<Map<String, Object>> models, BindyCsvTokenizer tokenizer, AtomicInteger count) {
         return line -> {
             try {
-                String trimmedLine;
-
-                // Trim the line coming in to remove any trailing whitespace
-                if (factory.isTrimLine()) {
-                    // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
-                    if (separator.equals("\t")) {
-                        // trim only trailing whitespaces (remove new lines etc but keep tab character)
-                        trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
-                    } else {
-                        trimmedLine = line.trim();
-                    }
-                } else {
-                    // no trim
-                    trimmedLine = line;
-                }
-
-                // Increment counter
-                count.incrementAndGet();
-                Map<String, Object> model;
-
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
-
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
-                Matcher matcher = pattern.matcher(trimmedLine);
-                List<String> separators = new ArrayList<>();
-
-                // Retrieve separators for each match
-                while (matcher.find()) {
-                    separators.add(matcher.group());
-                }
-                // Add terminal separator
-                if (!separators.isEmpty()) {
-                    separators.add(separators.get(separators.size() - 1));
-                }
-
-                Pattern delimiterPattern = Pattern.compile(Pattern.quote(quote) + "(.*?)" + Pattern.quote(quote));
-                Matcher delimiterMatcher = delimiterPattern.matcher(trimmedLine);
-
-                int escapedSubstringToHandle = 0;
-                // Find and print delimited substrings
-                while (delimiterMatcher.find()) {
-                    String substring = delimiterMatcher.group();
-                    escapedSubstringToHandle += pattern.split(substring).length - 1;
-                }
-
-                String[] tokens = pattern.split(trimmedLine,
-                        factory.getAutospanLine() ? factory.getMaxpos() + escapedSubstringToHandle : -1);
+                // Add objects graph to the list
+                models.add(unmarshalLine(factory, tokenizer, line, count.incrementAndGet()));
+            } catch (Exception e) {
+                throw new WrappedException(e);
+            }
+        };
+    }
 
-                List<String> result = Arrays.asList(tokens);
+    private Map<String, Object> unmarshalLine(BindyCsvFactory factory, BindyCsvTokenizer tokenizer, String line, int count)
+            throws Exception {
+        String trimmedLine;
 
-                // must unquote tokens before use
-                if (Boolean.TRUE.equals(removeQuotes)) {
-                    result = unquoteTokens(result, separators, quote);
-                }
+        // Trim the line coming in to remove any trailing whitespace
+        if (factory.isTrimLine()) {
+            // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
+            if (tokenizer.getSeparator().equals("\t")) {
+                // trim only trailing whitespaces (remove new lines etc but keep tab character)
+                trimmedLine = TRAILING_WHITESPACE.matcher(line).replaceAll("");
+            } else {
+                trimmedLine = line.trim();
+            }
+        } else {
+            // no trim
+            trimmedLine = line;
+        }
 
-                if (result.isEmpty()) {
-                    throw new IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
+        // Create POJO where CSV data will be stored
+        Map<String, Object> model = factory.factory();
 
-                    // Bind data from CSV record with model classes
+        // Split the CSV record according to the separator defined in
+        // annotated class @CSVRecord
+        List<String> result = tokenizer.tokenize(trimmedLine);
 
-                    factory.bind(getCamelContext(), result, model, count.get());
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No records have been defined in the CSV");
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Size of the record splitted : {}", result.size());
+        }
 
-                    // Link objects together
-                    factory.link(model);
+        // Bind data from CSV record with model classes
+        factory.bind(getCamelContext(), result, model, count);
 
-                    // Add objects graph to the list
-                    models.add(model);
+        // Link objects together
+        factory.link(model);
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            } catch (Exception e) {
-                throw new WrappedException(e);
-            }
-        };
+        LOG.debug("Graph of objects created: {}", model);
+        return model;
     }
 
     /**
-     * Unquote the tokens, by removing leading and trailing quote chars, as will handling fixing broken tokens which may
-     * have been split by a separator inside a quote.
+     * Iterator which unmarshal the CSV lines on the fly, when using lazy load.
      */
-    private List<String> unquoteTokens(List<String> result, List<String> separators, String quote) {
-        // a current quoted token which we assemble from the broken pieces
-        // we need to do this as we use the split method on the String class
-        // to split the line using regular expression, and it does not handle
-        // if the separator char is also inside a quoted token, therefore we
-        // need
-        // to fix this afterwards
-        StringBuilder current = new StringBuilder();
-        boolean inProgress = false;
-        List<String> answer = new ArrayList<>();
-        int idxSeparator = 0;
-
-        // parsing assumes matching close and end quotes
-        for (String s : result) {
-            boolean canStart = false;
-            boolean canClose = false;
-            boolean cutStart = false;
-            boolean cutEnd = false;
-            if (s.startsWith(quote)) {
-                // token is just a quote
-                if (s.length() == 1) {
-                    s = "";
-                    // if token is a quote then it can only close processing if
-                    // it has begun
-                    if (inProgress) {
-                        canClose = true;
-                    } else {
-                        canStart = true;
-                    }
-                } else {
-                    // quote+"not empty"
-                    cutStart = true;
-                    canStart = true;
-                }
+    private final class BindyCsvIterator implements Iterator<Object>, Closeable {
+
+        private final BindyCsvFactory factory;
+        private final BindyCsvTokenizer tokenizer;
+        private final BufferedReader reader;
+        private int count;
+        private Object next;
+        private boolean done;
+
+        private BindyCsvIterator(BindyCsvFactory factory, BindyCsvTokenizer tokenizer, BufferedReader reader)
+                                                                                                              throws IOException {
+            this.factory = factory;
+            this.tokenizer = tokenizer;
+            this.reader = reader;
+            // If the first line of the CSV file contains columns name, then we
+            // skip this line
+            if (factory.getSkipFirstLine() && reader.readLine() == null) {
+                close();
             }
+        }
 
-            // "not empty"+quote
-            if (s.endsWith(quote)) {
-                cutEnd = true;
-                canClose = true;
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = readNext();
             }
+            return next != null;
+        }
 
-            // optimize to only substring once
-            if (cutEnd || cutStart) {
-                s = s.substring(cutStart ? 1 : 0, cutEnd ? s.length() - 1 : s.length());
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
+            Object answer = next;
+            next = null;
+            return answer;
+        }
 
-            // are we in progress of rebuilding a broken token
-            if (inProgress) {
-                current.append(separators.get(idxSeparator));
-                current.append(s);
-
-                if (canClose) {
-                    answer.add(current.toString());
-                    current.setLength(0);
-                    inProgress = false;
-                }
-            } else {
-                if (canStart && !canClose) {
-                    current.append(s);
-                    inProgress = true;
-                } else {
-                    // case where no quotes
-                    answer.add(s);
+        private Object readNext() {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    Map<String, Object> model = unmarshalLine(factory, tokenizer, line, ++count);
+                    Object answer = getClassType() != null ? model.get(getClassType().getName()) : model;
+                    if (answer != null) {
+                        return answer;
+                    }
                 }
+                close();
+                return null;
+            } catch (Exception e) {
+                close();
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
             }
-            idxSeparator++;
         }
 
-        // any left over from current?
-        if (current.length() > 0) {
-            answer.add(current.toString());
-            current.setLength(0);
+        @Override
+        public void close() {
+            if (!done) {
+                done = true;
+                IOHelper.close(reader, "reader", LOG);
+            }
         }
-
-        return answer;
     }
 
     @Override
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a CSV line into tokens according to the separator and quote of the {@link BindyCsvDataFormat} model.
+ * <p>
+ * The separator of the <tt>@CsvRecord</tt> is a regular expression, however most models use a plain separator such as
+ * <tt>,</tt> or <tt>\\|</tt>. Plain separators are split in a single pass without regular expressions, while other
+ * separators are split using the precompiled pattern. Both give the same tokens.
+ */
+final class BindyCsvTokenizer {
+
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+
+    private final String separator;
+    private final String literal;
+    private final Pattern pattern;
+    private final Pattern delimiterPattern;
+    private final String quote;
+    private final boolean removeQuotes;
+    private final boolean autospanLine;
+    private final int maxpos;
+
+    BindyCsvTokenizer(String separator, String quote, boolean removeQuotes, boolean autospanLine, int maxpos) {
+        this.separator = separator;
+        this.literal = literalSeparator(separator);
+        this.pattern = literal == null ? Pattern.compile(separator) : null;
+        this.quote = quote != null && !quote.isEmpty() ? quote : null;
+        this.delimiterPattern = literal == null && this.quote != null
+                ? Pattern.compile(Pattern.quote(quote) + "(.*?)" + Pattern.quote(quote)) : null;
+        this.removeQuotes = removeQuotes;
+        this.autospanLine = autospanLine;
+        this.maxpos = maxpos;
+    }
+
+    /**
+     * Returns the separator as plain text, or <tt>null</tt> if the separator is a regular expression.
+     */
+    static String literalSeparator(String separator) {
+        if (separator.length() == 2 && separator.charAt(0) == '\\'
+                && REGEX_META_CHARS.indexOf(separator.charAt(1)) != -1) {
+            // an escaped meta char such as \\|
+            return separator.substring(1);
+        }
+        for (int i = 0; i < separator.length(); i++) {
+            if (REGEX_META_CHARS.indexOf(separator.charAt(i)) != -1) {
+                return null;
+            }
+        }
+        return separator.isEmpty() ? null : separator;
+    }
+
+    String getSeparator() {
+        return separator;
+    }
+
+    List<String> tokenize(String line) {
+        return literal != null ? tokenizeLiteral(line) : tokenizePattern(line);
+    }
+
+    private List<String> tokenizeLiteral(String line) {
+        // same limit as String.split, so the last token spans the rest of the line
+        int limit = autospanLine ? maxpos + countQuotedSeparators(line) : -1;
+
+        List<String> answer = new ArrayList<>();
+        Unquoter unquoter = removeQuotes && quote != null ? new Unquoter() : null;
+        int start = 0;
+        int count = 0;
+        while (true) {
+            int end = limit > 0 && count == limit - 1 ? -1 : line.indexOf(literal, start);
+            String token = end == -1 ? line.substring(start) : line.substring(start, end);
+            count++;
+            if (unquoter != null) {
+                unquoter.add(token, literal, answer);
+            } else {
+                answer.add(token);
+            }
+            if (end == -1) {
+                break;
+            }
+            start = end + literal.length();
+        }
+        if (unquoter != null) {
+            unquoter.complete(answer);
+        }
+        return answer;
+    }
+
+    /**
+     * Counts the separators inside quoted text, which are not separating tokens.
+     */
+    private int countQuotedSeparators(String line) {
+        if (quote == null) {
+            return 0;
+        }
+        int answer = 0;
+        int start = line.indexOf(quote);
+        while (start != -1) {
+            int end = line.indexOf(quote, start + quote.length());
+            if (end == -1) {
+                break;
+            }
+            int idx = line.indexOf(literal, start + quote.length());
+            while (idx != -1 && idx + literal.length() <= end) {
+                answer++;
+                idx = line.indexOf(literal, idx + literal.length());
+            }
+            start = line.indexOf(quote, end + quote.length());
+        }
+        return answer;
+    }
+
+    private List<String> tokenizePattern(String line) {
+        Matcher matcher = pattern.matcher(line);
+        List<String> separators = new ArrayList<>();
+
+        // Retrieve separators for each match
+        while (matcher.find()) {
+            separators.add(matcher.group());
+        }
+        // Add terminal separator
+        if (!separators.isEmpty()) {
+            separators.add(separators.get(separators.size() - 1));
+        }
+
+        int escapedSubstringToHandle = 0;
+        if (delimiterPattern != null) {
+            Matcher delimiterMatcher = delimiterPattern.matcher(line);
+            // Find delimited substrings
+            while (delimiterMatcher.find()) {
+                String substring = delimiterMatcher.group();
+                escapedSubstringToHandle += pattern.split(substring).length - 1;
+            }
+        }
+
+        String[] tokens = pattern.split(line, autospanLine ? maxpos + escapedSubstringToHandle : -1);
+        List<String> result = Arrays.asList(tokens);
+
+        // must unquote tokens before use
+        if (removeQuotes && quote != null) {
+            List<String> answer = new ArrayList<>(result.size());
+            Unquoter unquoter = new Unquoter();
+            for (int i = 0; i < tokens.length; i++) {
+                unquoter.add(tokens[i], i < separators.size() ? separators.get(i) : null, answer);
+            }
+            unquoter.complete(answer);
+            result = answer;
+        }
+        return result;
+    }
+
+    /**
+     * Unquotes the tokens, by removing leading and trailing quote chars, and joins tokens that were split by a
+     * separator inside a quote.
+     */
+    private final class Unquoter {
+
+        // a current quoted token which we assemble from the broken pieces
+        private final StringBuilder current = new StringBuilder();
+        private boolean inProgress;
+
+        // parsing assumes matching close and end quotes
+        void add(String s, String separator, List<String> answer) {
+            boolean canStart = false;
+            boolean canClose = false;
+            boolean cutStart = false;
+            boolean cutEnd = false;
+            if (s.startsWith(quote)) {
+                // token is just a quote
+                if (s.length() == 1) {
+                    s = "";
+                    // if token is a quote then it can only close processing if
+                    // it has begun
+                    if (inProgress) {
+                        canClose = true;
+                    } else {
+                        canStart = true;
+                    }
+                } else {
+                    // quote+"not empty"
+                    cutStart = true;
+                    canStart = true;
+                }
+            }
+
+            // "not empty"+quote
+            if (s.endsWith(quote)) {
+                cutEnd = true;
+                canClose = true;
+            }
+
+            // optimize to only substring once
+            if (cutEnd || cutStart) {
+                s = s.substring(cutStart ? 1 : 0, cutEnd ? s.length() - 1 : s.length());
+            }
+
+            // are we in progress of rebuilding a broken token
+            if (inProgress) {
+                current.append(separator);
+                current.append(s);
+
+                if (canClose) {
+                    answer.add(current.toString());
+                    current.setLength(0);
+                    inProgress = false;
+                }
+            } else {
+                if (canStart && !canClose) {
+                    current.append(s);
+                    inProgress = true;
+                } else {
+                    // case where no quotes
+                    answer.add(s);
+                }
+            }
+        }
+
+        void complete(List<String> answer) {
+            // any left over from current?
+            if (current.length() > 0) {
+                answer.add(current.toString());
+                current.setLength(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.pipeline.MyData;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BindyCsvLazyLoadTest extends CamelTestSupport {
+
+    @Test
+    public void testLazyLoadSplit() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.allMessages().body().isInstanceOf(MyData.class);
+
+        template.sendBody("direct:start", "COL1|COL2|COL3\nHAPPY|NEW|YEAR\n1|2|3");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        MyData data = mock.getReceivedExchanges().get(1).getIn().getBody(MyData.class);
+        assertEquals("HAPPY", data.getCol1());
+        assertEquals("NEW", data.getCol2());
+        assertEquals("YEAR", data.getCol3());
+        assertEquals("3", mock.getReceivedExchanges().get(2).getIn().getBody(MyData.class).getCol3());
+    }
+
+    @Test
+    public void testLazyLoadFromModel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:model");
+        mock.expectedMessageCount(3);
+        mock.allMessages().body().isInstanceOf(MyData.class);
+
+        template.sendBody("direct:model", "COL1|COL2|COL3\nHAPPY|NEW|YEAR\n1|2|3");
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals("NEW", mock.getReceivedExchanges().get(1).getIn().getBody(MyData.class).getCol2());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                BindyCsvDataFormat bindy = new BindyCsvDataFormat(MyData.class);
+                bindy.setLazyLoad(true);
+
+                from("direct:start")
+                        .unmarshal(bindy)
+                        .split(body()).streaming()
+                        .to("mock:result");
+
+                from("direct:model")
+                        .unmarshal(new BindyDataFormat().csv().classType(MyData.class).lazyLoad(true))
+                        .split(body()).streaming()
+                        .to("mock:model");
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BindyCsvTokenizerTest {
+
+    private static final String[] LINES = {
+            "a,b,c", "\"a,b\",c", "\"a\"b,c", "a,\",b", "\"a,\",b", "\"a,\"\",b", ",,", "", "\"\",x", "a,\"b,c,d\",e,f",
+            "\"a\" ,b", "a\"b,c" };
+
+    @Test
+    public void testLiteralSeparator() {
+        assertEquals(",", BindyCsvTokenizer.literalSeparator(","));
+        assertEquals("\t", BindyCsvTokenizer.literalSeparator("\t"));
+        assertEquals("|", BindyCsvTokenizer.literalSeparator("\\|"));
+        assertEquals("::", BindyCsvTokenizer.literalSeparator("::"));
+        assertNull(BindyCsvTokenizer.literalSeparator("[,;]"));
+        assertNull(BindyCsvTokenizer.literalSeparator("\\s+"));
+    }
+
+    @Test
+    public void testTokenize() {
+        BindyCsvTokenizer tokenizer = new BindyCsvTokenizer(",", "\"", true, false, 3);
+        assertEquals(List.of("a", "b", "c"), tokenizer.tokenize("a,b,c"));
+        assertEquals(List.of("a,b", "c"), tokenizer.tokenize("\"a,b\",c"));
+        assertEquals(List.of("", "", ""), tokenizer.tokenize(",,"));
+    }
+
+    @Test
+    public void testSameTokensAsRegex() {
+        for (boolean removeQuotes : new boolean[] { true, false }) {
+            for (boolean autospan : new boolean[] { true, false }) {
+                BindyCsvTokenizer literal = new BindyCsvTokenizer(",", "\"", removeQuotes, autospan, 2);
+                BindyCsvTokenizer regex = new BindyCsvTokenizer("[,]", "\"", removeQuotes, autospan, 2);
+                for (String line : LINES) {
+                    assertEquals(regex.tokenize(line), literal.tokenize(line),
+                            "Line: " + line + ", removeQuotes: " + removeQuotes + ", autospan: " + autospan);
+                }
+            }
+        }
+    }
+}
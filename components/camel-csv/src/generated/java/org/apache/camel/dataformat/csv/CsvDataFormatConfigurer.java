@@ -63,6 +63,8 @@ public class CsvDataFormatConfigurer extends PropertyConfigurerSupport implement
         case "useMaps": dataformat.setUseMaps(property(camelContext, boolean.class, value)); return true;
         case "useorderedmaps":
         case "useOrderedMaps": dataformat.setUseOrderedMaps(property(camelContext, boolean.class, value)); return true;
+        case "userecordview":
+        case "useRecordView": dataformat.setUseRecordView(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -66,6 +66,7 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
     private boolean lazyLoad;
     private boolean useMaps;
     private boolean useOrderedMaps;
+    private boolean useRecordView;
     private CsvRecordConverter<?> recordConverter;
 
     private CsvMarshallerFactory marshallerFactory = CsvMarshallerFactory.DEFAULT;
@@ -743,6 +744,28 @@ public class CsvDataFormat extends ServiceSupport implements DataFormat, DataFor
         return this;
     }
 
+    /**
+     * Indicates whether or not the unmarshalling should produce record views instead of lists.
+     *
+     * @return {@code true} for record views, {@code false} for lists
+     */
+    public boolean isUseRecordView() {
+        return useRecordView;
+    }
+
+    /**
+     * Sets whether or not the unmarshalling should produce record views instead of lists. A {@link CsvRecordView} is a
+     * read-only list which gives access to the values of the parsed record (also by column name), without copying them
+     * into a new list or map. This reduces the allocations when only a few columns of wide CSV records are used.
+     *
+     * @param  useRecordView {@code true} for record views, {@code false} for lists
+     * @return               Current {@code CsvDataFormat}, fluent API
+     */
+    public CsvDataFormat setUseRecordView(boolean useRecordView) {
+        this.useRecordView = useRecordView;
+        return this;
+    }
+
     /**
      * Gets the record converter to use. If {@code null} then it will use {@link CsvDataFormat#isUseMaps()} for finding
      * the proper converter.
@@ -54,6 +54,24 @@ final class CsvRecordConverters {
         }
     }
 
+    /**
+     * Returns a converter that wraps the CSV record in a list view, without copying the values.
+     *
+     * @return converter that wraps the CSV record in a list view
+     */
+    public static CsvRecordConverter<CsvRecordView> recordViewConverter() {
+        return RecordViewCsvRecordConverter.SINGLETON;
+    }
+
+    private static final class RecordViewCsvRecordConverter implements CsvRecordConverter<CsvRecordView> {
+        private static final RecordViewCsvRecordConverter SINGLETON = new RecordViewCsvRecordConverter();
+
+        @Override
+        public CsvRecordView convertRecord(CSVRecord csvRecord) {
+            return new CsvRecordView(csvRecord);
+        }
+    }
+
     /**
      * Returns a converter that transforms the CSV record into a map.
      *
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.csv;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * A read-only list view of a CSV record, which does not copy the values of the record.
+ * <p>
+ * The columns can be accessed by index, or by name when the CSV has a header, using the header index which is resolved
+ * once by the parser. Use {@link #toList()} or {@link #toMap()} to copy the record when needed.
+ *
+ * @see CsvDataFormat#setUseRecordView(boolean)
+ */
+public final class CsvRecordView extends AbstractList<String> implements RandomAccess {
+
+    private final CSVRecord csvRecord;
+
+    CsvRecordView(CSVRecord csvRecord) {
+        this.csvRecord = csvRecord;
+    }
+
+    @Override
+    public String get(int index) {
+        return csvRecord.get(index);
+    }
+
+    @Override
+    public int size() {
+        return csvRecord.size();
+    }
+
+    /**
+     * Gets the value of the given column.
+     *
+     * @param  name                     the name of the column
+     * @return                          the value
+     * @throws IllegalStateException    if the CSV has no header
+     * @throws IllegalArgumentException if the CSV has no column with the given name
+     */
+    public String get(String name) {
+        return csvRecord.get(name);
+    }
+
+    /**
+     * Whether the CSV has a column with the given name, and this record has a value for it.
+     */
+    public boolean isSet(String name) {
+        return csvRecord.isSet(name);
+    }
+
+    /**
+     * The number of this record in the CSV.
+     */
+    public long getRecordNumber() {
+        return csvRecord.getRecordNumber();
+    }
+
+    /**
+     * The underlying commons-csv record.
+     */
+    public CSVRecord getRecord() {
+        return csvRecord;
+    }
+
+    /**
+     * Copies the values of this record into a new list.
+     */
+    public List<String> toList() {
+        return new ArrayList<>(this);
+    }
+
+    /**
+     * Copies the values of this record into a new map, using the header as keys.
+     */
+    public Map<String, String> toMap() {
+        return csvRecord.toMap();
+    }
+}
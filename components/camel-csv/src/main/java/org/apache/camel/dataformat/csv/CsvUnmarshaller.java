@@ -79,6 +79,8 @@ abstract class CsvUnmarshaller {
     private static CsvRecordConverter<?> extractConverter(CsvDataFormat dataFormat) {
         if (dataFormat.getRecordConverter() != null) {
             return dataFormat.getRecordConverter();
+        } else if (dataFormat.isUseRecordView()) {
+            return CsvRecordConverters.recordViewConverter();
         } else if (dataFormat.isUseOrderedMaps()) {
             return CsvRecordConverters.orderedMapConverter();
         } else if (dataFormat.isUseMaps()) {
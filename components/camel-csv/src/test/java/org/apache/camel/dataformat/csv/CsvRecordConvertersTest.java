@@ -65,4 +65,16 @@ public class CsvRecordConvertersTest {
         assertEquals("2", map.get("B"));
         assertEquals("3", map.get("C"));
     }
+
+    @Test
+    void shouldConvertAsRecordView() {
+        CsvRecordView view = CsvRecordConverters.recordViewConverter().convertRecord(record);
+
+        assertNotNull(view);
+        assertEquals(3, view.size());
+        assertEquals("1", view.get(0));
+        assertEquals("2", view.get("B"));
+        assertEquals(List.of("1", "2", "3"), view.toList());
+        assertEquals("3", view.toMap().get("C"));
+    }
 }
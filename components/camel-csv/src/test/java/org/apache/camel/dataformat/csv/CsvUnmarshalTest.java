@@ -157,6 +157,32 @@ public class CsvUnmarshalTest extends CamelTestSupport {
         assertEquals(asMap("A", "one", "B", "two", "C", "three"), map2);
     }
 
+    @Test
+    void shouldUseLazyLoadingAndRecordViews() throws Exception {
+        line.expectedMessageCount(2);
+        template.sendBody("direct:lazy_view", CSV_SAMPLE);
+        line.assertIsSatisfied();
+
+        CsvRecordView view1 = line.getExchanges().get(0).getIn().getBody(CsvRecordView.class);
+        CsvRecordView view2 = line.getExchanges().get(1).getIn().getBody(CsvRecordView.class);
+
+        assertEquals(Arrays.asList("1", "2", "3"), view1);
+        assertEquals("two", view2.get("B"));
+        assertEquals(asMap("A", "one", "B", "two", "C", "three"), view2.toMap());
+    }
+
+    @Test
+    void shouldUseRecordViewsFromModel() throws Exception {
+        output.expectedMessageCount(1);
+        template.sendBody("direct:view_model", CSV_SAMPLE);
+        output.assertIsSatisfied();
+
+        List<?> body = assertIsInstanceOf(List.class, output.getExchanges().get(0).getIn().getBody());
+        assertEquals(3, body.size());
+        CsvRecordView view = assertIsInstanceOf(CsvRecordView.class, body.get(1));
+        assertEquals(Arrays.asList("1", "2", "3"), view);
+    }
+
     @Test
     void shouldUseMapsAndHeaders() throws Exception {
         output.expectedMessageCount(1);
@@ -212,7 +238,17 @@ public class CsvUnmarshalTest extends CamelTestSupport {
                         .split().body()
                         .to("mock:line");
 
+                // Use lazy load and record views
+                from("direct:lazy_view")
+                        .unmarshal(new CsvDataFormat().setLazyLoad(true).setUseRecordView(true).setSkipHeaderRecord(true))
+                        .split().body()
+                        .to("mock:line");
+
                 // Use map without first line and headers
+                from("direct:view_model")
+                        .unmarshal(new org.apache.camel.model.dataformat.CsvDataFormat.Builder().useRecordView(true).end())
+                        .to("mock:output");
+
                 from("direct:map_headers")
                         .unmarshal(new CsvDataFormat().setUseMaps(true).setSkipHeaderRecord(true)
                                 .setHeader(new String[] { "AA", "BB", "CC" }))
@@ -22,7 +22,8 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(54);
+        Set<String> props = new HashSet<>(57);
+        props.add("asyncMaxResponseBodySize");
         props.add("authDomain");
         props.add("authHost");
         props.add("authMethod");
@@ -45,6 +46,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("followRedirects");
         props.add("getWithBody");
         props.add("headerFilterStrategy");
+        props.add("httpAsyncClient");
         props.add("httpClient");
         props.add("httpClientConfigurer");
         props.add("httpClientOptions");
@@ -74,6 +76,7 @@ public class HttpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("skipResponseHeaders");
         props.add("sslContextParameters");
         props.add("throwExceptionOnFailure");
+        props.add("useAsyncClient");
         props.add("useSystemProperties");
         props.add("userAgent");
         props.add("x509HostnameVerifier");
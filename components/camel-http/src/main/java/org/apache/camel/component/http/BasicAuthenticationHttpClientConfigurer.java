@@ -19,6 +19,7 @@ package org.apache.camel.component.http;
 import org.apache.hc.client5.http.auth.Credentials;
 import org.apache.hc.client5.http.auth.NTCredentials;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 
 public class BasicAuthenticationHttpClientConfigurer implements HttpClientConfigurer {
@@ -39,14 +40,22 @@ public class BasicAuthenticationHttpClientConfigurer implements HttpClientConfig
 
     @Override
     public void configureHttpClient(HttpClientBuilder clientBuilder) {
-        Credentials defaultcreds;
+        clientBuilder.setDefaultCredentialsProvider(credentialsHelper
+                .getCredentialsProvider(host, null, createCredentials()));
+    }
+
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        clientBuilder.setDefaultCredentialsProvider(credentialsHelper
+                .getCredentialsProvider(host, null, createCredentials()));
+    }
+
+    private Credentials createCredentials() {
         if (domain != null) {
-            defaultcreds = new NTCredentials(username, password, host, domain);
+            return new NTCredentials(username, password, host, domain);
         } else {
-            defaultcreds = new UsernamePasswordCredentials(username, password);
+            return new UsernamePasswordCredentials(username, password);
         }
-        clientBuilder.setDefaultCredentialsProvider(credentialsHelper
-                .getCredentialsProvider(host, null, defaultcreds));
     }
 
 }
@@ -19,6 +19,7 @@ package org.apache.camel.component.http;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 
 public class CompositeHttpConfigurer implements HttpClientConfigurer {
@@ -38,6 +39,13 @@ public class CompositeHttpConfigurer implements HttpClientConfigurer {
         }
     }
 
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        for (HttpClientConfigurer configurer : configurers) {
+            configurer.configureHttpAsyncClient(clientBuilder);
+        }
+    }
+
     public static CompositeHttpConfigurer combineConfigurers(
             HttpClientConfigurer oldConfigurer, HttpClientConfigurer newConfigurer) {
         if (oldConfigurer instanceof CompositeHttpConfigurer compositeHttpConfigurer) {
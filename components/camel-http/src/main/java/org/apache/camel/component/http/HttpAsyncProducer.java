@@ -0,0 +1,420 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.spi.AsyncProcessorAwaitManager;
+import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.IOHelper;
+import org.apache.hc.client5.http.auth.Credentials;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.auth.BasicAuthCache;
+import org.apache.hc.client5.http.impl.auth.BasicScheme;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.FileEntity;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.entity.AbstractBinAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducerWrapper;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.AbstractAsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A non-blocking HTTP producer which uses the HttpClient 5 async client, so the calling thread is not blocked while
+ * waiting for the response.
+ * <p/>
+ * The HTTP request is created and the response is handled in the same way as the {@link HttpProducer}. The request body
+ * is streamed to the server, and the response body is streamed into a {@link CachedOutputStream} (which can spool to
+ * disk), before the exchange is continued on a thread from the producer thread pool, so the I/O thread which received
+ * the response is not blocked by the rest of the route. When stream caching is disabled then the response body is kept
+ * in memory instead (up to asyncMaxResponseBodySize), as it cannot be read from the connection afterwards.
+ */
+public class HttpAsyncProducer extends HttpProducer implements AsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private boolean endpointClient;
+    private ExecutorService executorService;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (httpAsyncClient == null) {
+            // the client is owned (and closed) by the endpoint
+            httpAsyncClient = getEndpoint().getHttpAsyncClient();
+            endpointClient = true;
+        }
+        // starting the client is a noop if its already started
+        httpAsyncClient.start();
+        if (executorService == null) {
+            // used for streaming request bodies which are read using blocking I/O, and for continuing the exchanges
+            // when the responses have been received
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newDefaultThreadPool(this, "HttpAsyncProducer");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        if (endpointClient) {
+            // the endpoint may close the client, so get it again on restart
+            httpAsyncClient = null;
+            endpointClient = false;
+        }
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        AsyncProcessorAwaitManager awaitManager = PluginHelper.getAsyncProcessorAwaitManager(exchange.getContext());
+        awaitManager.process(this, exchange);
+    }
+
+    @Override
+    public CompletableFuture<Exchange> processAsync(Exchange exchange) {
+        AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
+        process(exchange, callback);
+        return callback.getFuture();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final HttpUriRequest httpRequest;
+        final HttpHost httpHost;
+        final AsyncEntityProducer entityProducer;
+        final HttpContext httpContext;
+        try {
+            httpRequest = createRequest(exchange);
+            httpHost = createHost(httpRequest);
+            entityProducer = createEntityProducer(httpRequest.getEntity());
+            httpContext = createHttpContext();
+            if (getEndpoint().isAuthenticationPreemptive()) {
+                initPreemptiveAuth(httpContext, httpHost);
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        try {
+            int maxBodySize = getEndpoint().isDisableStreamCache() ? getEndpoint().getAsyncMaxResponseBodySize() : -1;
+            httpAsyncClient.execute(httpHost, new BasicRequestProducer(httpRequest, entityProducer),
+                    new ResponseConsumer(exchange, maxBodySize), null, httpContext,
+                    new FutureCallback<>() {
+                        @Override
+                        public void completed(ClassicHttpResponse httpResponse) {
+                            continueRouting(callback, () -> {
+                                InputStream body = getContent(httpResponse);
+                                try {
+                                    handleResponse(exchange, httpRequest, httpResponse);
+                                } catch (Exception e) {
+                                    exchange.setException(e);
+                                } finally {
+                                    if (body != null && body != exchange.getMessage().getBody()) {
+                                        // the response body was not used as message body (such as when an exception
+                                        // is thrown), so close it to delete any spooled temporary file
+                                        IOHelper.close(body, "Closing response body", LOG);
+                                    }
+                                    EntityUtils.consumeQuietly(httpRequest.getEntity());
+                                }
+                            });
+                        }
+
+                        @Override
+                        public void failed(Exception e) {
+                            continueRouting(callback, () -> {
+                                EntityUtils.consumeQuietly(httpRequest.getEntity());
+                                exchange.setException(e);
+                            });
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            continueRouting(callback, () -> {
+                                EntityUtils.consumeQuietly(httpRequest.getEntity());
+                                exchange.setException(new CamelExchangeException("HTTP request cancelled", exchange));
+                            });
+                        }
+                    });
+        } catch (Exception e) {
+            // such as when the client is closed
+            EntityUtils.consumeQuietly(httpRequest.getEntity());
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Completes the exchange using the given task, and continues routing, on a thread from the producer thread pool
+     * instead of the I/O thread of the async client.
+     */
+    private void continueRouting(AsyncCallback callback, Runnable task) {
+        Runnable continuation = () -> {
+            try {
+                task.run();
+            } finally {
+                callback.done(false);
+            }
+        };
+        try {
+            executorService.execute(continuation);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("The producer thread pool is shut down, continuing the exchange on the I/O thread");
+            continuation.run();
+        }
+    }
+
+    /**
+     * Initializes preemptive basic authentication for the request (authenticationPreemptive), as the async client does
+     * not support the exec chain handler used by the classic client.
+     */
+    private void initPreemptiveAuth(HttpContext httpContext, HttpHost httpHost) throws HttpException {
+        HttpEndpoint endpoint = getEndpoint();
+        Credentials credentials = HttpCredentialsHelper.getCredentials(endpoint.getAuthMethod(), endpoint.getAuthUsername(),
+                endpoint.getAuthPassword(), endpoint.getAuthHost(), endpoint.getAuthDomain());
+        if (credentials == null) {
+            throw new HttpException("No credentials for preemptive authentication");
+        }
+        BasicScheme authScheme = new BasicScheme();
+        authScheme.initPreemptive(credentials);
+        BasicAuthCache authCache = new BasicAuthCache();
+        authCache.put(httpHost, authScheme);
+        HttpClientContext.adapt(httpContext).setAuthCache(authCache);
+    }
+
+    @Override
+    protected InputStream doExtractResponseBodyAsStream(InputStream is, Exchange exchange) throws IOException {
+        if (is instanceof StreamCache) {
+            // the response body has already been cached while it was received
+            return is;
+        }
+        return super.doExtractResponseBodyAsStream(is, exchange);
+    }
+
+    private static InputStream getContent(ClassicHttpResponse httpResponse) {
+        HttpEntity entity = httpResponse.getEntity();
+        try {
+            return entity != null ? entity.getContent() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adapts the request entity (created as for the blocking {@link HttpProducer}) to an {@link AsyncEntityProducer}.
+     * Entities which are already in memory are sent as-is, and other entities such as files and streams are streamed
+     * using a thread from the producer thread pool.
+     */
+    protected AsyncEntityProducer createEntityProducer(HttpEntity entity) throws IOException {
+        if (entity == null) {
+            return null;
+        }
+        ContentType contentType = entity.getContentType() != null ? ContentType.parse(entity.getContentType()) : null;
+        if (!entity.isStreaming() && !(entity instanceof FileEntity)) {
+            // byte array and string entities
+            return new BasicAsyncEntityProducer(EntityUtils.toByteArray(entity), contentType, entity.isChunked());
+        }
+
+        AsyncEntityProducer answer = new AbstractClassicEntityProducer(BUFFER_SIZE, contentType, executorService) {
+            @Override
+            protected void produceData(ContentType contentType, OutputStream outputStream) throws IOException {
+                entity.writeTo(outputStream);
+            }
+        };
+        final long length = entity.getContentLength();
+        if (length > 0) {
+            // use the known content length instead of chunked transfer encoding
+            answer = new AsyncEntityProducerWrapper(answer) {
+                @Override
+                public long getContentLength() {
+                    return length;
+                }
+
+                @Override
+                public boolean isChunked() {
+                    return false;
+                }
+            };
+        }
+        return answer;
+    }
+
+    public CloseableHttpAsyncClient getHttpAsyncClient() {
+        return httpAsyncClient;
+    }
+
+    public void setHttpAsyncClient(CloseableHttpAsyncClient httpAsyncClient) {
+        this.httpAsyncClient = httpAsyncClient;
+    }
+
+    /**
+     * Consumes the response into a {@link ClassicHttpResponse} with the response body streamed into a
+     * {@link CachedOutputStream} (or into memory when stream caching is disabled), so the response can be handled the
+     * same way as by the blocking producer.
+     */
+    private static final class ResponseConsumer extends AbstractAsyncResponseConsumer<ClassicHttpResponse, BodyHolder> {
+
+        ResponseConsumer(Exchange exchange, int maxBodySize) {
+            super(new BodyConsumer(exchange, maxBodySize));
+        }
+
+        @Override
+        protected ClassicHttpResponse buildResult(HttpResponse response, BodyHolder body, ContentType contentType) {
+            BasicClassicHttpResponse answer = new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+            answer.setVersion(response.getVersion());
+            answer.setHeaders(response.getHeaders());
+            if (body != null) {
+                answer.setEntity(new InputStreamEntity(body.is, body.length, contentType));
+            }
+            return answer;
+        }
+
+        @Override
+        public void informationResponse(HttpResponse response, HttpContext context) {
+            // noop
+        }
+    }
+
+    private static final class BodyHolder {
+        private final InputStream is;
+        private final long length;
+
+        private BodyHolder(InputStream is, long length) {
+            this.is = is;
+            this.length = length;
+        }
+    }
+
+    private static final class BodyConsumer extends AbstractBinAsyncEntityConsumer<BodyHolder> {
+
+        private final Exchange exchange;
+        // the maximum size of the body kept in memory, or -1 when using stream caching
+        private final int maxBodySize;
+        private final byte[] chunk = new byte[BUFFER_SIZE];
+        private OutputStream cos;
+        private long length;
+
+        BodyConsumer(Exchange exchange, int maxBodySize) {
+            this.exchange = exchange;
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        protected void streamStart(ContentType contentType) {
+            if (maxBodySize >= 0) {
+                // the body cannot be read from the connection later, so keep it in memory
+                cos = new ByteArrayOutputStream();
+            } else {
+                // This CachedOutputStream will not be closed when the exchange is onCompletion
+                cos = new CachedOutputStream(exchange, false);
+            }
+            length = 0;
+        }
+
+        @Override
+        protected int capacityIncrement() {
+            // the body is spooled to disk or limited in size, so there is no need to throttle the server
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+            if (maxBodySize >= 0 && length + src.remaining() > maxBodySize) {
+                throw new IOException(
+                        "The response body is larger than the maximum of " + maxBodySize
+                                      + " bytes (asyncMaxResponseBodySize) kept in memory when stream caching is disabled");
+            }
+            if (src.hasArray()) {
+                int len = src.remaining();
+                cos.write(src.array(), src.arrayOffset() + src.position(), len);
+                src.position(src.limit());
+                length += len;
+            } else {
+                while (src.hasRemaining()) {
+                    int len = Math.min(src.remaining(), chunk.length);
+                    src.get(chunk, 0, len);
+                    cos.write(chunk, 0, len);
+                    length += len;
+                }
+            }
+        }
+
+        @Override
+        protected BodyHolder generateContent() throws IOException {
+            if (cos instanceof CachedOutputStream cached) {
+                // When the InputStream is closed, the CachedOutputStream will be closed
+                return new BodyHolder(cached.getWrappedInputStream(), length);
+            }
+            return new BodyHolder(new ByteArrayInputStream(((ByteArrayOutputStream) cos).toByteArray()), length);
+        }
+
+        @Override
+        public void releaseResources() {
+            if (cos != null && getContent() == null) {
+                // the response was not completed
+                IOHelper.close(cos, "Consuming response body", LOG);
+            }
+            cos = null;
+        }
+    }
+
+}
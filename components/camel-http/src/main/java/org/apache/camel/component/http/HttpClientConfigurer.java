@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.http;
 
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 
 /**
@@ -29,4 +30,17 @@ public interface HttpClientConfigurer {
      * @param clientBuilder the client
      */
     void configureHttpClient(HttpClientBuilder clientBuilder);
+
+    /**
+     * Configure the HttpAsyncClient (used by the producer when useAsyncClient is enabled) such as setting the
+     * authentication or proxying details.
+     * <p/>
+     * By default the async client is not supported, so the configuration is not silently ignored.
+     *
+     * @param clientBuilder the client
+     */
+    default void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        throw new UnsupportedOperationException(
+                "The HttpClientConfigurer " + getClass().getName() + " does not support the async client (useAsyncClient)");
+    }
 }
@@ -397,6 +397,9 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         String endpointUriString = endpointUri.toString();
 
         LOG.debug("Creating endpoint uri {}", endpointUriString);
+        // keep the connection pool sizes which are also needed if the endpoint is using the async client
+        final int valMaxTotalConnections = getParameter(parameters, "maxTotalConnections", int.class, 0);
+        final int valConnectionsPerRoute = getParameter(parameters, "connectionsPerRoute", int.class, 0);
         final HttpClientConnectionManager localConnectionManager
                 = createConnectionManager(parameters, sslContextParameters, httpConnectionOptions);
         final HttpClientBuilder clientBuilder = createHttpClientBuilder(uri, parameters, httpClientOptions);
@@ -410,6 +413,9 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         endpoint.setSkipResponseHeaders(skipResponseHeaders);
         endpoint.setUserAgent(userAgent);
         endpoint.setMuteException(muteException);
+        endpoint.setSslContextParameters(sslContextParameters);
+        endpoint.setMaxTotalConnections(valMaxTotalConnections);
+        endpoint.setConnectionsPerRoute(valConnectionsPerRoute);
 
         // configure the endpoint with the common configuration from the component
         if (getHttpConfiguration() != null) {
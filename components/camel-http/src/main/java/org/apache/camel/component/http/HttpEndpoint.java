@@ -17,16 +17,20 @@
 package org.apache.camel.component.http;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.net.URI;
+import java.security.GeneralSecurityException;
 import java.util.Map;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.Category;
 import org.apache.camel.Consumer;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.http.base.HttpHelper;
@@ -39,16 +43,27 @@ import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
 import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.cookie.CookieStore;
 import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.pool.ConnPoolControl;
 import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,6 +104,21 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private HttpClientBuilder clientBuilder;
     @UriParam(label = "advanced", description = "Sets a custom HttpClient to be used by the producer")
     private HttpClient httpClient;
+    @UriParam(label = "producer,advanced", defaultValue = "false",
+              description = "Whether the producer should use the non-blocking HttpClient 5 async client instead of the classic blocking client."
+                            + " The async client does not block the calling thread while waiting for the response, and negotiates HTTP/2 for secure connections."
+                            + " Notice that the httpClient options are only applied to the classic client, and a custom HttpClientConfigurer"
+                            + " must support the async client.")
+    private boolean useAsyncClient;
+    @UriParam(label = "producer,advanced", defaultValue = "10485760",
+              description = "The maximum size in bytes of a response body received by the async client (useAsyncClient) when"
+                            + " disableStreamCache is enabled, as the response body is then kept in memory. The exchange fails"
+                            + " if the response body is larger.")
+    private int asyncMaxResponseBodySize = 10 * 1024 * 1024;
+    @UriParam(label = "advanced",
+              description = "Sets a custom HttpAsyncClient to be used by the producer when useAsyncClient is enabled")
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private boolean httpAsyncClientCreated;
     @UriParam(label = "advanced", defaultValue = "false",
               description = "To use System Properties as fallback for configuration")
     private boolean useSystemProperties;
@@ -192,6 +222,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     public Producer createProducer() throws Exception {
+        if (useAsyncClient) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -287,6 +320,124 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    public synchronized CloseableHttpAsyncClient getHttpAsyncClient() {
+        if (httpAsyncClient == null) {
+            try {
+                httpAsyncClient = createHttpAsyncClient();
+                httpAsyncClientCreated = true;
+            } catch (GeneralSecurityException | IOException e) {
+                throw new RuntimeCamelException("Error creating HttpAsyncClient", e);
+            }
+        }
+        return httpAsyncClient;
+    }
+
+    /**
+     * Sets a custom HttpAsyncClient to be used by the producer when useAsyncClient is enabled
+     */
+    public synchronized void setHttpAsyncClient(CloseableHttpAsyncClient httpAsyncClient) {
+        this.httpAsyncClient = httpAsyncClient;
+        this.httpAsyncClientCreated = false;
+    }
+
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() throws GeneralSecurityException, IOException {
+        HttpComponent component = getComponent();
+
+        SSLContext sslContext;
+        if (sslContextParameters != null) {
+            sslContext = sslContextParameters.createSSLContext(getCamelContext());
+        } else {
+            sslContext = useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault();
+        }
+        HostnameVerifier hostnameVerifier = x509HostnameVerifier != null
+                ? x509HostnameVerifier : component.getX509HostnameVerifier();
+
+        PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder
+                = PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setTlsStrategy(ClientTlsStrategyBuilder.create()
+                                .setSslContext(sslContext)
+                                .setHostnameVerifier(hostnameVerifier)
+                                .build())
+                        // use HTTP/2 if the server supports it (negotiated using TLS ALPN)
+                        .setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build())
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(connectTimeout)
+                                .setSocketTimeout(soTimeout)
+                                .setTimeToLive(TimeValue.ofMilliseconds(component.getConnectionTimeToLive()))
+                                .build());
+        int max = maxTotalConnections > 0 ? maxTotalConnections : component.getMaxTotalConnections();
+        if (max > 0) {
+            connectionManagerBuilder.setMaxConnTotal(max);
+        }
+        int perRoute = connectionsPerRoute > 0 ? connectionsPerRoute : component.getConnectionsPerRoute();
+        if (perRoute > 0) {
+            connectionManagerBuilder.setMaxConnPerRoute(perRoute);
+        }
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManagerBuilder.build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(connectionRequestTimeout)
+                        .setResponseTimeout(responseTimeout)
+                        .build());
+
+        if (useSystemProperties) {
+            builder.useSystemProperties();
+        } else if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
+                && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+            String host = getCamelContext().getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+            String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            builder.setProxy(new HttpHost(scheme, host, port));
+        }
+
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            builder.setDefaultCookieStore(new NoopCookieStore());
+        } else {
+            builder.setDefaultCookieStore(cookieStore);
+        }
+        if (userAgent != null) {
+            builder.setUserAgent(userAgent);
+        }
+        if (isFollowRedirects() && !component.isRedirectHandlingDisabled()) {
+            builder.setRedirectStrategy(DefaultRedirectStrategy.INSTANCE);
+        } else {
+            builder.disableRedirectHandling();
+        }
+        if (component.isAutomaticRetriesDisabled()) {
+            builder.disableAutomaticRetries();
+        }
+        if (component.isCookieManagementDisabled()) {
+            builder.disableCookieManagement();
+        }
+        if (component.isAuthCachingDisabled()) {
+            builder.disableAuthCaching();
+        }
+        if (component.isConnectionStateDisabled()) {
+            builder.disableConnectionState();
+        }
+
+        // the authentication and proxy options are configured on the component as a configurer
+        HttpClientConfigurer configurer = getHttpClientConfigurer();
+        if (configurer != null) {
+            configurer.configureHttpAsyncClient(builder);
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", builder);
+
+        return builder.build();
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -301,6 +452,12 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable closeable) {
             IOHelper.close(closeable);
         }
+        if (httpAsyncClient != null && httpAsyncClientCreated) {
+            // only close the client we created, a custom client is managed by the user
+            httpAsyncClient.close(CloseMode.GRACEFUL);
+            httpAsyncClient = null;
+            httpAsyncClientCreated = false;
+        }
     }
 
     // Properties
@@ -631,6 +788,33 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return userAgent;
     }
 
+    public boolean isUseAsyncClient() {
+        return useAsyncClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking HttpClient 5 async client instead of the classic blocking
+     * client. The async client does not block the calling thread while waiting for the response, and negotiates HTTP/2
+     * for secure connections. Notice that the httpClient options are only applied to the classic client, and a custom
+     * HttpClientConfigurer must support the async client.
+     */
+    public void setUseAsyncClient(boolean useAsyncClient) {
+        this.useAsyncClient = useAsyncClient;
+    }
+
+    public int getAsyncMaxResponseBodySize() {
+        return asyncMaxResponseBodySize;
+    }
+
+    /**
+     * The maximum size in bytes of a response body received by the async client (useAsyncClient) when
+     * disableStreamCache is enabled, as the response body is then kept in memory. The exchange fails if the response
+     * body is larger.
+     */
+    public void setAsyncMaxResponseBodySize(int asyncMaxResponseBodySize) {
+        this.asyncMaxResponseBodySize = asyncMaxResponseBodySize;
+    }
+
     /**
      * To set a custom HTTP User-Agent request header
      */
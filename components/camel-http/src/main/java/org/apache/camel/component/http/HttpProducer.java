@@ -147,6 +147,73 @@ public class HttpProducer extends DefaultProducer {
 
     @Override
     public void process(Exchange exchange) throws Exception {
+        HttpUriRequest httpRequest = createRequest(exchange);
+        HttpHost httpHost = createHost(httpRequest);
+
+        // lets store the result in the output message.
+        try {
+            executeMethod(
+                    httpHost, httpRequest,
+                    httpResponse -> {
+                        try {
+                            handleResponse(exchange, httpRequest, httpResponse);
+                        } catch (IOException | HttpException | RuntimeCamelException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new RuntimeCamelException(e);
+                        } finally {
+                            if (httpResponse != null && HttpProducer.this.getEndpoint().isDisableStreamCache()) {
+                                // close the stream at the end of the exchange to ensure it gets eventually closed later
+                                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
+                                    @Override
+                                    public void onDone(Exchange exchange1) {
+                                        try {
+                                            EntityUtils.consume(httpResponse.getEntity());
+                                        } catch (Exception e) {
+                                            // ignore
+                                        } finally {
+                                            try {
+                                                EntityUtils.consume(httpRequest.getEntity());
+                                            } catch (Exception e) {
+                                                // ignore
+                                            }
+                                        }
+                                    }
+                                });
+                            } else if (httpResponse != null) {
+                                // close the stream now
+                                try {
+                                    EntityUtils.consume(httpResponse.getEntity());
+                                } catch (Exception e) {
+                                    // ignore
+                                } finally {
+                                    try {
+                                        EntityUtils.consume(httpRequest.getEntity());
+                                    } catch (Exception e) {
+                                        // ignore
+                                    }
+                                }
+                            }
+                        }
+                        return null;
+                    });
+        } catch (RuntimeCamelException e) {
+            if (e.getCause() instanceof Exception ex) {
+                // Rethrow the embedded exception to simulate the same behavior as with version 4
+                throw ex;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the HTTP request to send, with the HTTP headers, cookies and entity from the exchange.
+     *
+     * @param  exchange  the exchange
+     * @return           the created request
+     * @throws Exception is thrown if error creating the request
+     */
+    protected HttpUriRequest createRequest(Exchange exchange) throws Exception {
         boolean cookies = !getEndpoint().getComponent().isCookieManagementDisabled();
         if (cookies && getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
@@ -166,7 +233,6 @@ public class HttpProducer extends DefaultProducer {
         }
 
         HttpUriRequest httpRequest = createMethod(exchange);
-        HttpHost httpHost = createHost(httpRequest);
 
         Message in = exchange.getIn();
         String httpProtocolVersion = in.getHeader(HttpConstants.HTTP_PROTOCOL_VERSION, String.class);
@@ -241,87 +307,46 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.addHeader("Connection", HeaderElements.CLOSE);
         }
 
-        // lets store the result in the output message.
-        try {
-            executeMethod(
-                    httpHost, httpRequest,
-                    httpResponse -> {
-                        try {
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
-                            }
-                            int responseCode = httpResponse.getCode();
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Http responseCode: {}", responseCode);
-                            }
+        return httpRequest;
+    }
 
-                            if (!throwException) {
-                                // if we do not use failed exception then populate response for all response codes
-                                HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
-                            } else {
-                                boolean ok;
-                                if (minOkRange > 0) {
-                                    ok = responseCode >= minOkRange && responseCode <= maxOkRange;
-                                } else {
-                                    ok = HttpHelper.isStatusCodeOk(responseCode,
-                                            HttpProducer.this.getEndpoint().getOkStatusCodeRange());
-                                }
-                                if (ok) {
-                                    // only populate response for OK response
-                                    HttpProducer.this.populateResponse(exchange, httpRequest, httpResponse, strategy,
-                                            responseCode);
-                                } else {
-                                    // operation failed so populate exception to throw
-                                    throw HttpProducer.this.populateHttpOperationFailedException(exchange, httpRequest,
-                                            httpResponse, responseCode);
-                                }
-                            }
-                        } catch (IOException | HttpException | RuntimeCamelException e) {
-                            throw e;
-                        } catch (Exception e) {
-                            throw new RuntimeCamelException(e);
-                        } finally {
-                            if (httpResponse != null && HttpProducer.this.getEndpoint().isDisableStreamCache()) {
-                                // close the stream at the end of the exchange to ensure it gets eventually closed later
-                                exchange.getExchangeExtension().addOnCompletion(new SynchronizationAdapter() {
-                                    @Override
-                                    public void onDone(Exchange exchange1) {
-                                        try {
-                                            EntityUtils.consume(httpResponse.getEntity());
-                                        } catch (Exception e) {
-                                            // ignore
-                                        } finally {
-                                            try {
-                                                EntityUtils.consume(httpRequest.getEntity());
-                                            } catch (Exception e) {
-                                                // ignore
-                                            }
-                                        }
-                                    }
-                                });
-                            } else if (httpResponse != null) {
-                                // close the stream now
-                                try {
-                                    EntityUtils.consume(httpResponse.getEntity());
-                                } catch (Exception e) {
-                                    // ignore
-                                } finally {
-                                    try {
-                                        EntityUtils.consume(httpRequest.getEntity());
-                                    } catch (Exception e) {
-                                        // ignore
-                                    }
-                                }
-                            }
-                        }
-                        return null;
-                    });
-        } catch (RuntimeCamelException e) {
-            if (e.getCause() instanceof Exception ex) {
-                // Rethrow the embedded exception to simulate the same behavior as with version 4
-                throw ex;
+    /**
+     * Handles the HTTP response by populating the exchange with the response, or by throwing the
+     * {@link HttpOperationFailedException} if the response code is not within the ok status code range.
+     *
+     * @param  exchange     the exchange
+     * @param  httpRequest  the http request that was sent
+     * @param  httpResponse the http response
+     * @throws Exception    is thrown if the HTTP operation failed or error reading the response
+     */
+    protected void handleResponse(Exchange exchange, HttpUriRequest httpRequest, ClassicHttpResponse httpResponse)
+            throws Exception {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getUri());
+        }
+        int responseCode = httpResponse.getCode();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Http responseCode: {}", responseCode);
+        }
+
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+        if (!throwException) {
+            // if we do not use failed exception then populate response for all response codes
+            populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+        } else {
+            boolean ok;
+            if (minOkRange > 0) {
+                ok = responseCode >= minOkRange && responseCode <= maxOkRange;
+            } else {
+                ok = HttpHelper.isStatusCodeOk(responseCode, getEndpoint().getOkStatusCodeRange());
+            }
+            if (ok) {
+                // only populate response for OK response
+                populateResponse(exchange, httpRequest, httpResponse, strategy, responseCode);
+            } else {
+                // operation failed so populate exception to throw
+                throw populateHttpOperationFailedException(exchange, httpRequest, httpResponse, responseCode);
             }
-            throw e;
         }
     }
 
@@ -469,11 +494,17 @@ public class HttpProducer extends DefaultProducer {
      */
     protected <T> T executeMethod(HttpHost httpHost, HttpUriRequest httpRequest, HttpClientResponseHandler<T> handler)
             throws IOException {
-        HttpContext localContext = HttpClientContext.create();
+        return httpClient.execute(httpHost, httpRequest, createHttpContext(), handler);
+    }
+
+    /**
+     * Creates the {@link HttpContext} to use for executing a single request.
+     */
+    protected HttpContext createHttpContext() {
         if (httpContext != null) {
-            localContext = new BasicHttpContext(httpContext);
+            return new BasicHttpContext(httpContext);
         }
-        return httpClient.execute(httpHost, httpRequest, localContext, handler);
+        return HttpClientContext.create();
     }
 
     /**
@@ -568,7 +599,10 @@ public class HttpProducer extends DefaultProducer {
         }
     }
 
-    private InputStream doExtractResponseBodyAsStream(InputStream is, Exchange exchange) throws IOException {
+    /**
+     * Caches the response stream so it is re-readable, and closes the response stream.
+     */
+    protected InputStream doExtractResponseBodyAsStream(InputStream is, Exchange exchange) throws IOException {
         // As httpclient is using a AutoCloseInputStream, it will be closed when the connection is closed
         // we need to cache the stream for it.
         CachedOutputStream cos = null;
@@ -19,6 +19,7 @@ package org.apache.camel.component.http;
 import org.apache.hc.client5.http.auth.Credentials;
 import org.apache.hc.client5.http.auth.NTCredentials;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.core5.http.HttpHost;
 
@@ -57,14 +58,26 @@ public class ProxyHttpClientConfigurer implements HttpClientConfigurer {
         clientBuilder.setProxy(new HttpHost(scheme, host, port));
 
         if (username != null && password != null) {
-            Credentials defaultcreds;
-            if (domain != null) {
-                defaultcreds = new NTCredentials(username, password, ntHost, domain);
-            } else {
-                defaultcreds = new UsernamePasswordCredentials(username, password);
-            }
             clientBuilder.setDefaultCredentialsProvider(credentialsHelper
-                    .getCredentialsProvider(host, port, defaultcreds));
+                    .getCredentialsProvider(host, port, createCredentials()));
+        }
+    }
+
+    @Override
+    public void configureHttpAsyncClient(HttpAsyncClientBuilder clientBuilder) {
+        clientBuilder.setProxy(new HttpHost(scheme, host, port));
+
+        if (username != null && password != null) {
+            clientBuilder.setDefaultCredentialsProvider(credentialsHelper
+                    .getCredentialsProvider(host, port, createCredentials()));
+        }
+    }
+
+    private Credentials createCredentials() {
+        if (domain != null) {
+            return new NTCredentials(username, password, ntHost, domain);
+        } else {
+            return new UsernamePasswordCredentials(username, password);
         }
     }
 
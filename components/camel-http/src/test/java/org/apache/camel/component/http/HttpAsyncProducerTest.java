@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Future;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.http.handler.BasicValidationHandler;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.function.Supplier;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
+import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.apache.hc.core5.http.nio.AsyncPushConsumer;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.HandlerFactory;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.component.http.HttpMethods.GET;
+import static org.apache.camel.component.http.HttpMethods.POST;
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncProducerTest extends BaseHttpTest {
+
+    private HttpServer localServer;
+
+    private String baseUrl;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setSslContext(getSSLContext())
+                .register("/get", new BasicValidationHandler(GET.name(), null, null, getExpectedContent()))
+                .register("/post", new BasicValidationHandler(POST.name(), null, "rocks camel?", getExpectedContent()))
+                .create();
+        localServer.start();
+
+        baseUrl = "http://localhost:" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void createAsyncProducer() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?useAsyncClient=true", HttpEndpoint.class);
+        Producer producer = endpoint.createProducer();
+        assertIsInstanceOf(HttpAsyncProducer.class, producer);
+    }
+
+    @Test
+    public void httpGet() {
+        Exchange exchange = template.request(baseUrl + "/get?useAsyncClient=true", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpPostString() {
+        Exchange exchange = template.request(baseUrl + "/post?useAsyncClient=true",
+                exchange1 -> exchange1.getIn().setBody("rocks camel?"));
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpPostStream() {
+        Exchange exchange = template.request(baseUrl + "/post?useAsyncClient=true",
+                exchange1 -> exchange1.getIn()
+                        .setBody(new ByteArrayInputStream("rocks camel?".getBytes(StandardCharsets.US_ASCII))));
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpGetWhichReturnsHttp501ShouldThrowAnException() {
+        Exchange reply = template.request(baseUrl + "/XXX?useAsyncClient=true", exchange -> {
+        });
+
+        Exception e = reply.getException();
+        assertNotNull(e, "Should have thrown an exception");
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, e);
+        assertEquals(501, cause.getStatusCode());
+    }
+
+    @Test
+    public void httpGetWithDisableStreamCache() {
+        Exchange exchange = template.request(baseUrl + "/get?useAsyncClient=true&disableStreamCache=true", exchange1 -> {
+        });
+
+        Object body = exchange.getMessage().getBody();
+        assertIsInstanceOf(InputStream.class, body);
+        assertFalse(body instanceof StreamCache, "Should not be stream cached");
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void httpGetWithDisableStreamCacheTooLarge() {
+        Exchange exchange = template.request(
+                baseUrl + "/get?useAsyncClient=true&disableStreamCache=true&asyncMaxResponseBodySize=5", exchange1 -> {
+                });
+
+        IOException e = assertIsInstanceOf(IOException.class, exchange.getException());
+        assertTrue(e.getMessage().contains("asyncMaxResponseBodySize"), e.getMessage());
+    }
+
+    @Test
+    public void continueRoutingOnProducerThread() {
+        Exchange exchange = template.request("direct:start", exchange1 -> {
+        });
+
+        assertExchange(exchange);
+        String thread = exchange.getMessage().getHeader("thread", String.class);
+        assertTrue(thread.contains("HttpAsyncProducer"), "Should not continue on the I/O thread: " + thread);
+    }
+
+    @Test
+    public void unsupportedConfigurerShouldFailOnStart() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?useAsyncClient=true&configurer=true", HttpEndpoint.class);
+        endpoint.setHttpClientConfigurer(clientBuilder -> {
+        });
+        Producer producer = endpoint.createProducer();
+
+        assertThrows(UnsupportedOperationException.class, producer::start);
+    }
+
+    @Test
+    public void failedExecuteShouldCompleteSynchronously() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?useAsyncClient=true", HttpEndpoint.class);
+        HttpAsyncProducer producer = (HttpAsyncProducer) endpoint.createProducer();
+        producer.setHttpAsyncClient(new FailingHttpAsyncClient());
+        producer.start();
+
+        Exchange exchange = new DefaultExchange(context);
+        boolean[] doneSync = new boolean[1];
+        boolean sync = ((AsyncProducer) producer).process(exchange, done -> doneSync[0] = done);
+
+        assertTrue(sync, "Should complete synchronously");
+        assertTrue(doneSync[0], "Should call the callback synchronously");
+        assertIsInstanceOf(IllegalStateException.class, exchange.getException());
+        producer.stop();
+    }
+
+    @Test
+    public void customClientIsNotClosed() throws Exception {
+        CloseableHttpAsyncClient client = HttpAsyncClients.createDefault();
+        try {
+            HttpEndpoint endpoint = context.getEndpoint(baseUrl + "/get?useAsyncClient=true&custom=true", HttpEndpoint.class);
+            endpoint.setHttpAsyncClient(client);
+            assertExchange(template.request(endpoint, exchange -> {
+            }));
+
+            endpoint.stop();
+            endpoint.start();
+
+            // the client is still usable
+            assertExchange(template.request(endpoint, exchange -> {
+            }));
+        } finally {
+            client.close(CloseMode.IMMEDIATE);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .to(baseUrl + "/get?useAsyncClient=true")
+                        .process(exchange -> exchange.getMessage().setHeader("thread", Thread.currentThread().getName()));
+            }
+        };
+    }
+
+    private static final class FailingHttpAsyncClient extends CloseableHttpAsyncClient {
+
+        @Override
+        public void start() {
+            // noop
+        }
+
+        @Override
+        public IOReactorStatus getStatus() {
+            return IOReactorStatus.ACTIVE;
+        }
+
+        @Override
+        public void awaitShutdown(TimeValue waitTime) {
+            // noop
+        }
+
+        @Override
+        public void initiateShutdown() {
+            // noop
+        }
+
+        @Override
+        protected <T> Future<T> doExecute(
+                HttpHost target, AsyncRequestProducer requestProducer, AsyncResponseConsumer<T> responseConsumer,
+                HandlerFactory<AsyncPushConsumer> pushHandlerFactory, HttpContext context, FutureCallback<T> callback) {
+            throw new IllegalStateException("Client is shutting down");
+        }
+
+        @Override
+        public void register(String hostname, String uriPattern, Supplier<AsyncPushConsumer> supplier) {
+            // noop
+        }
+
+        @Override
+        public void close(CloseMode closeMode) {
+            // noop
+        }
+
+        @Override
+        public void close() {
+            // noop
+        }
+    }
+
+}
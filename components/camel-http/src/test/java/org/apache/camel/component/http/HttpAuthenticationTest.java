@@ -96,6 +96,28 @@ public class HttpAuthenticationTest extends BaseHttpTest {
         assertExchange(exchange);
     }
 
+    @Test
+    public void basicAuthenticationWithAsyncClientShouldSuccess() {
+        Exchange exchange = template.request("http://localhost:"
+                                             + localServer.getLocalPort() + "/search?authUsername=" + user + "&authPassword="
+                                             + password + "&useAsyncClient=true",
+                exchange1 -> {
+                });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void basicAuthenticationPreemptiveWithAsyncClientShouldSuccess() {
+        Exchange exchange = template.request("http://localhost:"
+                                             + localServer.getLocalPort() + "/search?authUsername=" + user + "&authPassword="
+                                             + password + "&authenticationPreemptive=true&useAsyncClient=true",
+                exchange1 -> {
+                });
+
+        assertExchange(exchange);
+    }
+
     @Test
     public void basicAuthenticationShouldFailWithoutCreds() {
         Exchange exchange
@@ -96,4 +96,17 @@ public class HttpProxyAndBasicAuthTest extends BaseHttpTest {
 
         assertExchange(exchange);
     }
+
+    @Test
+    public void httpGetWithProxyAndUserUsingAsyncClient() {
+        Exchange exchange = template.request("http://authtest.org" + "?proxyAuthHost=localhost"
+                                             + "&proxyAuthPort=" + proxy.getLocalPort()
+                                             + "&proxyAuthUsername=" + proxyUser + "&proxyAuthPassword=" + proxyPassword
+                                             + "&authUsername=" + user + "&authPassword=" + password
+                                             + "&useAsyncClient=true",
+                exchange1 -> {
+                });
+
+        assertExchange(exchange);
+    }
 }
@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -37,6 +38,7 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -49,6 +51,7 @@ import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatContentTypeHeader;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.CastUtils;
@@ -61,6 +64,7 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractJacksonDataFormat extends ServiceSupport
         implements DataFormat, DataFormatName, DataFormatContentTypeHeader, CamelContextAware {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractJacksonDataFormat.class);
+    private static final int READER_CACHE_SIZE = 1000;
 
     private CamelContext camelContext;
     private ObjectMapper objectMapper;
@@ -89,6 +93,11 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private boolean autoDiscoverSchemaResolver = true;
     private String namingStrategy;
 
+    // readers and writers are immutable and thread-safe, so they are created once and reused
+    private volatile ObjectReader defaultReader;
+    private volatile ObjectWriter defaultWriter;
+    private final Map<String, ObjectReader> readersByType = LRUCacheFactory.newLRUCache(READER_CACHE_SIZE);
+
     /**
      * Use the default Jackson {@link ObjectMapper} and {@link Object}
      */
@@ -157,7 +166,15 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (this.schemaResolver != null) {
             schema = this.schemaResolver.resolve(exchange);
         }
-        this.objectMapper.writerWithView(jsonView).with(schema).writeValue(stream, graph);
+        ObjectWriter writer = defaultWriter;
+        if (writer == null) {
+            writer = objectMapper.writerWithView(jsonView);
+            defaultWriter = writer;
+        }
+        if (schema != null) {
+            writer = writer.with(schema);
+        }
+        writer.writeValue(stream, graph);
 
         if (contentTypeHeader) {
             exchange.getMessage().setHeader(Exchange.CONTENT_TYPE, getDefaultContentType());
@@ -176,7 +193,6 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
             schema = this.schemaResolver.resolve(exchange);
         }
         // is there a header with the unmarshal type?
-        Class<?> clazz = unmarshalType;
         String type = null;
         if (allowUnmarshallType) {
             type = exchange.getIn().getHeader(JacksonConstants.UNMARSHAL_TYPE, String.class);
@@ -184,16 +200,23 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (type == null && isAllowJmsType()) {
             type = exchange.getIn().getHeader("JMSType", String.class);
         }
-        if (type != null) {
-            clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
-        }
-
         ObjectReader reader;
-        if (collectionType != null) {
-            CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
-            reader = this.objectMapper.readerFor(collType).with(schema);
+        if (type != null) {
+            reader = readersByType.get(type);
+            if (reader == null) {
+                Class<?> clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
+                reader = createReader(clazz);
+                readersByType.put(type, reader);
+            }
         } else {
-            reader = this.objectMapper.reader(schema).forType(clazz);
+            reader = defaultReader;
+            if (reader == null) {
+                reader = createReader(unmarshalType);
+                defaultReader = reader;
+            }
+        }
+        if (schema != null) {
+            reader = reader.with(schema);
         }
 
         // unwrap file (such as from camel-file)
@@ -211,6 +234,10 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
             answer = reader.readValue(f);
         } else if (body instanceof JsonNode n) {
             answer = reader.readValue(n);
+        } else if (body instanceof ByteBuffer bb && bb.hasArray()) {
+            answer = reader.readValue(bb.array(), bb.arrayOffset() + bb.position(), bb.remaining());
+        } else if (body instanceof InputStream is) {
+            answer = reader.readValue(is);
         } else {
             // fallback to input stream
             InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, body);
@@ -220,6 +247,24 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         return answer;
     }
 
+    private ObjectReader createReader(Class<?> clazz) {
+        if (collectionType != null) {
+            CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
+            return objectMapper.readerFor(collType);
+        } else {
+            return objectMapper.readerFor(clazz);
+        }
+    }
+
+    /**
+     * Clears the cached readers and writers, as the configuration they are created from has changed.
+     */
+    private void clearCache() {
+        defaultReader = null;
+        defaultWriter = null;
+        readersByType.clear();
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -229,6 +274,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setObjectMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        clearCache();
     }
 
     public boolean isUseDefaultObjectMapper() {
@@ -245,6 +291,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setUnmarshalType(Class<?> unmarshalType) {
         this.unmarshalType = unmarshalType;
+        clearCache();
     }
 
     public String getUnmarshalTypeName() {
@@ -261,6 +308,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setCollectionType(Class<? extends Collection> collectionType) {
         this.collectionType = collectionType;
+        clearCache();
     }
 
     public String getCollectionTypeName() {
@@ -277,6 +325,7 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     public void setJsonView(Class<?> jsonView) {
         this.jsonView = jsonView;
+        clearCache();
     }
 
     public String getJsonViewTypeName() {
@@ -564,6 +613,8 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
 
     @Override
     protected void doStart() throws Exception {
+        // the object mapper may be configured below, so readers and writers must be created afterwards
+        clearCache();
         if (useList) {
             setCollectionType(ArrayList.class);
         }
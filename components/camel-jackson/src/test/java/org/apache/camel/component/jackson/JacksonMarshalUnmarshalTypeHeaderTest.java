@@ -16,6 +16,10 @@
  */
 package org.apache.camel.component.jackson;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
 import org.apache.camel.test.junit5.CamelTestSupport;
@@ -42,6 +46,37 @@ public class JacksonMarshalUnmarshalTypeHeaderTest extends CamelTestSupport {
         assertEquals("Camel", pojo.getName());
     }
 
+    @Test
+    public void testUnmarshalDifferentTypes() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:reversePojo");
+        mock.expectedMessageCount(3);
+
+        String json = "{\"name\":\"Camel\"}";
+        template.sendBodyAndHeader("direct:backPojo", json, JacksonConstants.UNMARSHAL_TYPE, TestPojo.class.getName());
+        template.sendBodyAndHeader("direct:backPojo", json, JacksonConstants.UNMARSHAL_TYPE, Map.class.getName());
+        template.sendBodyAndHeader("direct:backPojo", json, JacksonConstants.UNMARSHAL_TYPE, TestPojo.class.getName());
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        assertEquals("Camel", mock.getReceivedExchanges().get(0).getIn().getBody(TestPojo.class).getName());
+        assertEquals("Camel", mock.getReceivedExchanges().get(1).getIn().getBody(Map.class).get("name"));
+        assertEquals("Camel", mock.getReceivedExchanges().get(2).getIn().getBody(TestPojo.class).getName());
+    }
+
+    @Test
+    public void testUnmarshalByteBuffer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:reversePojo");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(TestPojo.class);
+
+        ByteBuffer buffer = ByteBuffer.wrap("xx{\"name\":\"Camel\"}".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        template.sendBodyAndHeader("direct:backPojo", buffer, JacksonConstants.UNMARSHAL_TYPE, TestPojo.class.getName());
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals("Camel", mock.getReceivedExchanges().get(0).getIn().getBody(TestPojo.class).getName());
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() {
         return new RouteBuilder() {
@@ -151,6 +151,14 @@ public class JmsComponentConfigurer extends PropertyConfigurerSupport implements
         case "preservemessageqos":
         case "preserveMessageQos": getOrCreateConfiguration(target).setPreserveMessageQos(property(camelContext, boolean.class, value)); return true;
         case "priority": getOrCreateConfiguration(target).setPriority(property(camelContext, int.class, value)); return true;
+        case "producerbatchsize":
+        case "producerBatchSize": getOrCreateConfiguration(target).setProducerBatchSize(property(camelContext, int.class, value)); return true;
+        case "producerbatchtimeout":
+        case "producerBatchTimeout": getOrCreateConfiguration(target).setProducerBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "producersessioncache":
+        case "producerSessionCache": getOrCreateConfiguration(target).setProducerSessionCache(property(camelContext, boolean.class, value)); return true;
+        case "producersessioncachesize":
+        case "producerSessionCacheSize": getOrCreateConfiguration(target).setProducerSessionCacheSize(property(camelContext, int.class, value)); return true;
         case "pubsubnolocal":
         case "pubSubNoLocal": getOrCreateConfiguration(target).setPubSubNoLocal(property(camelContext, boolean.class, value)); return true;
         case "queuebrowsestrategy":
@@ -353,6 +361,14 @@ public class JmsComponentConfigurer extends PropertyConfigurerSupport implements
         case "preservemessageqos":
         case "preserveMessageQos": return boolean.class;
         case "priority": return int.class;
+        case "producerbatchsize":
+        case "producerBatchSize": return int.class;
+        case "producerbatchtimeout":
+        case "producerBatchTimeout": return long.class;
+        case "producersessioncache":
+        case "producerSessionCache": return boolean.class;
+        case "producersessioncachesize":
+        case "producerSessionCacheSize": return int.class;
         case "pubsubnolocal":
         case "pubSubNoLocal": return boolean.class;
         case "queuebrowsestrategy":
@@ -556,6 +572,14 @@ public class JmsComponentConfigurer extends PropertyConfigurerSupport implements
         case "preservemessageqos":
         case "preserveMessageQos": return getOrCreateConfiguration(target).isPreserveMessageQos();
         case "priority": return getOrCreateConfiguration(target).getPriority();
+        case "producerbatchsize":
+        case "producerBatchSize": return getOrCreateConfiguration(target).getProducerBatchSize();
+        case "producerbatchtimeout":
+        case "producerBatchTimeout": return getOrCreateConfiguration(target).getProducerBatchTimeout();
+        case "producersessioncache":
+        case "producerSessionCache": return getOrCreateConfiguration(target).isProducerSessionCache();
+        case "producersessioncachesize":
+        case "producerSessionCacheSize": return getOrCreateConfiguration(target).getProducerSessionCacheSize();
         case "pubsubnolocal":
         case "pubSubNoLocal": return getOrCreateConfiguration(target).isPubSubNoLocal();
         case "queuebrowsestrategy":
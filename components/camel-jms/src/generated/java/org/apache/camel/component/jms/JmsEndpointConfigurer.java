@@ -139,6 +139,14 @@ public class JmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "preservemessageqos":
         case "preserveMessageQos": target.getConfiguration().setPreserveMessageQos(property(camelContext, boolean.class, value)); return true;
         case "priority": target.getConfiguration().setPriority(property(camelContext, int.class, value)); return true;
+        case "producerbatchsize":
+        case "producerBatchSize": target.getConfiguration().setProducerBatchSize(property(camelContext, int.class, value)); return true;
+        case "producerbatchtimeout":
+        case "producerBatchTimeout": target.getConfiguration().setProducerBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "producersessioncache":
+        case "producerSessionCache": target.getConfiguration().setProducerSessionCache(property(camelContext, boolean.class, value)); return true;
+        case "producersessioncachesize":
+        case "producerSessionCacheSize": target.getConfiguration().setProducerSessionCacheSize(property(camelContext, int.class, value)); return true;
         case "pubsubnolocal":
         case "pubSubNoLocal": target.getConfiguration().setPubSubNoLocal(property(camelContext, boolean.class, value)); return true;
         case "receivetimeout":
@@ -334,6 +342,14 @@ public class JmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "preservemessageqos":
         case "preserveMessageQos": return boolean.class;
         case "priority": return int.class;
+        case "producerbatchsize":
+        case "producerBatchSize": return int.class;
+        case "producerbatchtimeout":
+        case "producerBatchTimeout": return long.class;
+        case "producersessioncache":
+        case "producerSessionCache": return boolean.class;
+        case "producersessioncachesize":
+        case "producerSessionCacheSize": return int.class;
         case "pubsubnolocal":
         case "pubSubNoLocal": return boolean.class;
         case "receivetimeout":
@@ -530,6 +546,14 @@ public class JmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "preservemessageqos":
         case "preserveMessageQos": return target.getConfiguration().isPreserveMessageQos();
         case "priority": return target.getConfiguration().getPriority();
+        case "producerbatchsize":
+        case "producerBatchSize": return target.getConfiguration().getProducerBatchSize();
+        case "producerbatchtimeout":
+        case "producerBatchTimeout": return target.getConfiguration().getProducerBatchTimeout();
+        case "producersessioncache":
+        case "producerSessionCache": return target.getConfiguration().isProducerSessionCache();
+        case "producersessioncachesize":
+        case "producerSessionCacheSize": return target.getConfiguration().getProducerSessionCacheSize();
         case "pubsubnolocal":
         case "pubSubNoLocal": return target.getConfiguration().isPubSubNoLocal();
         case "receivetimeout":
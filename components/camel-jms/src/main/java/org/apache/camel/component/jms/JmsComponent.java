@@ -948,6 +948,38 @@ public class JmsComponent extends HeaderFilterStrategyComponent {
         configuration.setIncludeSentJMSMessageID(includeSentJMSMessageID);
     }
 
+    public boolean isProducerSessionCache() {
+        return configuration.isProducerSessionCache();
+    }
+
+    public void setProducerSessionCache(boolean producerSessionCache) {
+        configuration.setProducerSessionCache(producerSessionCache);
+    }
+
+    public int getProducerSessionCacheSize() {
+        return configuration.getProducerSessionCacheSize();
+    }
+
+    public void setProducerSessionCacheSize(int producerSessionCacheSize) {
+        configuration.setProducerSessionCacheSize(producerSessionCacheSize);
+    }
+
+    public int getProducerBatchSize() {
+        return configuration.getProducerBatchSize();
+    }
+
+    public void setProducerBatchSize(int producerBatchSize) {
+        configuration.setProducerBatchSize(producerBatchSize);
+    }
+
+    public long getProducerBatchTimeout() {
+        return configuration.getProducerBatchTimeout();
+    }
+
+    public void setProducerBatchTimeout(long producerBatchTimeout) {
+        configuration.setProducerBatchTimeout(producerBatchTimeout);
+    }
+
     public DefaultTaskExecutorType getDefaultTaskExecutorType() {
         return configuration.getDefaultTaskExecutorType();
     }
@@ -457,6 +457,27 @@ public class JmsConfiguration implements Cloneable {
                             + " Enabling this option will enrich the Camel Exchange with the actual JMSMessageID"
                             + " that was used by the JMS client when the message was sent to the JMS destination.")
     private boolean includeSentJMSMessageID;
+    @UriParam(label = "producer,advanced",
+              description = "Whether the producer should send using JMS sessions and message producers (per destination)"
+                            + " which are cached and reused, instead of using Spring JmsTemplate which creates them per"
+                            + " message (unless using a caching or pooled connection factory). This option cannot be used"
+                            + " together with transacted.")
+    private boolean producerSessionCache;
+    @UriParam(label = "producer,advanced", defaultValue = "10",
+              description = "The maximum number of idle JMS sessions to keep when using producerSessionCache or"
+                            + " producerBatchSize. Sessions created by additional concurrent senders are closed after use.")
+    private int producerSessionCacheSize = 10;
+    @UriParam(label = "producer,advanced",
+              description = "Only applicable when sending to JMS destination using InOnly (eg fire and forget)."
+                            + " Sets the maximum number of messages (from different exchanges) to send in the same local JMS"
+                            + " transaction, which is committed when this many messages has been sent, or the"
+                            + " producerBatchTimeout has elapsed. The exchanges continue routing when the transaction has been"
+                            + " committed. Enabling this option implies producerSessionCache.")
+    private int producerBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100", javaType = "java.time.Duration",
+              description = "The maximum time in millis to wait for more messages before committing the batch of sent"
+                            + " messages, when using producerBatchSize.")
+    private long producerBatchTimeout = 100;
     @UriParam(label = "consumer,advanced",
               description = "Specifies what default TaskExecutor type to use in the DefaultMessageListenerContainer,"
                             + " for both consumer endpoints and the ReplyTo consumer of producer endpoints."
@@ -2147,6 +2168,57 @@ public class JmsConfiguration implements Cloneable {
         this.includeSentJMSMessageID = includeSentJMSMessageID;
     }
 
+    public boolean isProducerSessionCache() {
+        return producerSessionCache;
+    }
+
+    /**
+     * Whether the producer should send using JMS sessions and message producers (per destination) which are cached and
+     * reused, instead of using Spring JmsTemplate which creates them per message (unless using a caching or pooled
+     * connection factory). This option cannot be used together with transacted.
+     */
+    public void setProducerSessionCache(boolean producerSessionCache) {
+        this.producerSessionCache = producerSessionCache;
+    }
+
+    public int getProducerSessionCacheSize() {
+        return producerSessionCacheSize;
+    }
+
+    /**
+     * The maximum number of idle JMS sessions to keep when using producerSessionCache or producerBatchSize. Sessions
+     * created by additional concurrent senders are closed after use.
+     */
+    public void setProducerSessionCacheSize(int producerSessionCacheSize) {
+        this.producerSessionCacheSize = producerSessionCacheSize;
+    }
+
+    public int getProducerBatchSize() {
+        return producerBatchSize;
+    }
+
+    /**
+     * Only applicable when sending to JMS destination using InOnly (e.g., fire and forget). Sets the maximum number of
+     * messages (from different exchanges) to send in the same local JMS transaction, which is committed when this many
+     * messages has been sent, or the producerBatchTimeout has elapsed. The exchanges continue routing when the
+     * transaction has been committed. Enabling this option implies producerSessionCache.
+     */
+    public void setProducerBatchSize(int producerBatchSize) {
+        this.producerBatchSize = producerBatchSize;
+    }
+
+    public long getProducerBatchTimeout() {
+        return producerBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for more messages before committing the batch of sent messages, when using
+     * producerBatchSize.
+     */
+    public void setProducerBatchTimeout(long producerBatchTimeout) {
+        this.producerBatchTimeout = producerBatchTimeout;
+    }
+
     public DefaultTaskExecutorType getDefaultTaskExecutorType() {
         return defaultTaskExecutorType;
     }
@@ -1145,6 +1145,46 @@ public class JmsEndpoint extends DefaultEndpoint
         configuration.setIncludeSentJMSMessageID(includeSentJMSMessageID);
     }
 
+    @ManagedAttribute
+    public boolean isProducerSessionCache() {
+        return configuration.isProducerSessionCache();
+    }
+
+    @ManagedAttribute
+    public void setProducerSessionCache(boolean producerSessionCache) {
+        configuration.setProducerSessionCache(producerSessionCache);
+    }
+
+    @ManagedAttribute
+    public int getProducerSessionCacheSize() {
+        return configuration.getProducerSessionCacheSize();
+    }
+
+    @ManagedAttribute
+    public void setProducerSessionCacheSize(int producerSessionCacheSize) {
+        configuration.setProducerSessionCacheSize(producerSessionCacheSize);
+    }
+
+    @ManagedAttribute
+    public int getProducerBatchSize() {
+        return configuration.getProducerBatchSize();
+    }
+
+    @ManagedAttribute
+    public void setProducerBatchSize(int producerBatchSize) {
+        configuration.setProducerBatchSize(producerBatchSize);
+    }
+
+    @ManagedAttribute
+    public long getProducerBatchTimeout() {
+        return configuration.getProducerBatchTimeout();
+    }
+
+    @ManagedAttribute
+    public void setProducerBatchTimeout(long producerBatchTimeout) {
+        configuration.setProducerBatchTimeout(producerBatchTimeout);
+    }
+
     @ManagedAttribute
     public boolean isIncludeAllJMSXProperties() {
         return configuration.isIncludeAllJMSXProperties();
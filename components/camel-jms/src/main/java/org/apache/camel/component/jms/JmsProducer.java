@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.jms;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -65,6 +67,8 @@ public class JmsProducer extends DefaultAsyncProducer {
     private JmsOperations inOutTemplate;
     private UuidGenerator uuidGenerator;
     private ReplyManager replyManager;
+    private JmsProducerSessionCache sessionCache;
+    private JmsProducerBatcher batcher;
 
     public JmsProducer(JmsEndpoint endpoint) {
         super(endpoint);
@@ -396,18 +400,56 @@ public class JmsProducer extends DefaultAsyncProducer {
             }
         };
 
+        if (batcher != null) {
+            if (destination == null && destinationName == null) {
+                throw new IllegalArgumentException(
+                        "Neither destination nor destinationName is specified on this endpoint: " + endpoint);
+            }
+            // the exchange continues routing when the batch has been committed
+            batcher.add(new JmsProducerBatcher.Entry(
+                    exchange, callback,
+                    new JmsProducerSessionCache.Send(destination, destinationName, messageCreator, messageSentCallback), to));
+            return false;
+        }
+
         doSend(false, destinationName, destination, messageCreator, messageSentCallback);
+        onInOnlySent(exchange, to);
 
+        // we are synchronous so return true
+        callback.done(true);
+        return true;
+    }
+
+    private void onInOnlySent(Exchange exchange, String to) {
         // after sending then set the OUT message id to the JMSMessageID so its identical
         setMessageId(exchange);
         // record where we sent the message
         if (to != null) {
             exchange.getMessage().setHeader(JmsConstants.JMS_DESTINATION_NAME_PRODUCED, to);
         }
+    }
 
-        // we are synchronous so return true
-        callback.done(true);
-        return true;
+    /**
+     * Sends the messages of the InOnly exchanges in a single local JMS transaction. If the transaction fails, then the
+     * exception is set on all the exchanges.
+     */
+    void processBatch(List<JmsProducerBatcher.Entry> entries) {
+        List<JmsProducerSessionCache.Send> sends = new ArrayList<>(entries.size());
+        for (JmsProducerBatcher.Entry entry : entries) {
+            sends.add(entry.send());
+        }
+        try {
+            sessionCache.sendBatch((CamelJmsTemplate) getInOnlyTemplate(), sends);
+            for (JmsProducerBatcher.Entry entry : entries) {
+                onInOnlySent(entry.exchange(), entry.to());
+            }
+        } catch (Exception e) {
+            LOG.warn("Error sending batch of {} messages due to {}", entries.size(), e.getMessage(), e);
+            Exception cause = e instanceof JMSException jmsException ? JmsUtils.convertJmsAccessException(jmsException) : e;
+            for (JmsProducerBatcher.Entry entry : entries) {
+                entry.exchange().setException(cause);
+            }
+        }
     }
 
     /**
@@ -429,6 +471,19 @@ public class JmsProducer extends DefaultAsyncProducer {
             LOG.trace("Using {} jms template", inOut ? "inOut" : "inOnly");
         }
 
+        if (sessionCache != null) {
+            if (destination == null && destinationName == null) {
+                throw new IllegalArgumentException(
+                        "Neither destination nor destinationName is specified on this endpoint: " + endpoint);
+            }
+            try {
+                sessionCache.send(template, destination, destinationName, messageCreator, callback);
+            } catch (JMSException e) {
+                throw JmsUtils.convertJmsAccessException(e);
+            }
+            return;
+        }
+
         // destination should be preferred
         if (destination != null) {
             template.send(destination, messageCreator, callback);
@@ -556,12 +611,41 @@ public class JmsProducer extends DefaultAsyncProducer {
         if (endpoint.isTestConnectionOnStartup()) {
             testConnectionOnStartup();
         }
+
+        JmsConfiguration configuration = endpoint.getConfiguration();
+        if (configuration.isProducerSessionCache() || configuration.getProducerBatchSize() > 0) {
+            if (configuration.isTransacted()) {
+                throw new IllegalArgumentException(
+                        "The options producerSessionCache and producerBatchSize cannot be used together with transacted on endpoint: "
+                                                   + endpoint);
+            }
+            sessionCache = new JmsProducerSessionCache(endpoint, configuration.getProducerSessionCacheSize());
+            if (configuration.getProducerBatchSize() > 0) {
+                if (configuration.getProducerBatchTimeout() <= 0) {
+                    throw new IllegalArgumentException(
+                            "The option producerBatchTimeout must be positive when using producerBatchSize on endpoint: "
+                                                       + endpoint);
+                }
+                batcher = new JmsProducerBatcher(
+                        this, configuration.getProducerBatchSize(), configuration.getProducerBatchTimeout());
+                batcher.start();
+            }
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
 
+        if (batcher != null) {
+            batcher.stop();
+            batcher = null;
+        }
+        if (sessionCache != null) {
+            sessionCache.close();
+            sessionCache = null;
+        }
+
         // must stop/un-init reply manager if it was in use
         unInitReplyManager();
     }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.ExecutorServiceManager;
+
+/**
+ * Collects InOnly exchanges from many concurrent callers of the {@link JmsProducer}, and sends their messages in a
+ * single local JMS transaction when either the batch size has been reached, or the timeout has elapsed.
+ * <p/>
+ * The batch is sent by the caller which filled the batch (or by the timer), and the other exchanges in the batch are
+ * continued on the thread pool of the batcher, so they are routed in parallel and not by the thread which sent the
+ * batch.
+ */
+final class JmsProducerBatcher {
+
+    /**
+     * An exchange waiting to be sent in a batch.
+     */
+    record Entry(Exchange exchange, AsyncCallback callback, JmsProducerSessionCache.Send send, String to) {
+    }
+
+    private final JmsProducer producer;
+    private final int size;
+    private final long timeout;
+    private final Lock lock = new ReentrantLock();
+    private List<Entry> pending;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executorService;
+
+    JmsProducerBatcher(JmsProducer producer, int size, long timeout) {
+        this.producer = producer;
+        this.size = size;
+        this.timeout = timeout;
+        this.pending = new ArrayList<>(size);
+    }
+
+    void start() {
+        ExecutorServiceManager manager = producer.getEndpoint().getCamelContext().getExecutorServiceManager();
+        executorService = manager.newDefaultThreadPool(this, "JmsProducerBatch");
+        scheduler = manager.newSingleThreadScheduledExecutor(this, "JmsProducerBatchTimeout");
+        scheduler.scheduleWithFixedDelay(this::flush, timeout, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        ExecutorServiceManager manager = producer.getEndpoint().getCamelContext().getExecutorServiceManager();
+        if (scheduler != null) {
+            manager.shutdown(scheduler);
+            scheduler = null;
+        }
+        flush();
+        if (executorService != null) {
+            // the exchanges already handed over are still continued
+            manager.shutdown(executorService);
+            executorService = null;
+        }
+    }
+
+    /**
+     * Adds the exchange to the current batch, and sends the batch if it is full.
+     */
+    void add(Entry entry) {
+        List<Entry> full = null;
+        lock.lock();
+        try {
+            pending.add(entry);
+            if (pending.size() >= size) {
+                full = pending;
+                pending = new ArrayList<>(size);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            send(full, entry);
+        }
+    }
+
+    /**
+     * Sends the pending exchanges (if any)
+     */
+    void flush() {
+        List<Entry> entries;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            entries = pending;
+            pending = new ArrayList<>(size);
+        } finally {
+            lock.unlock();
+        }
+        send(entries, null);
+    }
+
+    /**
+     * Sends the batch and continues routing the exchanges. The exchange of the caller is continued by the caller.
+     */
+    private void send(List<Entry> entries, Entry own) {
+        producer.processBatch(entries);
+        for (Entry entry : entries) {
+            if (entry != own) {
+                done(entry);
+            }
+        }
+        if (own != null) {
+            own.callback().done(false);
+        }
+    }
+
+    private void done(Entry entry) {
+        ExecutorService executor = executorService;
+        if (executor != null) {
+            try {
+                executor.execute(() -> entry.callback().done(false));
+                return;
+            } catch (RejectedExecutionException e) {
+                // continue the exchange by this thread instead
+            }
+        }
+        entry.callback().done(false);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.jms.Connection;
+import jakarta.jms.Destination;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+
+import org.apache.camel.component.jms.JmsConfiguration.CamelJmsTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.core.MessageCreator;
+import org.springframework.jms.support.JmsUtils;
+
+/**
+ * Sends messages using JMS sessions and message producers (per destination) which are cached and reused, instead of
+ * creating them for every message as {@link org.springframework.jms.core.JmsTemplate} does.
+ * <p/>
+ * A session is used by one thread at a time. At most <tt>maxIdle</tt> sessions are kept when not in use, and any
+ * additional sessions created by concurrent senders are closed after use. All the sessions are created from the same
+ * JMS connection. When the connection fails (as reported to its {@link ExceptionListener}) then the connection and all
+ * its sessions are closed at once, and the next send creates a new connection. The QoS settings are still taken from
+ * the {@link CamelJmsTemplate} used for sending.
+ */
+final class JmsProducerSessionCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JmsProducerSessionCache.class);
+
+    /**
+     * A message to send in a batch.
+     */
+    record Send(Destination destination, String destinationName, MessageCreator messageCreator,
+            MessageSentCallback callback) {
+    }
+
+    private final JmsEndpoint endpoint;
+    private final int maxIdle;
+    private final Deque<CachedSession> sessions = new ArrayDeque<>();
+    private final Deque<CachedSession> transactedSessions = new ArrayDeque<>();
+    private final Set<CachedSession> allSessions = ConcurrentHashMap.newKeySet();
+    private volatile Connection connection;
+    private volatile boolean closed;
+
+    JmsProducerSessionCache(JmsEndpoint endpoint, int maxIdle) {
+        this.endpoint = endpoint;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Sends a single message using a (non transacted) session
+     */
+    void send(
+            CamelJmsTemplate template, Destination destination, String destinationName, MessageCreator messageCreator,
+            MessageSentCallback callback)
+            throws JMSException {
+        CachedSession cs = acquire(sessions, false);
+        try {
+            cs.send(template, destination, destinationName, messageCreator, callback);
+        } catch (JMSException | RuntimeException e) {
+            invalidate(cs);
+            throw e;
+        }
+        release(sessions, cs);
+    }
+
+    /**
+     * Sends the messages in a single local transaction using a transacted session
+     */
+    void sendBatch(CamelJmsTemplate template, List<Send> batch) throws JMSException {
+        CachedSession cs = acquire(transactedSessions, true);
+        try {
+            for (Send send : batch) {
+                cs.send(template, send.destination(), send.destinationName(), send.messageCreator(), send.callback());
+            }
+            cs.session.commit();
+        } catch (JMSException | RuntimeException e) {
+            try {
+                cs.session.rollback();
+            } catch (Exception ex) {
+                LOG.debug("Error rolling back JMS session due to: {}. This exception is ignored.", ex.getMessage(), ex);
+            }
+            invalidate(cs);
+            throw e;
+        }
+        release(transactedSessions, cs);
+    }
+
+    /**
+     * Closes all the cached sessions and the connection
+     */
+    void close() {
+        synchronized (this) {
+            closed = true;
+            sessions.clear();
+            transactedSessions.clear();
+        }
+        for (CachedSession cs : allSessions) {
+            cs.close();
+        }
+        allSessions.clear();
+        closeConnection();
+    }
+
+    /**
+     * Number of sessions which are open (both in use and idle)
+     */
+    int size() {
+        return allSessions.size();
+    }
+
+    private CachedSession acquire(Deque<CachedSession> idle, boolean transacted) throws JMSException {
+        synchronized (this) {
+            CachedSession cs = idle.pollFirst();
+            if (cs != null) {
+                return cs;
+            }
+        }
+        Connection con = getConnection();
+        Session session;
+        try {
+            session = con.createSession(transacted, transacted ? Session.SESSION_TRANSACTED : Session.AUTO_ACKNOWLEDGE);
+        } catch (JMSException e) {
+            // the connection may be broken so create a new connection next time
+            invalidate(con);
+            throw e;
+        }
+        CachedSession cs = new CachedSession(session, con);
+        allSessions.add(cs);
+        LOG.debug("Created {} JMS session ({} open sessions)", transacted ? "transacted" : "non transacted",
+                allSessions.size());
+        return cs;
+    }
+
+    private void release(Deque<CachedSession> idle, CachedSession cs) {
+        synchronized (this) {
+            // sessions of a failed connection are not reused
+            if (!closed && cs.connection == connection && idle.size() < maxIdle) {
+                // most recently used first
+                idle.addFirst(cs);
+                return;
+            }
+        }
+        invalidate(cs);
+    }
+
+    private void invalidate(CachedSession cs) {
+        allSessions.remove(cs);
+        cs.close();
+    }
+
+    /**
+     * Closes the connection and its idle sessions, so the next send creates a new connection. The sessions in use are
+     * closed when they are released.
+     */
+    private void invalidate(Connection con) {
+        List<CachedSession> stale = new ArrayList<>();
+        synchronized (this) {
+            if (connection == con) {
+                connection = null;
+            }
+            removeSessions(sessions, con, stale);
+            removeSessions(transactedSessions, con, stale);
+        }
+        for (CachedSession cs : stale) {
+            invalidate(cs);
+        }
+        JmsUtils.closeConnection(con);
+    }
+
+    private static void removeSessions(Deque<CachedSession> idle, Connection con, List<CachedSession> removed) {
+        for (Iterator<CachedSession> it = idle.iterator(); it.hasNext();) {
+            CachedSession cs = it.next();
+            if (cs.connection == con) {
+                it.remove();
+                removed.add(cs);
+            }
+        }
+    }
+
+    private Connection getConnection() throws JMSException {
+        Connection answer = connection;
+        if (answer == null) {
+            synchronized (this) {
+                answer = connection;
+                if (answer == null) {
+                    answer = endpoint.getConfiguration().getOrCreateTemplateConnectionFactory().createConnection();
+                    registerExceptionListener(answer);
+                    connection = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    private void registerExceptionListener(Connection con) {
+        ExceptionListener listener = e -> {
+            LOG.warn("JMS connection failed due to: {}. Closing the connection and its cached sessions.", e.getMessage(),
+                    e);
+            invalidate(con);
+        };
+        try {
+            con.setExceptionListener(listener);
+        } catch (JMSException | RuntimeException e) {
+            // not allowed in some environments (such as Jakarta EE), so a failed session is only closed on error
+            LOG.debug("Cannot set exception listener on JMS connection due to: {}. This exception is ignored.",
+                    e.getMessage(), e);
+        }
+    }
+
+    private synchronized void closeConnection() {
+        if (connection != null) {
+            JmsUtils.closeConnection(connection);
+            connection = null;
+        }
+    }
+
+    private static final class CachedSession {
+        private final Session session;
+        private final Connection connection;
+        private final Map<String, Destination> destinations = new HashMap<>();
+        private final Map<Destination, MessageProducer> producers = new HashMap<>();
+
+        CachedSession(Session session, Connection connection) {
+            this.session = session;
+            this.connection = connection;
+        }
+
+        void send(
+                CamelJmsTemplate template, Destination destination, String destinationName, MessageCreator messageCreator,
+                MessageSentCallback callback)
+                throws JMSException {
+            Destination dest = destination;
+            if (dest == null) {
+                dest = destinations.get(destinationName);
+                if (dest == null) {
+                    dest = template.getDestinationResolver().resolveDestinationName(session, destinationName,
+                            template.isPubSubDomain());
+                    destinations.put(destinationName, dest);
+                }
+            }
+            MessageProducer producer = producers.get(dest);
+            if (producer == null) {
+                producer = session.createProducer(dest);
+                if (!template.isMessageIdEnabled()) {
+                    producer.setDisableMessageID(true);
+                }
+                if (!template.isMessageTimestampEnabled()) {
+                    producer.setDisableMessageTimestamp(true);
+                }
+                producers.put(dest, producer);
+            }
+
+            Message message = messageCreator.createMessage(session);
+            template.doSend(producer, message);
+            if (message != null && callback != null) {
+                callback.sent(session, message, dest);
+            }
+        }
+
+        void close() {
+            for (MessageProducer producer : producers.values()) {
+                JmsUtils.closeMessageProducer(producer);
+            }
+            producers.clear();
+            JmsUtils.closeSession(session);
+        }
+    }
+
+}
@@ -16,25 +16,61 @@
  */
 package org.apache.camel.component.jms.reply;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
-import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.apache.camel.TimeoutMap.Listener.Type.*;
 
 /**
  * A {@link org.apache.camel.TimeoutMap} which is used to track reply messages which has been timed out, and thus should
- * trigger the waiting {@link org.apache.camel.Exchange} to timeout as well. Zero (or negative) timeout means infinite
- * but is actually encoded as {@link Integer#MAX_VALUE} which is 24 days.
+ * trigger the waiting {@link org.apache.camel.Exchange} to timeout as well. Zero (or negative) timeout means infinite.
+ * <p/>
+ * The correlation ids are kept in a {@link ConcurrentHashMap} without any additional locking, as this map is hit by
+ * every request and reply. The timeouts are tracked using a hashed wheel, where each entry is added to the bucket of
+ * the tick when it expires, so the purge task only has to look at the entries in the buckets of the elapsed ticks,
+ * instead of scanning all the pending requests. Entries which are removed (reply received) are left in the wheel, and
+ * are discarded when their bucket is visited.
  */
-class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
+class CorrelationTimeoutMap extends ServiceSupport implements TimeoutMap<String, ReplyHandler> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CorrelationTimeoutMap.class);
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final ConcurrentMap<String, Entry> map = new ConcurrentHashMap<>();
+    private final Queue<Entry>[] wheel;
+    private final List<Listener<String, ReplyHandler>> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService executor;
+    private final long tickDuration;
     private final BiConsumer<ReplyHandler, String> evictionTask;
+    private volatile ScheduledFuture<?> future;
+    private volatile long lastTick;
 
+    @SuppressWarnings("unchecked")
     CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService) {
-        super(executor, requestMapPollTimeMillis);
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        this.executor = executor;
+        this.tickDuration = Math.max(1, requestMapPollTimeMillis);
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
         // Support synchronous or asynchronous handling of evictions
         evictionTask = executorService == null
                 ? ReplyHandler::onTimeout
@@ -42,29 +78,173 @@ class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
         addListener(this::listener);
     }
 
-    private static long encode(long timeoutMillis) {
-        return timeoutMillis > 0 ? timeoutMillis : Integer.MAX_VALUE; // TODO why not Long.MAX_VALUE!
+    private static final class Entry {
+        private final String key;
+        private ReplyHandler value;
+        private final long expireTime;
+
+        private Entry(String key, ReplyHandler value, long expireTime) {
+            this.key = key;
+            this.value = value;
+            this.expireTime = expireTime;
+        }
     }
 
     private void listener(Listener.Type type, String key, ReplyHandler handler) {
         if (type == Put) {
-            log.trace("Added correlationID: {}", key);
+            LOG.trace("Added correlationID: {}", key);
         } else if (type == Remove) {
-            log.trace("Removed correlationID: {}", key);
+            LOG.trace("Removed correlationID: {}", key);
         } else if (type == Evict) {
             evictionTask.accept(handler, key);
-            log.trace("Evicted correlationID: {}", key);
+            LOG.trace("Evicted correlationID: {}", key);
         }
     }
 
+    @Override
+    public ReplyHandler get(String key) {
+        Entry entry = map.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
     @Override
     public ReplyHandler put(String key, ReplyHandler value, long timeoutMillis) {
-        return super.put(key, value, encode(timeoutMillis));
+        Entry entry = createEntry(key, value, timeoutMillis);
+        Entry old = map.put(key, entry);
+        schedule(entry);
+        emitEvent(Put, key, value);
+        return old != null ? old.value : null;
     }
 
     @Override
     public ReplyHandler putIfAbsent(String key, ReplyHandler value, long timeoutMillis) {
-        return super.putIfAbsent(key, value, encode(timeoutMillis));
+        Entry entry = createEntry(key, value, timeoutMillis);
+        Entry old = map.putIfAbsent(key, entry);
+        if (old != null) {
+            return old.value;
+        }
+        schedule(entry);
+        emitEvent(Put, key, value);
+        return null;
+    }
+
+    @Override
+    public ReplyHandler remove(String key) {
+        Entry entry = map.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        ReplyHandler answer = entry.value;
+        // the entry may linger in the wheel until its bucket is visited, so do not hold on to the handler
+        entry.value = null;
+        emitEvent(Remove, key, answer);
+        return answer;
+    }
+
+    @Override
+    public void addListener(Listener<String, ReplyHandler> listener) {
+        listeners.add(listener);
+    }
+
+    private void emitEvent(Listener.Type type, String key, ReplyHandler value) {
+        for (Listener<String, ReplyHandler> listener : listeners) {
+            try {
+                listener.timeoutMapEvent(type, key, value);
+            } catch (Exception t) {
+                // Ignore
+            }
+        }
+    }
+
+    private Entry createEntry(String key, ReplyHandler value, long timeoutMillis) {
+        long expireTime = timeoutMillis > 0 ? currentTime() + timeoutMillis : Long.MAX_VALUE;
+        return new Entry(key, value, expireTime);
+    }
+
+    private void schedule(Entry entry) {
+        if (entry.expireTime == Long.MAX_VALUE) {
+            // infinite so never evicted
+            return;
+        }
+        // the bucket of the first tick at or after the expire time, but never a tick which has already been visited
+        long tick = Math.max((entry.expireTime + tickDuration - 1) / tickDuration, lastTick + 1);
+        wheel[(int) (tick & WHEEL_MASK)].add(entry);
+    }
+
+    /**
+     * Visits the buckets of the ticks which has elapsed since the last run, and evicts the expired entries.
+     */
+    protected void purge() {
+        long now = currentTime();
+        long currentTick = now / tickDuration;
+        long from = lastTick + 1;
+        // no need to visit the same bucket more than once
+        if (currentTick - from >= WHEEL_SIZE) {
+            from = currentTick - WHEEL_SIZE + 1;
+        }
+        for (long tick = from; tick <= currentTick; tick++) {
+            lastTick = tick;
+            Iterator<Entry> it = wheel[(int) (tick & WHEEL_MASK)].iterator();
+            while (it.hasNext()) {
+                Entry entry = it.next();
+                if (map.get(entry.key) != entry) {
+                    // already removed (or replaced) so discard from the wheel
+                    it.remove();
+                } else if (entry.expireTime <= now) {
+                    it.remove();
+                    if (map.remove(entry.key, entry)) {
+                        LOG.debug("Evicting inactive correlationID: {}", entry.key);
+                        emitEvent(Evict, entry.key, entry.value);
+                    }
+                }
+                // otherwise it expires in a later round of the wheel
+            }
+        }
+    }
+
+    private void purgeTask() {
+        // only purge if allowed
+        if (!isRunAllowed()) {
+            LOG.trace("Purge task not allowed to run");
+            return;
+        }
+        try {
+            purge();
+        } catch (Exception t) {
+            // must catch and log exception otherwise the executor will not schedule next purgeTask
+            LOG.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    protected long currentTime() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        lastTick = currentTime() / tickDuration;
+        future = executor.scheduleWithFixedDelay(this::purgeTask, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        // clear map if we stop
+        map.clear();
+        for (Queue<Entry> bucket : wheel) {
+            bucket.clear();
+        }
     }
 
 }
@@ -51,6 +51,8 @@ public class MessageSelectorCreator {
                 return expression.toString();
             }
 
+            // clear the flag before reading the correlation ids, so any concurrent change will flag it dirty again
+            dirty = false;
             expression = new StringBuilder("JMSCorrelationID='");
 
             if (correlationIds.isEmpty()) {
@@ -69,23 +71,19 @@ public class MessageSelectorCreator {
                 }
             }
 
-            String answer = expression.toString();
-
-            dirty = false;
-            return answer;
+            return expression.toString();
         }
     }
 
     // Changes to live correlation-ids invalidate existing message selector
+    // (without locking as this is called for every request and reply)
     private void timeoutEvent(TimeoutMap.Listener.Type type, String cid) {
-        synchronized (lock) {
-            if (type == Put) {
-                correlationIds.add(cid);
-            } else if (type == Remove || type == Evict) {
-                correlationIds.remove(cid);
-            }
-            dirty = true;
+        if (type == Put) {
+            correlationIds.add(cid);
+        } else if (type == Remove || type == Evict) {
+            correlationIds.remove(cid);
         }
+        dirty = true;
     }
 
 }
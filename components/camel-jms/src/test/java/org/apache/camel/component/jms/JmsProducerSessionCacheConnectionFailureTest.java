@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+
+import org.apache.camel.component.jms.JmsConfiguration.CamelJmsTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jms.core.MessageCreator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JmsProducerSessionCacheConnectionFailureTest {
+
+    private final List<Connection> connections = new ArrayList<>();
+    private final List<ExceptionListener> listeners = new ArrayList<>();
+    private final List<Session> sessions = new ArrayList<>();
+    private final Destination destination = mock(Destination.class);
+    private final MessageCreator messageCreator = session -> mock(Message.class);
+    private CamelJmsTemplate template;
+    private JmsProducerSessionCache cache;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        when(connectionFactory.createConnection()).thenAnswer(invocation -> createConnection());
+
+        JmsConfiguration configuration = new JmsConfiguration(connectionFactory);
+        JmsEndpoint endpoint = mock(JmsEndpoint.class);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        template = new CamelJmsTemplate(configuration, connectionFactory);
+        cache = new JmsProducerSessionCache(endpoint, 10);
+    }
+
+    private Connection createConnection() throws JMSException {
+        Connection connection = mock(Connection.class);
+        when(connection.createSession(anyBoolean(), anyInt())).thenAnswer(invocation -> {
+            Session session = mock(Session.class);
+            when(session.createProducer(any())).thenReturn(mock(MessageProducer.class));
+            sessions.add(session);
+            return session;
+        });
+        doAnswer(invocation -> listeners.add(invocation.getArgument(0)))
+                .when(connection).setExceptionListener(any());
+        connections.add(connection);
+        return connection;
+    }
+
+    @Test
+    public void testConnectionFailureClosesIdleSessions() throws Exception {
+        cache.send(template, destination, null, messageCreator, null);
+        cache.sendBatch(template, List.of(new JmsProducerSessionCache.Send(destination, null, messageCreator, null)));
+        assertEquals(2, cache.size());
+
+        listeners.get(0).onException(new JMSException("Connection lost"));
+
+        // the connection and all its sessions are closed at once
+        assertEquals(0, cache.size());
+        verify(connections.get(0)).close();
+        for (Session session : sessions) {
+            verify(session).close();
+        }
+
+        // and a new connection is created on the next send
+        cache.send(template, destination, null, messageCreator, null);
+        assertEquals(2, connections.size());
+        assertEquals(1, cache.size());
+        verify(connections.get(1), never()).close();
+    }
+
+    @Test
+    public void testConnectionFailureWhileSending() throws Exception {
+        cache.send(template, destination, null, session -> {
+            listeners.get(0).onException(new JMSException("Connection lost"));
+            return mock(Message.class);
+        }, null);
+
+        // the session in use is closed when released instead of being reused
+        assertEquals(0, cache.size());
+        verify(sessions.get(0)).close();
+        verify(connections.get(0)).close();
+
+        cache.send(template, destination, null, messageCreator, null);
+        assertEquals(2, connections.size());
+        assertEquals(2, sessions.size());
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.Producer;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.infra.core.CamelContextExtension;
+import org.apache.camel.test.infra.core.DefaultCamelContextExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JmsProducerSessionCacheTest extends AbstractJMSTest {
+
+    @Order(2)
+    @RegisterExtension
+    public static CamelContextExtension camelContextExtension = new DefaultCamelContextExtension();
+    protected CamelContext context;
+    protected ProducerTemplate template;
+
+    @Test
+    public void testSessionCache() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:cached");
+        mock.expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:cached", "Hello " + i);
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testSessionCacheRequestReply() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Bye " + i, template.requestBody("direct:request", "" + i));
+        }
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedMessageCount(12);
+
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            final String body = "Hello " + i;
+            futures.add(template.asyncSend("direct:batch", e -> e.getIn().setBody(body)));
+        }
+        for (Future<Exchange> future : futures) {
+            Exchange out = future.get();
+            assertNull(out.getException());
+            assertEquals("JmsProducerSessionCacheTest.batch",
+                    out.getMessage().getHeader(JmsConstants.JMS_DESTINATION_NAME_PRODUCED));
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testBatchTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedMessageCount(3);
+
+        // the batch is not full, so it is committed when the timeout elapsed
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final String body = "Hello " + i;
+            futures.add(template.asyncSend("direct:timeout", e -> e.getIn().setBody(body)));
+        }
+        for (Future<Exchange> future : futures) {
+            assertNull(future.get(10, TimeUnit.SECONDS).getException());
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testBatchFailedSend() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:failed");
+        mock.expectedMessageCount(0);
+        mock.setAssertPeriod(500);
+
+        Future<Exchange> good = template.asyncSend("direct:failed", e -> e.getIn().setBody("Hello"));
+        Future<Exchange> bad = template.asyncSend("direct:failed", e -> e.getIn().setBody("Kaboom"));
+
+        // the transaction is rolled back, so both exchanges in the batch fail
+        assertIsInstanceOf(IllegalArgumentException.class, bad.get(10, TimeUnit.SECONDS).getException());
+        assertIsInstanceOf(IllegalArgumentException.class, good.get(10, TimeUnit.SECONDS).getException());
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Test
+    public void testBatchTimeoutMustBePositive() throws Exception {
+        Producer producer = context.getEndpoint(
+                "activemq:queue:JmsProducerSessionCacheTest.invalid?producerBatchSize=5&producerBatchTimeout=0")
+                .createProducer();
+        assertThrows(IllegalArgumentException.class, producer::start);
+    }
+
+    @Override
+    protected String getComponentName() {
+        return "activemq";
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:cached")
+                        .to("activemq:queue:JmsProducerSessionCacheTest.cached?producerSessionCache=true");
+                from("activemq:queue:JmsProducerSessionCacheTest.cached")
+                        .to("mock:cached");
+
+                from("direct:request")
+                        .to(ExchangePattern.InOut,
+                                "activemq:queue:JmsProducerSessionCacheTest.request?producerSessionCache=true");
+                from("activemq:queue:JmsProducerSessionCacheTest.request")
+                        .transform(body().prepend("Bye "));
+
+                from("direct:batch")
+                        .to("activemq:queue:JmsProducerSessionCacheTest.batch?producerBatchSize=5&producerBatchTimeout=200");
+                from("activemq:queue:JmsProducerSessionCacheTest.batch")
+                        .to("mock:batch");
+
+                from("direct:timeout")
+                        .to("activemq:queue:JmsProducerSessionCacheTest.timeout?producerBatchSize=100&producerBatchTimeout=100");
+                from("activemq:queue:JmsProducerSessionCacheTest.timeout")
+                        .to("mock:timeout");
+
+                MessageCreatedStrategy failing = (message, session, exchange, cause) -> {
+                    if ("Kaboom".equals(exchange.getIn().getBody())) {
+                        throw new IllegalArgumentException("Forced");
+                    }
+                };
+                getContext().getRegistry().bind("failing", failing);
+                from("direct:failed")
+                        .to("activemq:queue:JmsProducerSessionCacheTest.failed?producerBatchSize=2&producerBatchTimeout=10000"
+                            + "&messageCreatedStrategy=#failing");
+                from("activemq:queue:JmsProducerSessionCacheTest.failed")
+                        .to("mock:failed");
+            }
+        };
+    }
+
+    @Override
+    public CamelContextExtension getCamelContextExtension() {
+        return camelContextExtension;
+    }
+
+    @BeforeEach
+    void setUpRequirements() {
+        context = camelContextExtension.getContext();
+        template = camelContextExtension.getProducerTemplate();
+    }
+}
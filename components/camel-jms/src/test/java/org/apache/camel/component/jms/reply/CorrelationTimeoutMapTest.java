@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jms.reply;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CorrelationTimeoutMapTest {
+
+    private final List<String> timeouts = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService executor;
+    private CorrelationTimeoutMap map;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        map = new CorrelationTimeoutMap(executor, 10, null);
+        map.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        map.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPutAndRemove() {
+        ReplyHandler handler = new MyReplyHandler();
+        assertNull(map.putIfAbsent("123", handler, 1000));
+        assertSame(handler, map.putIfAbsent("123", new MyReplyHandler(), 1000));
+        assertSame(handler, map.get("123"));
+        assertEquals(1, map.size());
+
+        assertSame(handler, map.remove("123"));
+        assertNull(map.remove("123"));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimeout() {
+        map.put("123", new MyReplyHandler(), 50);
+        map.put("456", new MyReplyHandler(), 50);
+        map.put("789", new MyReplyHandler(), 0);
+        map.remove("456");
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> map.size() == 1);
+        assertEquals(List.of("123"), timeouts);
+
+        // zero timeout is infinite
+        await().during(100, TimeUnit.MILLISECONDS).atMost(5, TimeUnit.SECONDS)
+                .until(() -> map.size() == 1 && timeouts.size() == 1);
+    }
+
+    @Test
+    public void testReplaceBeforeTimeout() {
+        map.put("123", new MyReplyHandler(), 50);
+        map.put("123", new MyReplyHandler(), 60000);
+
+        await().during(200, TimeUnit.MILLISECONDS).atMost(5, TimeUnit.SECONDS).until(() -> map.size() == 1);
+        assertTrue(timeouts.isEmpty());
+    }
+
+    private class MyReplyHandler implements ReplyHandler {
+
+        @Override
+        public void onReply(String correlationId, Message reply, Session session) {
+            // noop
+        }
+
+        @Override
+        public void onTimeout(String correlationId) {
+            timeouts.add(correlationId);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * A simple definite JSONPath such as <tt>$.store.book[3].title</tt> which can be evaluated while streaming the JSON
+ * document with a Jackson {@link JsonParser}, without materializing the document.
+ * <p>
+ * Only property names (dot or bracket notation) and non-negative array indexes are supported. Any other JSONPath syntax
+ * (wildcards, deep scan, filters, slices, functions, unions) is not a definite path of this kind, and
+ * {@link #compile(String)} returns <tt>null</tt> for such expressions.
+ */
+final class DefiniteJsonPath {
+
+    /**
+     * Returned by {@link #read(JsonParser, ObjectReader)} when the path does not exist in the document.
+     */
+    static final Object NOT_FOUND = new Object();
+
+    /**
+     * Returned by {@link #read(JsonParser, ObjectReader)} when only the last property of the path does not exist in the
+     * object found by the path.
+     */
+    static final Object LEAF_NOT_FOUND = new Object();
+
+    private final Object[] segments;
+
+    private DefiniteJsonPath(Object[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the expression as a definite path.
+     *
+     * @param  expression the JSONPath expression
+     * @return            the definite path, or <tt>null</tt> if the expression is not a simple definite path
+     */
+    static DefiniteJsonPath compile(String expression) {
+        if (expression == null || !expression.startsWith("$")) {
+            return null;
+        }
+
+        List<Object> segments = new ArrayList<>();
+        int len = expression.length();
+        int i = 1;
+        while (i < len) {
+            char ch = expression.charAt(i);
+            if (ch == '.') {
+                int start = ++i;
+                while (i < len && isNameChar(expression.charAt(i))) {
+                    i++;
+                }
+                if (i == start) {
+                    // deep scan, wildcard or other syntax
+                    return null;
+                }
+                segments.add(expression.substring(start, i));
+            } else if (ch == '[') {
+                int end = expression.indexOf(']', i);
+                if (end == -1) {
+                    return null;
+                }
+                Object segment = bracketSegment(expression.substring(i + 1, end));
+                if (segment == null) {
+                    return null;
+                }
+                segments.add(segment);
+                i = end + 1;
+            } else {
+                return null;
+            }
+        }
+
+        return segments.isEmpty() ? null : new DefiniteJsonPath(segments.toArray());
+    }
+
+    private static Object bracketSegment(String text) {
+        int len = text.length();
+        if (len >= 2) {
+            char quote = text.charAt(0);
+            if ((quote == '\'' || quote == '"') && text.charAt(len - 1) == quote) {
+                String name = text.substring(1, len - 1);
+                for (int i = 0; i < name.length(); i++) {
+                    char ch = name.charAt(i);
+                    if (ch == '\'' || ch == '"' || ch == '\\' || ch == ',') {
+                        return null;
+                    }
+                }
+                return name.isEmpty() ? null : name;
+            }
+        }
+        if (len == 0 || len > 9) {
+            return null;
+        }
+        for (int i = 0; i < len; i++) {
+            if (!Character.isDigit(text.charAt(i))) {
+                return null;
+            }
+        }
+        return Integer.valueOf(text);
+    }
+
+    private static boolean isNameChar(char ch) {
+        return ch != '.' && ch != '[' && ch != ']' && ch != '(' && ch != ')' && ch != '*' && ch != '?' && ch != '@'
+                && ch != '\'' && ch != '"' && ch != ',' && !Character.isWhitespace(ch);
+    }
+
+    /**
+     * Reads the value at this path. The whole root value is read, so a malformed document is reported the same way as
+     * when parsing the document, but the document is not materialized, only the found value is.
+     * <p>
+     * If an object has duplicate keys, then the value of the last key is used, as when the document is parsed.
+     *
+     * @param  parser      the parser positioned before the root value
+     * @param  reader      the reader used for binding the found value (same binding as the Jackson json provider)
+     * @return             the value, {@link #LEAF_NOT_FOUND} if only the last property does not exist, or
+     *                     {@link #NOT_FOUND} if the path does not exist in the document
+     * @throws IOException is thrown if error reading the document, such as the document is malformed
+     */
+    Object read(JsonParser parser, ObjectReader reader) throws IOException {
+        if (parser.nextToken() == null) {
+            return NOT_FOUND;
+        }
+        return readValue(parser, reader, 0);
+    }
+
+    /**
+     * Reads the value at the given segment of this path, from the value at the current token. The parser is advanced to
+     * the last token of the current value.
+     */
+    private Object readValue(JsonParser parser, ObjectReader reader, int index) throws IOException {
+        if (index == segments.length) {
+            return reader.readValue(parser);
+        }
+
+        Object segment = segments[index];
+        JsonToken token = parser.currentToken();
+        Object answer = NOT_FOUND;
+        if (segment instanceof String && token == JsonToken.START_OBJECT) {
+            if (index == segments.length - 1) {
+                answer = LEAF_NOT_FOUND;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean match = segment.equals(parser.currentName());
+                parser.nextToken();
+                if (match) {
+                    // continue with the remaining keys as the last duplicate key wins
+                    answer = readValue(parser, reader, index + 1);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else if (segment instanceof Integer && token == JsonToken.START_ARRAY) {
+            int i = 0;
+            for (JsonToken next = parser.nextToken(); next != null && next != JsonToken.END_ARRAY; next = parser.nextToken()) {
+                if (i++ == (Integer) segment) {
+                    answer = readValue(parser, reader, index + 1);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        return "DefiniteJsonPath" + Arrays.toString(segments);
+    }
+}
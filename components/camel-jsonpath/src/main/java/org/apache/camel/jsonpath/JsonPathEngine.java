@@ -20,15 +20,23 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
@@ -37,6 +45,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.SafeCopyProperty;
 import org.apache.camel.StreamCache;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.util.ObjectHelper;
@@ -44,6 +53,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static com.jayway.jsonpath.Option.ALWAYS_RETURN_LIST;
+import static com.jayway.jsonpath.Option.AS_PATH_LIST;
 import static com.jayway.jsonpath.Option.DEFAULT_PATH_LEAF_TO_NULL;
 import static com.jayway.jsonpath.Option.SUPPRESS_EXCEPTIONS;
 
@@ -52,6 +62,10 @@ public class JsonPathEngine {
     private static final Logger LOG = LoggerFactory.getLogger(JsonPathEngine.class);
 
     private static final String JACKSON_JSON_ADAPTER = "org.apache.camel.jsonpath.jackson.JacksonJsonAdapter";
+    private static final String DOCUMENT_CACHE = "CamelJsonPathDocument";
+
+    // returned when the payload cannot be read by streaming
+    private static final Object NOT_STREAMED = new Object();
 
     private static final Pattern SIMPLE_PATTERN = Pattern.compile("\\$\\{[^\\}]+\\}", Pattern.MULTILINE);
     private final String expression;
@@ -59,6 +73,9 @@ public class JsonPathEngine {
     private final Configuration configuration;
     private final boolean hasSimple;
     private final Expression source;
+    private final ObjectMapper registeredMapper;
+    private final ObjectReader streamReader;
+    private final DefiniteJsonPath definitePath;
     private JsonPathAdapter adapter;
     private volatile boolean initJsonAdapter;
 
@@ -69,6 +86,11 @@ public class JsonPathEngine {
 
     public JsonPathEngine(String expression, Expression source, boolean writeAsString, boolean suppressExceptions,
                           boolean allowSimple, Option[] options, CamelContext context) {
+        this(expression, source, writeAsString, suppressExceptions, allowSimple, false, options, context);
+    }
+
+    public JsonPathEngine(String expression, Expression source, boolean writeAsString, boolean suppressExceptions,
+                          boolean allowSimple, boolean streaming, Option[] options, CamelContext context) {
         this.expression = expression;
         this.source = source;
         this.writeAsString = writeAsString;
@@ -78,14 +100,12 @@ public class JsonPathEngine {
             builder.options(options);
         }
         // Use custom ObjectMapper if provided (CAMEL-17956)
-        ObjectMapper objectMapper = findRegisteredMapper(context);
-        if (objectMapper != null) {
-            builder.jsonProvider(new JacksonJsonProvider(objectMapper));
-            builder.mappingProvider(new JacksonMappingProvider(objectMapper));
-        } else {
-            builder.jsonProvider(new JacksonJsonProvider());
-            builder.mappingProvider(new JacksonMappingProvider());
-        }
+        this.registeredMapper = findRegisteredMapper(context);
+        ObjectMapper objectMapper = registeredMapper != null ? registeredMapper : new ObjectMapper();
+        builder.jsonProvider(new JacksonJsonProvider(objectMapper));
+        builder.mappingProvider(new JacksonMappingProvider(objectMapper));
+        // bind values read while streaming the same way as the json provider does
+        this.streamReader = objectMapper.readerFor(Object.class);
 
         if (suppressExceptions) {
             builder.options(SUPPRESS_EXCEPTIONS);
@@ -101,6 +121,14 @@ public class JsonPathEngine {
             }
         }
         this.hasSimple = simpleInUse;
+
+        // simple definite paths can be evaluated by streaming, unless the options change the shape of the result
+        if (streaming && !hasSimple && !configuration.getOptions().contains(ALWAYS_RETURN_LIST)
+                && !configuration.getOptions().contains(AS_PATH_LIST)) {
+            this.definitePath = DefiniteJsonPath.compile(expression);
+        } else {
+            this.definitePath = null;
+        }
     }
 
     private ObjectMapper findRegisteredMapper(CamelContext context) {
@@ -110,25 +138,38 @@ public class JsonPathEngine {
         return null;
     }
 
-    @SuppressWarnings("unchecked")
     public Object read(Exchange exchange) throws Exception {
+        return read(exchange, true);
+    }
+
+    /**
+     * Reads the json path from the exchange.
+     *
+     * @param exchange the exchange
+     * @param mutable  whether the caller may change the result, and therefore a result read from the document cached on
+     *                 the exchange must be a copy
+     */
+    @SuppressWarnings("unchecked")
+    Object read(Exchange exchange, boolean mutable) throws Exception {
+        if (writeAsString && !initJsonAdapter) {
+            doInitAdapter(exchange);
+        }
+        // the result is written as strings so the document is not exposed
+        boolean copy = mutable && !(writeAsString && adapter != null);
+
         Object answer;
         if (hasSimple) {
             // need to compile every time
             Expression exp = exchange.getContext().resolveLanguage("simple").createExpression(expression);
             String text = exp.evaluate(exchange, String.class);
             LOG.debug("Compiled dynamic JsonPath: {}", text);
-            answer = doRead(text, exchange);
+            answer = doRead(text, exchange, copy);
         } else {
-            answer = doRead(expression, exchange);
+            answer = doRead(expression, exchange, copy);
         }
 
         if (writeAsString) {
 
-            if (!initJsonAdapter) {
-                doInitAdapter(exchange);
-            }
-
             if (adapter == null) {
                 LOG.debug("Cannot writeAsString as adapter cannot be initialized");
                 // return as-is as there is no adapter
@@ -149,13 +190,14 @@ public class JsonPathEngine {
                 }
                 return list;
             } else if (answer instanceof Map) {
-                Map<Object, Object> map = (Map<Object, Object>) answer;
+                // copy as the map may be part of a parsed document that is shared with other expressions
+                Map<Object, Object> map = new LinkedHashMap<>((Map<Object, Object>) answer);
                 for (Map.Entry<Object, Object> entry : map.entrySet()) {
                     Object value = entry.getValue();
                     if (adapter != null) {
                         String json = adapter.writeAsString(value, exchange);
                         if (json != null) {
-                            map.put(entry.getKey(), json);
+                            entry.setValue(json);
                         }
                     }
                 }
@@ -175,18 +217,43 @@ public class JsonPathEngine {
         return source != null ? source.evaluate(exchange, Object.class) : exchange.getMessage().getBody();
     }
 
-    private Object doRead(String path, Exchange exchange) throws IOException, CamelExchangeException {
+    private Object doRead(String path, Exchange exchange, boolean copy) throws IOException, CamelExchangeException {
         final Object json = getPayload(exchange);
 
+        // reuse the document if another json path expression has already parsed the same payload
+        CachedDocument cached = getCachedDocument(exchange, json);
+        if (cached != null) {
+            LOG.trace("JSonPath: {} is read from cached document of: {}", path, json);
+            Object answer = JsonPath.using(configuration).parse(cached.document).read(path);
+            if (copy) {
+                answer = detach(answer);
+            }
+            return answer != null ? answer : noAnswer(exchange);
+        }
+
+        if (definitePath != null) {
+            Object answer = readWithStreaming(path, json, exchange);
+            if (answer != null && answer != DefiniteJsonPath.NOT_FOUND && answer != DefiniteJsonPath.LEAF_NOT_FOUND
+                    && answer != NOT_STREAMED) {
+                return answer;
+            }
+            if (isNotFoundResult(answer)) {
+                // the options define the result so there is no need to parse the document
+                return noAnswer(exchange);
+            }
+            // parse the document to let json path decide what to return (or report the problem)
+        }
+
         if (json instanceof InputStream) {
-            return readWithInputStream(path, exchange);
+            return readWithInputStream(path, exchange, copy);
         } else if (json instanceof GenericFile) {
             LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
             GenericFile<?> genericFile = (GenericFile<?>) json;
             if (genericFile.getCharset() != null) {
                 // special treatment for generic file with charset
                 InputStream inputStream = new FileInputStream((File) genericFile.getFile());
-                return JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()).read(path);
+                return readAndCache(exchange, json, JsonPath.using(configuration).parse(inputStream, genericFile.getCharset()),
+                        path, copy);
             }
         }
 
@@ -194,7 +261,7 @@ public class JsonPathEngine {
         if (json instanceof String) {
             LOG.trace("JSonPath: {} is read as String: {}", path, json);
             String str = (String) json;
-            answer = JsonPath.using(configuration).parse(str).read(path);
+            answer = readAndCache(exchange, json, JsonPath.using(configuration).parse(str), path, copy);
         } else if (json instanceof Map) {
             LOG.trace("JSonPath: {} is read as Map: {}", path, json);
             Map map = (Map) json;
@@ -205,7 +272,7 @@ public class JsonPathEngine {
             answer = JsonPath.using(configuration).parse(list).read(path);
         } else {
             //try to auto convert into inputStream
-            answer = readWithInputStream(path, exchange);
+            answer = readWithInputStream(path, exchange, copy);
             if (answer == null) {
                 // fallback and attempt an adapter which can read the message body/header
                 answer = readWithAdapter(path, exchange);
@@ -214,7 +281,26 @@ public class JsonPathEngine {
         if (answer != null) {
             return answer;
         }
+        return noAnswer(exchange);
+    }
 
+    /**
+     * Whether the value read by streaming is not found (or null), and the options define the result as when the
+     * document is parsed. Only a missing last property is <tt>null</tt> with DEFAULT_PATH_LEAF_TO_NULL, as json path
+     * fails for any other missing part of the path.
+     */
+    private boolean isNotFoundResult(Object answer) {
+        if (answer == NOT_STREAMED) {
+            return false;
+        }
+        Set<Option> options = configuration.getOptions();
+        if (options.contains(SUPPRESS_EXCEPTIONS)) {
+            return true;
+        }
+        return options.contains(DEFAULT_PATH_LEAF_TO_NULL) && answer != DefiniteJsonPath.NOT_FOUND;
+    }
+
+    private Object noAnswer(Exchange exchange) throws CamelExchangeException {
         // is json path configured to suppress exceptions
         if (configuration.getOptions().contains(SUPPRESS_EXCEPTIONS)
                 || configuration.getOptions().contains(DEFAULT_PATH_LEAF_TO_NULL)) {
@@ -233,7 +319,7 @@ public class JsonPathEngine {
         }
     }
 
-    private Object readWithInputStream(String path, Exchange exchange) throws IOException {
+    private Object readWithInputStream(String path, Exchange exchange, boolean copy) throws IOException {
         Object json = getPayload(exchange);
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
@@ -247,18 +333,107 @@ public class JsonPathEngine {
             String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
             if (jsonEncoding != null) {
                 // json encoding specified in header
-                return JsonPath.using(configuration).parse(is, jsonEncoding).read(path);
+                return readAndCache(exchange, json, JsonPath.using(configuration).parse(is, jsonEncoding), path, copy);
             } else {
                 // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
                 // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
                 JsonStream jsonStream = new JsonStream(is);
-                return JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()).read(path);
+                return readAndCache(exchange, json,
+                        JsonPath.using(configuration).parse(jsonStream, jsonStream.getEncoding().name()), path, copy);
             }
         }
 
         return null;
     }
 
+    private Object readWithStreaming(String path, Object json, Exchange exchange) {
+        // only payloads which can be read again (if the path is not found) are streamed
+        if (!(json instanceof String || json instanceof byte[] || json instanceof StreamCache)) {
+            return NOT_STREAMED;
+        }
+
+        LOG.trace("JSonPath: {} is read by streaming: {}", path, json);
+        try (JsonParser parser = createParser(json, exchange)) {
+            return parser != null ? definitePath.read(parser, streamReader) : NOT_STREAMED;
+        } catch (IOException e) {
+            // let json path report the problem when parsing the document
+            LOG.trace("JSonPath: {} cannot be read by streaming due to: {}", path, e.getMessage());
+            return NOT_STREAMED;
+        } finally {
+            if (json instanceof StreamCache) {
+                ((StreamCache) json).reset();
+            }
+        }
+    }
+
+    private JsonParser createParser(Object json, Exchange exchange) throws IOException {
+        if (json instanceof String) {
+            return streamReader.createParser(new StringReader((String) json));
+        }
+        InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
+        if (is == null) {
+            return null;
+        }
+        String jsonEncoding = getJsonEncoding(exchange);
+        if (jsonEncoding == null) {
+            JsonStream jsonStream = new JsonStream(is);
+            is = jsonStream;
+            jsonEncoding = jsonStream.getEncoding().name();
+        }
+        return streamReader.createParser(new InputStreamReader(is, jsonEncoding));
+    }
+
+    /**
+     * Reads the path from the parsed document, and keeps the document on the exchange, so the following expressions
+     * reading the same payload (such as the predicates of a content based router) do not parse it again.
+     */
+    private Object readAndCache(Exchange exchange, Object payload, DocumentContext context, String path, boolean copy) {
+        Object answer = context.read(path);
+        exchange.getExchangeExtension().setSafeCopyProperty(DOCUMENT_CACHE,
+                new CachedDocument(payload, registeredMapper, getJsonEncoding(exchange), context.json()));
+        return copy ? detach(answer) : answer;
+    }
+
+    private CachedDocument getCachedDocument(Exchange exchange, Object payload) {
+        if (payload == null || payload instanceof Map || payload instanceof List) {
+            return null;
+        }
+        CachedDocument cached = exchange.getExchangeExtension().getSafeCopyProperty(DOCUMENT_CACHE, CachedDocument.class);
+        if (cached != null && cached.payload == payload && cached.mapper == registeredMapper
+                && Objects.equals(cached.encoding, getJsonEncoding(exchange))) {
+            return cached;
+        }
+        return null;
+    }
+
+    /**
+     * Copies the maps and lists of a value read from a cached document, so the cached document cannot be changed by the
+     * callers.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object detach(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            Map<Object, Object> answer = new LinkedHashMap<>(map.size());
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                answer.put(entry.getKey(), detach(entry.getValue()));
+            }
+            return answer;
+        } else if (value instanceof List) {
+            List<Object> list = (List<Object>) value;
+            List<Object> answer = new ArrayList<>(list.size());
+            for (Object element : list) {
+                answer.add(detach(element));
+            }
+            return answer;
+        }
+        return value;
+    }
+
+    private static String getJsonEncoding(Exchange exchange) {
+        return exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
+    }
+
     private Object readWithAdapter(String path, Exchange exchange) {
         Object json = getPayload(exchange);
         LOG.trace("JSonPath: {} is read with adapter: {}", path, json);
@@ -308,4 +483,33 @@ public class JsonPathEngine {
             initJsonAdapter = true;
         }
     }
+
+    /**
+     * A parsed JSON document, which is kept on the exchange so multiple json path expressions evaluated on the same
+     * payload only parse it once.
+     */
+    static final class CachedDocument implements SafeCopyProperty {
+
+        private final Object payload;
+        private final ObjectMapper mapper;
+        private final String encoding;
+        private final Object document;
+
+        private CachedDocument(Object payload, ObjectMapper mapper, String encoding, Object document) {
+            this.payload = payload;
+            this.mapper = mapper;
+            this.encoding = encoding;
+            this.document = document;
+        }
+
+        Object getDocument() {
+            return document;
+        }
+
+        @Override
+        public SafeCopyProperty safeCopy() {
+            // the copy can share the document as it is never changed (the values which can be changed are detached)
+            return new CachedDocument(payload, mapper, encoding, document);
+        }
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.camel.jsonpath;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -47,8 +48,10 @@ public class JsonPathExpression extends ExpressionAdapter {
     private boolean allowEasyPredicate = true;
     private boolean writeAsString;
     private boolean unpackArray;
+    private boolean streaming;
     private Expression source;
     private Option[] options;
+    private boolean mutableResult = true;
 
     public JsonPathExpression(String expression) {
         this.expression = expression;
@@ -132,6 +135,19 @@ public class JsonPathExpression extends ExpressionAdapter {
         this.unpackArray = unpackArray;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to evaluate simple definite paths (such as <tt>$.store.book[1].title</tt>) by streaming the message body,
+     * instead of parsing the whole document. This is only faster for large documents which are read by a single
+     * expression, as the document is not kept for the following expressions.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public Expression getSource() {
         return source;
     }
@@ -154,7 +170,7 @@ public class JsonPathExpression extends ExpressionAdapter {
     @Override
     public Object evaluate(Exchange exchange) {
         try {
-            Object result = evaluateJsonPath(exchange, engine);
+            Object result = engine.read(exchange, mutableResult);
             boolean resultTypeIsCollection = resultType != null && Collection.class.isAssignableFrom(resultType);
             if (unpackArray) {
                 // in some cases we get a single element that is wrapped in a List, so unwrap that
@@ -207,10 +223,15 @@ public class JsonPathExpression extends ExpressionAdapter {
             }
         }
 
+        // the result of a predicate, or when converted to another type, is not exposed to the caller
+        mutableResult = !predicate && (resultType == null || resultType.isArray()
+                || resultType.isAssignableFrom(Map.class) || resultType.isAssignableFrom(List.class)
+                || Map.class.isAssignableFrom(resultType) || Collection.class.isAssignableFrom(resultType));
+
         LOG.debug("Initializing {} using: {}", predicate ? "predicate" : "expression", exp);
         try {
             engine = new JsonPathEngine(
-                    exp, source, writeAsString, suppressExceptions, allowSimple, options, context);
+                    exp, source, writeAsString, suppressExceptions, allowSimple, streaming, options, context);
         } catch (Exception e) {
             throw new ExpressionIllegalSyntaxException(exp, e);
         }
@@ -220,8 +241,4 @@ public class JsonPathExpression extends ExpressionAdapter {
     public String toString() {
         return "jsonpath[" + expression + "]";
     }
-
-    private Object evaluateJsonPath(Exchange exchange, JsonPathEngine engine) throws Exception {
-        return engine.read(exchange);
-    }
 }
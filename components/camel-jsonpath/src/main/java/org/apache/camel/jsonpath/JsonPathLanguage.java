@@ -39,6 +39,7 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
     private boolean allowEasyPredicate = true;
     private boolean writeAsString;
     private boolean unpackArray;
+    private boolean streaming;
     private Option[] options;
 
     public boolean isSuppressExceptions() {
@@ -81,6 +82,14 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
         this.unpackArray = unpackArray;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public Option[] getOptions() {
         return options;
     }
@@ -110,6 +119,7 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
         answer.setAllowEasyPredicate(property(boolean.class, properties, 4, isAllowEasyPredicate()));
         answer.setWriteAsString(property(boolean.class, properties, 5, isWriteAsString()));
         answer.setUnpackArray(property(boolean.class, properties, 6, isUnpackArray()));
+        answer.setStreaming(isStreaming());
         Object option = property(Object.class, properties, 7, null);
         if (option != null) {
             List<Option> list = new ArrayList<>();
@@ -171,6 +181,9 @@ public class JsonPathLanguage extends SingleInputTypedLanguageSupport implements
             case "unpackArray":
                 setUnpackArray(PropertyConfigurerSupport.property(camelContext, boolean.class, value));
                 return true;
+            case "streaming":
+                setStreaming(PropertyConfigurerSupport.property(camelContext, boolean.class, value));
+                return true;
             case "options":
                 setOptions(PropertyConfigurerSupport.property(camelContext, Option[].class, value));
                 return true;
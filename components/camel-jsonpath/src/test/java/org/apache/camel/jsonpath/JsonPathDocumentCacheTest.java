@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonPathDocumentCacheTest extends CamelTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testCompileDefinitePath() {
+        assertNotNull(DefiniteJsonPath.compile("$.store.book[1].title"));
+        assertNotNull(DefiniteJsonPath.compile("$['store']['bicycle'].color"));
+        assertNull(DefiniteJsonPath.compile("$"));
+        assertNull(DefiniteJsonPath.compile("$..author"));
+        assertNull(DefiniteJsonPath.compile("$.store.book[*].author"));
+        assertNull(DefiniteJsonPath.compile("$.store.book[-1]"));
+        assertNull(DefiniteJsonPath.compile("$.store.book[0,1]"));
+        assertNull(DefiniteJsonPath.compile("$.store.book[?(@.price < 10)]"));
+        assertNull(DefiniteJsonPath.compile("$.store.book.length()"));
+    }
+
+    @Test
+    public void testStreamingDefinitePath() throws Exception {
+        String json = Files.readString(new File("src/test/resources/books.json").toPath());
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(json);
+        assertEquals("Sword's of Honour", streamingEngine("$.store.book[1].title", false).read(exchange));
+        assertEquals(19.95, streamingEngine("$['store']['bicycle'].price", false).read(exchange));
+        Map<?, ?> bicycle = (Map<?, ?>) streamingEngine("$.store.bicycle", false).read(exchange);
+        assertEquals("red", bicycle.get("color"));
+
+        exchange.getIn().setBody(json.getBytes());
+        assertEquals("Camels in Space", streamingEngine("$.store.book[2].title", false).read(exchange));
+
+        // not found with suppressed exceptions does not parse the document
+        assertNull(streamingEngine("$.store.book[5].title", true).read(exchange));
+        assertNull(streamingEngine("$.store.bicycle.size", true).read(exchange));
+        assertNull(cachedDocument(exchange));
+    }
+
+    @Test
+    public void testStreamingLeafToNull() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("{\"a\": {\"b\": 1, \"c\": null}}");
+
+        JsonPathEngine missingLeaf = new JsonPathEngine(
+                "$.a.d", null, false, false, true, true, new Option[] { Option.DEFAULT_PATH_LEAF_TO_NULL }, context);
+        assertNull(missingLeaf.read(exchange));
+        JsonPathEngine nullLeaf = new JsonPathEngine(
+                "$.a.c", null, false, false, true, true, new Option[] { Option.DEFAULT_PATH_LEAF_TO_NULL }, context);
+        assertNull(nullLeaf.read(exchange));
+        // the missing leaf is null without parsing the document
+        assertNull(cachedDocument(exchange));
+
+        // json path fails when another part of the path is missing
+        JsonPathEngine missingPath = new JsonPathEngine(
+                "$.x.d", null, false, false, true, true, new Option[] { Option.DEFAULT_PATH_LEAF_TO_NULL }, context);
+        assertThrows(PathNotFoundException.class, () -> missingPath.read(exchange));
+    }
+
+    @Test
+    public void testStreamingIsOptIn() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("{\"a\": {\"b\": 1}}");
+
+        assertEquals(1, streamingEngine("$.a.b", false).read(exchange));
+        assertNull(cachedDocument(exchange));
+
+        // the document is parsed and kept for the following expressions
+        assertEquals(1, engine("$.a.b", false).read(exchange));
+        assertNotNull(cachedDocument(exchange));
+    }
+
+    @Test
+    public void testStreamingMalformed() {
+        Exchange exchange = new DefaultExchange(context);
+        // the value is found before the document turns out to be malformed
+        exchange.getIn().setBody("{\"a\": {\"b\": 1}, \"c\": [1, 2");
+        assertThrows(Exception.class, () -> streamingEngine("$.a.b", false).read(exchange));
+
+        exchange.getIn().setBody("{\"a\": {\"b\": 1}, \"c\": }");
+        assertThrows(Exception.class, () -> streamingEngine("$.a.b", false).read(exchange));
+    }
+
+    @Test
+    public void testStreamingDuplicateKeys() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        // the last duplicate key wins as when the document is parsed
+        exchange.getIn().setBody("{\"a\": 1, \"b\": 2, \"a\": 3}");
+        assertEquals(3, streamingEngine("$.a", false).read(exchange));
+
+        exchange.getIn().setBody("{\"a\": {\"b\": 1}, \"a\": {\"c\": 2}}");
+        assertNull(streamingEngine("$.a.b", true).read(exchange));
+        assertEquals(2, streamingEngine("$.a.c", false).read(exchange));
+    }
+
+    @Test
+    public void testDocumentCachedPerExchange() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(Files.readString(new File("src/test/resources/books.json").toPath()));
+
+        List<?> cheap = (List<?>) engine("$.store.book[?(@.price < 10)].title", false).read(exchange);
+        assertEquals(2, cheap.size());
+        // the document is kept by the first expression which parses the payload
+        Object document = cachedDocument(exchange);
+        assertNotNull(document);
+
+        List<?> fiction = (List<?>) engine("$.store.book[?(@.category == 'fiction')].author", false).read(exchange);
+        assertEquals(List.of("Evelyn Waugh", "John O'Niel"), fiction);
+        assertSame(document, cachedDocument(exchange));
+
+        List<?> reference = (List<?>) engine("$.store.book[?(@.category == 'reference')].author", false).read(exchange);
+        assertEquals(List.of("Nigel Rees"), reference);
+        assertSame(document, cachedDocument(exchange));
+
+        // a new payload is parsed again
+        exchange.getIn().setBody("{\"store\": {\"book\": [{\"title\": \"Camel in Action\", \"price\": 5}]}}");
+        cheap = (List<?>) engine("$.store.book[?(@.price < 10)].title", false).read(exchange);
+        assertEquals(List.of("Camel in Action"), cheap);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCachedDocumentIsDetached() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(Files.readString(new File("src/test/resources/books.json").toPath()));
+
+        String expression = "$.store.book[?(@.price < 10)]";
+        List<Map<String, Object>> books = (List<Map<String, Object>>) engine(expression, false).read(exchange);
+        assertNotNull(cachedDocument(exchange));
+
+        // changing the returned values does not change the cached document
+        books.get(0).put("title", "Changed");
+        books.clear();
+        books = (List<Map<String, Object>>) engine(expression, false).read(exchange);
+        assertEquals(2, books.size());
+        assertEquals("Sayings of the Century", books.get(0).get("title"));
+
+        // a copy of the exchange reads the same document
+        Exchange copy = exchange.copy();
+        books = (List<Map<String, Object>>) engine(expression, false).read(copy);
+        assertEquals("Sayings of the Century", books.get(0).get("title"));
+    }
+
+    @Test
+    public void testResultNotCopiedWhenNotMutable() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(Files.readString(new File("src/test/resources/books.json").toPath()));
+
+        JsonPathEngine engine = engine("$.store.bicycle", false);
+        Object first = engine.read(exchange, false);
+        // the value is read from the cached document as is, as the caller does not change it
+        assertSame(first, engine.read(exchange, false));
+        assertNotSame(first, engine.read(exchange, true));
+        assertEquals(first, engine.read(exchange, true));
+    }
+
+    private static Object cachedDocument(Exchange exchange) {
+        JsonPathEngine.CachedDocument cached = exchange.getExchangeExtension()
+                .getSafeCopyProperty("CamelJsonPathDocument", JsonPathEngine.CachedDocument.class);
+        return cached != null ? cached.getDocument() : null;
+    }
+
+    private JsonPathEngine engine(String expression, boolean suppressExceptions) {
+        return new JsonPathEngine(expression, null, false, suppressExceptions, true, null, context);
+    }
+
+    private JsonPathEngine streamingEngine(String expression, boolean suppressExceptions) {
+        return new JsonPathEngine(expression, null, false, suppressExceptions, true, true, null, context);
+    }
+}
@@ -161,6 +161,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "pollTimeoutMs": getOrCreateConfiguration(target).setPollTimeoutMs(property(camelContext, java.lang.Long.class, value)); return true;
         case "prevalidatehostandport":
         case "preValidateHostAndPort": getOrCreateConfiguration(target).setPreValidateHostAndPort(property(camelContext, boolean.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": getOrCreateConfiguration(target).setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "producerbatchsize":
         case "producerBatchSize": getOrCreateConfiguration(target).setProducerBatchSize(property(camelContext, java.lang.Integer.class, value)); return true;
         case "queuebufferingmaxmessages":
@@ -396,6 +398,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "pollTimeoutMs": return java.lang.Long.class;
         case "prevalidatehostandport":
         case "preValidateHostAndPort": return boolean.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "producerbatchsize":
         case "producerBatchSize": return java.lang.Integer.class;
         case "queuebufferingmaxmessages":
@@ -627,6 +631,8 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "pollTimeoutMs": return getOrCreateConfiguration(target).getPollTimeoutMs();
         case "prevalidatehostandport":
         case "preValidateHostAndPort": return getOrCreateConfiguration(target).isPreValidateHostAndPort();
+        case "processingthreads":
+        case "processingThreads": return getOrCreateConfiguration(target).getProcessingThreads();
         case "producerbatchsize":
         case "producerBatchSize": return getOrCreateConfiguration(target).getProducerBatchSize();
         case "queuebufferingmaxmessages":
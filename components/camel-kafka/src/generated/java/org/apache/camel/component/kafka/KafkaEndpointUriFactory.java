@@ -21,7 +21,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(108);
+        Set<String> props = new HashSet<>(109);
         props.add("additionalProperties");
         props.add("allowManualCommit");
         props.add("autoCommitEnable");
@@ -86,6 +86,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("pollOnError");
         props.add("pollTimeoutMs");
         props.add("preValidateHostAndPort");
+        props.add("processingThreads");
         props.add("producerBatchSize");
         props.add("queueBufferingMaxMessages");
         props.add("receiveBufferBytes");
@@ -84,6 +84,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
 
     @UriParam(label = "consumer", defaultValue = "1")
     private int consumersCount = 1;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int processingThreads = 1;
     @UriParam(label = "consumer", description = "To use a custom KafkaHeaderDeserializer to deserialize kafka headers values")
     private KafkaHeaderDeserializer headerDeserializer = new DefaultKafkaHeaderDeserializer();
 
@@ -733,6 +735,23 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.consumersCount = consumersCount;
     }
 
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * The number of threads used by each consumer to process the records it retrieves. The default is 1, which
+     * processes the records one by one on the consumer thread.
+     * <p/>
+     * When using more threads, then records with the same key are still processed in order (by one thread at a time),
+     * and the offsets are only committed up to the last record which all previous records in the same partition have
+     * been processed. This option cannot be used together with allowManualCommit, and is not in use when batching is
+     * enabled.
+     */
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
     public String getClientId() {
         return clientId;
     }
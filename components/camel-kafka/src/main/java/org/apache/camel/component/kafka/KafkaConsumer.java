@@ -53,6 +53,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    private ExecutorService processingExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private HealthCheckRepository healthCheckRepository;
@@ -146,6 +147,18 @@ public class KafkaConsumer extends DefaultConsumer
 
         executor = endpoint.createExecutor();
 
+        int processingThreads = endpoint.getConfiguration().getProcessingThreads();
+        if (processingThreads > 1 && !endpoint.getConfiguration().isBatching()) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException(
+                        "The option processingThreads cannot be used together with allowManualCommit");
+            }
+            // each consumer processes its records using up to processingThreads threads
+            int poolSize = processingThreads * endpoint.getConfiguration().getConsumersCount();
+            processingExecutor = endpoint.getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "KafkaConsumerProcessing[" + endpoint.getConfiguration().getTopic() + "]", poolSize);
+        }
+
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
         if (endpoint.getConfiguration().isTopicIsPattern()) {
@@ -212,6 +225,14 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (processingExecutor != null) {
+            // the fetch tasks have stopped polling and waited for their lanes at this point, so let the records in
+            // progress complete before shutting down
+            int timeout = getEndpoint().getConfiguration().getShutdownTimeout();
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(processingExecutor, timeout);
+            processingExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -241,6 +262,13 @@ public class KafkaConsumer extends DefaultConsumer
         super.doResume();
     }
 
+    /**
+     * The thread pool used for processing the polled records in parallel (if processingThreads is in use)
+     */
+    public ExecutorService getProcessingExecutor() {
+        return processingExecutor;
+    }
+
     public List<TaskHealthState> healthStates() {
         return tasks.stream().map(t -> t.healthState()).collect(Collectors.toList());
     }
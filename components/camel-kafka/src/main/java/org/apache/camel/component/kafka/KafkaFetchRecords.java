@@ -18,6 +18,7 @@ package org.apache.camel.component.kafka;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -31,6 +32,7 @@ import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessorFac
 import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
 import org.apache.camel.component.kafka.consumer.support.batching.KafkaRecordBatchingProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.classic.ClassicRebalanceListener;
+import org.apache.camel.component.kafka.consumer.support.parallel.KafkaRecordParallelProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.resume.ResumeRebalanceListener;
 import org.apache.camel.component.kafka.consumer.support.streaming.KafkaRecordStreamingProcessorFacade;
 import org.apache.camel.support.BridgeExceptionHandlerToErrorHandler;
@@ -83,6 +85,8 @@ public class KafkaFetchRecords implements Runnable {
     private CommitManager commitManager;
     private volatile Exception lastError;
     private final KafkaConsumerListener consumerListener;
+    // the facade processing the polled records (only accessed by the consumer thread)
+    private KafkaRecordProcessorFacade recordProcessorFacade;
 
     private volatile boolean terminated;
     private volatile long currentBackoffInterval;
@@ -299,6 +303,7 @@ public class KafkaFetchRecords implements Runnable {
                     threadId, kafkaConsumer.getEndpoint().getConfiguration(),
                     commitManager, consumer, kafkaConsumer.getResumeStrategy());
         }
+        listener = new FacadeRebalanceListener(listener);
 
         if (LOG.isInfoEnabled()) {
             LOG.info("Subscribing {} to {}", threadId, getPrintableTopic());
@@ -327,7 +332,7 @@ public class KafkaFetchRecords implements Runnable {
                 LOG.trace("Polling {} from {} with timeout: {}", threadId, getPrintableTopic(), pollTimeoutMs);
             }
 
-            final KafkaRecordProcessorFacade recordProcessorFacade = createRecordProcessor();
+            recordProcessorFacade = createRecordProcessor();
 
             while (isKafkaConsumerRunnableAndNotStopped() && isConnected() && pollExceptionStrategy.canContinue()) {
                 ConsumerRecords<Object, Object> allRecords = consumer.poll(pollDuration);
@@ -398,6 +403,9 @@ public class KafkaFetchRecords implements Runnable {
         if (configuration.isBatching()) {
             return new KafkaRecordBatchingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
+        } else if (configuration.getProcessingThreads() > 1) {
+            return new KafkaRecordParallelProcessorFacade(
+                    kafkaConsumer, threadId, commitManager, consumerListener);
         } else {
             return new KafkaRecordStreamingProcessorFacade(
                     kafkaConsumer, threadId, commitManager, consumerListener);
@@ -622,4 +630,28 @@ public class KafkaFetchRecords implements Runnable {
     private synchronized void setLastError(Exception lastError) {
         this.lastError = lastError;
     }
+
+    /**
+     * Hands the revoked partitions to the record processor facade before the rebalance listener commits their offsets.
+     */
+    private final class FacadeRebalanceListener implements ConsumerRebalanceListener {
+        private final ConsumerRebalanceListener delegate;
+
+        private FacadeRebalanceListener(ConsumerRebalanceListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            if (recordProcessorFacade != null) {
+                recordProcessorFacade.onPartitionsRevoked(partitions);
+            }
+            delegate.onPartitionsRevoked(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            delegate.onPartitionsAssigned(partitions);
+        }
+    }
 }
@@ -30,9 +30,7 @@ import java.util.concurrent.Future;
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
-import org.apache.camel.component.kafka.producer.support.DelegatingCallback;
 import org.apache.camel.component.kafka.producer.support.KafkaProducerCallBack;
-import org.apache.camel.component.kafka.producer.support.KafkaProducerMetadataCallBack;
 import org.apache.camel.component.kafka.producer.support.KeyValueHolderIterator;
 import org.apache.camel.component.kafka.producer.support.ProducerUtil;
 import org.apache.camel.component.kafka.producer.support.PropagatedHeadersProvider;
@@ -476,7 +474,8 @@ public class KafkaProducer extends DefaultAsyncProducer {
             } else {
                 final ProducerRecord<Object, Object> record = createRecord(exchange, message);
 
-                doSend(exchange, record, producerCallBack);
+                // the producer callback stores the result on the exchange
+                doSend(null, record, producerCallBack);
             }
 
             return producerCallBack.allSent();
@@ -513,12 +512,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
         }
 
         if (key != null) {
-            KafkaProducerMetadataCallBack metadataCallBack = new KafkaProducerMetadataCallBack(
-                    key, configuration.isRecordMetadata());
-
-            DelegatingCallback delegatingCallback = new DelegatingCallback(cb, metadataCallBack);
-
-            kafkaProducer.send(record, delegatingCallback);
+            kafkaProducer.send(record, cb.forRecord(key));
         } else {
             kafkaProducer.send(record, cb);
         }
@@ -17,7 +17,10 @@
 
 package org.apache.camel.component.kafka.consumer.support;
 
+import java.util.Collection;
+
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 
 /**
  * A processing facade that allows processing consumer records in different ways
@@ -30,4 +33,15 @@ public interface KafkaRecordProcessorFacade {
      * @return            The result of processing this set of records
      */
     ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords);
+
+    /**
+     * Called on the consumer thread when partitions are revoked from the consumer in a rebalance, before the offsets of
+     * the partitions are committed. The facades which process records after returning from
+     * {@link #processPolledRecords(ConsumerRecords)} must finish (or drop) the records of the partitions here.
+     *
+     * @param partitions the revoked partitions
+     */
+    default void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        // noop
+    }
 }
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.consumer.support.streaming.KafkaRecordStreamingProcessor;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Processes a single record on one of the processing threads.
+ * <p/>
+ * This processor must not use the Kafka consumer (which is not thread-safe), so recording and committing the offsets is
+ * done by the {@link KafkaRecordParallelProcessorFacade} on the consumer thread.
+ */
+final class KafkaRecordParallelProcessor extends KafkaRecordStreamingProcessor {
+
+    KafkaRecordParallelProcessor(KafkaConfiguration configuration, Processor processor) {
+        super(configuration, processor, null);
+    }
+
+    @Override
+    protected void recordOffset(TopicPartition topicPartition, long offset) {
+        // noop (the facade records the offsets in the order of the records in the partition)
+    }
+
+    @Override
+    protected void commit(TopicPartition topicPartition) {
+        // noop (the facade commits on the consumer thread)
+    }
+}
@@ -0,0 +1,449 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.AbstractKafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the records concurrently using a thread pool, while preserving the order of records with the same key.
+ * <p/>
+ * The records are dispatched to a fixed number of lanes by their key, and each lane is processed in order by one thread
+ * at a time. The consumer thread does not wait for the records of a poll to be processed before polling again (unless
+ * too many records are pending). Instead, on every poll the results of the processed records are handed to the consumer
+ * listener, and the offsets recorded and committed (on the consumer thread), for each partition up to the last record
+ * which all previous records in the partition have been processed.
+ * <p/>
+ * When partitions are revoked in a rebalance, their records not yet started are dropped, their records in progress are
+ * awaited, and their offsets committed, so the new owner of the partitions continues after the processed records.
+ */
+public class KafkaRecordParallelProcessorFacade extends AbstractKafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordParallelProcessorFacade.class);
+    private static final int DEFAULT_MAX_POLL_RECORDS = 500;
+
+    private final KafkaRecordParallelProcessor kafkaRecordProcessor;
+    private final ExecutorService executorService;
+    private final Lane[] lanes;
+    private final int maxPending;
+    // the records not yet completed per partition in offset order, their number, and whether the consumer listener
+    // paused handing over the results (only accessed by the consumer thread)
+    private final Map<TopicPartition, Deque<PendingRecord>> pending = new LinkedHashMap<>();
+    private int pendingCount;
+    private boolean paused;
+    // the partitions being revoked, whose records are skipped by the lanes
+    private final Set<TopicPartition> revoked = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean breakOnErrorHit = new AtomicBoolean();
+    private volatile ProcessingResult breakOnErrorResult;
+    private final Object lock = new Object();
+    private int running;
+
+    public KafkaRecordParallelProcessorFacade(
+                                              KafkaConsumer camelKafkaConsumer, String threadId,
+                                              CommitManager commitManager, KafkaConsumerListener consumerListener) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+
+        KafkaConfiguration configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.kafkaRecordProcessor = new KafkaRecordParallelProcessor(configuration, camelKafkaConsumer.getProcessor());
+        this.executorService = camelKafkaConsumer.getProcessingExecutor();
+        this.lanes = new Lane[configuration.getProcessingThreads()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane();
+        }
+        // allow the records of two polls to be pending, so the next poll can be processed while the slowest records of
+        // the previous poll are still in progress
+        Integer maxPollRecords = configuration.getMaxPollRecords();
+        this.maxPending = 2 * (maxPollRecords != null && maxPollRecords > 0 ? maxPollRecords : DEFAULT_MAX_POLL_RECORDS);
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        logRecords(allRecords);
+
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        paused = false;
+
+        Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+        while (partitionIterator.hasNext()) {
+            TopicPartition partition = partitionIterator.next();
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            logRecordsInPartition(partitionRecords, partition);
+
+            Iterator<ConsumerRecord<Object, Object>> it = partitionRecords.iterator();
+            while (it.hasNext() && !breakOnErrorHit.get() && !isStopping()) {
+                ConsumerRecord<Object, Object> consumerRecord = it.next();
+                // wait for capacity, to not keep too many records in memory
+                result = awaitPending(result);
+                if (pendingCount >= maxPending) {
+                    break;
+                }
+                PendingRecord pendingRecord
+                        = new PendingRecord(partition, consumerRecord, partitionIterator.hasNext(), it.hasNext());
+                // the deque is looked up for each record, as it is removed once completed while awaiting capacity
+                pending.computeIfAbsent(partition, k -> new ArrayDeque<>()).add(pendingRecord);
+                pendingCount++;
+                dispatch(pendingRecord);
+            }
+        }
+
+        if (breakOnErrorHit.get()) {
+            // the failed record (and the records after it) must be polled again after reconnecting, so wait for the
+            // lanes to stop before committing
+            awaitRunning();
+        }
+
+        result = completeRecords(result);
+
+        if (breakOnErrorHit.get()) {
+            if (!result.isBreakOnErrorHit() && breakOnErrorResult != null) {
+                // the failed record was in a revoked partition, but the records skipped in the other partitions must
+                // be polled again as well
+                result = breakOnErrorResult;
+            }
+            // start over after reconnecting
+            pending.clear();
+            pendingCount = 0;
+            breakOnErrorResult = null;
+            breakOnErrorHit.set(false);
+        }
+        return result;
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        List<PendingRecord> revokedRecords = new ArrayList<>();
+        for (TopicPartition partition : partitions) {
+            Deque<PendingRecord> records = pending.get(partition);
+            if (records != null) {
+                revokedRecords.addAll(records);
+            }
+        }
+        if (revokedRecords.isEmpty()) {
+            return;
+        }
+
+        LOG.debug("Completing {} pending records of the revoked partitions {}", revokedRecords.size(), partitions);
+        revoked.addAll(partitions);
+        try {
+            // drop the records not yet started, and wait for the records in progress
+            for (Lane lane : lanes) {
+                lane.drop(partitions);
+            }
+            awaitDone(revokedRecords);
+
+            // commit up to the first record not completed, the records after it are polled again by the new owner
+            for (TopicPartition partition : partitions) {
+                Deque<PendingRecord> records = pending.remove(partition);
+                if (records != null) {
+                    completePartition(partition, records, ProcessingResult.newUnprocessed());
+                    pendingCount -= records.size();
+                }
+            }
+        } finally {
+            revoked.removeAll(partitions);
+        }
+    }
+
+    /**
+     * Hands the results of the completed records (in order) to the consumer listener, and records and commits the
+     * offsets for each partition up to the first record not yet completed.
+     */
+    private ProcessingResult completeRecords(ProcessingResult result) {
+        for (Map.Entry<TopicPartition, Deque<PendingRecord>> entry : pending.entrySet()) {
+            if (paused) {
+                break;
+            }
+            result = completePartition(entry.getKey(), entry.getValue(), result);
+        }
+        pending.values().removeIf(Deque::isEmpty);
+        return result;
+    }
+
+    private ProcessingResult completePartition(
+            TopicPartition partition, Deque<PendingRecord> records, ProcessingResult result) {
+        boolean commit = false;
+        PendingRecord head = records.peekFirst();
+        while (head != null && head.result != null && !paused) {
+            ProcessingResult recordResult = head.result;
+            records.pollFirst();
+            pendingCount--;
+            commit = true;
+            if (recordResult.isBreakOnErrorHit()) {
+                // this record must be processed again, so its offset is not recorded
+                result = recordResult;
+                if (consumerListener != null) {
+                    consumerListener.afterProcess(recordResult);
+                }
+                break;
+            }
+            commitManager.recordOffset(partition, head.consumerRecord.offset());
+            if (!result.isBreakOnErrorHit()) {
+                result = recordResult;
+            }
+            if (consumerListener != null && !consumerListener.afterProcess(recordResult)) {
+                // the consumer is paused, so the results of the other records are handed over after resuming
+                paused = true;
+            }
+            head = records.peekFirst();
+        }
+        if (commit) {
+            LOG.debug("Committing offset on partition {}", partition);
+            commitManager.commit(partition);
+        }
+        return result;
+    }
+
+    /**
+     * Waits until less than the maximum number of records are pending, handing over the results of the completed
+     * records meanwhile, as the records completed after a slow record in the same partition are kept pending until it
+     * completes.
+     */
+    private ProcessingResult awaitPending(ProcessingResult result) {
+        while (pendingCount >= maxPending && !paused && awaitHeadCompleted()) {
+            result = completeRecords(result);
+        }
+        return result;
+    }
+
+    private void dispatch(PendingRecord pendingRecord) {
+        synchronized (lock) {
+            running++;
+        }
+        Lane lane = lanes[laneOf(pendingRecord.consumerRecord)];
+        lane.queue.add(pendingRecord);
+        lane.schedule();
+    }
+
+    private void process(PendingRecord pendingRecord) {
+        if (!pendingRecord.claimed.compareAndSet(false, true)) {
+            // the record has been dropped
+            return;
+        }
+        try {
+            if (breakOnErrorHit.get() || isStopping() || revoked.contains(pendingRecord.partition)) {
+                // skip the record, which will be polled again as its offset is not committed
+                return;
+            }
+            ConsumerRecord<Object, Object> consumerRecord = pendingRecord.consumerRecord;
+            logRecord(consumerRecord);
+
+            ProcessingResult result = kafkaRecordProcessor.processExchange(camelKafkaConsumer, pendingRecord.partition,
+                    pendingRecord.partitionHasNext, pendingRecord.recordHasNext, consumerRecord);
+            if (result.isBreakOnErrorHit()) {
+                // the record must be processed again so stop all the lanes
+                breakOnErrorResult = result;
+                breakOnErrorHit.set(true);
+            }
+            pendingRecord.result = result;
+        } finally {
+            done(pendingRecord);
+        }
+    }
+
+    private void done(PendingRecord pendingRecord) {
+        synchronized (lock) {
+            pendingRecord.done = true;
+            running--;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until no records are running (dispatched but not completed)
+     */
+    private void awaitRunning() {
+        synchronized (lock) {
+            while (running > 0) {
+                if (!awaitLanes()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until the given records are completed (or dropped)
+     */
+    private void awaitDone(List<PendingRecord> records) {
+        synchronized (lock) {
+            for (PendingRecord pendingRecord : records) {
+                while (!pendingRecord.done) {
+                    if (!awaitLanes()) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until the first pending record of a partition is completed
+     *
+     * @return true if the wait was successful, false if interrupted, stopping or a record failed
+     */
+    private boolean awaitHeadCompleted() {
+        synchronized (lock) {
+            while (!isHeadCompleted()) {
+                if (isStopping() || breakOnErrorHit.get() || !awaitLanes()) {
+                    return false;
+                }
+            }
+            return !breakOnErrorHit.get();
+        }
+    }
+
+    private boolean isHeadCompleted() {
+        for (Deque<PendingRecord> records : pending.values()) {
+            PendingRecord head = records.peekFirst();
+            if (head != null && head.result != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits for a record to be completed by the lanes, the lock must be held.
+     *
+     * @return true if the wait was successful, false if interrupted
+     */
+    private boolean awaitLanes() {
+        if (executorService.isTerminated()) {
+            // the lanes will not run anymore as the consumer is stopping, so drop their records (which will be polled
+            // again as their offsets are not committed)
+            for (Lane lane : lanes) {
+                lane.drop(null);
+            }
+        }
+        try {
+            lock.wait(100);
+            return true;
+        } catch (InterruptedException e) {
+            LOG.info("Interrupted while waiting for the records to be processed");
+            // stop the lanes, and only commit what has been processed so far
+            breakOnErrorHit.set(true);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int laneOf(ConsumerRecord<Object, Object> consumerRecord) {
+        Object key = consumerRecord.key();
+        int hash;
+        if (key == null) {
+            // no ordering for records without a key
+            hash = Long.hashCode(consumerRecord.offset());
+        } else if (key instanceof byte[]) {
+            hash = Arrays.hashCode((byte[]) key);
+        } else {
+            hash = key.hashCode();
+        }
+        return Math.floorMod(hash, lanes.length);
+    }
+
+    /**
+     * A queue of records which are processed in order by one thread at a time.
+     */
+    private final class Lane implements Runnable {
+        private final Queue<PendingRecord> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executorService.execute(this);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("The processing thread pool is shut down, dropping the records of the lane");
+                    scheduled.set(false);
+                    drop(null);
+                }
+            }
+        }
+
+        /**
+         * Removes the records not yet started of the given partitions (or of all partitions if null) from the lane
+         */
+        private void drop(Collection<TopicPartition> partitions) {
+            queue.removeIf(pendingRecord -> {
+                if ((partitions == null || partitions.contains(pendingRecord.partition))
+                        && pendingRecord.claimed.compareAndSet(false, true)) {
+                    done(pendingRecord);
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        @Override
+        public void run() {
+            PendingRecord pendingRecord;
+            while ((pendingRecord = queue.poll()) != null) {
+                process(pendingRecord);
+            }
+            scheduled.set(false);
+            // a record may have been added after polling the queue but before clearing the flag
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private static final class PendingRecord {
+        private final TopicPartition partition;
+        private final ConsumerRecord<Object, Object> consumerRecord;
+        private final boolean partitionHasNext;
+        private final boolean recordHasNext;
+        // whether a lane started the record, or the record was dropped
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile ProcessingResult result;
+        // guarded by the lock
+        private boolean done;
+
+        private PendingRecord(TopicPartition partition, ConsumerRecord<Object, Object> consumerRecord,
+                              boolean partitionHasNext, boolean recordHasNext) {
+            this.partition = partition;
+            this.consumerRecord = consumerRecord;
+            this.partitionHasNext = partitionHasNext;
+            this.recordHasNext = recordHasNext;
+        }
+    }
+}
@@ -32,7 +32,7 @@ import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-final class KafkaRecordStreamingProcessor extends KafkaRecordProcessor {
+public class KafkaRecordStreamingProcessor extends KafkaRecordProcessor {
     private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordStreamingProcessor.class);
 
     private final boolean autoCommitEnabled;
@@ -92,7 +92,7 @@ final class KafkaRecordStreamingProcessor extends KafkaRecordProcessor {
         }
 
         if (!result.isBreakOnErrorHit()) {
-            commitManager.recordOffset(topicPartition, consumerRecord.offset());
+            recordOffset(topicPartition, consumerRecord.offset());
         }
 
         // success so release the exchange
@@ -101,6 +101,20 @@ final class KafkaRecordStreamingProcessor extends KafkaRecordProcessor {
         return result;
     }
 
+    /**
+     * Records the offset of the processed record, to be committed later
+     */
+    protected void recordOffset(TopicPartition topicPartition, long offset) {
+        commitManager.recordOffset(topicPartition, offset);
+    }
+
+    /**
+     * Commits the recorded offsets of the partition, when breaking out due to an error
+     */
+    protected void commit(TopicPartition topicPartition) {
+        commitManager.commit(topicPartition);
+    }
+
     private boolean processException(
             Exchange exchange, TopicPartition topicPartition,
             ConsumerRecord<Object, Object> consumerRecord, ExceptionHandler exceptionHandler) {
@@ -122,7 +136,7 @@ final class KafkaRecordStreamingProcessor extends KafkaRecordProcessor {
             // when route uses Synch/Asynch Commit Manager it will
             // ALWAYS commit the offset for the failing record
             // and will ALWAYS retry it
-            commitManager.commit(topicPartition);
+            commit(topicPartition);
 
             // continue to next partition
             return true;
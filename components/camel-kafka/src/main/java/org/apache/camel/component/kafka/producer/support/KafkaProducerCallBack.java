@@ -19,7 +19,7 @@ package org.apache.camel.component.kafka.producer.support;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.util.ObjectHelper;
@@ -31,15 +31,24 @@ import org.slf4j.LoggerFactory;
 import static org.apache.camel.component.kafka.producer.support.ProducerUtil.setException;
 import static org.apache.camel.component.kafka.producer.support.ProducerUtil.setRecordMetadata;
 
+/**
+ * Callback for the records sent for an exchange, which continues routing the exchange when all the records have been
+ * sent.
+ * <p/>
+ * A single counter is used for all the records, and when the body is an {@link Iterable} then the exchange fails with
+ * the first failure, with any other failures added as suppressed exceptions.
+ */
 public final class KafkaProducerCallBack implements Callback {
     private static final Logger LOG = LoggerFactory.getLogger(KafkaProducerCallBack.class);
 
     private final Object body;
     private final AsyncCallback callback;
-    private final LongAdder count = new LongAdder();
+    // starts from one, which is released by allSent when all the records have been handed over to the Kafka producer
+    private final AtomicInteger count = new AtomicInteger(1);
     private final ExecutorService workerPool;
     private final boolean record;
     private final List<RecordMetadata> recordMetadataList = new ArrayList<>();
+    private Exception exception;
 
     public KafkaProducerCallBack(Object body, AsyncCallback callback, ExecutorService workerPool,
                                  boolean record) {
@@ -49,7 +58,6 @@ public final class KafkaProducerCallBack implements Callback {
         // is merely a safeguard
         this.workerPool = ObjectHelper.notNull(workerPool, "workerPool");
         this.record = record;
-        count.increment();
 
         if (record) {
             setRecordMetadata(body, recordMetadataList);
@@ -57,12 +65,11 @@ public final class KafkaProducerCallBack implements Callback {
     }
 
     public void increment() {
-        count.increment();
+        count.incrementAndGet();
     }
 
     public boolean allSent() {
-        count.decrement();
-        if (count.intValue() == 0) {
+        if (count.decrementAndGet() == 0) {
             LOG.trace("All messages sent, continue routing.");
             // was able to get all the work done while queuing the requests
             callback.done(true);
@@ -73,16 +80,44 @@ public final class KafkaProducerCallBack implements Callback {
         return false;
     }
 
+    /**
+     * Creates a callback for a record sent from an {@link Iterable} body, which also stores the result on the given
+     * exchange or message the record was created from.
+     */
+    public Callback forRecord(Object key) {
+        return (recordMetadata, e) -> onCompletion(key, recordMetadata, e);
+    }
+
     @Override
     public void onCompletion(RecordMetadata recordMetadata, Exception e) {
-        setException(body, e);
+        onCompletion(null, recordMetadata, e);
+    }
 
-        if (record) {
-            recordMetadataList.add(recordMetadata);
+    private void onCompletion(Object key, RecordMetadata recordMetadata, Exception e) {
+        if (key != null) {
+            setException(key, e);
+            if (record) {
+                setRecordMetadata(key, recordMetadata);
+            }
+        }
+
+        // a record which fails to be sent may complete on the calling thread
+        synchronized (this) {
+            if (e != null) {
+                if (exception == null) {
+                    exception = e;
+                    setException(body, e);
+                } else if (exception != e) {
+                    LOG.debug("Failed sending another record due to: {}", e.getMessage());
+                    exception.addSuppressed(e);
+                }
+            }
+            if (record) {
+                recordMetadataList.add(recordMetadata);
+            }
         }
 
-        count.decrement();
-        if (count.intValue() == 0) {
+        if (count.decrementAndGet() == 0) {
             // use worker pool to continue routing the exchange
             // as this thread is from Kafka Callback and should not be used
             // by Camel routing
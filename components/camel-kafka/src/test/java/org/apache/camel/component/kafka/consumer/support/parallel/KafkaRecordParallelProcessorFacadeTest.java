@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support.parallel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaRecordParallelProcessorFacadeTest {
+
+    private static final TopicPartition PARTITION0 = new TopicPartition("test", 0);
+    private static final TopicPartition PARTITION1 = new TopicPartition("test", 1);
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaConsumer consumer = mock(KafkaConsumer.class);
+    private final KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    private final Map<Object, List<Long>> processed = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, Object>> headers = new ConcurrentHashMap<>();
+    private final CountDownLatch slow = new CountDownLatch(1);
+
+    @BeforeEach
+    public void setup() {
+        configuration.setProcessingThreads(4);
+        when(consumer.getEndpoint()).thenReturn(endpoint);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(consumer.getProcessingExecutor()).thenReturn(executorService);
+        when(consumer.getExceptionHandler()).thenReturn(mock(ExceptionHandler.class));
+        when(consumer.createExchange(anyBoolean())).thenAnswer(i -> new DefaultExchange(context));
+        when(consumer.getProcessor()).thenReturn(exchange -> {
+            Object key = exchange.getMessage().getHeader(KafkaConstants.KEY);
+            long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+            headers.put(offset, new HashMap<>(exchange.getMessage().getHeaders()));
+            if ("fail".equals(exchange.getMessage().getBody())) {
+                throw new IllegalStateException("Forced");
+            }
+            if ("slow".equals(exchange.getMessage().getBody())) {
+                slow.await(10, TimeUnit.SECONDS);
+            }
+            processed.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(offset);
+        });
+    }
+
+    @AfterEach
+    public void teardown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testProcessInKeyOrder() {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new HashMap<>();
+        records.put(PARTITION0, createRecords(PARTITION0, 100));
+        records.put(PARTITION1, createRecords(PARTITION1, 50));
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(consumer, "0", commitManager, null);
+        ProcessingResult result = facade.processPolledRecords(new ConsumerRecords<>(records));
+        assertFalse(result.isBreakOnErrorHit());
+        assertFalse(result.isFailed());
+
+        // the offsets are committed when polling again
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            facade.processPolledRecords(ConsumerRecords.empty());
+            verify(commitManager).recordOffset(PARTITION0, 99);
+            verify(commitManager).recordOffset(PARTITION1, 1049);
+        });
+
+        // records with the same key are processed in order
+        assertEquals(10, processed.size());
+        int total = 0;
+        for (List<Long> offsets : processed.values()) {
+            total += offsets.size();
+        }
+        assertEquals(150, total);
+        for (int i = 0; i < 10; i++) {
+            List<Long> offsets = processed.get("key" + i);
+            List<Long> partition0 = offsets.stream().filter(o -> o < 1000).toList();
+            List<Long> partition1 = offsets.stream().filter(o -> o >= 1000).toList();
+            assertTrue(isSorted(partition0), "Not in order: " + partition0);
+            assertTrue(isSorted(partition1), "Not in order: " + partition1);
+        }
+
+        verify(commitManager, times(100)).recordOffset(eq(PARTITION0), anyLong());
+        verify(commitManager, times(50)).recordOffset(eq(PARTITION1), anyLong());
+        verify(commitManager, atLeastOnce()).commit(PARTITION0);
+        verify(commitManager, atLeastOnce()).commit(PARTITION1);
+    }
+
+    @Test
+    public void testDoesNotWaitForSlowRecords() {
+        List<ConsumerRecord<Object, Object>> list = createRecords(PARTITION0, 10);
+        list.set(5, new ConsumerRecord<>("test", 0, 5, "key5", "slow"));
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new HashMap<>();
+        records.put(PARTITION0, list);
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(consumer, "0", commitManager, null);
+        facade.processPolledRecords(new ConsumerRecords<>(records));
+
+        // the consumer polls again while the slow record is processed, but only commits up to the slow record
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            facade.processPolledRecords(ConsumerRecords.empty());
+            verify(commitManager).recordOffset(PARTITION0, 4);
+        });
+        verify(commitManager, never()).recordOffset(PARTITION0, 5);
+        assertFalse(processed.containsKey("key5"));
+
+        slow.countDown();
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            facade.processPolledRecords(ConsumerRecords.empty());
+            verify(commitManager).recordOffset(PARTITION0, 9);
+        });
+    }
+
+    @Test
+    public void testLastRecordHeaders() {
+        configuration.setAutoCommitEnable(false);
+
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new LinkedHashMap<>();
+        records.put(PARTITION0, createRecords(PARTITION0, 3));
+        records.put(PARTITION1, createRecords(PARTITION1, 3));
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(consumer, "0", commitManager, null);
+        facade.processPolledRecords(new ConsumerRecords<>(records));
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> headers.size() == 6);
+
+        assertEquals(false, headers.get(1L).get(KafkaConstants.LAST_RECORD_BEFORE_COMMIT));
+        assertEquals(true, headers.get(2L).get(KafkaConstants.LAST_RECORD_BEFORE_COMMIT));
+        assertEquals(false, headers.get(2L).get(KafkaConstants.LAST_POLL_RECORD));
+        assertEquals(true, headers.get(1002L).get(KafkaConstants.LAST_RECORD_BEFORE_COMMIT));
+        assertEquals(true, headers.get(1002L).get(KafkaConstants.LAST_POLL_RECORD));
+    }
+
+    @Test
+    public void testConsumerListenerPausesOnFailure() {
+        List<ConsumerRecord<Object, Object>> list = createRecords(PARTITION0, 10);
+        list.set(3, new ConsumerRecord<>("test", 0, 3, "key3", "fail"));
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new HashMap<>();
+        records.put(PARTITION0, list);
+
+        KafkaConsumerListener listener = mock(KafkaConsumerListener.class);
+        when(listener.afterProcess(any())).thenAnswer(i -> !((ProcessingResult) i.getArgument(0)).isFailed());
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(consumer, "0", commitManager, listener);
+        facade.processPolledRecords(new ConsumerRecords<>(records));
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            facade.processPolledRecords(ConsumerRecords.empty());
+            verify(commitManager).recordOffset(PARTITION0, 9);
+        });
+
+        // the listener gets the results in the order of the records
+        ArgumentCaptor<ProcessingResult> captor = ArgumentCaptor.forClass(ProcessingResult.class);
+        verify(listener, times(10)).afterProcess(captor.capture());
+        List<Boolean> failed = captor.getAllValues().stream().map(ProcessingResult::isFailed).toList();
+        assertEquals(List.of(false, false, false, true, false, false, false, false, false, false), failed);
+    }
+
+    @Test
+    public void testBreakOnFirstErrorCommitsContiguousOffsets() {
+        configuration.setBreakOnFirstError(true);
+
+        List<ConsumerRecord<Object, Object>> list = createRecords(PARTITION0, 10);
+        // the first record of the partition fails
+        list.set(0, new ConsumerRecord<>("test", 0, 0, "key0", "fail"));
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new HashMap<>();
+        records.put(PARTITION0, list);
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(consumer, "0", commitManager, null);
+        // the error is reported on the poll after the failed record has been processed
+        ProcessingResult result = facade.processPolledRecords(new ConsumerRecords<>(records));
+        while (!result.isBreakOnErrorHit()) {
+            result = facade.processPolledRecords(ConsumerRecords.empty());
+        }
+
+        assertTrue(result.isFailed());
+        // nothing can be committed as the first record must be processed again
+        verify(commitManager, never()).recordOffset(PARTITION0, 0);
+        verify(commitManager).commit(PARTITION0);
+    }
+
+    @Test
+    public void testRevokedPartitionCommitsProcessedRecords() throws Exception {
+        // all the records are in the same lane
+        List<ConsumerRecord<Object, Object>> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(new ConsumerRecord<>("test", 0, i, "key", i == 5 ? "slow" : "value" + i));
+        }
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new HashMap<>();
+        records.put(PARTITION0, list);
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(consumer, "0", commitManager, null);
+        facade.processPolledRecords(new ConsumerRecords<>(records));
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> headers.containsKey(5L));
+
+        // the rebalance waits for the record in progress, and drops the records after it
+        ExecutorService rebalance = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> revoke = rebalance.submit(() -> facade.onPartitionsRevoked(List.of(PARTITION0)));
+            Awaitility.await().during(200, TimeUnit.MILLISECONDS).atMost(2, TimeUnit.SECONDS)
+                    .until(() -> !revoke.isDone());
+            slow.countDown();
+            revoke.get(10, TimeUnit.SECONDS);
+        } finally {
+            rebalance.shutdownNow();
+        }
+
+        verify(commitManager).recordOffset(PARTITION0, 5);
+        verify(commitManager).commit(PARTITION0);
+
+        // the records after it are neither processed nor committed, as the new owner of the partition polls them
+        facade.processPolledRecords(ConsumerRecords.empty());
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L), processed.get("key"));
+        verify(commitManager, never()).recordOffset(eq(PARTITION0), eq(6L));
+        verify(commitManager).commit(PARTITION0);
+    }
+
+    @Test
+    public void testPendingRecordsAreBounded() throws Exception {
+        // up to 10 records are pending
+        configuration.setMaxPollRecords(5);
+
+        List<ConsumerRecord<Object, Object>> list = createRecords(PARTITION0, 30);
+        list.set(0, new ConsumerRecord<>("test", 0, 0, "slowKey", "slow"));
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new HashMap<>();
+        records.put(PARTITION0, list);
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(consumer, "0", commitManager, null);
+        ExecutorService poller = Executors.newSingleThreadExecutor();
+        try {
+            Future<ProcessingResult> poll = poller.submit(() -> facade.processPolledRecords(new ConsumerRecords<>(records)));
+
+            // the records completed after the slow record are kept pending, so no more records are dispatched
+            Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> headers.containsKey(0L));
+            Awaitility.await().during(200, TimeUnit.MILLISECONDS).atMost(2, TimeUnit.SECONDS)
+                    .until(() -> !poll.isDone() && headers.keySet().stream().allMatch(offset -> offset < 10));
+
+            slow.countDown();
+            assertFalse(poll.get(10, TimeUnit.SECONDS).isBreakOnErrorHit());
+        } finally {
+            poller.shutdownNow();
+        }
+
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            facade.processPolledRecords(ConsumerRecords.empty());
+            verify(commitManager).recordOffset(PARTITION0, 29);
+        });
+        assertEquals(30, processedCount());
+    }
+
+    @Test
+    public void testBreakOnFirstErrorWhenThreadPoolShutdown() throws Exception {
+        configuration.setBreakOnFirstError(true);
+        configuration.setProcessingThreads(2);
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        when(consumer.getProcessingExecutor()).thenReturn(singleThread);
+
+        // the keys are in different lanes, and the second lane waits for the thread running the first one
+        List<ConsumerRecord<Object, Object>> list = new ArrayList<>();
+        list.add(new ConsumerRecord<>("test", 0, 0, "a", "slow"));
+        list.add(new ConsumerRecord<>("test", 0, 1, "b", "value1"));
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new HashMap<>();
+        records.put(PARTITION0, list);
+
+        KafkaRecordParallelProcessorFacade facade
+                = new KafkaRecordParallelProcessorFacade(consumer, "0", commitManager, null);
+        facade.processPolledRecords(new ConsumerRecords<>(records));
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> headers.containsKey(0L));
+
+        // interrupts the slow record (which fails) and drops the task of the second lane
+        singleThread.shutdownNow();
+
+        ProcessingResult result = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            ProcessingResult answer = facade.processPolledRecords(ConsumerRecords.empty());
+            while (!answer.isBreakOnErrorHit()) {
+                answer = facade.processPolledRecords(ConsumerRecords.empty());
+            }
+            return answer;
+        });
+        assertTrue(result.isFailed());
+        assertFalse(headers.containsKey(1L));
+        verify(commitManager, never()).recordOffset(eq(PARTITION0), anyLong());
+    }
+
+    private int processedCount() {
+        return processed.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static List<ConsumerRecord<Object, Object>> createRecords(TopicPartition partition, int count) {
+        // use offsets from 1000 on the second partition to tell them apart
+        long base = partition.partition() * 1000L;
+        List<ConsumerRecord<Object, Object>> answer = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            answer.add(new ConsumerRecord<>(partition.topic(), partition.partition(), base + i, "key" + (i % 10), "value" + i));
+        }
+        return answer;
+    }
+
+    private static boolean isSorted(List<Long> list) {
+        for (int i = 1; i < list.size(); i++) {
+            if (list.get(i - 1) > list.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.producer.support;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaProducerCallBackTest {
+
+    private final ExecutorService workerPool = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void teardown() {
+        workerPool.shutdownNow();
+    }
+
+    @Test
+    public void testAllSentBeforeCompletion() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        CountDownLatch latch = new CountDownLatch(1);
+        KafkaProducerCallBack cb = new KafkaProducerCallBack(exchange, doneSync -> {
+            assertFalse(doneSync);
+            latch.countDown();
+        }, workerPool, true);
+
+        Exchange e1 = new DefaultExchange(exchange.getContext());
+        Exchange e2 = new DefaultExchange(exchange.getContext());
+        cb.increment();
+        Callback c1 = cb.forRecord(e1);
+        cb.increment();
+        Callback c2 = cb.forRecord(e2);
+
+        assertFalse(cb.allSent());
+
+        c1.onCompletion(metadata(1), null);
+        c2.onCompletion(metadata(2), null);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNull(exchange.getException());
+        assertEquals(2, exchange.getMessage().getHeader(KafkaConstants.KAFKA_RECORD_META, List.class).size());
+        assertEquals(1, e1.getMessage().getHeader(KafkaConstants.KAFKA_RECORD_META, List.class).size());
+        assertEquals(1, e2.getMessage().getHeader(KafkaConstants.KAFKA_RECORD_META, List.class).size());
+    }
+
+    @Test
+    public void testPartialFailure() throws Exception {
+        Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+        CountDownLatch latch = new CountDownLatch(1);
+        KafkaProducerCallBack cb = new KafkaProducerCallBack(exchange, doneSync -> latch.countDown(), workerPool, false);
+
+        Exchange e1 = new DefaultExchange(exchange.getContext());
+        Exchange e2 = new DefaultExchange(exchange.getContext());
+        Exchange e3 = new DefaultExchange(exchange.getContext());
+        cb.increment();
+        Callback c1 = cb.forRecord(e1);
+        cb.increment();
+        Callback c2 = cb.forRecord(e2);
+        cb.increment();
+        Callback c3 = cb.forRecord(e3);
+
+        Exception first = new IllegalStateException("first");
+        Exception second = new IllegalStateException("second");
+        c1.onCompletion(null, first);
+        c2.onCompletion(metadata(2), null);
+        c3.onCompletion(null, second);
+
+        // all records completed before all was sent
+        assertTrue(cb.allSent());
+        assertEquals(0, latch.getCount());
+
+        assertSame(first, exchange.getException());
+        assertSame(second, exchange.getException().getSuppressed()[0]);
+        assertSame(first, e1.getException());
+        assertNull(e2.getException());
+        assertSame(second, e3.getException());
+    }
+
+    private static RecordMetadata metadata(long offset) {
+        return new RecordMetadata(new TopicPartition("test", 0), offset, 0, 0, 0, 0);
+    }
+}
@@ -16,13 +16,15 @@
  */
 package org.apache.camel.component.micrometer.eventnotifier;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import org.apache.camel.Exchange;
@@ -33,6 +35,7 @@ import org.apache.camel.spi.CamelEvent.ExchangeCreatedEvent;
 import org.apache.camel.spi.CamelEvent.ExchangeEvent;
 import org.apache.camel.spi.CamelEvent.ExchangeFailedEvent;
 import org.apache.camel.spi.CamelEvent.ExchangeSentEvent;
+import org.apache.camel.spi.EventNotifier;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.ExchangeHelper;
@@ -41,7 +44,25 @@ import org.apache.camel.support.SimpleEventNotifierSupport;
 public class MicrometerExchangeEventNotifier extends AbstractMicrometerEventNotifier<ExchangeEvent> {
     private InflightRepository inflightRepository;
 
-    private final Map<String, Meter> meterMap = new HashMap<>();
+    private final Map<String, Meter> meterMap = new ConcurrentHashMap<>();
+    // cache of timers to avoid looking up (and applying meter filters) in the meter registry for every exchange
+    private final Map<TimerKey, Timer> timerMap = new ConcurrentHashMap<>();
+    // reverse index to find the cached timer of a meter removed from the registry
+    private final Map<Meter.Id, TimerKey> timerKeys = new ConcurrentHashMap<>();
+    // the meter registry the removal listener is registered on (listeners cannot be unregistered)
+    private MeterRegistry listenerRegistry;
+    private final EventNotifier routeRemovedNotifier = new SimpleEventNotifierSupport() {
+        @Override
+        public void notify(CamelEvent event) throws Exception {
+            if (event instanceof CamelEvent.RouteRemovedEvent rre) {
+                String id = rre.getRoute().getRouteId();
+                Meter meter = meterMap.remove(id);
+                if (meter != null) {
+                    getMeterRegistry().remove(meter);
+                }
+            }
+        }
+    };
     private Predicate<Exchange> ignoreExchanges = exchange -> false;
     private MicrometerExchangeEventNotifierNamingStrategy namingStrategy
             = MicrometerExchangeEventNotifierNamingStrategy.DEFAULT;
@@ -83,19 +104,18 @@ public class MicrometerExchangeEventNotifier extends AbstractMicrometerEventNoti
 
         inflightRepository = getCamelContext().getInflightRepository();
 
+        // cached timers must be discarded if they are removed from the registry (such as when reloading routes)
+        MeterRegistry registry = getMeterRegistry();
+        if (listenerRegistry != registry) {
+            registry.config().onMeterRemoved(this::onMeterRemoved);
+            listenerRegistry = registry;
+        }
+
         // need to be able to remove meter if a route is removed
-        getCamelContext().getManagementStrategy().addEventNotifier(new SimpleEventNotifierSupport() {
-            @Override
-            public void notify(CamelEvent event) throws Exception {
-                if (event instanceof CamelEvent.RouteRemovedEvent rre) {
-                    String id = rre.getRoute().getRouteId();
-                    Meter meter = meterMap.remove(id);
-                    if (meter != null) {
-                        getMeterRegistry().remove(meter);
-                    }
-                }
-            }
-        });
+        ManagementStrategy ms = getCamelContext().getManagementStrategy();
+        if (!ms.getEventNotifiers().contains(routeRemovedNotifier)) {
+            ms.addEventNotifier(routeRemovedNotifier);
+        }
     }
 
     @Override
@@ -104,6 +124,16 @@ public class MicrometerExchangeEventNotifier extends AbstractMicrometerEventNoti
 
         meterMap.values().forEach(m -> getMeterRegistry().remove(m));
         meterMap.clear();
+        timerMap.clear();
+        timerKeys.clear();
+        getCamelContext().getManagementStrategy().removeEventNotifier(routeRemovedNotifier);
+    }
+
+    private void onMeterRemoved(Meter meter) {
+        TimerKey key = timerKeys.remove(meter.getId());
+        if (key != null) {
+            timerMap.remove(key, meter);
+        }
     }
 
     @Override
@@ -142,22 +172,26 @@ public class MicrometerExchangeEventNotifier extends AbstractMicrometerEventNoti
 
     private void handleExchangeEvent(ExchangeEvent exchangeEvent) {
         Exchange exchange = exchangeEvent.getExchange();
-        if (exchange.getFromRouteId() != null && exchange.getFromEndpoint() != null) {
-            String name = namingStrategy.getInflightExchangesName(exchange, exchange.getFromEndpoint());
-            Tags tags = namingStrategy.getInflightExchangesTags(exchangeEvent, exchange.getFromEndpoint());
-            Meter meter = Gauge.builder(name, () -> getInflightExchangesInRoute(exchangeEvent))
-                    .description("Route inflight messages")
-                    .tags(tags)
-                    .register(getMeterRegistry());
-            meterMap.put(exchange.getFromRouteId(), meter);
+        String routeId = exchange.getFromRouteId();
+        if (routeId != null && exchange.getFromEndpoint() != null && !meterMap.containsKey(routeId)) {
+            // the gauge is registered once per route
+            meterMap.computeIfAbsent(routeId, k -> {
+                String name = namingStrategy.getInflightExchangesName(exchange, exchange.getFromEndpoint());
+                Tags tags = namingStrategy.getInflightExchangesTags(exchangeEvent, exchange.getFromEndpoint());
+                return Gauge.builder(name, () -> inflightRepository.size(routeId))
+                        .description("Route inflight messages")
+                        .tags(tags)
+                        .register(getMeterRegistry());
+            });
         }
     }
 
     protected void handleSentEvent(ExchangeSentEvent sentEvent) {
         String name = namingStrategy.getName(sentEvent.getExchange(), sentEvent.getEndpoint());
         Tags tags = namingStrategy.getTags(sentEvent, sentEvent.getEndpoint());
-        Timer timer = Timer.builder(name).tags(tags).description("Time taken to send message to the endpoint")
-                .register(getMeterRegistry());
+        Timer timer = timerMap.computeIfAbsent(new TimerKey(name, tags),
+                k -> index(k, Timer.builder(name).tags(tags).description("Time taken to send message to the endpoint")
+                        .register(getMeterRegistry())));
         timer.record(sentEvent.getTimeTaken(), TimeUnit.MILLISECONDS);
     }
 
@@ -172,13 +206,44 @@ public class MicrometerExchangeEventNotifier extends AbstractMicrometerEventNoti
         // Would have preferred LongTaskTimer, but you cannot set the FAILED_TAG once it is registered
         Timer.Sample sample = (Timer.Sample) doneEvent.getExchange().removeProperty("eventTimer:" + name);
         if (sample != null) {
-            sample.stop(getMeterRegistry().timer(name, tags));
+            Timer timer
+                    = timerMap.computeIfAbsent(new TimerKey(name, tags), k -> index(k, getMeterRegistry().timer(name, tags)));
+            sample.stop(timer);
         }
     }
 
-    private int getInflightExchangesInRoute(ExchangeEvent exchangeEvent) {
-        String routeId = exchangeEvent.getExchange().getFromRouteId();
-        return inflightRepository.size(routeId);
+    private Timer index(TimerKey key, Timer timer) {
+        timerKeys.put(timer.getId(), key);
+        return timer;
+    }
+
+    private static final class TimerKey {
+        private final String name;
+        private final Tags tags;
+        private final int hash;
+
+        private TimerKey(String name, Tags tags) {
+            this.name = name;
+            this.tags = tags;
+            this.hash = Objects.hash(name, tags);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TimerKey)) {
+                return false;
+            }
+            TimerKey that = (TimerKey) o;
+            return name.equals(that.name) && tags.equals(that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 
 }
@@ -16,9 +16,8 @@
  */
 package org.apache.camel.component.micrometer.routepolicy;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import io.micrometer.core.instrument.Counter;
@@ -57,7 +56,7 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
     private MicrometerRoutePolicyNamingStrategy namingStrategy = MicrometerRoutePolicyNamingStrategy.DEFAULT;
     private MicrometerRoutePolicyConfiguration configuration = MicrometerRoutePolicyConfiguration.DEFAULT;
 
-    private final Map<Route, MetricsStatistics> statisticsMap = new HashMap<>();
+    private final Map<Route, MetricsStatistics> statisticsMap = new ConcurrentHashMap<>();
     private RouteMetric contextStatistic;
     boolean registerKamelets;
     boolean registerTemplates = true;
@@ -68,12 +67,13 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
         private final Route route;
         private final MicrometerRoutePolicyNamingStrategy namingStrategy;
         private final MicrometerRoutePolicyConfiguration configuration;
+        private final String propertyPrefix;
         private Counter exchangesSucceeded;
         private Counter exchangesFailed;
         private Counter exchangesTotal;
         private Counter externalRedeliveries;
         private Counter failuresHandled;
-        private Timer timer;
+        private volatile Timer timer;
         private LongTaskTimer longTaskTimer;
 
         MetricsStatistics(MeterRegistry meterRegistry, CamelContext camelContext, Route route,
@@ -84,6 +84,9 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
             this.namingStrategy = ObjectHelper.notNull(namingStrategy, "MicrometerRoutePolicyNamingStrategy", this);
             this.camelContext = camelContext;
             this.route = route;
+            // compute the exchange property prefix once, the exchange id is appended per exchange
+            String id = route != null ? route.getId() : "context:" + camelContext.getName();
+            this.propertyPrefix = DEFAULT_CAMEL_ROUTE_POLICY_METER_NAME + "-" + id + "-";
             if (configuration.isAdditionalCounters()) {
                 initAdditionalCounters();
             }
@@ -122,37 +125,47 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
         }
 
         public void onExchangeBegin(Exchange exchange) {
+            String name = propertyName(exchange);
             Timer.Sample sample = Timer.start(meterRegistry);
-            exchange.setProperty(propertyName(exchange), sample);
+            exchange.setProperty(name, sample);
             if (longTaskTimer != null) {
-                exchange.setProperty(propertyName(exchange) + "_long_task", longTaskTimer.start());
+                exchange.setProperty(name + "_long_task", longTaskTimer.start());
             }
         }
 
         public void onExchangeDone(Exchange exchange) {
-            Timer.Sample sample = (Timer.Sample) exchange.removeProperty(propertyName(exchange));
+            String name = propertyName(exchange);
+            Timer.Sample sample = (Timer.Sample) exchange.removeProperty(name);
             if (sample != null) {
-                if (timer == null) {
-                    Timer.Builder builder = Timer.builder(namingStrategy.getName(route))
-                            .tags(route != null ? namingStrategy.getTags(route) : namingStrategy.getTags(camelContext))
-                            .description(route != null ? "Route performance metrics" : "CamelContext performance metrics");
-                    if (configuration.getTimerInitiator() != null) {
-                        configuration.getTimerInitiator().accept(builder);
-                    }
-                    timer = builder.register(meterRegistry);
-                }
-                sample.stop(timer);
+                sample.stop(getOrCreateTimer());
             }
-            LongTaskTimer.Sample ltSampler
-                    = (LongTaskTimer.Sample) exchange.removeProperty(propertyName(exchange) + "_long_task");
-            if (ltSampler != null) {
-                ltSampler.stop();
+            if (longTaskTimer != null) {
+                LongTaskTimer.Sample ltSampler = (LongTaskTimer.Sample) exchange.removeProperty(name + "_long_task");
+                if (ltSampler != null) {
+                    ltSampler.stop();
+                }
             }
             if (configuration.isAdditionalCounters()) {
                 updateAdditionalCounters(exchange);
             }
         }
 
+        private Timer getOrCreateTimer() {
+            Timer answer = timer;
+            if (answer == null) {
+                // only lookup the timer in the registry once, and then keep the handle
+                Timer.Builder builder = Timer.builder(namingStrategy.getName(route))
+                        .tags(route != null ? namingStrategy.getTags(route) : namingStrategy.getTags(camelContext))
+                        .description(route != null ? "Route performance metrics" : "CamelContext performance metrics");
+                if (configuration.getTimerInitiator() != null) {
+                    configuration.getTimerInitiator().accept(builder);
+                }
+                answer = builder.register(meterRegistry);
+                timer = answer;
+            }
+            return answer;
+        }
+
         public void remove() {
             if (exchangesSucceeded != null) {
                 meterRegistry.remove(exchangesSucceeded);
@@ -199,13 +212,9 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
         }
 
         private String propertyName(Exchange exchange) {
-            String id;
-            if (route != null) {
-                id = route.getId();
-            } else {
-                id = "context:" + camelContext.getName();
-            }
-            return String.format("%s-%s-%s", DEFAULT_CAMEL_ROUTE_POLICY_METER_NAME, id, exchange.getExchangeId());
+            // the exchange id is part of the name so copies of the exchange (such as in multicast)
+            // do not stop the sample of the exchange they were copied from
+            return propertyPrefix + exchange.getExchangeId();
         }
 
         private Counter createCounter(String meterName, String description) {
@@ -343,8 +352,10 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
         if (contextStatistic != null) {
             contextStatistic.onExchangeBegin(exchange);
         }
-        Optional.ofNullable(statisticsMap.get(route))
-                .ifPresent(statistics -> statistics.onExchangeBegin(exchange));
+        MetricsStatistics statistics = statisticsMap.get(route);
+        if (statistics != null) {
+            statistics.onExchangeBegin(exchange);
+        }
     }
 
     @Override
@@ -352,8 +363,10 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
         if (contextStatistic != null) {
             contextStatistic.onExchangeDone(exchange);
         }
-        Optional.ofNullable(statisticsMap.get(route))
-                .ifPresent(statistics -> statistics.onExchangeDone(exchange));
+        MetricsStatistics statistics = statisticsMap.get(route);
+        if (statistics != null) {
+            statistics.onExchangeDone(exchange);
+        }
     }
 
 }
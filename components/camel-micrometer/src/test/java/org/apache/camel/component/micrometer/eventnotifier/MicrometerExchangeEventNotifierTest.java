@@ -39,9 +39,11 @@ public class MicrometerExchangeEventNotifierTest extends AbstractMicrometerEvent
     private static final String DIRECT_IN = "direct://in";
     private static final Long SLEEP = 20L;
 
+    private MicrometerExchangeEventNotifier eventNotifier;
+
     @Override
     protected AbstractMicrometerEventNotifier<?> getEventNotifier() {
-        MicrometerExchangeEventNotifier eventNotifier = new MicrometerExchangeEventNotifier();
+        eventNotifier = new MicrometerExchangeEventNotifier();
         // use sanitized uri to not reveal sensitive information
         eventNotifier.setNamingStrategy((exchange, endpoint) -> endpoint.toString());
         return eventNotifier;
@@ -80,6 +82,56 @@ public class MicrometerExchangeEventNotifierTest extends AbstractMicrometerEvent
         Assertions.assertThat(currentInflightExchanges()).isEqualTo(0.0D, withPrecision(0.1D));
     }
 
+    @Test
+    public void testTimerIsCached() throws Exception {
+        getMockEndpoint(MOCK_OUT).expectedMessageCount(3);
+        for (int i = 0; i < 3; i++) {
+            template.sendBody(DIRECT_IN, "Hello " + i);
+        }
+        MockEndpoint.assertIsSatisfied(context);
+
+        // all exchanges are recorded by the same cached timer
+        Assertions.assertThat(meterRegistry.find(MOCK_OUT).timers()).hasSize(1);
+        Assertions.assertThat(meterRegistry.find(MOCK_OUT).timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void testTimerRemovedFromRegistry() throws Exception {
+        template.sendBody(DIRECT_IN, "Hello");
+        Timer timer = meterRegistry.find(MOCK_OUT).timer();
+        Assertions.assertThat(timer.count()).isEqualTo(1);
+
+        // the cached timer must be discarded and a new timer registered
+        meterRegistry.remove(timer);
+        Assertions.assertThat(meterRegistry.find(MOCK_OUT).timer()).isNull();
+
+        template.sendBody(DIRECT_IN, "World");
+        Timer newTimer = meterRegistry.find(MOCK_OUT).timer();
+        Assertions.assertThat(newTimer).isNotNull().isNotSameAs(timer);
+        Assertions.assertThat(newTimer.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRestartEventNotifier() throws Exception {
+        int notifiers = context.getManagementStrategy().getEventNotifiers().size();
+
+        for (int i = 0; i < 3; i++) {
+            eventNotifier.stop();
+            eventNotifier.start();
+        }
+        // restarting must not pile up event notifiers
+        Assertions.assertThat(context.getManagementStrategy().getEventNotifiers()).hasSize(notifiers);
+
+        template.sendBody(DIRECT_IN, "Hello");
+        Timer timer = meterRegistry.find(MOCK_OUT).timer();
+        Assertions.assertThat(timer.count()).isEqualTo(1);
+
+        // the timer cache still reacts to meters being removed after restarting
+        meterRegistry.remove(timer);
+        template.sendBody(DIRECT_IN, "World");
+        Assertions.assertThat(meterRegistry.find(MOCK_OUT).timer().count()).isEqualTo(1);
+    }
+
     private double currentInflightExchanges() {
         return meterRegistry.find(DEFAULT_CAMEL_ROUTES_EXCHANGES_INFLIGHT).tag(ROUTE_ID_TAG, ROUTE_ID).gauge().value();
     }
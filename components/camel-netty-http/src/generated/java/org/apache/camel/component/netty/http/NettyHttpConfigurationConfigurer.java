@@ -96,6 +96,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "muteException": target.setMuteException(property(camelContext, boolean.class, value)); return true;
         case "nativetransport":
         case "nativeTransport": target.setNativeTransport(property(camelContext, boolean.class, value)); return true;
+        case "nativetransporttype":
+        case "nativeTransportType": target.setNativeTransportType(property(camelContext, java.lang.String.class, value)); return true;
         case "needclientauth":
         case "needClientAuth": target.setNeedClientAuth(property(camelContext, boolean.class, value)); return true;
         case "nettyserverbootstrapfactory":
@@ -116,6 +118,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "producerPoolEnabled": target.setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": target.setProducerPoolMaxIdle(property(camelContext, int.class, value)); return true;
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": target.setProducerPoolMaxPipelined(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": target.setProducerPoolMaxTotal(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxwait":
@@ -274,6 +278,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "muteException": return boolean.class;
         case "nativetransport":
         case "nativeTransport": return boolean.class;
+        case "nativetransporttype":
+        case "nativeTransportType": return java.lang.String.class;
         case "needclientauth":
         case "needClientAuth": return boolean.class;
         case "nettyserverbootstrapfactory":
@@ -294,6 +300,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "producerPoolEnabled": return boolean.class;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return int.class;
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": return int.class;
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": return int.class;
         case "producerpoolmaxwait":
@@ -453,6 +461,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "muteException": return target.isMuteException();
         case "nativetransport":
         case "nativeTransport": return target.isNativeTransport();
+        case "nativetransporttype":
+        case "nativeTransportType": return target.getNativeTransportType();
         case "needclientauth":
         case "needClientAuth": return target.isNeedClientAuth();
         case "nettyserverbootstrapfactory":
@@ -473,6 +483,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "producerPoolEnabled": return target.isProducerPoolEnabled();
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return target.getProducerPoolMaxIdle();
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": return target.getProducerPoolMaxPipelined();
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": return target.getProducerPoolMaxTotal();
         case "producerpoolmaxwait":
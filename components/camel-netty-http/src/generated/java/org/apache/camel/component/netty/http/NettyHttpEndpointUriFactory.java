@@ -21,7 +21,7 @@ public class NettyHttpEndpointUriFactory extends org.apache.camel.support.compon
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(89);
+        Set<String> props = new HashSet<>(91);
         props.add("allowSerializedHeaders");
         props.add("backlog");
         props.add("bossCount");
@@ -61,6 +61,7 @@ public class NettyHttpEndpointUriFactory extends org.apache.camel.support.compon
         props.add("maxInitialLineLength");
         props.add("muteException");
         props.add("nativeTransport");
+        props.add("nativeTransportType");
         props.add("needClientAuth");
         props.add("nettyHttpBinding");
         props.add("nettyServerBootstrapFactory");
@@ -74,6 +75,7 @@ public class NettyHttpEndpointUriFactory extends org.apache.camel.support.compon
         props.add("producerPoolBlockWhenExhausted");
         props.add("producerPoolEnabled");
         props.add("producerPoolMaxIdle");
+        props.add("producerPoolMaxPipelined");
         props.add("producerPoolMaxTotal");
         props.add("producerPoolMaxWait");
         props.add("producerPoolMinEvictableIdle");
@@ -86,6 +86,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "maximumPoolSize": target.setMaximumPoolSize(property(camelContext, int.class, value)); return true;
         case "nativetransport":
         case "nativeTransport": getOrCreateConfiguration(target).setNativeTransport(property(camelContext, boolean.class, value)); return true;
+        case "nativetransporttype":
+        case "nativeTransportType": getOrCreateConfiguration(target).setNativeTransportType(property(camelContext, java.lang.String.class, value)); return true;
         case "needclientauth":
         case "needClientAuth": getOrCreateConfiguration(target).setNeedClientAuth(property(camelContext, boolean.class, value)); return true;
         case "nettyserverbootstrapfactory":
@@ -102,6 +104,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "producerPoolEnabled": getOrCreateConfiguration(target).setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": getOrCreateConfiguration(target).setProducerPoolMaxIdle(property(camelContext, int.class, value)); return true;
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": getOrCreateConfiguration(target).setProducerPoolMaxPipelined(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": getOrCreateConfiguration(target).setProducerPoolMaxTotal(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxwait":
@@ -231,6 +235,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "maximumPoolSize": return int.class;
         case "nativetransport":
         case "nativeTransport": return boolean.class;
+        case "nativetransporttype":
+        case "nativeTransportType": return java.lang.String.class;
         case "needclientauth":
         case "needClientAuth": return boolean.class;
         case "nettyserverbootstrapfactory":
@@ -247,6 +253,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "producerPoolEnabled": return boolean.class;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return int.class;
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": return int.class;
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": return int.class;
         case "producerpoolmaxwait":
@@ -377,6 +385,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "maximumPoolSize": return target.getMaximumPoolSize();
         case "nativetransport":
         case "nativeTransport": return getOrCreateConfiguration(target).isNativeTransport();
+        case "nativetransporttype":
+        case "nativeTransportType": return getOrCreateConfiguration(target).getNativeTransportType();
         case "needclientauth":
         case "needClientAuth": return getOrCreateConfiguration(target).isNeedClientAuth();
         case "nettyserverbootstrapfactory":
@@ -393,6 +403,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "producerPoolEnabled": return getOrCreateConfiguration(target).isProducerPoolEnabled();
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return getOrCreateConfiguration(target).getProducerPoolMaxIdle();
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": return getOrCreateConfiguration(target).getProducerPoolMaxPipelined();
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": return getOrCreateConfiguration(target).getProducerPoolMaxTotal();
         case "producerpoolmaxwait":
@@ -75,6 +75,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "lazyChannelCreation": target.setLazyChannelCreation(property(camelContext, boolean.class, value)); return true;
         case "nativetransport":
         case "nativeTransport": target.setNativeTransport(property(camelContext, boolean.class, value)); return true;
+        case "nativetransporttype":
+        case "nativeTransportType": target.setNativeTransportType(property(camelContext, java.lang.String.class, value)); return true;
         case "needclientauth":
         case "needClientAuth": target.setNeedClientAuth(property(camelContext, boolean.class, value)); return true;
         case "nettyserverbootstrapfactory":
@@ -92,6 +94,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "producerPoolEnabled": target.setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": target.setProducerPoolMaxIdle(property(camelContext, int.class, value)); return true;
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": target.setProducerPoolMaxPipelined(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": target.setProducerPoolMaxTotal(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxwait":
@@ -218,6 +222,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "lazyChannelCreation": return boolean.class;
         case "nativetransport":
         case "nativeTransport": return boolean.class;
+        case "nativetransporttype":
+        case "nativeTransportType": return java.lang.String.class;
         case "needclientauth":
         case "needClientAuth": return boolean.class;
         case "nettyserverbootstrapfactory":
@@ -235,6 +241,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "producerPoolEnabled": return boolean.class;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return int.class;
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": return int.class;
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": return int.class;
         case "producerpoolmaxwait":
@@ -362,6 +370,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "lazyChannelCreation": return target.isLazyChannelCreation();
         case "nativetransport":
         case "nativeTransport": return target.isNativeTransport();
+        case "nativetransporttype":
+        case "nativeTransportType": return target.getNativeTransportType();
         case "needclientauth":
         case "needClientAuth": return target.isNeedClientAuth();
         case "nettyserverbootstrapfactory":
@@ -379,6 +389,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "producerPoolEnabled": return target.isProducerPoolEnabled();
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return target.getProducerPoolMaxIdle();
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": return target.getProducerPoolMaxPipelined();
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": return target.getProducerPoolMaxTotal();
         case "producerpoolmaxwait":
@@ -53,6 +53,8 @@ public final class NettyConverterLoader implements TypeConverterLoader, CamelCon
             (type, exchange, value) -> org.apache.camel.component.netty.NettyConverter.toObjectInput((io.netty.buffer.ByteBuf) value, exchange));
         addTypeConverter(registry, java.lang.String.class, io.netty.buffer.ByteBuf.class, false,
             (type, exchange, value) -> org.apache.camel.component.netty.NettyConverter.toString((io.netty.buffer.ByteBuf) value, exchange));
+        addTypeConverter(registry, java.nio.ByteBuffer.class, io.netty.buffer.ByteBuf.class, false,
+            (type, exchange, value) -> org.apache.camel.component.netty.NettyConverter.toNioByteBuffer((io.netty.buffer.ByteBuf) value, exchange));
         addTypeConverter(registry, javax.xml.transform.dom.DOMSource.class, io.netty.buffer.ByteBuf.class, false,
             (type, exchange, value) -> org.apache.camel.component.netty.NettyConverter.toDOMSource((io.netty.buffer.ByteBuf) value, exchange));
         addTypeConverter(registry, javax.xml.transform.sax.SAXSource.class, io.netty.buffer.ByteBuf.class, false,
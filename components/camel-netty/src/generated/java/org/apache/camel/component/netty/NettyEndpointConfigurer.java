@@ -76,6 +76,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "nativetransport":
         case "nativeTransport": target.getConfiguration().setNativeTransport(property(camelContext, boolean.class, value)); return true;
+        case "nativetransporttype":
+        case "nativeTransportType": target.getConfiguration().setNativeTransportType(property(camelContext, java.lang.String.class, value)); return true;
         case "needclientauth":
         case "needClientAuth": target.getConfiguration().setNeedClientAuth(property(camelContext, boolean.class, value)); return true;
         case "nettyserverbootstrapfactory":
@@ -92,6 +94,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "producerPoolEnabled": target.getConfiguration().setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": target.getConfiguration().setProducerPoolMaxIdle(property(camelContext, int.class, value)); return true;
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": target.getConfiguration().setProducerPoolMaxPipelined(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": target.getConfiguration().setProducerPoolMaxTotal(property(camelContext, int.class, value)); return true;
         case "producerpoolmaxwait":
@@ -217,6 +221,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": return boolean.class;
         case "nativetransport":
         case "nativeTransport": return boolean.class;
+        case "nativetransporttype":
+        case "nativeTransportType": return java.lang.String.class;
         case "needclientauth":
         case "needClientAuth": return boolean.class;
         case "nettyserverbootstrapfactory":
@@ -233,6 +239,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "producerPoolEnabled": return boolean.class;
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return int.class;
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": return int.class;
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": return int.class;
         case "producerpoolmaxwait":
@@ -359,6 +367,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "nativetransport":
         case "nativeTransport": return target.getConfiguration().isNativeTransport();
+        case "nativetransporttype":
+        case "nativeTransportType": return target.getConfiguration().getNativeTransportType();
         case "needclientauth":
         case "needClientAuth": return target.getConfiguration().isNeedClientAuth();
         case "nettyserverbootstrapfactory":
@@ -375,6 +385,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "producerPoolEnabled": return target.getConfiguration().isProducerPoolEnabled();
         case "producerpoolmaxidle":
         case "producerPoolMaxIdle": return target.getConfiguration().getProducerPoolMaxIdle();
+        case "producerpoolmaxpipelined":
+        case "producerPoolMaxPipelined": return target.getConfiguration().getProducerPoolMaxPipelined();
         case "producerpoolmaxtotal":
         case "producerPoolMaxTotal": return target.getConfiguration().getProducerPoolMaxTotal();
         case "producerpoolmaxwait":
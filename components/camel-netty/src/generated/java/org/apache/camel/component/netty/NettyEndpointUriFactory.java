@@ -21,7 +21,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(77);
+        Set<String> props = new HashSet<>(79);
         props.add("allowDefaultCodec");
         props.add("allowSerializedHeaders");
         props.add("autoAppendDelimiter");
@@ -54,6 +54,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
         props.add("lazyChannelCreation");
         props.add("lazyStartProducer");
         props.add("nativeTransport");
+        props.add("nativeTransportType");
         props.add("needClientAuth");
         props.add("nettyServerBootstrapFactory");
         props.add("networkInterface");
@@ -64,6 +65,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
         props.add("producerPoolBlockWhenExhausted");
         props.add("producerPoolEnabled");
         props.add("producerPoolMaxIdle");
+        props.add("producerPoolMaxPipelined");
         props.add("producerPoolMaxTotal");
         props.add("producerPoolMaxWait");
         props.add("producerPoolMinEvictableIdle");
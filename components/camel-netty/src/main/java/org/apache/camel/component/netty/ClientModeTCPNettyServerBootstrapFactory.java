@@ -29,8 +29,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.epoll.EpollSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import org.apache.camel.CamelContext;
 import org.apache.camel.support.service.ServiceSupport;
 import org.slf4j.Logger;
@@ -114,6 +112,7 @@ public class ClientModeTCPNettyServerBootstrapFactory extends ServiceSupport imp
             // create new pool which we should shutdown when stopping as its not shared
             workerGroup = new NettyWorkerPoolBuilder()
                     .withNativeTransport(configuration.isNativeTransport())
+                    .withNativeTransportType(configuration.getNativeTransportType())
                     .withWorkerCount(configuration.getWorkerCount())
                     .withName("NettyServerTCPWorker")
                     .build();
@@ -121,11 +120,8 @@ public class ClientModeTCPNettyServerBootstrapFactory extends ServiceSupport imp
         }
 
         clientBootstrap = new Bootstrap();
-        if (configuration.isNativeTransport()) {
-            clientBootstrap.channel(EpollSocketChannel.class);
-        } else {
-            clientBootstrap.channel(NioSocketChannel.class);
-        }
+        // the channel must match the transport of the worker group
+        clientBootstrap.channel(NettyTransportHelper.socketChannelClass(wg));
         clientBootstrap.group(wg);
         clientBootstrap.option(ChannelOption.SO_KEEPALIVE, configuration.isKeepAlive());
         clientBootstrap.option(ChannelOption.TCP_NODELAY, configuration.isTcpNoDelay());
@@ -0,0 +1,413 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.channel.ChannelFuture;
+import org.apache.commons.pool2.ObjectPool;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.commons.pool2.ObjectPool} of channels for the {@link NettyProducer}, in the style of the Netty
+ * <tt>FixedChannelPool</tt>.
+ * <p/>
+ * The channels which can be borrowed are kept in a lock-free deque (most recently used first), so borrowing and
+ * returning a channel does not need any locking. Only when the pool is exhausted and the caller must wait, then a lock
+ * is used.
+ * <p/>
+ * When an eviction executor is given, then the pool periodically evicts the channels which have been idle for longer
+ * than <tt>minEvictableIdle</tt> (keeping at least <tt>minIdle</tt> channels), and then creates new idle channels until
+ * there are <tt>minIdle</tt> idle channels in the pool.
+ * <p/>
+ * The pool supports pipelining where the same channel can be borrowed by up to <tt>maxPipelined</tt> exchanges at the
+ * same time, which requires the replies to be correlated using a {@link NettyCamelStateCorrelationManager}.
+ */
+public class NettyChannelPool implements ObjectPool<ChannelFuture> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NettyChannelPool.class);
+
+    private final PooledObjectFactory<ChannelFuture> factory;
+    private final int maxTotal;
+    private final int minIdle;
+    private final int maxIdle;
+    private final long minEvictableIdle;
+    private final boolean blockWhenExhausted;
+    private final long maxWait;
+    private final int maxPipelined;
+
+    private final Deque<Entry> available = new ConcurrentLinkedDeque<>();
+    private final Map<ChannelFuture, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger idle = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final Object lock = new Object();
+    private long version;
+    private volatile boolean closed;
+    private volatile ScheduledFuture<?> evictor;
+
+    public NettyChannelPool(PooledObjectFactory<ChannelFuture> factory, int maxTotal, int minIdle, int maxIdle,
+                            long minEvictableIdle, boolean blockWhenExhausted, long maxWait, int maxPipelined) {
+        this(factory, maxTotal, minIdle, maxIdle, minEvictableIdle, blockWhenExhausted, maxWait, maxPipelined, null, 0);
+    }
+
+    /**
+     * Creates the pool.
+     *
+     * @param evictionExecutor        executor to run the evictor, or <tt>null</tt> to not evict idle channels
+     * @param timeBetweenEvictionRuns time in millis between the runs of the evictor
+     */
+    public NettyChannelPool(PooledObjectFactory<ChannelFuture> factory, int maxTotal, int minIdle, int maxIdle,
+                            long minEvictableIdle, boolean blockWhenExhausted, long maxWait, int maxPipelined,
+                            ScheduledExecutorService evictionExecutor, long timeBetweenEvictionRuns) {
+        this.factory = factory;
+        this.maxTotal = maxTotal;
+        this.minIdle = minIdle;
+        this.maxIdle = maxIdle;
+        this.minEvictableIdle = minEvictableIdle;
+        this.blockWhenExhausted = blockWhenExhausted;
+        this.maxWait = maxWait;
+        this.maxPipelined = Math.max(1, maxPipelined);
+        if (evictionExecutor != null && timeBetweenEvictionRuns > 0) {
+            this.evictor = evictionExecutor.scheduleWithFixedDelay(this::evict, timeBetweenEvictionRuns,
+                    timeBetweenEvictionRuns, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static final class Entry {
+        private final PooledObject<ChannelFuture> pooled;
+        // number of exchanges which has borrowed the channel (-1 when destroyed)
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final AtomicBoolean destroyed = new AtomicBoolean();
+        private volatile long lastReturned;
+
+        private Entry(PooledObject<ChannelFuture> pooled) {
+            this.pooled = pooled;
+        }
+    }
+
+    @Override
+    public ChannelFuture borrowObject() throws Exception {
+        long deadline = maxWait > 0 ? System.currentTimeMillis() + maxWait : 0;
+        while (true) {
+            if (closed) {
+                throw new IllegalStateException("Pool not open");
+            }
+            ChannelFuture answer = acquire();
+            if (answer != null) {
+                return answer;
+            }
+            if (!blockWhenExhausted) {
+                throw new NoSuchElementException("Pool exhausted");
+            }
+            await(deadline);
+        }
+    }
+
+    private ChannelFuture acquire() throws Exception {
+        Entry entry;
+        while ((entry = available.pollFirst()) != null) {
+            int prev = entry.inflight.getAndIncrement();
+            if (prev < 0 || entry.destroyed.get()) {
+                release(entry, false);
+                continue;
+            }
+            if (prev == 0) {
+                idle.decrementAndGet();
+            }
+            if (!factory.validateObject(entry.pooled)) {
+                LOG.trace("Invalidating channel from pool {}", entry.pooled.getObject());
+                release(entry, true);
+                continue;
+            }
+            if (prev == 0) {
+                factory.activateObject(entry.pooled);
+            }
+            if (prev + 1 < maxPipelined) {
+                // there is room for more exchanges on this channel
+                available.offerFirst(entry);
+            }
+            return entry.pooled.getObject();
+        }
+
+        // create a new channel if there is room
+        int count = total.get();
+        while (maxTotal < 0 || count < maxTotal) {
+            if (total.compareAndSet(count, count + 1)) {
+                return create();
+            }
+            count = total.get();
+        }
+        return null;
+    }
+
+    private ChannelFuture create() throws Exception {
+        Entry entry;
+        try {
+            entry = new Entry(factory.makeObject());
+        } catch (Exception e) {
+            total.decrementAndGet();
+            signal();
+            throw e;
+        }
+        entry.inflight.set(1);
+        entries.put(entry.pooled.getObject(), entry);
+        factory.activateObject(entry.pooled);
+        if (maxPipelined > 1) {
+            available.offerFirst(entry);
+        }
+        return entry.pooled.getObject();
+    }
+
+    private void await(long deadline) throws Exception {
+        long v;
+        synchronized (lock) {
+            v = version;
+        }
+        waiters.incrementAndGet();
+        try {
+            // try again as a channel may have been returned before we registered as waiter
+            if (!available.isEmpty() || maxTotal < 0 || total.get() < maxTotal) {
+                return;
+            }
+            synchronized (lock) {
+                if (v == version && !closed) {
+                    if (deadline > 0) {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            throw new NoSuchElementException("Timeout waiting for idle object");
+                        }
+                        lock.wait(remaining);
+                    } else {
+                        lock.wait();
+                    }
+                }
+            }
+        } finally {
+            waiters.decrementAndGet();
+        }
+        if (deadline > 0 && System.currentTimeMillis() >= deadline && available.isEmpty()) {
+            throw new NoSuchElementException("Timeout waiting for idle object");
+        }
+    }
+
+    private void signal() {
+        if (waiters.get() > 0) {
+            synchronized (lock) {
+                version++;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void returnObject(ChannelFuture obj) throws Exception {
+        Entry entry = entries.get(obj);
+        if (entry == null) {
+            LOG.debug("Returned channel is not part of this pool: {}", obj);
+            return;
+        }
+        release(entry, false);
+    }
+
+    @Override
+    public void invalidateObject(ChannelFuture obj) throws Exception {
+        Entry entry = entries.get(obj);
+        if (entry == null) {
+            LOG.debug("Invalidated channel is not part of this pool: {}", obj);
+            return;
+        }
+        release(entry, true);
+    }
+
+    private void release(Entry entry, boolean invalidate) {
+        if (invalidate || closed) {
+            markDestroyed(entry);
+        }
+        int count = entry.inflight.decrementAndGet();
+        if (count == 0) {
+            if (!entry.destroyed.get() && maxIdle >= 0 && idle.get() >= maxIdle) {
+                markDestroyed(entry);
+            }
+            if (entry.destroyed.get()) {
+                // the last exchange using the channel destroys it
+                if (entry.inflight.compareAndSet(0, -1)) {
+                    destroy(entry);
+                }
+            } else {
+                entry.lastReturned = System.currentTimeMillis();
+                idle.incrementAndGet();
+            }
+        }
+        if (count == maxPipelined - 1 && !entry.destroyed.get()) {
+            // the channel was fully used, so make it available again
+            available.offerFirst(entry);
+        }
+        signal();
+    }
+
+    private void markDestroyed(Entry entry) {
+        if (entry.destroyed.compareAndSet(false, true)) {
+            total.decrementAndGet();
+        }
+    }
+
+    private void destroy(Entry entry) {
+        entries.remove(entry.pooled.getObject());
+        available.remove(entry);
+        try {
+            factory.destroyObject(entry.pooled);
+        } catch (Exception e) {
+            LOG.debug("Error destroying channel {}. This exception is ignored.", entry.pooled.getObject(), e);
+        }
+    }
+
+    /**
+     * Evicts the channels which have been idle for too long (least recently used first), and then ensures there are
+     * <tt>minIdle</tt> idle channels in the pool. This is run periodically by the evictor.
+     */
+    void evict() {
+        try {
+            if (minEvictableIdle > 0) {
+                long now = System.currentTimeMillis();
+                Iterator<Entry> it = available.descendingIterator();
+                while (it.hasNext() && idle.get() > minIdle && !closed) {
+                    Entry entry = it.next();
+                    if (entry.inflight.get() == 0 && now - entry.lastReturned > minEvictableIdle
+                            && entry.inflight.compareAndSet(0, 1)) {
+                        idle.decrementAndGet();
+                        available.removeLastOccurrence(entry);
+                        LOG.trace("Evicting idle channel from pool {}", entry.pooled.getObject());
+                        release(entry, true);
+                    }
+                }
+            }
+            ensureMinIdle();
+        } catch (Exception e) {
+            LOG.debug("Error evicting idle channels from pool. This exception is ignored.", e);
+        }
+    }
+
+    private void ensureMinIdle() throws Exception {
+        while (!closed && idle.get() < minIdle) {
+            int count = total.get();
+            if (maxTotal >= 0 && count >= maxTotal) {
+                return;
+            }
+            if (total.compareAndSet(count, count + 1)) {
+                createIdle();
+            }
+        }
+    }
+
+    private void createIdle() throws Exception {
+        Entry entry;
+        try {
+            entry = new Entry(factory.makeObject());
+        } catch (Exception e) {
+            total.decrementAndGet();
+            signal();
+            throw e;
+        }
+        entry.lastReturned = System.currentTimeMillis();
+        entries.put(entry.pooled.getObject(), entry);
+        idle.incrementAndGet();
+        available.offerFirst(entry);
+        LOG.trace("Created idle channel in pool {}", entry.pooled.getObject());
+        signal();
+    }
+
+    @Override
+    public void addObject() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("Pool not open");
+        }
+        int count = total.get();
+        while (maxTotal < 0 || count < maxTotal) {
+            if (total.compareAndSet(count, count + 1)) {
+                createIdle();
+                return;
+            }
+            count = total.get();
+        }
+    }
+
+    @Override
+    public void clear() throws Exception {
+        Entry entry;
+        int count = available.size();
+        while (count-- > 0 && (entry = available.pollLast()) != null) {
+            if (entry.inflight.compareAndSet(0, 1)) {
+                idle.decrementAndGet();
+                release(entry, true);
+            } else if (!entry.destroyed.get()) {
+                // in use (pipelining)
+                available.offerFirst(entry);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        ScheduledFuture<?> task = evictor;
+        if (task != null) {
+            task.cancel(false);
+            evictor = null;
+        }
+        for (Entry entry : entries.values()) {
+            markDestroyed(entry);
+            if (entry.inflight.compareAndSet(0, -1)) {
+                destroy(entry);
+            }
+        }
+        available.clear();
+        synchronized (lock) {
+            version++;
+            lock.notifyAll();
+        }
+    }
+
+    @Override
+    public int getNumActive() {
+        return Math.max(0, total.get() - idle.get());
+    }
+
+    @Override
+    public int getNumIdle() {
+        return Math.max(0, idle.get());
+    }
+
+    @Override
+    public String toString() {
+        return "NettyChannelPool[maxTotal=" + maxTotal + ", maxPipelined=" + maxPipelined + ", active=" + getNumActive()
+               + ", idle=" + getNumIdle() + "]";
+    }
+}
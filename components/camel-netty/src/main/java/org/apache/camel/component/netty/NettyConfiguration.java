@@ -109,6 +109,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     private boolean producerPoolBlockWhenExhausted = true;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean producerPoolEnabled = true;
+    @UriParam(label = "producer,advanced", defaultValue = "1")
+    private int producerPoolMaxPipelined = 1;
     @UriParam(label = "producer,advanced")
     private boolean udpConnectionlessSending;
     @UriParam(label = "consumer")
@@ -711,6 +713,22 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.producerPoolEnabled = producerPoolEnabled;
     }
 
+    public int getProducerPoolMaxPipelined() {
+        return producerPoolMaxPipelined;
+    }
+
+    /**
+     * Sets the maximum number of exchanges which can use the same pooled channel at the same time (pipelining), which
+     * allows sending more requests without waiting for the replies of the previous requests on the channel. The default
+     * value of 1 turns off pipelining.
+     * <p/>
+     * Important: When using pipelining then the replies must be correlated to the requests, so you must configure a
+     * {@link NettyCamelStateCorrelationManager} via the <tt>correlationManager</tt> option.
+     */
+    public void setProducerPoolMaxPipelined(int producerPoolMaxPipelined) {
+        this.producerPoolMaxPipelined = producerPoolMaxPipelined;
+    }
+
     public boolean isUdpConnectionlessSending() {
         return udpConnectionlessSending;
     }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import javax.xml.transform.dom.DOMSource;
@@ -76,6 +77,18 @@ public final class NettyConverter {
         return new ByteBufInputStream(buffer);
     }
 
+    /**
+     * Copies the readable bytes of the buffer into a new heap {@link ByteBuffer}. The result must not share the memory
+     * of the buffer, as a pooled buffer can be released and reused while the converted value is still in use.
+     */
+    @Converter
+    public static ByteBuffer toNioByteBuffer(ByteBuf buffer, Exchange exchange) {
+        ByteBuffer answer = ByteBuffer.allocate(buffer.readableBytes());
+        buffer.getBytes(buffer.readerIndex(), answer);
+        answer.flip();
+        return answer;
+    }
+
     @Converter
     public static ObjectInput toObjectInput(ByteBuf buffer, Exchange exchange) throws IOException {
         InputStream is = toInputStream(buffer, exchange);
@@ -20,9 +20,9 @@ import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.nio.file.Path;
-import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import io.netty.bootstrap.Bootstrap;
@@ -32,18 +32,9 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollDatagramChannel;
-import io.netty.channel.epoll.EpollDomainSocketChannel;
-import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.kqueue.KQueue;
-import io.netty.channel.kqueue.KQueueDomainSocketChannel;
-import io.netty.channel.kqueue.KQueueSocketChannel;
-import io.netty.channel.socket.nio.NioDatagramChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AttributeKey;
@@ -65,14 +56,13 @@ import org.apache.commons.pool2.ObjectPool;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.PooledObjectFactory;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
-import org.apache.commons.pool2.impl.GenericObjectPool;
-import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class NettyProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(NettyProducer.class);
+    private static final long EVICTION_INTERVAL = 30000L;
 
     private static final AttributeKey<NettyCamelStateCorrelationManager> CORRELATION_MANAGER_ATTR
             = AttributeKey.valueOf("NettyCamelStateCorrelationManager");
@@ -84,6 +74,7 @@ public class NettyProducer extends DefaultAsyncProducer {
     private CamelLogger noReplyLogger;
     private EventLoopGroup workerGroup;
     private volatile ObjectPool<ChannelFuture> pool;
+    private ScheduledExecutorService evictionExecutor;
     private NettyCamelStateCorrelationManager correlationManager;
 
     public NettyProducer(NettyEndpoint nettyEndpoint, NettyConfiguration configuration) {
@@ -113,27 +104,24 @@ public class NettyProducer extends DefaultAsyncProducer {
     @Override
     protected void doStart() throws Exception {
         if (configuration.isProducerPoolEnabled()) {
+            if (configuration.getProducerPoolMaxPipelined() > 1 && configuration.getCorrelationManager() == null) {
+                throw new IllegalArgumentException(
+                        "The option producerPoolMaxPipelined requires a custom correlationManager to correlate the replies");
+            }
             // setup pool where we want an unbounded pool, which allows the pool to shrink on no demand
-            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
-            config.setMaxTotal(configuration.getProducerPoolMaxTotal());
-            config.setMinIdle(configuration.getProducerPoolMinIdle());
-            config.setMaxIdle(configuration.getProducerPoolMaxIdle());
-            config.setBlockWhenExhausted(configuration.isProducerPoolBlockWhenExhausted());
-            config.setMaxWait(Duration.ofMillis(configuration.getProducerPoolMaxWait()));
-            // we should test on borrow to ensure the channel is still valid
-            config.setTestOnBorrow(true);
-            // idle channels can be evicted
-            config.setTestWhileIdle(false);
-            // run eviction every 30th second
-            config.setTimeBetweenEvictionRuns(Duration.ofSeconds(30));
-            config.setMinEvictableIdleTime(Duration.ofMillis(configuration.getProducerPoolMinEvictableIdle()));
-            pool = new GenericObjectPool(new NettyProducerPoolableObjectFactory(this), config);
-
+            if (configuration.getProducerPoolMinEvictableIdle() > 0 || configuration.getProducerPoolMinIdle() > 0) {
+                // run eviction every 30th second
+                evictionExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                        .newSingleThreadScheduledExecutor(this, "NettyProducerPoolEvictor");
+            }
+            pool = new NettyChannelPool(
+                    new NettyProducerPoolableObjectFactory(this), configuration.getProducerPoolMaxTotal(),
+                    configuration.getProducerPoolMinIdle(), configuration.getProducerPoolMaxIdle(),
+                    configuration.getProducerPoolMinEvictableIdle(), configuration.isProducerPoolBlockWhenExhausted(),
+                    configuration.getProducerPoolMaxWait(), configuration.getProducerPoolMaxPipelined(),
+                    evictionExecutor, EVICTION_INTERVAL);
             if (LOG.isDebugEnabled()) {
-                LOG.debug(
-                        "Created NettyProducer pool[maxTotal={}, minIdle={}, maxIdle={}, minEvictableIdleDuration={}] -> {}",
-                        config.getMaxTotal(), config.getMaxIdle(), config.getMaxIdle(), config.getMinEvictableIdleDuration(),
-                        pool);
+                LOG.debug("Created NettyProducer pool -> {}", pool);
             }
         } else {
             pool = new SharedSingletonObjectPool<>(new NettyProducerPoolableObjectFactory(this));
@@ -146,6 +134,7 @@ public class NettyProducer extends DefaultAsyncProducer {
             // create new pool which we should shutdown when stopping as its not shared
             workerGroup = new NettyWorkerPoolBuilder()
                     .withNativeTransport(configuration.isNativeTransport())
+                    .withNativeTransportType(configuration.getNativeTransportType())
                     .withWorkerCount(configuration.getWorkerCount())
                     .withName("NettyClientTCPWorker").build();
         }
@@ -195,6 +184,10 @@ public class NettyProducer extends DefaultAsyncProducer {
             }
             pool.close();
         }
+        if (evictionExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(evictionExecutor);
+            evictionExecutor = null;
+        }
 
         // close all channels
         LOG.debug("Closing {} channels", allChannels.size());
@@ -460,30 +453,14 @@ public class NettyProducer extends DefaultAsyncProducer {
         if (isTcp()) {
             // its okay to create a new bootstrap for each new channel
             Bootstrap clientBootstrap = new Bootstrap();
+            // the channel must match the transport of the worker group
+            EventLoopGroup wg = getWorkerGroup();
             if (configuration.getUnixDomainSocketPath() != null) {
-                if (KQueue.isAvailable()) {
-                    clientBootstrap.channel(KQueueDomainSocketChannel.class);
-                } else if (Epoll.isAvailable()) {
-                    clientBootstrap.channel(EpollDomainSocketChannel.class);
-                } else {
-                    throw new IllegalStateException(
-                            "Unable to use unix domain sockets - both Epoll and KQueue are not available");
-                }
+                clientBootstrap.channel(NettyTransportHelper.domainSocketChannelClass(wg));
             } else {
-                if (configuration.isNativeTransport()) {
-                    if (KQueue.isAvailable()) {
-                        clientBootstrap.channel(KQueueSocketChannel.class);
-                    } else if (Epoll.isAvailable()) {
-                        clientBootstrap.channel(EpollSocketChannel.class);
-                    } else {
-                        throw new IllegalStateException(
-                                "Unable to use native transport - both Epoll and KQueue are not available");
-                    }
-                } else {
-                    clientBootstrap.channel(NioSocketChannel.class);
-                }
+                clientBootstrap.channel(NettyTransportHelper.socketChannelClass(wg));
             }
-            clientBootstrap.group(getWorkerGroup());
+            clientBootstrap.group(wg);
             if (configuration.getUnixDomainSocketPath() == null) {
                 clientBootstrap.option(ChannelOption.SO_KEEPALIVE, configuration.isKeepAlive());
                 clientBootstrap.option(ChannelOption.TCP_NODELAY, configuration.isTcpNoDelay());
@@ -519,12 +496,10 @@ public class NettyProducer extends DefaultAsyncProducer {
         } else {
             // its okay to create a new bootstrap for each new channel
             Bootstrap connectionlessClientBootstrap = new Bootstrap();
-            if (configuration.isNativeTransport()) {
-                connectionlessClientBootstrap.channel(EpollDatagramChannel.class);
-            } else {
-                connectionlessClientBootstrap.channel(NioDatagramChannel.class);
-            }
-            connectionlessClientBootstrap.group(getWorkerGroup());
+            // the channel must match the transport of the worker group
+            EventLoopGroup wg = getWorkerGroup();
+            connectionlessClientBootstrap.channel(NettyTransportHelper.datagramChannelClass(wg));
+            connectionlessClientBootstrap.group(wg);
             connectionlessClientBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.getConnectTimeout());
             connectionlessClientBootstrap.option(ChannelOption.SO_BROADCAST, configuration.isBroadcast());
             connectionlessClientBootstrap.option(ChannelOption.SO_SNDBUF, configuration.getSendBufferSize());
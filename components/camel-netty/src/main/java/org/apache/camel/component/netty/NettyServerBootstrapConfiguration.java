@@ -100,6 +100,8 @@ public class NettyServerBootstrapConfiguration implements Cloneable {
     protected String passphrase;
     @UriParam(label = "advanced")
     protected boolean nativeTransport;
+    @UriParam(label = "advanced", enums = "auto,epoll,kqueue", defaultValue = "auto")
+    protected String nativeTransportType = NettyTransportHelper.AUTO;
     @UriParam(label = "consumer,advanced")
     protected EventLoopGroup bossGroup;
     @UriParam(label = "advanced")
@@ -491,6 +493,18 @@ public class NettyServerBootstrapConfiguration implements Cloneable {
         this.nativeTransport = nativeTransport;
     }
 
+    public String getNativeTransportType() {
+        return nativeTransportType;
+    }
+
+    /**
+     * The native transport to use when nativeTransport is enabled. The default auto uses KQueue if available, and
+     * otherwise Epoll. Use epoll or kqueue to require the given transport, and fail if it is not available.
+     */
+    public void setNativeTransportType(String nativeTransportType) {
+        this.nativeTransportType = nativeTransportType;
+    }
+
     public EventLoopGroup getBossGroup() {
         return bossGroup;
     }
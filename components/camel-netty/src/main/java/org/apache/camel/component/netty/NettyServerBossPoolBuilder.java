@@ -17,11 +17,6 @@
 package org.apache.camel.component.netty;
 
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.kqueue.KQueue;
-import io.netty.channel.kqueue.KQueueEventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 
 /**
@@ -34,6 +29,7 @@ public final class NettyServerBossPoolBuilder {
     private String pattern;
     private int bossCount = 1;
     private boolean nativeTransport;
+    private String nativeTransportType;
 
     public void setName(String name) {
         this.name = name;
@@ -51,6 +47,10 @@ public final class NettyServerBossPoolBuilder {
         this.nativeTransport = nativeTransport;
     }
 
+    public void setNativeTransportType(String nativeTransportType) {
+        this.nativeTransportType = nativeTransportType;
+    }
+
     public NettyServerBossPoolBuilder withName(String name) {
         setName(name);
         return this;
@@ -71,21 +71,16 @@ public final class NettyServerBossPoolBuilder {
         return this;
     }
 
+    public NettyServerBossPoolBuilder withNativeTransportType(String nativeTransportType) {
+        setNativeTransportType(nativeTransportType);
+        return this;
+    }
+
     /**
      * Creates a new boss pool.
      */
     public EventLoopGroup build() {
-        if (nativeTransport) {
-            if (KQueue.isAvailable()) {
-                return new KQueueEventLoopGroup(bossCount, new CamelThreadFactory(pattern, name, false));
-            } else if (Epoll.isAvailable()) {
-                return new EpollEventLoopGroup(bossCount, new CamelThreadFactory(pattern, name, false));
-            } else {
-                throw new IllegalStateException(
-                        "Unable to use native transport - both Epoll and KQueue are not available");
-            }
-        } else {
-            return new NioEventLoopGroup(bossCount, new CamelThreadFactory(pattern, name, false));
-        }
+        return NettyTransportHelper.createEventLoopGroup(nativeTransport, nativeTransportType, bossCount,
+                new CamelThreadFactory(pattern, name, false));
     }
 }
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.kqueue.KQueue;
+import io.netty.channel.kqueue.KQueueDatagramChannel;
+import io.netty.channel.kqueue.KQueueDomainSocketChannel;
+import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.channel.kqueue.KQueueServerDomainSocketChannel;
+import io.netty.channel.kqueue.KQueueServerSocketChannel;
+import io.netty.channel.kqueue.KQueueSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+/**
+ * Helper class used internally by camel-netty to select the transport (NIO, or native Epoll or KQueue).
+ * <p/>
+ * The event loop groups are created for the selected transport, and the channel types are selected from the type of the
+ * event loop group in use, so the channels always match the event loop group, also when a shared group is configured.
+ */
+public final class NettyTransportHelper {
+
+    public static final String AUTO = "auto";
+    public static final String EPOLL = "epoll";
+    public static final String KQUEUE = "kqueue";
+
+    private NettyTransportHelper() {
+        // Utility class
+    }
+
+    /**
+     * Creates a new event loop group
+     *
+     * @param  nativeTransport     whether to use native transport instead of NIO
+     * @param  nativeTransportType the native transport to use (auto, epoll or kqueue)
+     * @param  count               number of threads
+     * @param  threadFactory       the thread factory
+     * @return                     the event loop group
+     */
+    public static EventLoopGroup createEventLoopGroup(
+            boolean nativeTransport, String nativeTransportType, int count, ThreadFactory threadFactory) {
+        if (!nativeTransport) {
+            return new NioEventLoopGroup(count, threadFactory);
+        }
+        if (isKQueue(nativeTransportType)) {
+            return new KQueueEventLoopGroup(count, threadFactory);
+        } else {
+            return new EpollEventLoopGroup(count, threadFactory);
+        }
+    }
+
+    private static boolean isKQueue(String nativeTransportType) {
+        if (nativeTransportType == null || AUTO.equalsIgnoreCase(nativeTransportType)) {
+            if (KQueue.isAvailable()) {
+                return true;
+            } else if (Epoll.isAvailable()) {
+                return false;
+            }
+            throw new IllegalStateException("Unable to use native transport - both Epoll and KQueue are not available");
+        } else if (EPOLL.equalsIgnoreCase(nativeTransportType)) {
+            if (!Epoll.isAvailable()) {
+                throw new IllegalStateException(
+                        "Unable to use native transport - Epoll is not available", Epoll.unavailabilityCause());
+            }
+            return false;
+        } else if (KQUEUE.equalsIgnoreCase(nativeTransportType)) {
+            if (!KQueue.isAvailable()) {
+                throw new IllegalStateException(
+                        "Unable to use native transport - KQueue is not available", KQueue.unavailabilityCause());
+            }
+            return true;
+        }
+        throw new IllegalArgumentException("Unknown native transport type: " + nativeTransportType);
+    }
+
+    /**
+     * The TCP server socket channel to use with the given event loop group
+     */
+    public static Class<? extends ServerChannel> serverSocketChannelClass(EventLoopGroup group) {
+        if (group instanceof EpollEventLoopGroup) {
+            return EpollServerSocketChannel.class;
+        } else if (group instanceof KQueueEventLoopGroup) {
+            return KQueueServerSocketChannel.class;
+        }
+        return NioServerSocketChannel.class;
+    }
+
+    /**
+     * The TCP client socket channel to use with the given event loop group
+     */
+    public static Class<? extends Channel> socketChannelClass(EventLoopGroup group) {
+        if (group instanceof EpollEventLoopGroup) {
+            return EpollSocketChannel.class;
+        } else if (group instanceof KQueueEventLoopGroup) {
+            return KQueueSocketChannel.class;
+        }
+        return NioSocketChannel.class;
+    }
+
+    /**
+     * The UDP channel to use with the given event loop group
+     */
+    public static Class<? extends Channel> datagramChannelClass(EventLoopGroup group) {
+        if (group instanceof EpollEventLoopGroup) {
+            return EpollDatagramChannel.class;
+        } else if (group instanceof KQueueEventLoopGroup) {
+            return KQueueDatagramChannel.class;
+        }
+        return NioDatagramChannel.class;
+    }
+
+    /**
+     * The unix domain server socket channel to use with the given event loop group (requires native transport)
+     */
+    public static Class<? extends ServerChannel> serverDomainSocketChannelClass(EventLoopGroup group) {
+        if (group instanceof EpollEventLoopGroup) {
+            return EpollServerDomainSocketChannel.class;
+        } else if (group instanceof KQueueEventLoopGroup) {
+            return KQueueServerDomainSocketChannel.class;
+        } else if (KQueue.isAvailable()) {
+            return KQueueServerDomainSocketChannel.class;
+        } else if (Epoll.isAvailable()) {
+            return EpollServerDomainSocketChannel.class;
+        }
+        throw new IllegalStateException("Unable to use unix domain sockets - both Epoll and KQueue are not available");
+    }
+
+    /**
+     * The unix domain client socket channel to use with the given event loop group (requires native transport)
+     */
+    public static Class<? extends Channel> domainSocketChannelClass(EventLoopGroup group) {
+        if (group instanceof EpollEventLoopGroup) {
+            return EpollDomainSocketChannel.class;
+        } else if (group instanceof KQueueEventLoopGroup) {
+            return KQueueDomainSocketChannel.class;
+        } else if (KQueue.isAvailable()) {
+            return KQueueDomainSocketChannel.class;
+        } else if (Epoll.isAvailable()) {
+            return EpollDomainSocketChannel.class;
+        }
+        throw new IllegalStateException("Unable to use unix domain sockets - both Epoll and KQueue are not available");
+    }
+}
@@ -17,11 +17,6 @@
 package org.apache.camel.component.netty;
 
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.kqueue.KQueue;
-import io.netty.channel.kqueue.KQueueEventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 
 /**
@@ -34,6 +29,7 @@ public final class NettyWorkerPoolBuilder {
     private String pattern;
     private int workerCount;
     private boolean nativeTransport;
+    private String nativeTransportType;
     private volatile EventLoopGroup workerPool;
 
     public void setName(String name) {
@@ -52,6 +48,10 @@ public final class NettyWorkerPoolBuilder {
         this.nativeTransport = nativeTransport;
     }
 
+    public void setNativeTransportType(String nativeTransportType) {
+        this.nativeTransportType = nativeTransportType;
+    }
+
     public NettyWorkerPoolBuilder withName(String name) {
         setName(name);
         return this;
@@ -72,22 +72,17 @@ public final class NettyWorkerPoolBuilder {
         return this;
     }
 
+    public NettyWorkerPoolBuilder withNativeTransportType(String nativeTransportType) {
+        setNativeTransportType(nativeTransportType);
+        return this;
+    }
+
     /**
      * Creates a new worker pool.
      */
     public EventLoopGroup build() {
-        if (nativeTransport) {
-            if (KQueue.isAvailable()) {
-                workerPool = new KQueueEventLoopGroup(workerCount, new CamelThreadFactory(pattern, name, false));
-            } else if (Epoll.isAvailable()) {
-                workerPool = new EpollEventLoopGroup(workerCount, new CamelThreadFactory(pattern, name, false));
-            } else {
-                throw new IllegalStateException(
-                        "Unable to use native transport - both Epoll and KQueue are not available");
-            }
-        } else {
-            workerPool = new NioEventLoopGroup(workerCount, new CamelThreadFactory(pattern, name, false));
-        }
+        workerPool = NettyTransportHelper.createEventLoopGroup(nativeTransport, nativeTransportType, workerCount,
+                new CamelThreadFactory(pattern, name, false));
         return workerPool;
     }
 
@@ -28,15 +28,8 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollServerDomainSocketChannel;
-import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.kqueue.KQueue;
-import io.netty.channel.kqueue.KQueueServerDomainSocketChannel;
-import io.netty.channel.kqueue.KQueueServerSocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 import org.apache.camel.CamelContext;
@@ -135,6 +128,7 @@ public class SingleTCPNettyServerBootstrapFactory extends ServiceSupport impleme
             // create new pool which we should shutdown when stopping as its not shared
             bossGroup = new NettyServerBossPoolBuilder()
                     .withNativeTransport(configuration.isNativeTransport())
+                    .withNativeTransportType(configuration.getNativeTransportType())
                     .withBossCount(configuration.getBossCount())
                     .withName("NettyServerTCPBoss")
                     .build();
@@ -144,6 +138,7 @@ public class SingleTCPNettyServerBootstrapFactory extends ServiceSupport impleme
             // create new pool which we should shutdown when stopping as its not shared
             workerGroup = new NettyWorkerPoolBuilder()
                     .withNativeTransport(configuration.isNativeTransport())
+                    .withNativeTransportType(configuration.getNativeTransportType())
                     .withWorkerCount(configuration.getWorkerCount())
                     .withName("NettyServerTCPWorker")
                     .build();
@@ -151,28 +146,11 @@ public class SingleTCPNettyServerBootstrapFactory extends ServiceSupport impleme
         }
 
         serverBootstrap = new ServerBootstrap();
+        // the channel must match the transport of the worker group
         if (configuration.getUnixDomainSocketPath() != null) {
-            if (KQueue.isAvailable()) {
-                serverBootstrap.group(bg, wg).channel(KQueueServerDomainSocketChannel.class);
-            } else if (Epoll.isAvailable()) {
-                serverBootstrap.group(bg, wg).channel(EpollServerDomainSocketChannel.class);
-            } else {
-                throw new IllegalStateException(
-                        "Unable to use unix domain sockets - both Epoll and KQueue are not available");
-            }
+            serverBootstrap.group(bg, wg).channel(NettyTransportHelper.serverDomainSocketChannelClass(wg));
         } else {
-            if (configuration.isNativeTransport()) {
-                if (KQueue.isAvailable()) {
-                    serverBootstrap.group(bg, wg).channel(KQueueServerSocketChannel.class);
-                } else if (Epoll.isAvailable()) {
-                    serverBootstrap.group(bg, wg).channel(EpollServerSocketChannel.class);
-                } else {
-                    throw new IllegalStateException(
-                            "Unable to use native transport - both Epoll and KQueue are not available");
-                }
-            } else {
-                serverBootstrap.group(bg, wg).channel(NioServerSocketChannel.class);
-            }
+            serverBootstrap.group(bg, wg).channel(NettyTransportHelper.serverSocketChannelClass(wg));
         }
         if (configuration.getUnixDomainSocketPath() == null) {
             serverBootstrap.childOption(ChannelOption.SO_KEEPALIVE, configuration.isKeepAlive());
@@ -28,11 +28,9 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.FixedRecvByteBufAllocator;
-import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.DatagramChannel;
-import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.component.netty.util.SubnetUtils;
@@ -123,6 +121,7 @@ public class SingleUDPNettyServerBootstrapFactory extends ServiceSupport impleme
             // create new pool which we should shutdown when stopping as its not shared
             workerGroup = new NettyWorkerPoolBuilder()
                     .withNativeTransport(configuration.isNativeTransport())
+                    .withNativeTransportType(configuration.getNativeTransportType())
                     .withWorkerCount(configuration.getWorkerCount())
                     .withName("NettyServerTCPWorker")
                     .build();
@@ -130,11 +129,8 @@ public class SingleUDPNettyServerBootstrapFactory extends ServiceSupport impleme
         }
 
         Bootstrap bootstrap = new Bootstrap();
-        if (configuration.isNativeTransport()) {
-            bootstrap.group(wg).channel(EpollDatagramChannel.class);
-        } else {
-            bootstrap.group(wg).channel(NioDatagramChannel.class);
-        }
+        // the channel must match the transport of the worker group
+        bootstrap.group(wg).channel(NettyTransportHelper.datagramChannelClass(wg));
         // We cannot set the child option here
         bootstrap.option(ChannelOption.SO_REUSEADDR, configuration.isReuseAddress());
         bootstrap.option(ChannelOption.SO_SNDBUF, configuration.getSendBufferSize());
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NettyChannelPoolTest {
+
+    private final MyChannelFactory factory = new MyChannelFactory();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ScheduledExecutorService evictionExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+        evictionExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testBlockWhenExhausted() throws Exception {
+        NettyChannelPool pool = new NettyChannelPool(factory, 1, 0, 100, 0, true, -1, 1);
+
+        ChannelFuture channel = pool.borrowObject();
+        Future<ChannelFuture> waiting = executor.submit(pool::borrowObject);
+        assertThrows(TimeoutException.class, () -> waiting.get(200, TimeUnit.MILLISECONDS));
+
+        pool.returnObject(channel);
+        assertSame(channel, waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(1, factory.created.get());
+        assertEquals(1, pool.getNumActive());
+    }
+
+    @Test
+    public void testNotBlockWhenExhausted() throws Exception {
+        NettyChannelPool pool = new NettyChannelPool(factory, 1, 0, 100, 0, false, -1, 1);
+
+        pool.borrowObject();
+        assertThrows(NoSuchElementException.class, pool::borrowObject);
+    }
+
+    @Test
+    public void testMaxWait() throws Exception {
+        NettyChannelPool pool = new NettyChannelPool(factory, 1, 0, 100, 0, true, 200, 1);
+
+        pool.borrowObject();
+        long start = System.currentTimeMillis();
+        assertThrows(NoSuchElementException.class, pool::borrowObject);
+        long delta = System.currentTimeMillis() - start;
+        assertTrue(delta >= 200, "Should wait at least maxWait, was: " + delta);
+    }
+
+    @Test
+    public void testMaxIdle() throws Exception {
+        NettyChannelPool pool = new NettyChannelPool(factory, -1, 0, 1, 0, true, -1, 1);
+
+        ChannelFuture c1 = pool.borrowObject();
+        ChannelFuture c2 = pool.borrowObject();
+        ChannelFuture c3 = pool.borrowObject();
+        assertEquals(3, pool.getNumActive());
+
+        pool.returnObject(c1);
+        pool.returnObject(c2);
+        pool.returnObject(c3);
+        assertEquals(1, pool.getNumIdle());
+        assertEquals(0, pool.getNumActive());
+        assertEquals(2, factory.destroyed.get());
+
+        // the idle channel is reused
+        assertSame(c1, pool.borrowObject());
+    }
+
+    @Test
+    public void testEvictIdle() throws Exception {
+        NettyChannelPool pool
+                = new NettyChannelPool(factory, -1, 1, 100, 100, true, -1, 1, evictionExecutor, 50);
+
+        ChannelFuture c1 = pool.borrowObject();
+        ChannelFuture c2 = pool.borrowObject();
+        ChannelFuture c3 = pool.borrowObject();
+        pool.returnObject(c1);
+        pool.returnObject(c2);
+        pool.returnObject(c3);
+        assertEquals(3, pool.getNumIdle());
+
+        // the idle channels are evicted by the evictor, but minIdle is kept
+        await().atMost(5, TimeUnit.SECONDS).until(() -> factory.destroyed.get() == 2);
+        assertEquals(1, pool.getNumIdle());
+        assertEquals(0, pool.getNumActive());
+        // the most recently used channel is kept
+        assertSame(c3, pool.borrowObject());
+
+        pool.close();
+    }
+
+    @Test
+    public void testMinIdle() throws Exception {
+        NettyChannelPool pool
+                = new NettyChannelPool(factory, 3, 2, 100, 60000, true, -1, 1, evictionExecutor, 50);
+
+        // the evictor creates the idle channels
+        await().atMost(5, TimeUnit.SECONDS).until(() -> pool.getNumIdle() == 2);
+        assertEquals(2, factory.created.get());
+
+        pool.borrowObject();
+        pool.borrowObject();
+        // there is only room for one more channel
+        await().atMost(5, TimeUnit.SECONDS).until(() -> pool.getNumIdle() == 1);
+        assertEquals(3, factory.created.get());
+        assertEquals(2, pool.getNumActive());
+
+        pool.close();
+        assertEquals(1, factory.destroyed.get());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        NettyChannelPool pool = new NettyChannelPool(factory, 1, 0, 100, 0, true, -1, 1);
+
+        ChannelFuture c1 = pool.borrowObject();
+        pool.invalidateObject(c1);
+        assertEquals(1, factory.destroyed.get());
+        assertEquals(0, pool.getNumActive());
+
+        ChannelFuture c2 = pool.borrowObject();
+        assertNotSame(c1, c2);
+        pool.returnObject(c2);
+
+        // a channel which is no longer valid is not borrowed again
+        c2.channel().close();
+        ChannelFuture c3 = pool.borrowObject();
+        assertNotSame(c2, c3);
+        assertEquals(2, factory.destroyed.get());
+        assertEquals(3, factory.created.get());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        NettyChannelPool pool = new NettyChannelPool(factory, 1, 0, 100, 0, true, -1, 1);
+
+        ChannelFuture c1 = pool.borrowObject();
+        Future<ChannelFuture> waiting = executor.submit(pool::borrowObject);
+        assertThrows(TimeoutException.class, () -> waiting.get(200, TimeUnit.MILLISECONDS));
+
+        pool.close();
+        // the waiting caller is woken up
+        Exception e = assertThrows(Exception.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException, "Should be IllegalStateException, was: " + e.getCause());
+        assertThrows(IllegalStateException.class, pool::borrowObject);
+
+        // the borrowed channel is destroyed when returned
+        assertEquals(0, factory.destroyed.get());
+        pool.returnObject(c1);
+        assertEquals(1, factory.destroyed.get());
+    }
+
+    @Test
+    public void testPipelining() throws Exception {
+        NettyChannelPool pool = new NettyChannelPool(factory, 2, 0, 100, 0, false, -1, 3);
+
+        Set<ChannelFuture> channels = new HashSet<>();
+        ChannelFuture first = null;
+        for (int i = 0; i < 6; i++) {
+            ChannelFuture channel = pool.borrowObject();
+            if (first == null) {
+                first = channel;
+            }
+            channels.add(channel);
+        }
+        // each channel is shared by 3 exchanges
+        assertEquals(2, channels.size());
+        assertEquals(2, factory.created.get());
+        assertEquals(2, pool.getNumActive());
+        assertThrows(NoSuchElementException.class, pool::borrowObject);
+
+        // the channel is available again when one of its exchanges is done
+        pool.returnObject(first);
+        assertSame(first, pool.borrowObject());
+
+        // the channel is idle when all its exchanges are done
+        pool.returnObject(first);
+        pool.returnObject(first);
+        pool.returnObject(first);
+        assertEquals(1, pool.getNumIdle());
+        assertEquals(1, pool.getNumActive());
+        assertEquals(0, factory.destroyed.get());
+    }
+
+    private static final class MyChannelFactory implements PooledObjectFactory<ChannelFuture> {
+
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public PooledObject<ChannelFuture> makeObject() {
+            created.incrementAndGet();
+            return new DefaultPooledObject<>(new EmbeddedChannel().newSucceededFuture());
+        }
+
+        @Override
+        public void destroyObject(PooledObject<ChannelFuture> p) {
+            destroyed.incrementAndGet();
+            p.getObject().channel().close();
+        }
+
+        @Override
+        public boolean validateObject(PooledObject<ChannelFuture> p) {
+            return p.getObject().channel().isActive();
+        }
+
+        @Override
+        public void activateObject(PooledObject<ChannelFuture> p) {
+            // noop
+        }
+
+        @Override
+        public void passivateObject(PooledObject<ChannelFuture> p) {
+            // noop
+        }
+    }
+}
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.component.netty;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.camel.support.DefaultExchange;
@@ -66,4 +69,17 @@ public class NettyConverterTest extends CamelTestSupport {
         assertEquals(PAYLOAD, result);
     }
 
+    @Test
+    public void testConversionToNioByteBuffer() {
+        ByteBuffer result = context.getTypeConverter().convertTo(ByteBuffer.class, buf);
+        assertNotNull(result);
+        assertEquals(PAYLOAD, StandardCharsets.UTF_8.decode(result).toString());
+        // the reader index of the netty buffer is left untouched
+        assertEquals(PAYLOAD.length(), buf.readableBytes());
+
+        // the result is a copy, so it is not affected when the pooled buffer is reused
+        buf.setByte(buf.readerIndex(), 'X');
+        assertEquals(PAYLOAD, StandardCharsets.UTF_8.decode(result.rewind()).toString());
+    }
+
 }
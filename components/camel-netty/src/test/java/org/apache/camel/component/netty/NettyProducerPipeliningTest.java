@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.netty.channel.Channel;
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NettyProducerPipeliningTest extends BaseNettyTest {
+
+    @BindToRegistry("myManager")
+    private final MyCorrelationManager myManager = new MyCorrelationManager();
+
+    @Test
+    public void testPipelining() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+        // check that the request and reply are correlated correctly
+        mock.allMessages().predicate(exchange -> {
+            String request = exchange.getMessage().getHeader("request", String.class);
+            String reply = exchange.getMessage().getBody(String.class);
+            return reply.equals(request + ":Bye");
+        });
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBodyAndHeader("seda:start", i + ":Hello", "request", "" + i);
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        // the requests should share the pooled channels
+        assertTrue(myManager.channels.size() <= 2, "Should use at most 2 channels, was: " + myManager.channels.size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("seda:start?concurrentConsumers=20")
+                        .to("netty:tcp://localhost:{{port}}?textline=true&sync=true&producerPoolMaxTotal=2"
+                            + "&producerPoolMaxPipelined=50&correlationManager=#myManager")
+                        .to("mock:result");
+
+                from("netty:tcp://localhost:{{port}}?textline=true&sync=true")
+                        .transform(body().regexReplaceAll(":Hello", ":Bye"));
+            }
+        };
+    }
+
+    private static final class MyCorrelationManager extends TimeoutCorrelationManagerSupport {
+
+        private final Set<Channel> channels = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void putState(Channel channel, NettyCamelState state) {
+            channels.add(channel);
+            super.putState(channel, state);
+        }
+
+        @Override
+        public String getRequestCorrelationId(Object request) {
+            return request.toString().substring(0, request.toString().indexOf(':'));
+        }
+
+        @Override
+        public String getResponseCorrelationId(Object response) {
+            return getRequestCorrelationId(response);
+        }
+    }
+}
@@ -77,16 +77,8 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
 
         List<?> list = (List<?>) graph;
 
-        Schema schema = null;
-        GenericData model = null;
-        if (unmarshalType != null) {
-            try {
-                schema = ReflectData.AllowNull.get().getSchema(unmarshalType); // generate nullable fields
-                model = ReflectData.get();
-            } catch (AvroRuntimeException e) {
-                LOG.warn("Fallback to use GenericRecord instead of POJO for marshalling", e);
-            }
-        }
+        Schema schema = reflectSchema(unmarshalType);
+        GenericData model = ReflectData.get();
         if (schema == null) {
             schema = GenericContainer.class.cast(list.get(0)).getSchema();
             model = GenericData.get();
@@ -105,6 +97,23 @@ public class ParquetAvroDataFormat extends ServiceSupport implements DataFormat,
         }
     }
 
+    /**
+     * Generates the schema, with nullable fields, of the given POJO type.
+     *
+     * @return the schema, or <tt>null</tt> if no type is given or the schema cannot be generated, in which case the
+     *         records must be a {@link GenericContainer}
+     */
+    static Schema reflectSchema(Class<?> type) {
+        if (type != null) {
+            try {
+                return ReflectData.AllowNull.get().getSchema(type);
+            } catch (AvroRuntimeException e) {
+                LOG.warn("Fallback to use GenericRecord instead of POJO for marshalling", e);
+            }
+        }
+        return null;
+    }
+
     @Override
     public Object unmarshal(Exchange exchange, InputStream stream) throws Exception {
         // unmarshal from the input stream of parquet-avro to Java object or GenericRecord (graph)
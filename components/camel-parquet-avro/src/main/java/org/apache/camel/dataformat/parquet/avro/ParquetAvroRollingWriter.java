@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.parquet.hadoop.ParquetFileWriter.Mode.OVERWRITE;
+import static org.apache.parquet.hadoop.metadata.CompressionCodecName.GZIP;
+
+/**
+ * A processor which appends the records in the message body to Parquet files in a directory, so a large number of
+ * records, such as from a streaming splitter, can be written in bounded memory.
+ * <p/>
+ * The message body can be a single record, or a collection or iterator of records. A record is a POJO of the configured
+ * record type, or a {@link GenericContainer} such as a {@link org.apache.avro.generic.GenericRecord}.
+ * <p/>
+ * The records are buffered in memory until the row group size is reached, and then the row group is flushed to the
+ * file. A new file is started when the current file has reached the maximum size or number of records, or is older than
+ * the rollover interval. A file has the <tt>.inprogress</tt> suffix until it is complete. The current file is completed
+ * when this processor is stopped.
+ * <p/>
+ * Each record is validated against the schema of the current file before it is written, so a record which does not
+ * match the schema only fails its own exchange (the records of the exchange before it are written). If a valid record
+ * cannot be written (such as an I/O error), then the current file may be corrupt, so it is deleted together with the
+ * records which were already written to it, and the exception is thrown. The next record is written to a new file.
+ * <p/>
+ * The <tt>.inprogress</tt> files with the file name prefix, which are left in the directory when the JVM crashed, can
+ * not be read, and are deleted on startup. Therefore, two writers must not use the same directory and file name prefix.
+ */
+public class ParquetAvroRollingWriter extends ServiceSupport implements Processor, CamelContextAware {
+
+    public static final String IN_PROGRESS_SUFFIX = ".inprogress";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParquetAvroRollingWriter.class);
+
+    private CamelContext camelContext;
+    private String directory;
+    private String fileNamePrefix = "part";
+    private CompressionCodecName compressionCodecName = GZIP;
+    private Class<?> recordType;
+    private long rowGroupSize = 8 * 1024 * 1024;
+    private long maxFileSize = 512 * 1024 * 1024;
+    private long maxRecordsPerFile;
+    private long rolloverInterval;
+
+    private final Lock lock = new ReentrantLock();
+    private ScheduledExecutorService scheduler;
+    private ParquetWriter<Object> writer;
+    private Schema schema;
+    private GenericData model;
+    private OutputStream currentStream;
+    private Path currentFile;
+    private long records;
+    private long openedAt;
+    private int sequence;
+
+    public ParquetAvroRollingWriter() {
+    }
+
+    public ParquetAvroRollingWriter(String directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        Object body = exchange.getMessage().getBody();
+        Iterator<?> it;
+        if (body instanceof Iterable<?> iterable) {
+            it = iterable.iterator();
+        } else if (body instanceof Iterator<?> iterator) {
+            it = iterator;
+        } else {
+            it = Collections.singletonList(body).iterator();
+        }
+
+        lock.lock();
+        try {
+            while (it.hasNext()) {
+                Object record = it.next();
+                if (record != null) {
+                    write(record);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes the current file, so the next record is written to a new file.
+     */
+    public void rollover() throws IOException {
+        lock.lock();
+        try {
+            completeFile();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(Object record) throws IOException {
+        if (writer == null) {
+            openFile(record);
+        }
+        if (!model.validate(schema, record)) {
+            throw new IllegalArgumentException(
+                    "Cannot write record of type " + record.getClass().getName() + " as it does not match the schema: "
+                                               + schema.getFullName() + " of file: " + currentFile);
+        }
+        try {
+            writer.write(record);
+        } catch (IOException | RuntimeException e) {
+            abortFile();
+            throw e;
+        }
+        records++;
+        if (maxRecordsPerFile > 0 && records >= maxRecordsPerFile || writer.getDataSize() >= maxFileSize
+                || isExpired()) {
+            completeFile();
+        }
+    }
+
+    private boolean isExpired() {
+        return rolloverInterval > 0 && System.currentTimeMillis() - openedAt >= rolloverInterval;
+    }
+
+    private void openFile(Object record) throws IOException {
+        Schema schema = ParquetAvroDataFormat.reflectSchema(recordType);
+        GenericData model = ReflectData.get();
+        if (schema == null) {
+            if (!(record instanceof GenericContainer)) {
+                throw new IllegalArgumentException(
+                        "Cannot write record of type " + record.getClass().getName()
+                                                   + " as no recordType is configured. Set the recordType option to the"
+                                                   + " POJO class of the records, or use Avro generic records.");
+            }
+            schema = ((GenericContainer) record).getSchema();
+            model = GenericData.get();
+        }
+
+        String name = fileNamePrefix + "-" + System.currentTimeMillis() + "-" + sequence++ + ".parquet";
+        currentFile = Paths.get(directory, name + IN_PROGRESS_SUFFIX);
+        LOG.debug("Writing records to file: {}", currentFile);
+
+        OutputStream out = Files.newOutputStream(currentFile);
+        try {
+            writer = AvroParquetWriter.builder(new ParquetOutputStream(name, new BufferedOutputStream(out)))
+                    .withSchema(schema)
+                    .withDataModel(model)
+                    .withConf(new Configuration())
+                    .withCompressionCodec(compressionCodecName)
+                    .withRowGroupSize(rowGroupSize)
+                    .withWriteMode(OVERWRITE)
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            Files.deleteIfExists(currentFile);
+            currentFile = null;
+            throw e;
+        }
+        currentStream = out;
+        this.schema = schema;
+        this.model = model;
+        records = 0;
+        openedAt = System.currentTimeMillis();
+    }
+
+    private void abortFile() {
+        Path file = currentFile;
+        LOG.warn("Error writing to file: {}. The file is deleted, and the {} records written to it are lost.", file,
+                records);
+        // the writer is not closed, as it would try to flush a row group which may be incomplete
+        IOHelper.close(currentStream);
+        writer = null;
+        currentStream = null;
+        currentFile = null;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Error deleting file: {}. This exception is ignored.", file, e);
+        }
+    }
+
+    private void completeFile() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        Path file = currentFile;
+        try {
+            writer.close();
+        } catch (IOException | RuntimeException e) {
+            abortFile();
+            throw e;
+        }
+        writer = null;
+        currentStream = null;
+        currentFile = null;
+        String name = file.getFileName().toString();
+        Path target = file.resolveSibling(name.substring(0, name.length() - IN_PROGRESS_SUFFIX.length()));
+        try {
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(file, target);
+        }
+        LOG.debug("Completed file: {} with {} records", target, records);
+    }
+
+    private void rolloverIfExpired() {
+        if (lock.tryLock()) {
+            try {
+                if (writer != null && isExpired()) {
+                    completeFile();
+                }
+            } catch (Exception e) {
+                LOG.warn("Error completing file: {}. This exception is ignored.", currentFile, e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Deletes the files which were in progress when the JVM crashed, as they are incomplete (have no footer).
+     */
+    private void deleteInProgressFiles() throws IOException {
+        try (DirectoryStream<Path> files
+                = Files.newDirectoryStream(Paths.get(directory), fileNamePrefix + "-*" + IN_PROGRESS_SUFFIX)) {
+            for (Path file : files) {
+                LOG.warn("Deleting incomplete file: {} which was in progress when the writer was not stopped", file);
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory", this);
+        Files.createDirectories(Paths.get(directory));
+        deleteInProgressFiles();
+        if (rolloverInterval > 0) {
+            ObjectHelper.notNull(camelContext, "camelContext", this);
+            // complete the files which are not written to anymore
+            scheduler = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                    "ParquetAvroRollingWriter");
+            long period = Math.max(rolloverInterval / 2, 1);
+            scheduler.scheduleWithFixedDelay(this::rolloverIfExpired, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (scheduler != null) {
+            camelContext.getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        rollover();
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory to write the files to.
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public String getFileNamePrefix() {
+        return fileNamePrefix;
+    }
+
+    /**
+     * The prefix of the file names, which are followed by a timestamp and a sequence number.
+     */
+    public void setFileNamePrefix(String fileNamePrefix) {
+        this.fileNamePrefix = fileNamePrefix;
+    }
+
+    public String getCompressionCodecName() {
+        return compressionCodecName.name();
+    }
+
+    /**
+     * Compression codec to use. You can find the supported codecs at
+     * https://github.com/apache/parquet-format/blob/master/Compression.md#codecs.
+     */
+    public void setCompressionCodecName(String compressionCodecName) {
+        this.compressionCodecName = CompressionCodecName.valueOf(compressionCodecName);
+    }
+
+    public Class<?> getRecordType() {
+        return recordType;
+    }
+
+    /**
+     * The POJO class of the records. If not set, the records must be Avro generic records.
+     */
+    public void setRecordType(Class<?> recordType) {
+        this.recordType = recordType;
+    }
+
+    public long getRowGroupSize() {
+        return rowGroupSize;
+    }
+
+    /**
+     * The size in bytes of the row groups, which are buffered in memory before they are flushed to the file.
+     */
+    public void setRowGroupSize(long rowGroupSize) {
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    /**
+     * The size in bytes after which a new file is started.
+     */
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public long getMaxRecordsPerFile() {
+        return maxRecordsPerFile;
+    }
+
+    /**
+     * The number of records after which a new file is started. Zero means no limit.
+     */
+    public void setMaxRecordsPerFile(long maxRecordsPerFile) {
+        this.maxRecordsPerFile = maxRecordsPerFile;
+    }
+
+    public long getRolloverInterval() {
+        return rolloverInterval;
+    }
+
+    /**
+     * The time in millis after which a new file is started, also when no more records are written. Zero means no limit.
+     */
+    public void setRolloverInterval(long rolloverInterval) {
+        this.rolloverInterval = rolloverInterval;
+    }
+}
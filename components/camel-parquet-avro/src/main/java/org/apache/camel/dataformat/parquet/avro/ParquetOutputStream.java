@@ -27,7 +27,7 @@ public class ParquetOutputStream implements OutputFile {
     private final String streamId;
     private final BufferedOutputStream out;
 
-    private int pos;
+    private long pos;
 
     public ParquetOutputStream(String streamId, BufferedOutputStream out) {
         this.pos = 0;
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.parquet.avro;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParquetAvroRollingWriterTest extends CamelTestSupport {
+
+    @TempDir
+    Path testDirectory;
+
+    private ParquetAvroRollingWriter writer;
+
+    @Test
+    public void testRolloverByRecords() throws Exception {
+        List<Pojo> in = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            in.add(new Pojo(i, "name" + i));
+        }
+
+        template.sendBody("direct:start", in);
+        writer.rollover();
+
+        File[] files = testDirectory.toFile().listFiles();
+        Arrays.sort(files);
+        assertEquals(3, files.length);
+
+        ParquetAvroDataFormat format = new ParquetAvroDataFormat();
+        format.setUnmarshalType(Pojo.class);
+        List<Object> out = new ArrayList<>();
+        for (File file : files) {
+            assertTrue(file.getName().endsWith(".parquet"), file.getName());
+            try (InputStream is = Files.newInputStream(file.toPath())) {
+                out.addAll((List<?>) format.unmarshal(new DefaultExchange(context), is));
+            }
+        }
+        assertEquals(in, out);
+    }
+
+    @Test
+    public void testRolloverByInterval() throws Exception {
+        writer.stop();
+        writer.setRolloverInterval(100);
+        writer.start();
+
+        template.sendBody("direct:start", List.of(new Pojo(1, "airport"), new Pojo(2, "penguin")));
+
+        // the file is completed in the background after the interval
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(1, completedFiles().length));
+    }
+
+    @Test
+    public void testNoRecordType() throws Exception {
+        ParquetAvroRollingWriter pojoWriter = new ParquetAvroRollingWriter(testDirectory.toString());
+        pojoWriter.start();
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new Pojo(1, "airport"));
+        Exception e = assertThrows(IllegalArgumentException.class, () -> pojoWriter.process(exchange));
+        assertTrue(e.getMessage().contains("no recordType is configured"), e.getMessage());
+        assertEquals(0, testDirectory.toFile().listFiles().length);
+
+        pojoWriter.stop();
+    }
+
+    @Test
+    public void testInvalidRecord() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new Pojo(1, "airport"));
+        writer.process(exchange);
+
+        // the record is not a pojo, so only this record fails and the file is kept
+        exchange.getIn().setBody(new StringBuilder("airport"));
+        Exception e = assertThrows(IllegalArgumentException.class, () -> writer.process(exchange));
+        assertTrue(e.getMessage().contains("does not match the schema"), e.getMessage());
+        assertEquals(1, testDirectory.toFile().listFiles().length);
+
+        exchange.getIn().setBody(new Pojo(3, "penguin"));
+        writer.process(exchange);
+        writer.rollover();
+
+        File[] files = completedFiles();
+        assertEquals(1, files.length);
+        ParquetAvroDataFormat format = new ParquetAvroDataFormat();
+        format.setUnmarshalType(Pojo.class);
+        try (InputStream is = Files.newInputStream(files[0].toPath())) {
+            assertEquals(List.of(new Pojo(1, "airport"), new Pojo(3, "penguin")),
+                    format.unmarshal(new DefaultExchange(context), is));
+        }
+    }
+
+    @Test
+    public void testInProgressFilesDeletedOnStart() throws Exception {
+        writer.stop();
+        // left by a crash, and by another writer
+        Path crashed = Files.createFile(testDirectory.resolve("part-1-0.parquet.inprogress"));
+        Path other = Files.createFile(testDirectory.resolve("other-1-0.parquet.inprogress"));
+        writer.start();
+
+        assertFalse(Files.exists(crashed));
+        assertTrue(Files.exists(other));
+    }
+
+    private File[] completedFiles() {
+        return testDirectory.toFile().listFiles((dir, name) -> name.endsWith(".parquet"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                writer = new ParquetAvroRollingWriter(testDirectory.toString());
+                writer.setRecordType(Pojo.class);
+                writer.setMaxRecordsPerFile(1000);
+                writer.setRowGroupSize(64 * 1024);
+
+                from("direct:start").split(body()).streaming().process(writer);
+            }
+        };
+    }
+}
@@ -14,25 +14,26 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.apache.camel.component.kafka.producer.support;
+package org.apache.camel.dataformat.protobuf;
 
-import org.apache.kafka.clients.producer.Callback;
-import org.apache.kafka.clients.producer.RecordMetadata;
+import java.nio.ByteBuffer;
 
-public final class DelegatingCallback implements Callback {
+import io.netty.buffer.ByteBuf;
 
-    private final Callback callback1;
-    private final Callback callback2;
+/**
+ * Access to Netty {@link ByteBuf} bodies, kept in its own class so {@link ProtobufDataFormat} can be loaded when Netty
+ * is not on the classpath.
+ */
+final class ProtobufByteBufHelper {
 
-    public DelegatingCallback(Callback callback1, Callback callback2) {
-        this.callback1 = callback1;
-        this.callback2 = callback2;
+    private ProtobufByteBufHelper() {
     }
 
-    @Override
-    public void onCompletion(RecordMetadata metadata, Exception exception) {
-        callback1.onCompletion(metadata, exception);
-        callback2.onCompletion(metadata, exception);
-
+    /**
+     * Returns a view of the readable bytes of the buffer, without changing its reader index. The view shares the memory
+     * of the buffer, so it must only be used while the buffer has not been released.
+     */
+    static ByteBuffer nioBuffer(Object buffer) {
+        return ((ByteBuf) buffer).nioBuffer();
     }
 }
@@ -19,10 +19,15 @@ package org.apache.camel.dataformat.protobuf;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Message;
 import com.google.protobuf.Message.Builder;
 import com.google.protobuf.util.JsonFormat;
@@ -32,6 +37,7 @@ import org.apache.camel.CamelException;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatContentTypeHeader;
 import org.apache.camel.spi.DataFormatName;
@@ -40,7 +46,6 @@ import org.apache.camel.spi.annotations.Dataformat;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
-import org.apache.commons.io.IOUtils;
 
 @Dataformat("protobuf")
 @Metadata(excludeProperties = "library,objectMapper,useDefaultObjectMapper,jsonViewTypeName,jsonView,include,allowJmsType," +
@@ -56,11 +61,19 @@ public class ProtobufDataFormat extends ServiceSupport
     private static final String CONTENT_TYPE_HEADER_NATIVE = "application/octet-stream";
     private static final String CONTENT_TYPE_HEADER_JSON = "application/json";
 
+    // upper bound for the write buffer, messages bigger than this are written in chunks of this size
+    private static final int MAX_OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    // printer and parser are immutable and thread-safe so they can be shared
+    private static final JsonFormat.Printer JSON_PRINTER = JsonFormat.printer();
+    private static final JsonFormat.Parser JSON_PARSER = JsonFormat.parser().ignoringUnknownFields();
+
     private CamelContext camelContext;
     private Message defaultInstance;
     private String instanceClassName;
     private boolean contentTypeHeader = true;
     private String contentTypeFormat = CONTENT_TYPE_FORMAT_NATIVE;
+    private Class<?> byteBufClass;
 
     public ProtobufDataFormat() {
     }
@@ -136,10 +149,17 @@ public class ProtobufDataFormat extends ServiceSupport
 
         String contentTypeHeader = CONTENT_TYPE_HEADER_NATIVE;
         if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON)) {
-            IOUtils.write(JsonFormat.printer().print(inputMessage), outputStream, StandardCharsets.UTF_8);
+            // print straight to the stream instead of building the JSON as a String first
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            JSON_PRINTER.appendTo(inputMessage, writer);
+            writer.flush();
             contentTypeHeader = CONTENT_TYPE_HEADER_JSON;
         } else if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_NATIVE)) {
-            inputMessage.writeTo(outputStream);
+            // size the buffer from the message so it is written to the stream in a single chunk
+            int size = Math.min(inputMessage.getSerializedSize(), MAX_OUTPUT_BUFFER_SIZE);
+            CodedOutputStream cos = CodedOutputStream.newInstance(outputStream, size);
+            inputMessage.writeTo(cos);
+            cos.flush();
         } else {
             throw new CamelException("Invalid protobuf content type format: " + contentTypeFormat);
         }
@@ -162,6 +182,61 @@ public class ProtobufDataFormat extends ServiceSupport
         return exchange.getContext().getTypeConverter().mandatoryConvertTo(Message.class, exchange, inputData);
     }
 
+    /*
+     * Parses byte[], ByteBuffer and String bodies in place, instead of converting
+     * them to an InputStream first. A Netty ByteBuf body is parsed from a view of
+     * its readable bytes, which is only safe because the body is still owned by the
+     * exchange while unmarshal runs, and the message does not keep references to
+     * the buffer. Other bodies that can be converted to a ByteBuffer are converted
+     * and parsed the same way.
+     */
+    @Override
+    public Object unmarshal(final Exchange exchange, final Object body) throws Exception {
+        if (body instanceof InputStream) {
+            return unmarshal(exchange, (InputStream) body);
+        }
+        Object payload = body;
+        if (byteBufClass != null && byteBufClass.isInstance(payload)) {
+            payload = ProtobufByteBufHelper.nioBuffer(payload);
+        } else if (payload != null && !(payload instanceof byte[]) && !(payload instanceof ByteBuffer)
+                && !(payload instanceof String)) {
+            TypeConverter tc = exchange.getContext().getTypeConverterRegistry().lookup(ByteBuffer.class, payload.getClass());
+            if (tc != null) {
+                payload = tc.convertTo(ByteBuffer.class, exchange, payload);
+            }
+        }
+
+        boolean json = contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON);
+        if (payload instanceof byte[]) {
+            byte[] data = (byte[]) payload;
+            if (json) {
+                Builder builder = newBuilder();
+                JSON_PARSER.merge(new String(data, StandardCharsets.UTF_8), builder);
+                return build(exchange, builder);
+            }
+            return build(exchange, newBuilder().mergeFrom(data));
+        } else if (payload instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) payload;
+            if (json) {
+                Builder builder = newBuilder();
+                JSON_PARSER.merge(StandardCharsets.UTF_8.decode(buffer.duplicate()).toString(), builder);
+                return build(exchange, builder);
+            }
+            if (buffer.hasArray()) {
+                return build(exchange,
+                        newBuilder().mergeFrom(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining()));
+            }
+            // direct buffers are decoded without copying them to the heap
+            return build(exchange, newBuilder().mergeFrom(CodedInputStream.newInstance(buffer.duplicate())));
+        } else if (payload instanceof String && json) {
+            Builder builder = newBuilder();
+            JSON_PARSER.merge((String) payload, builder);
+            return build(exchange, builder);
+        }
+
+        return DataFormat.super.unmarshal(exchange, body);
+    }
+
     /*
      * (non-Javadoc)
      * @see org.apache.camel.spi.DataFormat#unmarshal(org.apache.camel.Exchange,
@@ -169,22 +244,30 @@ public class ProtobufDataFormat extends ServiceSupport
      */
     @Override
     public Object unmarshal(final Exchange exchange, final InputStream inputStream) throws Exception {
-        ObjectHelper.notNull(defaultInstance, "defaultInstance or instanceClassName must be set", this);
-        Builder builder = defaultInstance.newBuilderForType();
+        Builder builder = newBuilder();
 
         if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON)) {
-            JsonFormat.parser().ignoringUnknownFields().merge(new InputStreamReader(inputStream), builder);
-        } else if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_NATIVE)) {
-            builder = defaultInstance.newBuilderForType().mergeFrom(inputStream);
+            JSON_PARSER.merge(new InputStreamReader(inputStream, StandardCharsets.UTF_8), builder);
         } else {
+            builder.mergeFrom(inputStream);
+        }
+
+        return build(exchange, builder);
+    }
+
+    private Builder newBuilder() throws CamelException {
+        ObjectHelper.notNull(defaultInstance, "defaultInstance or instanceClassName must be set", this);
+        if (!contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON) && !contentTypeFormat.equals(CONTENT_TYPE_FORMAT_NATIVE)) {
             throw new CamelException("Invalid protobuf content type format: " + contentTypeFormat);
         }
+        return defaultInstance.newBuilderForType();
+    }
 
+    private Message build(final Exchange exchange, final Builder builder) throws InvalidPayloadException {
         if (!builder.isInitialized()) {
             // TODO which exception should be thrown here?
             throw new InvalidPayloadException(exchange, defaultInstance.getClass());
         }
-
         return builder.build();
     }
 
@@ -211,6 +294,16 @@ public class ProtobufDataFormat extends ServiceSupport
         if (defaultInstance == null && instanceClassName != null) {
             defaultInstance = loadDefaultInstance(instanceClassName, getCamelContext());
         }
+        byteBufClass = loadByteBufClass();
+    }
+
+    private static Class<?> loadByteBufClass() {
+        // netty is an optional dependency, it must be visible to this class loader as the helper links against it
+        try {
+            return Class.forName("io.netty.buffer.ByteBuf", false, ProtobufDataFormat.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
     }
 
     @Override
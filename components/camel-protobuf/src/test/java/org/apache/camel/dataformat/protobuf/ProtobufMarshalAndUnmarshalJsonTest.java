@@ -16,6 +16,10 @@
  */
 package org.apache.camel.dataformat.protobuf;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
 import org.apache.camel.dataformat.protobuf.generated.AddressBookProtos.Person;
@@ -40,6 +44,45 @@ public class ProtobufMarshalAndUnmarshalJsonTest extends CamelTestSupport {
         marshalAndUnmarshal("direct:marshal", "direct:unmarshalA");
     }
 
+    @Test
+    public void testUnmarshalByteBuffer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:reverse");
+        mock.expectedMessageCount(2);
+
+        template.sendBody("direct:in", ByteBuffer.wrap(PERSON_TEST_JSON.getBytes(StandardCharsets.UTF_8)));
+        template.sendBody("direct:in", PERSON_TEST_JSON.getBytes(StandardCharsets.UTF_8));
+
+        mock.assertIsSatisfied();
+
+        for (int i = 0; i < 2; i++) {
+            Person output = mock.getReceivedExchanges().get(i).getIn().getBody(Person.class);
+            assertEquals(PERSON_TEST_NAME, output.getName());
+            assertEquals(PERSON_TEST_ID, output.getId());
+        }
+    }
+
+    @Test
+    public void testUnmarshalUtf8() throws Exception {
+        // all body types are decoded as UTF-8, whatever the platform charset is
+        String json = "{\"name\": \"J\u00fcrgen \u00d8ster\u00e5s\",\"id\": 1234}";
+        byte[] data = json.getBytes(StandardCharsets.UTF_8);
+
+        MockEndpoint mock = getMockEndpoint("mock:reverse");
+        mock.expectedMessageCount(4);
+
+        template.sendBody("direct:in", data);
+        template.sendBody("direct:in", ByteBuffer.wrap(data));
+        template.sendBody("direct:in", new ByteArrayInputStream(data));
+        template.sendBody("direct:in", json);
+
+        mock.assertIsSatisfied();
+
+        for (int i = 0; i < 4; i++) {
+            Person output = mock.getReceivedExchanges().get(i).getIn().getBody(Person.class);
+            assertEquals("J\u00fcrgen \u00d8ster\u00e5s", output.getName());
+        }
+    }
+
     private void marshalAndUnmarshal(String inURI, String outURI) throws Exception {
         MockEndpoint mock = getMockEndpoint("mock:reverse");
         mock.expectedMessageCount(1);
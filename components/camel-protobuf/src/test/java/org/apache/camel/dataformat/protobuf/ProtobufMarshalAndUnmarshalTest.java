@@ -16,6 +16,10 @@
  */
 package org.apache.camel.dataformat.protobuf;
 
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import org.apache.camel.CamelException;
 import org.apache.camel.FailedToCreateRouteException;
 import org.apache.camel.builder.RouteBuilder;
@@ -61,6 +65,68 @@ public class ProtobufMarshalAndUnmarshalTest extends CamelTestSupport {
         }
     }
 
+    @Test
+    public void testUnmarshalByteArrayAndByteBuffer() throws Exception {
+        Person input = Person.newBuilder().setName("Martin").setId(1234).build();
+        byte[] data = input.toByteArray();
+
+        // heap buffer with an offset into the backing array
+        byte[] padded = new byte[data.length + 4];
+        System.arraycopy(data, 0, padded, 2, data.length);
+        ByteBuffer heap = ByteBuffer.wrap(padded, 2, data.length);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+
+        MockEndpoint mock = getMockEndpoint("mock:reverse");
+        mock.expectedBodiesReceived(input, input, input);
+
+        template.sendBody("direct:back", data);
+        template.sendBody("direct:back", heap);
+        template.sendBody("direct:back", direct);
+
+        mock.assertIsSatisfied();
+        // the buffers are not consumed by unmarshal
+        assertEquals(data.length, heap.remaining());
+        assertEquals(data.length, direct.remaining());
+    }
+
+    @Test
+    public void testUnmarshalByteBuf() throws Exception {
+        Person input = Person.newBuilder().setName("Martin").setId(1234).build();
+        byte[] data = input.toByteArray();
+
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer(data.length + 2);
+        try {
+            buf.writeBytes(new byte[] { 1, 2 }).writeBytes(data).skipBytes(2);
+
+            MockEndpoint mock = getMockEndpoint("mock:reverse");
+            mock.expectedBodiesReceived(input);
+
+            template.sendBody("direct:back", buf);
+
+            mock.assertIsSatisfied();
+            // the buffer is neither consumed nor released by unmarshal
+            assertEquals(data.length, buf.readableBytes());
+            assertEquals(1, buf.refCnt());
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Test
+    public void testMarshalLargeMessage() throws Exception {
+        Person.Builder builder = Person.newBuilder().setName("Martin").setId(1234);
+        for (int i = 0; i < 10000; i++) {
+            builder.addPhone(Person.PhoneNumber.newBuilder().setNumber("+1-555-" + i).setType(Person.PhoneType.MOBILE));
+        }
+        Person input = builder.build();
+
+        byte[] marshalled = template.requestBody("direct:in", input, byte[].class);
+        assertEquals(input.getSerializedSize(), marshalled.length);
+        assertEquals(input, Person.parseFrom(marshalled));
+    }
+
     private void marshalAndUnmarshal(String inURI, String outURI) throws Exception {
         AddressBookProtos.Person input = AddressBookProtos.Person.newBuilder().setName("Martin").setId(1234).build();
 
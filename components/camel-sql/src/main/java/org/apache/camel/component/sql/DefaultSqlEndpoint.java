@@ -49,6 +49,15 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private boolean transacted;
     @UriParam(label = "producer", description = "Enables or disables batch mode")
     private boolean batch;
+    @UriParam(label = "producer,advanced",
+              description = "If set greater than zero, then the producer collects the parameters from many concurrent exchanges, and executes them"
+                            + " together as a single JDBC batch when this number of exchanges has been collected, or when the microBatchTimeout has elapsed."
+                            + " Each exchange is then continued with its own update count. This can only be used for insert/update/delete queries,"
+                            + " and cannot be combined with the batch option or outputType=StreamList.")
+    private int microBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100",
+              description = "The maximum time in millis to wait for collecting exchanges into a batch, when microBatchSize is in use.")
+    private long microBatchTimeout = 100;
     @UriParam(label = "consumer", description = "Sets the maximum number of messages to poll")
     private int maxMessagesPerPoll;
     @UriParam(label = "consumer,advanced",
@@ -167,6 +176,31 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.batch = batch;
     }
 
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer collects the parameters from many concurrent exchanges, and executes
+     * them together as a single JDBC batch when this number of exchanges has been collected, or when the
+     * microBatchTimeout has elapsed. Each exchange is then continued with its own update count. This can only be used
+     * for insert/update/delete queries, and cannot be combined with the batch option or outputType=StreamList.
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public long getMicroBatchTimeout() {
+        return microBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for collecting exchanges into a batch, when microBatchSize is in use.
+     */
+    public void setMicroBatchTimeout(long microBatchTimeout) {
+        this.microBatchTimeout = microBatchTimeout;
+    }
+
     public int getMaxMessagesPerPoll() {
         return maxMessagesPerPoll;
     }
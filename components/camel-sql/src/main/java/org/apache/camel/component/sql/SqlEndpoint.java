@@ -73,6 +73,8 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
                 this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        result.setMicroBatchSize(getMicroBatchSize());
+        result.setMicroBatchTimeout(getMicroBatchTimeout());
         return result;
     }
 
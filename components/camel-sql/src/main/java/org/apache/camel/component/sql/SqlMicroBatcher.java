@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.ExecutorServiceManager;
+
+/**
+ * Collects exchanges from many concurrent callers of the {@link SqlProducer}, and executes them together as JDBC
+ * batches when either the batch size has been reached, or the timeout has elapsed.
+ * <p/>
+ * The exchanges are grouped by their prepared query, as only exchanges with the same query can be executed in the same
+ * JDBC batch.
+ * <p/>
+ * The batch is executed by the caller which filled the batch (or by the timer), and the other exchanges in the batch
+ * are continued on the thread pool of the batcher, so they are routed in parallel and not by the thread which executed
+ * the batch.
+ */
+final class SqlMicroBatcher {
+
+    /**
+     * An exchange waiting to be executed in a batch.
+     */
+    record Entry(Exchange exchange, AsyncCallback callback, String sql, String preparedQuery) {
+    }
+
+    private final SqlProducer producer;
+    private final int size;
+    private final long timeout;
+    private final Lock lock = new ReentrantLock();
+    private List<Entry> pending;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executorService;
+
+    SqlMicroBatcher(SqlProducer producer, int size, long timeout) {
+        this.producer = producer;
+        this.size = size;
+        this.timeout = timeout;
+        this.pending = new ArrayList<>(size);
+    }
+
+    void start() {
+        ExecutorServiceManager manager = producer.getEndpoint().getCamelContext().getExecutorServiceManager();
+        executorService = manager.newDefaultThreadPool(this, "SqlMicroBatch");
+        scheduler = manager.newSingleThreadScheduledExecutor(this, "SqlMicroBatchTimeout");
+        scheduler.scheduleWithFixedDelay(this::flush, timeout, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        ExecutorServiceManager manager = producer.getEndpoint().getCamelContext().getExecutorServiceManager();
+        if (scheduler != null) {
+            manager.shutdown(scheduler);
+            scheduler = null;
+        }
+        flush();
+        if (executorService != null) {
+            // the exchanges already handed over are still continued
+            manager.shutdown(executorService);
+            executorService = null;
+        }
+    }
+
+    /**
+     * Adds the exchange to the current batch, and executes the batch if it is full.
+     */
+    void add(Entry entry) {
+        List<Entry> full = null;
+        lock.lock();
+        try {
+            pending.add(entry);
+            if (pending.size() >= size) {
+                full = pending;
+                pending = new ArrayList<>(size);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            execute(full, entry);
+        }
+    }
+
+    /**
+     * Executes the pending exchanges (if any)
+     */
+    void flush() {
+        List<Entry> entries;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            entries = pending;
+            pending = new ArrayList<>(size);
+        } finally {
+            lock.unlock();
+        }
+        execute(entries, null);
+    }
+
+    /**
+     * Executes the batch and continues routing the exchanges. The exchange of the caller is continued by the caller.
+     */
+    private void execute(List<Entry> entries, Entry own) {
+        // only exchanges with the same query can be in the same batch
+        Map<String, List<Entry>> groups = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            groups.computeIfAbsent(entry.preparedQuery(), k -> new ArrayList<>()).add(entry);
+        }
+
+        for (List<Entry> group : groups.values()) {
+            List<Exchange> exchanges = new ArrayList<>(group.size());
+            for (Entry entry : group) {
+                exchanges.add(entry.exchange());
+            }
+            Entry first = group.get(0);
+            // the update count or exception is set on each exchange
+            producer.processMicroBatch(first.sql(), first.preparedQuery(), exchanges);
+            for (Entry entry : group) {
+                if (entry != own) {
+                    done(entry);
+                }
+            }
+        }
+        if (own != null) {
+            own.callback().done(false);
+        }
+    }
+
+    private void done(Entry entry) {
+        ExecutorService executor = executorService;
+        if (executor != null) {
+            try {
+                executor.execute(() -> entry.callback().done(false));
+                return;
+            } catch (RejectedExecutionException e) {
+                // continue the exchange by this thread instead
+            }
+        }
+        entry.callback().done(false);
+    }
+}
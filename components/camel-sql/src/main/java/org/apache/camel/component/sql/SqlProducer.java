@@ -16,30 +16,34 @@
  */
 package org.apache.camel.component.sql;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ResourceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.springframework.jdbc.support.JdbcUtils.closeConnection;
 import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
 import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
 
-public class SqlProducer extends DefaultProducer {
+public class SqlProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(SqlProducer.class);
 
@@ -53,6 +57,9 @@ public class SqlProducer extends DefaultProducer {
     private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
     private final boolean useMessageBodyForSql;
     private int parametersCount;
+    private int microBatchSize;
+    private long microBatchTimeout = 100;
+    private SqlMicroBatcher microBatcher;
 
     public SqlProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate,
                        SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
@@ -89,22 +96,154 @@ public class SqlProducer extends DefaultProducer {
             String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
             resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
         }
+
+        if (microBatchSize > 0 && microBatcher == null) {
+            if (batch) {
+                throw new IllegalArgumentException("The microBatchSize option cannot be used together with batch=true");
+            }
+            if (getEndpoint().getOutputType() == SqlOutputType.StreamList) {
+                throw new IllegalArgumentException(
+                        "The microBatchSize option cannot be used together with outputType=StreamList");
+            }
+            if (microBatchTimeout <= 0) {
+                throw new IllegalArgumentException(
+                        "The option microBatchTimeout must be positive when using microBatchSize on endpoint: "
+                                                   + getEndpoint());
+            }
+            if (!useMessageBodyForSql && isSelect(resolvedQuery)) {
+                throw new IllegalArgumentException("The microBatchSize option cannot be used with a select query");
+            }
+            microBatcher = new SqlMicroBatcher(this, microBatchSize, microBatchTimeout);
+            microBatcher.start();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (microBatcher != null) {
+            // execute any pending exchanges before stopping
+            microBatcher.stop();
+            microBatcher = null;
+        }
+        super.doStop();
     }
 
     @Override
     public void process(final Exchange exchange) throws Exception {
-        final String sql;
-        if (useMessageBodyForSql) {
-            sql = exchange.getIn().getBody(String.class);
+        if (microBatcher != null) {
+            super.process(exchange);
         } else {
-            String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
-            if (queryHeader != null) {
-                String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
-                sql = SqlHelper.resolvePlaceholders(queryHeader, placeholder);
+            doProcess(exchange);
+        }
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            if (microBatcher != null && isMicroBatchable(exchange)) {
+                final String sql = resolveSql(exchange);
+                if (!isSelect(sql)) {
+                    final String preparedQuery
+                            = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+                    // the exchange is continued when the batch has been executed
+                    microBatcher.add(new SqlMicroBatcher.Entry(exchange, callback, sql, preparedQuery));
+                    return false;
+                }
+            }
+            doProcess(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Whether the exchange can be executed in a micro batch. Exchanges which retrieve generated keys, or which are part
+     * of a transaction are executed directly, as the batch is executed by another thread on its own connection.
+     */
+    private static boolean isMicroBatchable(Exchange exchange) {
+        return !exchange.isTransacted()
+                && !TransactionSynchronizationManager.isActualTransactionActive()
+                && !exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+    }
+
+    /**
+     * Whether the query returns rows, which is a select query, or a query with common table expressions (WITH) followed
+     * by a select. Leading comments and parentheses are skipped.
+     */
+    static boolean isSelect(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        int depth = 0;
+        boolean cte = false;
+        // whether the next word at the top level decides the kind of statement
+        boolean next = true;
+        int i = 0;
+        int len = sql.length();
+        while (i < len) {
+            char ch = sql.charAt(i);
+            if (ch == '-' && sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? len : end + 1;
+            } else if (ch == '/' && sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? len : end + 2;
+            } else if (ch == '\'' || ch == '"' || ch == '`') {
+                // skip quoted literals and identifiers
+                int end = sql.indexOf(ch, i + 1);
+                i = end < 0 ? len : end + 1;
+            } else if (ch == '(') {
+                depth++;
+                i++;
+            } else if (ch == ')') {
+                depth--;
+                // after a common table expression, the next word is the statement (unless another expression follows)
+                next = cte && depth == 0;
+                i++;
+            } else if (Character.isLetter(ch)) {
+                int start = i;
+                while (i < len && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_')) {
+                    i++;
+                }
+                if (next && (depth == 0 || !cte)) {
+                    String word = sql.substring(start, i);
+                    if (!cte && word.equalsIgnoreCase("with")) {
+                        cte = true;
+                    } else if (word.equalsIgnoreCase("select")) {
+                        return true;
+                    } else if (!cte || isStatement(word)) {
+                        return false;
+                    }
+                    next = false;
+                }
             } else {
-                sql = resolvedQuery;
+                i++;
             }
         }
+        return false;
+    }
+
+    private static boolean isStatement(String word) {
+        return word.equalsIgnoreCase("insert") || word.equalsIgnoreCase("update") || word.equalsIgnoreCase("delete")
+                || word.equalsIgnoreCase("merge");
+    }
+
+    private String resolveSql(Exchange exchange) {
+        if (useMessageBodyForSql) {
+            return exchange.getIn().getBody(String.class);
+        }
+        String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+        if (queryHeader != null) {
+            String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
+            return SqlHelper.resolvePlaceholders(queryHeader, placeholder);
+        }
+        return resolvedQuery;
+    }
+
+    protected void doProcess(final Exchange exchange) throws Exception {
+        final String sql = resolveSql(exchange);
         final String preparedQuery
                 = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
 
@@ -248,6 +387,83 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    /**
+     * Executes the exchanges, which all use the same query, as a single JDBC batch, and sets the update count (or the
+     * exception) on each exchange.
+     */
+    void processMicroBatch(String sql, String preparedQuery, List<Exchange> exchanges) {
+        List<Exchange> remaining = exchanges;
+        while (!remaining.isEmpty()) {
+            LOG.trace("processMicroBatch: {} with {} exchanges", preparedQuery, remaining.size());
+            remaining = doProcessMicroBatch(sql, preparedQuery, remaining);
+        }
+    }
+
+    /**
+     * Executes the exchanges as a single JDBC batch, and returns the exchanges which were not executed, because the
+     * JDBC driver stopped executing the batch when a statement failed.
+     */
+    private List<Exchange> doProcessMicroBatch(String sql, String preparedQuery, List<Exchange> exchanges) {
+        try {
+            return jdbcTemplate.execute(
+                    (PreparedStatementCreator) con -> con.prepareStatement(preparedQuery),
+                    (PreparedStatementCallback<List<Exchange>>) ps -> {
+                        List<Exchange> batched = new ArrayList<>(exchanges.size());
+                        for (Exchange exchange : exchanges) {
+                            try {
+                                populateStatement(ps, exchange, sql, preparedQuery);
+                                ps.addBatch();
+                                batched.add(exchange);
+                            } catch (Exception e) {
+                                // only this exchange failed
+                                exchange.setException(e);
+                                ps.clearParameters();
+                            }
+                        }
+                        if (batched.isEmpty()) {
+                            return Collections.emptyList();
+                        }
+                        try {
+                            return setUpdateCounts(batched, ps.executeBatch(), null);
+                        } catch (BatchUpdateException e) {
+                            return setUpdateCounts(batched, e.getUpdateCounts(), e);
+                        }
+                    });
+        } catch (Exception e) {
+            // the batch could not be executed at all
+            for (Exchange exchange : exchanges) {
+                if (exchange.getException() == null) {
+                    exchange.setException(e);
+                }
+            }
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Sets the update count of each statement in the batch on its exchange. When the batch failed then the JDBC driver
+     * either continued executing the remaining statements (and marked the failed statements), or stopped at the first
+     * failed statement, in which case the statements after it are returned so they can be executed again.
+     */
+    private static List<Exchange> setUpdateCounts(List<Exchange> batched, int[] updateCounts, BatchUpdateException cause) {
+        int executed = updateCounts != null ? updateCounts.length : 0;
+        for (int i = 0; i < batched.size(); i++) {
+            Exchange exchange = batched.get(i);
+            if (i < executed) {
+                if (updateCounts[i] == Statement.EXECUTE_FAILED && cause != null) {
+                    exchange.setException(cause);
+                } else {
+                    exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+                }
+            } else if (cause != null) {
+                // the first statement which was not executed is the one which failed
+                exchange.setException(cause);
+                return new ArrayList<>(batched.subList(i + 1, batched.size()));
+            }
+        }
+        return Collections.emptyList();
+    }
+
     private void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
             throws SQLException {
         int expected;
@@ -292,4 +508,12 @@ public class SqlProducer extends DefaultProducer {
     public void setParametersCount(int parametersCount) {
         this.parametersCount = parametersCount;
     }
+
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public void setMicroBatchTimeout(long microBatchTimeout) {
+        this.microBatchTimeout = microBatchTimeout;
+    }
 }
@@ -0,0 +1,473 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.lob.LobCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * JDBC based {@link org.apache.camel.spi.AggregationRepository} which appends the messages of the aggregation groups as
+ * compact binary records, instead of updating the whole aggregated {@link Exchange} on every message as
+ * {@link JdbcAggregationRepository} does.
+ * <p/>
+ * <b>Important:</b> to only store the incoming message (the delta) this repository must be registered as the
+ * {@link AggregationStrategy} of the aggregator as well, and then delegates to the configured
+ * {@link #setAggregationStrategy(AggregationStrategy)}:
+ *
+ * <pre>
+ * from("direct:start")
+ *     .aggregate(header("id"), repo).aggregationRepository(repo)
+ *     ...
+ * </pre>
+ *
+ * If used with any other aggregation strategy, then the whole aggregated exchange is appended as a snapshot which
+ * replaces the previous records of the group, which is no better than {@link JdbcAggregationRepository}.
+ * <p/>
+ * Only the correlation keys of the groups in progress are kept in memory. The aggregated exchange of a group is merged
+ * from the stored records (by replaying the messages through the aggregation strategy) when it is needed. Every
+ * {@link #setSnapshotInterval(int)} messages the aggregated exchange is appended as a snapshot instead, so only the
+ * messages since the latest snapshot are replayed. Records appended concurrently (also across correlation keys) are
+ * written together in the same JDBC batch.
+ * <p/>
+ * The repository table must have the columns <tt>id</tt>, <tt>seq</tt> (bigint) and <tt>exchange</tt> (blob), and the
+ * completed table has the same layout as for {@link JdbcAggregationRepository}. This repository is not clustered and
+ * does not support optimistic locking.
+ */
+@Metadata(label = "bean",
+          description = "Aggregation repository that uses SQL database to append the aggregated messages as compact binary records.",
+          annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
+@Configurer(metadataOnly = true)
+public class AppendOnlyJdbcAggregationRepository extends JdbcAggregationRepository
+        implements AggregationStrategy, CamelContextAware {
+
+    protected static final String SEQ = "seq";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppendOnlyJdbcAggregationRepository.class);
+
+    // exchange property holding the encoded incoming message until its appended
+    private static final String DELTA_PROPERTY = "CamelAggregationRepositoryDelta";
+    private static final byte DELTA = 'D';
+    // a delta aggregated with the input exchange
+    private static final byte DELTA_INPUT = 'I';
+    private static final byte SNAPSHOT = 'S';
+
+    // the correlation keys of the groups, with the number of deltas since the latest snapshot of the group
+    private final Map<String, Integer> keys = new ConcurrentHashMap<>();
+    private final AtomicBoolean snapshotWarned = new AtomicBoolean();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Lock writeLock = new ReentrantLock();
+    private final Object pendingLock = new Object();
+    private List<Record> pending = new ArrayList<>();
+    private CompletableFuture<Void> pendingDone = new CompletableFuture<>();
+
+    private CamelContext camelContext;
+    @Metadata(description = "The AggregationStrategy used to aggregate the messages, and to merge the stored messages."
+                            + " The repository itself must be registered as the AggregationStrategy of the aggregator.",
+              required = true)
+    private AggregationStrategy aggregationStrategy;
+    @Metadata(label = "advanced", defaultValue = "1000",
+              description = "The maximum number of records to write in a single JDBC batch.")
+    private int maxBatchSize = 1000;
+    @Metadata(label = "advanced", defaultValue = "100",
+              description = "The number of messages after which the aggregated exchange of a group is stored as a snapshot,"
+                            + " which replaces the previous records of the group. This bounds the number of messages to replay"
+                            + " when the aggregated exchange is merged. Use 0 or a negative value to only store snapshots when"
+                            + " the repository is not the AggregationStrategy of the aggregator.")
+    private int snapshotInterval = 100;
+
+    /**
+     * Creates an aggregation repository
+     */
+    public AppendOnlyJdbcAggregationRepository() {
+        setJdbcCamelCodec(new JdbcBinaryCamelCodec());
+    }
+
+    /**
+     * Creates an aggregation repository with the three mandatory parameters
+     */
+    public AppendOnlyJdbcAggregationRepository(PlatformTransactionManager transactionManager, String repositoryName,
+                                               DataSource dataSource) {
+        super(transactionManager, repositoryName, dataSource);
+        setJdbcCamelCodec(new JdbcBinaryCamelCodec());
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public AggregationStrategy getAggregationStrategy() {
+        return aggregationStrategy;
+    }
+
+    /**
+     * The AggregationStrategy used to aggregate the messages, and to merge the stored messages. The repository itself
+     * must be registered as the AggregationStrategy of the aggregator.
+     */
+    public void setAggregationStrategy(AggregationStrategy aggregationStrategy) {
+        this.aggregationStrategy = aggregationStrategy;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The maximum number of records to write in a single JDBC batch.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    /**
+     * The number of messages after which the aggregated exchange of a group is stored as a snapshot, which replaces the
+     * previous records of the group. This bounds the number of messages to replay when the aggregated exchange is
+     * merged. Use 0 or a negative value to only store snapshots when the repository is not the AggregationStrategy of
+     * the aggregator.
+     */
+    public void setSnapshotInterval(int snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+        // encode the incoming message before the strategy may change it
+        byte[] delta = encode(DELTA, newExchange);
+        Exchange answer = aggregationStrategy.aggregate(oldExchange, newExchange);
+        if (answer != null) {
+            answer.setProperty(DELTA_PROPERTY, delta);
+        }
+        return answer;
+    }
+
+    @Override
+    public Exchange aggregate(Exchange oldExchange, Exchange newExchange, Exchange inputExchange) {
+        // mark the delta so its replayed with the input exchange as well
+        byte[] delta = encode(DELTA_INPUT, newExchange);
+        Exchange answer = aggregationStrategy.aggregate(oldExchange, newExchange, inputExchange);
+        if (answer != null) {
+            answer.setProperty(DELTA_PROPERTY, delta);
+        }
+        return answer;
+    }
+
+    @Override
+    public boolean canPreComplete() {
+        return aggregationStrategy.canPreComplete();
+    }
+
+    @Override
+    public boolean preComplete(Exchange oldExchange, Exchange newExchange) {
+        return aggregationStrategy.preComplete(oldExchange, newExchange);
+    }
+
+    @Override
+    public void onCompletion(Exchange exchange) {
+        exchange.removeProperty(DELTA_PROPERTY);
+        aggregationStrategy.onCompletion(exchange);
+    }
+
+    @Override
+    public void onCompletion(Exchange exchange, Exchange inputExchange) {
+        exchange.removeProperty(DELTA_PROPERTY);
+        aggregationStrategy.onCompletion(exchange, inputExchange);
+    }
+
+    @Override
+    public void timeout(Exchange exchange, int index, int total, long timeout) {
+        aggregationStrategy.timeout(exchange, index, total, timeout);
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String correlationId, Exchange exchange) {
+        byte[] data = (byte[]) exchange.removeProperty(DELTA_PROPERTY);
+        if (data == null) {
+            // not aggregated by this repository so store the aggregated exchange
+            if (snapshotWarned.compareAndSet(false, true)) {
+                LOG.warn("The repository {} is not registered as the AggregationStrategy of the aggregator,"
+                         + " so the whole aggregated exchange is stored on every message",
+                        getRepositoryName());
+            }
+            data = encode(SNAPSHOT, exchange);
+        } else if (snapshotInterval > 0 && keys.getOrDefault(correlationId, 0) + 1 >= snapshotInterval) {
+            // store the aggregated exchange so the deltas before it are no longer replayed
+            data = encode(SNAPSHOT, exchange);
+        }
+        byte kind = data[0];
+
+        Exchange old = isReturnOldExchange() ? get(camelContext, correlationId) : null;
+        LOG.debug("Appending {} record with key {}", kind == SNAPSHOT ? "snapshot" : "delta", correlationId);
+        try {
+            append(new Record(correlationId, sequence.incrementAndGet(), kind, data));
+        } catch (RuntimeException e) {
+            throw new RuntimeCamelException(
+                    "Error adding to repository " + getRepositoryName() + " with key " + correlationId, e);
+        }
+        if (kind == SNAPSHOT) {
+            keys.put(correlationId, 0);
+        } else {
+            keys.merge(correlationId, 1, Integer::sum);
+        }
+        return old;
+    }
+
+    /**
+     * Not supported as this repository does not support optimistic locking.
+     */
+    @Override
+    public Exchange add(CamelContext camelContext, String correlationId, Exchange oldExchange, Exchange newExchange) {
+        throw new UnsupportedOperationException(
+                "AppendOnlyJdbcAggregationRepository does not support optimistic locking");
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String correlationId) {
+        Exchange answer = null;
+        if (keys.containsKey(correlationId)) {
+            answer = merge(camelContext, correlationId);
+        }
+        LOG.debug("Getting key {} -> {}", correlationId, answer);
+        return answer;
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String correlationId, Exchange exchange) {
+        keys.remove(correlationId);
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                LOG.debug("Removing key {}", correlationId);
+                jdbcTemplate.update("DELETE FROM " + getRepositoryName() + " WHERE " + ID + " = ?", correlationId);
+                insert(camelContext, exchange.getExchangeId(), exchange, getRepositoryNameCompleted(), 1L);
+                LOG.debug("Removed key {}", correlationId);
+            } catch (Exception e) {
+                throw new RuntimeException(
+                        "Error removing key " + correlationId + " from repository " + getRepositoryName(), e);
+            }
+        });
+    }
+
+    /**
+     * Merges the stored records of the group by replaying the messages through the aggregation strategy, starting from
+     * the latest snapshot (if any). The messages are replayed the same way as they were aggregated, with or without the
+     * input exchange.
+     */
+    protected Exchange merge(CamelContext camelContext, String correlationId) {
+        List<byte[]> records = transactionTemplateReadOnly.execute(status -> jdbcTemplate.query(
+                "SELECT " + EXCHANGE + " FROM " + getRepositoryName() + " WHERE " + ID + " = ? ORDER BY " + SEQ,
+                (rs, rowNum) -> getLobHandler().getBlobAsBytes(rs, EXCHANGE), correlationId));
+        if (records == null || records.isEmpty()) {
+            return null;
+        }
+
+        Exchange answer = null;
+        int size = 0;
+        try {
+            for (byte[] data : records) {
+                Exchange exchange = getJdbcCamelCodec().unmarshallExchange(camelContext,
+                        new ByteArrayInputStream(data, 1, data.length - 1), getDeserializationFilter());
+                if (data[0] == SNAPSHOT) {
+                    answer = exchange;
+                    size = exchange.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, 1, Integer.class);
+                } else if (data[0] == DELTA_INPUT) {
+                    // the input exchange had the same message as the incoming exchange
+                    answer = aggregationStrategy.aggregate(answer, exchange, exchange.copy());
+                    size++;
+                } else {
+                    answer = aggregationStrategy.aggregate(answer, exchange);
+                    size++;
+                }
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException(
+                    "Error getting key " + correlationId + " from repository " + getRepositoryName(), e);
+        }
+        answer.setProperty(ExchangePropertyKey.AGGREGATED_SIZE, size);
+        LOG.debug("Merged {} records with key {}", records.size(), correlationId);
+        return answer;
+    }
+
+    private byte[] encode(byte kind, Exchange exchange) {
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            bos.write(kind);
+            getJdbcCamelCodec().marshallExchange(exchange, isAllowSerializedHeaders(), bos);
+            return bos.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Appends the record, and waits until its written. The records appended by other threads while a batch is being
+     * written are written together in the next batch (group commit).
+     */
+    private void append(Record record) {
+        CompletableFuture<Void> done;
+        synchronized (pendingLock) {
+            pending.add(record);
+            done = pendingDone;
+        }
+
+        writeLock.lock();
+        try {
+            if (!done.isDone()) {
+                List<Record> batch;
+                CompletableFuture<Void> batchDone;
+                synchronized (pendingLock) {
+                    batch = pending;
+                    batchDone = pendingDone;
+                    pending = new ArrayList<>();
+                    pendingDone = new CompletableFuture<>();
+                }
+                try {
+                    writeBatch(batch);
+                    batchDone.complete(null);
+                } catch (RuntimeException e) {
+                    batchDone.completeExceptionally(e);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            done.get();
+        } catch (ExecutionException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    private void writeBatch(List<Record> batch) {
+        LOG.trace("Writing batch of {} records", batch.size());
+        final String delete = "DELETE FROM " + getRepositoryName() + " WHERE " + ID + " = ? AND " + SEQ + " < ?";
+        final String insert = "INSERT INTO " + getRepositoryName() + " (" + ID + ", " + SEQ + ", " + EXCHANGE
+                              + ") VALUES (?, ?, ?)";
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // snapshots replace the previous records of the group
+            List<Object[]> snapshots = new ArrayList<>();
+            for (Record record : batch) {
+                if (record.kind() == SNAPSHOT) {
+                    snapshots.add(new Object[] { record.key(), record.seq() });
+                }
+            }
+            if (!snapshots.isEmpty()) {
+                jdbcTemplate.batchUpdate(delete, snapshots);
+            }
+
+            jdbcTemplate.execute(insert, (PreparedStatementCallback<Object>) ps -> {
+                try (LobCreator lobCreator = getLobHandler().getLobCreator()) {
+                    int count = 0;
+                    for (Record record : batch) {
+                        ps.setString(1, record.key());
+                        ps.setLong(2, record.seq());
+                        lobCreator.setBlobAsBytes(ps, 3, record.data());
+                        ps.addBatch();
+                        if (++count % maxBatchSize == 0) {
+                            ps.executeBatch();
+                        }
+                    }
+                    if (count % maxBatchSize != 0) {
+                        ps.executeBatch();
+                    }
+                }
+                return null;
+            });
+        });
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        ObjectHelper.notNull(aggregationStrategy, "AggregationStrategy");
+        CamelContextAware.trySetCamelContext(aggregationStrategy, camelContext);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startService(aggregationStrategy);
+
+        // continue the sequence after the records already stored
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + SEQ + ") FROM " + getRepositoryName(), Long.class);
+        sequence.set(max != null ? max : 0);
+        // the number of deltas since the latest snapshot is not known, so count all the records of the group
+        jdbcTemplate.query("SELECT " + ID + ", COUNT(1) FROM " + getRepositoryName() + " GROUP BY " + ID,
+                (RowCallbackHandler) rs -> keys.put(rs.getString(1), rs.getInt(2)));
+    }
+
+    @Override
+    protected int aggregateCount() {
+        // a group is stored as many records
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT " + ID + ") FROM " + getRepositoryName(), Integer.class);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(aggregationStrategy);
+        keys.clear();
+        super.doStop();
+    }
+
+    private record Record(String key, long seq, byte kind, byte[] data) {
+    }
+
+}
@@ -697,6 +697,13 @@ public class JdbcAggregationRepository extends ServiceSupport
         transactionTemplateReadOnly.setReadOnly(true);
     }
 
+    /**
+     * Returns the number of aggregate exchanges (not completed) in the repository
+     */
+    protected int aggregateCount() {
+        return rowCount(getRepositoryName());
+    }
+
     private int rowCount(final String repository) {
         return jdbcTemplate.queryForObject("SELECT COUNT(1) FROM " + repository, Integer.class);
     }
@@ -706,7 +713,7 @@ public class JdbcAggregationRepository extends ServiceSupport
         super.doStart();
 
         // log number of existing exchanges
-        final int current = rowCount(getRepositoryName());
+        final int current = aggregateCount();
         final int completed = rowCount(getRepositoryNameCompleted());
 
         if (current > 0) {
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link JdbcCamelCodec} which stores the message in a compact binary format instead of Java serialization of a
+ * {@link org.apache.camel.support.DefaultExchangeHolder}.
+ * <p/>
+ * Bodies and header values of common types (String, byte[], numbers, boolean) are written as tagged values. Other
+ * values are only stored using Java serialization, when they are {@link Serializable} (headers only if
+ * <tt>allowSerializedHeaders</tt> is enabled), and are subject to the deserialization filter when read back.
+ */
+public class JdbcBinaryCamelCodec extends JdbcCamelCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcBinaryCamelCodec.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String FROM_ENDPOINT = "CamelAggregatedFromEndpoint";
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BYTES = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte SERIALIZED = 7;
+
+    @Override
+    public void marshallExchange(Exchange exchange, boolean allowSerializedHeaders, OutputStream outputStream)
+            throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeByte(FORMAT_VERSION);
+        out.writeUTF(exchange.getExchangeId());
+
+        writeBody(out, exchange);
+
+        Map<String, Object> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : exchange.getIn().getHeaders().entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            if (isSimpleType(value) || allowSerializedHeaders && value instanceof Serializable) {
+                headers.put(entry.getKey(), value);
+            } else {
+                LOG.debug("Exchange header: {} with value of type: {} is not a valid header type, it will be excluded",
+                        entry.getKey(), ObjectHelper.classCanonicalName(value));
+            }
+        }
+        writeMap(out, headers);
+
+        // only the aggregation properties are retained
+        Map<String, Object> properties = new LinkedHashMap<>();
+        putIfNotNull(properties, Exchange.AGGREGATED_SIZE,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_SIZE, Integer.class));
+        putIfNotNull(properties, Exchange.AGGREGATED_TIMEOUT,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, Long.class));
+        putIfNotNull(properties, Exchange.AGGREGATED_COMPLETED_BY,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, String.class));
+        putIfNotNull(properties, Exchange.AGGREGATED_CORRELATION_KEY,
+                exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class));
+        putIfNotNull(properties, Exchange.AGGREGATED_COLLECTION_GUARD,
+                exchange.getProperty(Exchange.AGGREGATED_COLLECTION_GUARD, String.class));
+        if (exchange.getFromEndpoint() != null) {
+            properties.put(FROM_ENDPOINT, exchange.getFromEndpoint().getEndpointUri());
+        }
+        writeMap(out, properties);
+        out.flush();
+    }
+
+    @Override
+    public Exchange unmarshallExchange(CamelContext camelContext, InputStream inputStream, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        DataInputStream in = new DataInputStream(inputStream);
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported format version: " + version);
+        }
+
+        Exchange answer = new DefaultExchange(camelContext);
+        answer.setExchangeId(in.readUTF());
+        answer.getIn().setBody(readValue(camelContext, in, deserializationFilter));
+        int headers = in.readInt();
+        for (int i = 0; i < headers; i++) {
+            String key = in.readUTF();
+            answer.getIn().setHeader(key, readValue(camelContext, in, deserializationFilter));
+        }
+        int properties = in.readInt();
+        for (int i = 0; i < properties; i++) {
+            String key = in.readUTF();
+            answer.setProperty(key, readValue(camelContext, in, deserializationFilter));
+        }
+
+        // restore the from endpoint
+        String fromEndpointUri = (String) answer.removeProperty(FROM_ENDPOINT);
+        if (fromEndpointUri != null) {
+            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+            if (fromEndpoint != null) {
+                answer.getExchangeExtension().setFromEndpoint(fromEndpoint);
+            }
+        }
+        return answer;
+    }
+
+    private static void writeBody(DataOutputStream out, Exchange exchange) throws IOException {
+        Object body = exchange.getIn().getBody();
+        if (body != null && !isSimpleType(body) && !(body instanceof Serializable)) {
+            // same as DefaultExchangeHolder try to convert the body to something which can be stored
+            body = exchange.getContext().getTypeConverter().convertTo(Serializable.class, exchange, body);
+            if (body == null) {
+                LOG.warn("Exchange body of type: {} cannot be serialized, it will be excluded",
+                        ObjectHelper.classCanonicalName(exchange.getIn().getBody()));
+            }
+        }
+        writeValue(out, body);
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String s) {
+            byte[] data = s.getBytes(StandardCharsets.UTF_8);
+            out.writeByte(STRING);
+            out.writeInt(data.length);
+            out.write(data);
+        } else if (value instanceof byte[] data) {
+            out.writeByte(BYTES);
+            out.writeInt(data.length);
+            out.write(data);
+        } else if (value instanceof Integer i) {
+            out.writeByte(INTEGER);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(LONG);
+            out.writeLong(l);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof Double d) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(d);
+        } else {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(value);
+            }
+            out.writeByte(SERIALIZED);
+            out.writeInt(bos.size());
+            bos.writeTo(out);
+        }
+    }
+
+    private static Object readValue(CamelContext camelContext, DataInputStream in, String deserializationFilter)
+            throws IOException, ClassNotFoundException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(in);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case SERIALIZED:
+                try (ObjectInputStream ois = new ClassLoadingAwareObjectInputStream(
+                        camelContext.getApplicationContextClassLoader(), new ByteArrayInputStream(readBytes(in)))) {
+                    ois.setObjectInputFilter(ObjectInputFilter.Config.createFilter(deserializationFilter));
+                    return ois.readObject();
+                }
+            default:
+                throw new StreamCorruptedException("Unknown value type: " + tag);
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return data;
+    }
+
+    private static boolean isSimpleType(Object value) {
+        return value instanceof String || value instanceof byte[] || value instanceof Integer || value instanceof Long
+                || value instanceof Boolean || value instanceof Double;
+    }
+
+    private static void putIfNotNull(Map<String, Object> map, String key, Object value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+
+}
@@ -0,0 +1,478 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.idempotent.jdbc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.util.ObjectHelper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Version of {@link JdbcMessageIdRepository} which keeps a scalable Bloom filter of the message ids in memory, instead
+ * of all the message ids as {@link JdbcCachedMessageIdRepository} does.
+ * <p/>
+ * Message ids which are definitely not in the filter are new, and are added without querying the database. The database
+ * is only queried for message ids which are probably in the filter. New message ids are inserted asynchronously in
+ * batches, which means {@link #add(String)} returns <tt>true</tt> before the message id has been inserted, and a
+ * message id which is pending when the JVM crashes is lost (so the message may be processed again after a restart).
+ * When <tt>maxPendingSize</tt> message ids are pending, then the thread adding a message id inserts the pending message
+ * ids itself. Set <tt>synchronous</tt> to insert each new message id before {@link #add(String)} returns.
+ * <p/>
+ * The filter is built from the message ids in the database on startup. When a filter file is configured then the filter
+ * is saved on shutdown, and on startup only the message ids inserted after the filter was saved are read from the
+ * database. A filter file saved for another processor name, or with another expected insertions or false positive
+ * probability, is not loaded.
+ * <p/>
+ * <b>Important:</b> The filter only knows about the message ids added by this repository, and therefore the database
+ * must not be shared with other repositories which are adding message ids for the same processor name at the same time.
+ */
+public class JdbcBloomFilterMessageIdRepository extends JdbcMessageIdRepository implements CamelContextAware {
+
+    protected static final String DEFAULT_QUERY_ALL_STRING
+            = "SELECT messageId FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ?";
+    protected static final String DEFAULT_QUERY_SINCE_STRING
+            = "SELECT messageId FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ? AND createdAt >= ?";
+
+    private final Lock flushLock = new ReentrantLock();
+    private final Set<String> pending = new LinkedHashSet<>();
+    private CamelContext camelContext;
+    private ScheduledExecutorService executorService;
+    private ScalableBloomFilter filter;
+    private boolean flushScheduled;
+    private long expectedInsertions = 1000000;
+    private double falsePositiveProbability = 0.01;
+    private int batchSize = 1000;
+    private int maxPendingSize = 10000;
+    private boolean synchronous;
+    private long flushInterval = 1000;
+    private String filterFile;
+    private String queryAllString = DEFAULT_QUERY_ALL_STRING;
+    private String querySinceString = DEFAULT_QUERY_SINCE_STRING;
+
+    public JdbcBloomFilterMessageIdRepository() {
+    }
+
+    public JdbcBloomFilterMessageIdRepository(DataSource dataSource, String processorName) {
+        super(dataSource, processorName);
+    }
+
+    public JdbcBloomFilterMessageIdRepository(DataSource dataSource, TransactionTemplate transactionTemplate,
+                                              String processorName) {
+        super(dataSource, transactionTemplate, processorName);
+    }
+
+    public JdbcBloomFilterMessageIdRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        super(jdbcTemplate, transactionTemplate);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        ObjectHelper.notNull(camelContext, "CamelContext", this);
+        if (getTableName() != null) {
+            queryAllString = queryAllString.replaceFirst(DEFAULT_TABLENAME, getTableName());
+            querySinceString = querySinceString.replaceFirst(DEFAULT_TABLENAME, getTableName());
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        load();
+
+        executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                getClass().getSimpleName());
+        executorService.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        try {
+            flush();
+        } finally {
+            // the filter is saved even if the pending message ids could not be inserted
+            save();
+        }
+        super.doStop();
+    }
+
+    @Override
+    public boolean add(String key) {
+        boolean added;
+        boolean full = false;
+        synchronized (pending) {
+            // when added then its definitely a new message id
+            added = filter.put(key);
+            if (!added && pending.contains(key)) {
+                return false;
+            }
+            if (added && !synchronous) {
+                pending.add(key);
+                full = pending.size() >= maxPendingSize;
+                if (!full && pending.size() >= batchSize && !flushScheduled && executorService != null) {
+                    flushScheduled = true;
+                    executorService.execute(this::flushQuietly);
+                }
+            }
+        }
+        if (!added) {
+            // probably an existing message id so we must check the database
+            return super.add(key);
+        }
+        if (synchronous) {
+            return insertNew(key);
+        }
+        if (full) {
+            // the inserts are falling behind so insert the pending message ids in this thread
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                synchronized (pending) {
+                    pending.remove(key);
+                }
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    private boolean insertNew(String key) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(key));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // inserted by someone else in the meantime
+            return false;
+        }
+    }
+
+    @Override
+    public boolean contains(String key) {
+        synchronized (pending) {
+            if (!filter.mightContain(key)) {
+                return false;
+            }
+            if (pending.contains(key)) {
+                return true;
+            }
+        }
+        return super.contains(key);
+    }
+
+    @Override
+    public boolean remove(String key) {
+        // the key may be in the batch currently being inserted
+        flushLock.lock();
+        try {
+            boolean removed;
+            synchronized (pending) {
+                removed = pending.remove(key);
+            }
+            // message ids cannot be removed from the filter, which only means the database is queried for this key
+            return super.remove(key) || removed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        flushLock.lock();
+        try {
+            synchronized (pending) {
+                pending.clear();
+                filter.clear();
+            }
+            super.clear();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the pending message ids into the database
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<String> batch;
+            synchronized (pending) {
+                flushScheduled = false;
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = new ArrayList<>(pending);
+            }
+
+            insertBatch(batch);
+
+            // only remove when inserted so a concurrent add does not go to the database until then
+            synchronized (pending) {
+                batch.forEach(pending::remove);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Error inserting message ids due to: {}. Will retry on next flush.", e.getMessage(), e);
+        }
+    }
+
+    private void insertBatch(List<String> batch) {
+        log.debug("Inserting {} message ids", batch.size());
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(getInsertString(), batch,
+                    batchSize, (ps, key) -> {
+                        ps.setString(1, processorName);
+                        ps.setString(2, key);
+                        ps.setTimestamp(3, now);
+                    }));
+        } catch (DataIntegrityViolationException e) {
+            // some message id was inserted in the meantime (such as added after a false positive), so insert one by one
+            log.debug("Error inserting batch of message ids, inserting one by one due to: {}", e.getMessage());
+            for (String key : batch) {
+                super.add(key);
+            }
+        }
+    }
+
+    /**
+     * Builds the filter from the filter file (if any) and the message ids in the database
+     */
+    protected void load() {
+        long savedAt = 0;
+        ScalableBloomFilter answer = null;
+        File file = filterFile != null ? new File(filterFile) : null;
+        if (file != null && file.exists()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+                String savedFor = in.readUTF();
+                savedAt = in.readLong();
+                answer = ScalableBloomFilter.readFrom(in);
+                if (!savedFor.equals(processorName) || answer.getInitialCapacity() != expectedInsertions
+                        || Double.compare(answer.getFalsePositiveProbability(), falsePositiveProbability) != 0) {
+                    log.info("Bloom filter file: {} was saved for processor name: {} with expected insertions: {} and"
+                             + " false positive probability: {} which does not match the repository. Will build filter"
+                             + " from database.",
+                            file, savedFor, answer.getInitialCapacity(), answer.getFalsePositiveProbability());
+                    answer = null;
+                }
+            } catch (IOException e) {
+                log.warn("Cannot load bloom filter from file: {} due to: {}. Will build filter from database.", file,
+                        e.getMessage());
+                answer = null;
+            }
+        }
+
+        long rows;
+        if (answer != null) {
+            // only the message ids inserted after the filter was saved
+            rows = populate(answer, getQuerySinceString(), processorName, new Timestamp(savedAt));
+        } else {
+            answer = new ScalableBloomFilter(expectedInsertions, falsePositiveProbability);
+            rows = populate(answer, getQueryAllString(), processorName);
+        }
+        synchronized (pending) {
+            filter = answer;
+        }
+        log.info("JdbcBloomFilterMessageIdRepository filter loaded with {} entries ({} from database) using {} bytes",
+                answer.size(), rows, answer.sizeInBytes());
+    }
+
+    private long populate(ScalableBloomFilter target, String sql, Object... args) {
+        long[] rows = new long[1];
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(sql, rs -> {
+            target.put(rs.getString(1));
+            rows[0]++;
+        }, args));
+        return rows[0];
+    }
+
+    /**
+     * Saves the filter to the filter file (if any)
+     */
+    protected void save() {
+        if (filterFile == null || filter == null) {
+            return;
+        }
+        File file = new File(filterFile);
+        File tmp = new File(filterFile + ".tmp");
+        try {
+            if (file.getParentFile() != null) {
+                Files.createDirectories(file.getParentFile().toPath());
+            }
+            try (DataOutputStream out
+                    = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+                out.writeUTF(processorName);
+                out.writeLong(System.currentTimeMillis());
+                filter.writeTo(out);
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Saved bloom filter to file: {}", file);
+        } catch (IOException e) {
+            log.warn("Cannot save bloom filter to file: {} due to: {}", file, e.getMessage(), e);
+        }
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * The number of message ids the filter is initially sized for. The filter grows when more message ids are added.
+     */
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * The probability of the filter reporting a new message id as probably existing (which requires a database query).
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of message ids to insert in one batch. A flush is triggered when this many message ids are
+     * pending.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxPendingSize() {
+        return maxPendingSize;
+    }
+
+    /**
+     * The maximum number of message ids waiting to be inserted. When this many message ids are pending, then the thread
+     * adding a message id inserts the pending message ids itself, which slows down the callers until the database has
+     * caught up.
+     */
+    public void setMaxPendingSize(int maxPendingSize) {
+        this.maxPendingSize = maxPendingSize;
+    }
+
+    public boolean isSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * Whether to insert each new message id into the database before {@link #add(String)} returns, instead of
+     * asynchronously in batches. The database is still not queried for message ids which are definitely new.
+     */
+    public void setSynchronous(boolean synchronous) {
+        this.synchronous = synchronous;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Interval in millis between inserting the pending message ids into the database.
+     */
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public String getFilterFile() {
+        return filterFile;
+    }
+
+    /**
+     * File to save the filter on shutdown, and to load on startup for a warm restart.
+     */
+    public void setFilterFile(String filterFile) {
+        this.filterFile = filterFile;
+    }
+
+    public String getQueryAllString() {
+        return queryAllString;
+    }
+
+    public void setQueryAllString(String queryAllString) {
+        this.queryAllString = queryAllString;
+    }
+
+    public String getQuerySinceString() {
+        return querySinceString;
+    }
+
+    public void setQuerySinceString(String querySinceString) {
+        this.querySinceString = querySinceString;
+    }
+
+    /**
+     * Number of message ids not yet inserted into the database
+     */
+    public int getPendingSize() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.idempotent.jdbc;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scalable Bloom filter which adds a new (twice as large) filter when the current filter is full, so the false
+ * positive probability stays bounded regardless of the number of keys added.
+ * <p/>
+ * The false positive probability of each new filter is halved so the overall probability is at most the configured
+ * probability.
+ */
+final class ScalableBloomFilter {
+
+    private static final int MAGIC = 0x43424631;
+
+    private final long initialCapacity;
+    private final double falsePositiveProbability;
+    private final List<Segment> segments = new ArrayList<>();
+
+    ScalableBloomFilter(long initialCapacity, double falsePositiveProbability) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("The initial capacity must be a positive number, was: " + initialCapacity);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException(
+                    "The false positive probability must be between 0 and 1, was: " + falsePositiveProbability);
+        }
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        clear();
+    }
+
+    long getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Whether the key may have been added (false positives are possible), or has definitely not been added
+     */
+    synchronized boolean mightContain(String key) {
+        long hash = hash(key);
+        for (Segment segment : segments) {
+            if (segment.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the key
+     *
+     * @return <tt>true</tt> if the key was added, <tt>false</tt> if the key may already have been added
+     */
+    synchronized boolean put(String key) {
+        long hash = hash(key);
+        for (Segment segment : segments) {
+            if (segment.mightContain(hash)) {
+                return false;
+            }
+        }
+        Segment last = segments.get(segments.size() - 1);
+        if (last.count >= last.capacity) {
+            last = new Segment(last.capacity * 2, last.probability / 2);
+            segments.add(last);
+        }
+        last.put(hash);
+        return true;
+    }
+
+    synchronized void clear() {
+        segments.clear();
+        segments.add(new Segment(initialCapacity, falsePositiveProbability / 2));
+    }
+
+    /**
+     * Number of keys added
+     */
+    synchronized long size() {
+        long answer = 0;
+        for (Segment segment : segments) {
+            answer += segment.count;
+        }
+        return answer;
+    }
+
+    /**
+     * Size of the filter in bytes
+     */
+    synchronized long sizeInBytes() {
+        long answer = 0;
+        for (Segment segment : segments) {
+            answer += segment.bits.length * 8L;
+        }
+        return answer;
+    }
+
+    synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeLong(initialCapacity);
+        out.writeDouble(falsePositiveProbability);
+        out.writeInt(segments.size());
+        for (Segment segment : segments) {
+            out.writeLong(segment.capacity);
+            out.writeDouble(segment.probability);
+            out.writeLong(segment.count);
+            out.writeInt(segment.bits.length);
+            for (long word : segment.bits) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    static ScalableBloomFilter readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a bloom filter");
+        }
+        ScalableBloomFilter answer = new ScalableBloomFilter(in.readLong(), in.readDouble());
+        answer.segments.clear();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            Segment segment = new Segment(in.readLong(), in.readDouble());
+            segment.count = in.readLong();
+            if (in.readInt() != segment.bits.length) {
+                throw new StreamCorruptedException("Bloom filter segment has unexpected size");
+            }
+            for (int j = 0; j < segment.bits.length; j++) {
+                segment.bits[j] = in.readLong();
+            }
+            answer.segments.add(segment);
+        }
+        return answer;
+    }
+
+    private static long hash(String key) {
+        // 64-bit FNV-1a followed by the murmur3 finalizer to spread the bits
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Segment {
+        private final long capacity;
+        private final double probability;
+        private final long size;
+        private final int hashes;
+        private final long[] bits;
+        private long count;
+
+        Segment(long capacity, double probability) {
+            this.capacity = capacity;
+            this.probability = probability;
+            // optimal number of bits and hash functions for the capacity and probability
+            long m = (long) Math.ceil(-capacity * Math.log(probability) / (Math.log(2) * Math.log(2)));
+            this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, (m + 63) / 64)];
+            this.size = bits.length * 64L;
+            this.hashes = Math.max(1, (int) Math.round((double) m / capacity * Math.log(2)));
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, size);
+                if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, size);
+                bits[(int) (index >>> 6)] |= 1L << index;
+            }
+            count++;
+        }
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlProducerMicroBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+    // the number of statements in each executed JDBC batch
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    // the threads which continued routing the exchanges after the batch
+    private final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentInserts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Exchange>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                final int id = 10 + i;
+                futures.add(executor.submit(() -> template.request("direct:insert",
+                        e -> e.getIn().setBody(new Object[] { id, "Project" + id, "ASF" }))));
+            }
+            for (Future<Exchange> future : futures) {
+                Exchange out = future.get();
+                assertNull(out.getException());
+                assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(13, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+        assertEquals(List.of(5, 5), batchSizes);
+        // the caller which filled the batch continues its own exchange, the others are continued by the batcher
+        assertEquals(8, threadNames.stream().filter(name -> name.contains("SqlMicroBatch")).count());
+    }
+
+    @Test
+    public void testFailedStatementInBatch() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            // id 1 is a duplicate primary key
+            int[] ids = { 10, 11, 1, 12, 13 };
+            List<Future<Exchange>> futures = new ArrayList<>();
+            for (int id : ids) {
+                futures.add(executor.submit(() -> template.request("direct:insert",
+                        e -> e.getIn().setBody(new Object[] { id, "Project" + id, "ASF" }))));
+            }
+            for (int i = 0; i < ids.length; i++) {
+                Exchange out = futures.get(i).get();
+                if (ids[i] == 1) {
+                    assertNotNull(out.getException());
+                } else {
+                    assertNull(out.getException());
+                    assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(7, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+        assertEquals(List.of(5), batchSizes);
+    }
+
+    @Test
+    public void testTimeout() {
+        // the batch is not full, so it is executed when the timeout elapsed
+        Exchange out = template.request("direct:timeout", e -> e.getIn().setBody(new Object[] { 10, "Kafka", "ASF" }));
+        assertNull(out.getException());
+        assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+
+        assertEquals("Kafka", jdbcTemplate.queryForObject("select project from projects where id = 10", String.class));
+    }
+
+    @Test
+    public void testFailedBatch() {
+        // duplicate primary key so the batch fails
+        Exchange out = template.request("direct:timeout", e -> e.getIn().setBody(new Object[] { 1, "Camel", "ASF" }));
+        assertNotNull(out.getException());
+
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+        assertEquals(List.of(1), batchSizes);
+    }
+
+    @Test
+    public void testTransactedIsNotBatched() {
+        // the batch is not executed by the timeout during the test, so the exchange would hang if it was batched
+        Exchange out = template.request("direct:untimed", e -> {
+            e.getExchangeExtension().setTransacted(true);
+            e.getIn().setBody(new Object[] { 10, "Kafka", "ASF" });
+        });
+        assertNull(out.getException());
+        assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+
+        assertEquals("Kafka", jdbcTemplate.queryForObject("select project from projects where id = 10", String.class));
+        assertEquals(0, batchSizes.size());
+    }
+
+    @Test
+    public void testSelectIsRejected() throws Exception {
+        Producer producer = context.getEndpoint("sql:select * from projects?microBatchSize=5").createProducer();
+        assertThrows(IllegalArgumentException.class, producer::start);
+    }
+
+    @Test
+    public void testCommonTableExpressionSelectIsRejected() throws Exception {
+        Producer producer = context.getEndpoint(
+                "sql:with p (name) as (select project from projects) select * from p?microBatchSize=5").createProducer();
+        assertThrows(IllegalArgumentException.class, producer::start);
+    }
+
+    @Test
+    public void testNonPositiveTimeoutIsRejected() throws Exception {
+        Producer producer = context.getEndpoint(
+                "sql:insert into projects (id, project, license) values (#, #, #)?microBatchSize=5&microBatchTimeout=0")
+                .createProducer();
+        assertThrows(IllegalArgumentException.class, producer::start);
+    }
+
+    @Test
+    public void testIsSelect() {
+        assertTrue(SqlProducer.isSelect("select * from projects"));
+        assertTrue(SqlProducer.isSelect("  -- comment\n /* comment */ (SELECT * from projects) union select * from p"));
+        assertTrue(SqlProducer.isSelect("with p as (select * from projects) select * from p"));
+        assertTrue(SqlProducer.isSelect(
+                "WITH RECURSIVE p (id, name) AS (select id, ')' from projects), q AS MATERIALIZED (select 1) SELECT * from p"));
+        assertFalse(SqlProducer.isSelect("insert into projects (id, project, license) values (#, #, #)"));
+        assertFalse(SqlProducer
+                .isSelect("with p as (select id from projects) delete from projects where id in (select id from p)"));
+        assertFalse(SqlProducer.isSelect("with p (id) as (values (1)) insert into ids select id from p"));
+        assertFalse(SqlProducer.isSelect("update projects set license = 'ASF'"));
+        assertFalse(SqlProducer.isSelect(null));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(countBatches(db));
+
+                from("direct:insert")
+                        .to("sql:insert into projects (id, project, license) values (#, #, #)?microBatchSize=5&microBatchTimeout=5000")
+                        .process(e -> threadNames.add(Thread.currentThread().getName()));
+
+                from("direct:timeout")
+                        .to("sql:insert into projects (id, project, license) values (#, #, #)?microBatchSize=100&microBatchTimeout=50");
+
+                from("direct:untimed")
+                        .to("sql:insert into projects (id, project, license) values (#, #, #)?microBatchSize=100&microBatchTimeout=600000");
+            }
+        };
+    }
+
+    /**
+     * Wraps the data source to record the number of statements in each executed JDBC batch.
+     */
+    private DataSource countBatches(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection con = super.getConnection();
+                return proxy(Connection.class, con, (method, answer) -> {
+                    if (answer instanceof PreparedStatement ps) {
+                        AtomicInteger count = new AtomicInteger();
+                        return proxy(PreparedStatement.class, ps, (m, a) -> {
+                            if ("addBatch".equals(m.getName())) {
+                                count.incrementAndGet();
+                            } else if ("executeBatch".equals(m.getName())) {
+                                batchSizes.add(count.getAndSet(0));
+                            }
+                            return a;
+                        });
+                    }
+                    return answer;
+                });
+            }
+        };
+    }
+
+    private interface Interceptor {
+        Object afterInvoke(Method method, Object answer);
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (p, method, args) -> {
+            Object answer;
+            try {
+                answer = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                // record the batch before it is failed
+                interceptor.afterInvoke(method, null);
+                throw e.getTargetException();
+            }
+            return interceptor.afterInvoke(method, answer);
+        }));
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AppendOnlyJdbcAggregationRepositoryTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+    private AppendOnlyJdbcAggregationRepository repo;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/init6.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+        repo = createRepository();
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    private AppendOnlyJdbcAggregationRepository createRepository() {
+        AppendOnlyJdbcAggregationRepository answer = new AppendOnlyJdbcAggregationRepository(
+                new DataSourceTransactionManager(db), "aggregationRepo6", db);
+        answer.setAggregationStrategy(new AbstractJdbcAggregationTestSupport.MyAggregationStrategy());
+        return answer;
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceived("ABCDE");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+
+        // only the incoming messages are appended
+        assertEquals(3, rowCount());
+
+        template.sendBodyAndHeader("direct:start", "D", "id", 123);
+        template.sendBodyAndHeader("direct:start", "E", "id", 123);
+
+        MockEndpoint.assertIsSatisfied(context);
+        assertEquals(0, rowCount());
+    }
+
+    @Test
+    public void testMergeFromRecords() throws Exception {
+        for (String body : new String[] { "A", "B", "C" }) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody(body);
+            exchange.getIn().setHeader("foo", 123);
+            repo.add(context, "foo", repo.aggregate(repo.get(context, "foo"), exchange));
+        }
+
+        // a new repository has nothing in memory and must merge the stored messages
+        AppendOnlyJdbcAggregationRepository other = createRepository();
+        other.start();
+        try {
+            Exchange actual = other.get(context, "foo");
+            assertEquals("ABC", actual.getIn().getBody());
+            assertEquals(123, actual.getIn().getHeader("foo"));
+            assertEquals(3, actual.getProperty(Exchange.AGGREGATED_SIZE));
+            assertNull(other.get(context, "bar"));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("A");
+        repo.add(context, "foo", exchange);
+        exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("AB");
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 2);
+        repo.add(context, "foo", exchange);
+
+        // not aggregated by the repository so the snapshots replace the previous records
+        assertEquals(1, rowCount());
+
+        AppendOnlyJdbcAggregationRepository other = createRepository();
+        other.start();
+        try {
+            Exchange actual = other.get(context, "foo");
+            assertEquals("AB", actual.getIn().getBody());
+            assertEquals(2, actual.getProperty(Exchange.AGGREGATED_SIZE));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testSnapshotInterval() throws Exception {
+        repo.setSnapshotInterval(2);
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        // the second message is stored as a snapshot which replaces the first
+        assertEquals(1, rowCount());
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+        assertEquals(2, rowCount());
+
+        // only the messages since the snapshot are replayed
+        AppendOnlyJdbcAggregationRepository other = createRepository();
+        other.start();
+        try {
+            Exchange actual = other.get(context, "123");
+            assertEquals("ABC", actual.getIn().getBody());
+            assertEquals(3, actual.getProperty(Exchange.AGGREGATED_SIZE));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testMergeWithInputExchange() throws Exception {
+        AppendOnlyJdbcAggregationRepository inputRepo = new AppendOnlyJdbcAggregationRepository(
+                new DataSourceTransactionManager(db), "aggregationRepo6", db);
+        inputRepo.setAggregationStrategy(new InputAggregationStrategy());
+        inputRepo.start();
+        try {
+            for (String body : new String[] { "A", "B", "C" }) {
+                Exchange exchange = new DefaultExchange(context);
+                exchange.getIn().setBody(body);
+                Exchange old = inputRepo.get(context, "foo");
+                inputRepo.add(context, "foo", inputRepo.aggregate(old, exchange, exchange));
+            }
+
+            // the stored messages are replayed with the input exchange as well
+            assertEquals("AaBbCc", inputRepo.get(context, "foo").getIn().getBody());
+        } finally {
+            inputRepo.stop();
+        }
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                final String key = "key" + i % 20;
+                futures.add(executor.submit(() -> {
+                    Exchange exchange = new DefaultExchange(context);
+                    exchange.getIn().setBody("X");
+                    repo.add(context, key, repo.aggregate(null, exchange));
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(100, rowCount());
+        assertEquals(20, repo.getKeys().size());
+        assertEquals(20, repo.aggregateCount());
+    }
+
+    @Test
+    public void testOptimisticLockingNotSupported() {
+        Exchange exchange = new DefaultExchange(context);
+        assertThrows(UnsupportedOperationException.class, () -> repo.add(context, "foo", null, exchange));
+    }
+
+    @Test
+    public void testGetMergesFromRecords() throws Exception {
+        for (String body : new String[] { "A", "B" }) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody(body);
+            repo.add(context, "foo", repo.aggregate(repo.get(context, "foo"), exchange));
+        }
+
+        // the aggregated exchange is not kept in memory, so changing it does not change the group
+        Exchange actual = repo.get(context, "foo");
+        assertEquals("AB", actual.getIn().getBody());
+        actual.getIn().setBody("changed");
+        assertEquals("AB", repo.get(context, "foo").getIn().getBody());
+
+        repo.remove(context, "foo", actual);
+        assertNull(repo.get(context, "foo"));
+    }
+
+    private static class InputAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            throw new UnsupportedOperationException("Should aggregate with the input exchange");
+        }
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange, Exchange inputExchange) {
+            String body = newExchange.getIn().getBody(String.class)
+                          + inputExchange.getIn().getBody(String.class).toLowerCase();
+            if (oldExchange == null) {
+                newExchange.getIn().setBody(body);
+                return newExchange;
+            }
+            oldExchange.getIn().setBody(oldExchange.getIn().getBody(String.class) + body);
+            return oldExchange;
+        }
+    }
+
+    private int rowCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(1) FROM aggregationRepo6", Integer.class);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .aggregate(header("id"), repo).aggregationRepository(repo)
+                        .completionSize(5)
+                        .to("mock:aggregated");
+            }
+        };
+    }
+}
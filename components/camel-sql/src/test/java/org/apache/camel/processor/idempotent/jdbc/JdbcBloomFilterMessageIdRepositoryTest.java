@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.idempotent.jdbc;
+
+import java.io.File;
+import java.sql.Timestamp;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcBloomFilterMessageIdRepositoryTest extends CamelTestSupport {
+
+    protected static final String INSERT_STRING
+            = "INSERT INTO CAMEL_MESSAGEPROCESSED (processorName, messageId, createdAt) VALUES (?, ?, ?)";
+    protected static final String PROCESSOR_NAME = "myProcessorName";
+
+    @TempDir
+    File tempDir;
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcBloomFilterMessageIdRepository repository;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2).build();
+        jdbcTemplate = new JdbcTemplate(db);
+        repository = createRepository();
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    private JdbcBloomFilterMessageIdRepository createRepository() {
+        JdbcBloomFilterMessageIdRepository answer = new JdbcBloomFilterMessageIdRepository(db, PROCESSOR_NAME);
+        answer.setExpectedInsertions(100);
+        answer.setFilterFile(new File(tempDir, "filter.bin").getPath());
+        return answer;
+    }
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        repository.flush();
+        assertEquals(0, repository.getPendingSize());
+        assertEquals(3, rowCount());
+    }
+
+    @Test
+    public void testBatchInsert() {
+        for (int i = 0; i < 500; i++) {
+            assertTrue(repository.add("key" + i));
+        }
+        // the filter grows beyond the expected insertions
+        for (int i = 0; i < 500; i++) {
+            assertTrue(repository.contains("key" + i));
+            assertFalse(repository.add("key" + i));
+        }
+
+        repository.flush();
+        assertEquals(500, rowCount());
+        assertTrue(repository.remove("key1"));
+        assertFalse(repository.contains("key1"));
+        assertEquals(499, rowCount());
+    }
+
+    @Test
+    public void testWarmRestart() throws Exception {
+        repository.stop();
+        jdbcTemplate.update(INSERT_STRING, PROCESSOR_NAME, "1", new Timestamp(System.currentTimeMillis()));
+        repository.start();
+        assertTrue(repository.contains("1"));
+        assertTrue(repository.add("2"));
+        repository.stop();
+        assertTrue(new File(tempDir, "filter.bin").exists());
+
+        // inserted by someone else while stopped (the message ids inserted since the filter was saved are read)
+        jdbcTemplate.update(INSERT_STRING, PROCESSOR_NAME, "3", new Timestamp(System.currentTimeMillis()));
+
+        JdbcBloomFilterMessageIdRepository other = createRepository();
+        other.setCamelContext(context);
+        other.start();
+        try {
+            assertTrue(other.contains("1"));
+            assertTrue(other.contains("2"));
+            assertTrue(other.contains("3"));
+            assertFalse(other.contains("4"));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testFilterFileWithOtherConfigurationIsNotLoaded() throws Exception {
+        assertTrue(repository.add("1"));
+        repository.stop();
+        // inserted before the filter was saved, so its only in a filter built from the whole database
+        Timestamp before = new Timestamp(System.currentTimeMillis() - 60000);
+        jdbcTemplate.update(INSERT_STRING, PROCESSOR_NAME, "old", before);
+        jdbcTemplate.update(INSERT_STRING, "otherProcessorName", "old", before);
+
+        JdbcBloomFilterMessageIdRepository same = createRepository();
+        same.setCamelContext(context);
+        same.start();
+        try {
+            assertTrue(same.contains("1"));
+            assertFalse(same.contains("old"));
+        } finally {
+            same.stop();
+        }
+
+        JdbcBloomFilterMessageIdRepository resized = createRepository();
+        resized.setCamelContext(context);
+        resized.setExpectedInsertions(200);
+        resized.start();
+        try {
+            assertTrue(resized.contains("1"));
+            assertTrue(resized.contains("old"));
+        } finally {
+            resized.stop();
+        }
+
+        JdbcBloomFilterMessageIdRepository renamed = new JdbcBloomFilterMessageIdRepository(db, "otherProcessorName");
+        renamed.setCamelContext(context);
+        renamed.setExpectedInsertions(200);
+        renamed.setFilterFile(new File(tempDir, "filter.bin").getPath());
+        renamed.start();
+        try {
+            assertFalse(renamed.contains("1"));
+            assertTrue(renamed.contains("old"));
+        } finally {
+            renamed.stop();
+        }
+    }
+
+    @Test
+    public void testMaxPendingSize() throws Exception {
+        JdbcBloomFilterMessageIdRepository other = createRepository();
+        other.setCamelContext(context);
+        other.setFlushInterval(60000);
+        other.setMaxPendingSize(10);
+        other.start();
+        try {
+            for (int i = 0; i < 9; i++) {
+                assertTrue(other.add("key" + i));
+            }
+            assertEquals(9, other.getPendingSize());
+            assertEquals(0, rowCount());
+
+            // the pending message ids are inserted by the caller when full
+            assertTrue(other.add("key9"));
+            assertEquals(0, other.getPendingSize());
+            assertEquals(10, rowCount());
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testSynchronous() throws Exception {
+        JdbcBloomFilterMessageIdRepository other = createRepository();
+        other.setCamelContext(context);
+        other.setSynchronous(true);
+        other.start();
+        try {
+            assertTrue(other.add("1"));
+            assertEquals(0, other.getPendingSize());
+            assertEquals(1, rowCount());
+            assertFalse(other.add("1"));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testFilterSavedWhenFlushFails() throws Exception {
+        File file = new File(tempDir, "other.bin");
+        JdbcBloomFilterMessageIdRepository other = createRepository();
+        other.setCamelContext(context);
+        other.setFilterFile(file.getPath());
+        other.start();
+        assertTrue(other.add("1"));
+
+        // the pending message id cannot be inserted
+        db.shutdown();
+        assertThrows(Exception.class, other::stop);
+        assertTrue(file.exists());
+    }
+
+    private int rowCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ?",
+                Integer.class, PROCESSOR_NAME);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .idempotentConsumer(header("messageId"), repository)
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xtokenizer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An iterator which reads the tokens from another iterator in a background thread, so the tokens are extracted from the
+ * XML document while the previous tokens are being processed.
+ * <p/>
+ * The tokens are handed over using a bounded queue, so the reader thread waits when it is too far ahead. Closing the
+ * iterator stops the reader thread, and waits for it to finish before the underlying iterator is closed.
+ */
+class PipelinedTokenIterator implements Iterator<Object>, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PipelinedTokenIterator.class);
+    private static final Object END = new Object();
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int CLOSED = 2;
+
+    private final Iterator<?> delegate;
+    private final BlockingQueue<Object> queue;
+    private final AtomicInteger state = new AtomicInteger(NEW);
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    private Object nextToken;
+    private boolean done;
+
+    PipelinedTokenIterator(Iterator<?> delegate, ExecutorService executorService, int capacity) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        executorService.execute(this::readTokens);
+    }
+
+    private void readTokens() {
+        if (!state.compareAndSet(NEW, RUNNING)) {
+            // closed before the reader was started
+            return;
+        }
+        try {
+            while (!closed && delegate.hasNext()) {
+                Object token = delegate.next();
+                if (token != null && !put(token)) {
+                    return;
+                }
+            }
+        } catch (Throwable e) {
+            if (!closed) {
+                failure = e;
+            }
+        } finally {
+            // the end marker is always added, so the consumer is never left waiting
+            put(END);
+            finished.countDown();
+        }
+    }
+
+    private boolean put(Object token) {
+        try {
+            while (!closed) {
+                if (queue.offer(token, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextToken != null) {
+            return true;
+        }
+        if (done || closed) {
+            return false;
+        }
+        Object token;
+        try {
+            token = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeCamelException("Interrupted while waiting for the next token", e);
+        }
+        if (token == END) {
+            done = true;
+            Throwable cause = failure;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else if (cause != null) {
+                throw new RuntimeCamelException(cause);
+            }
+            return false;
+        }
+        nextToken = token;
+        return true;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = nextToken;
+        nextToken = null;
+        return answer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            queue.clear();
+            LOG.trace("Closing pipelined iterator");
+            if (!state.compareAndSet(NEW, CLOSED)) {
+                // the reader thread is running, so wait for it to stop before the delegate is closed
+                awaitReader();
+            }
+            if (delegate instanceof Closeable) {
+                IOHelper.close((Closeable) delegate);
+            }
+        }
+    }
+
+    private void awaitReader() {
+        try {
+            // the reader checks the closed flag after each token, and when waiting for room in the queue
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
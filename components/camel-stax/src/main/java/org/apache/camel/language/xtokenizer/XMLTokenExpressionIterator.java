@@ -16,6 +16,7 @@
  */
 package org.apache.camel.language.xtokenizer;
 
+import java.io.BufferedInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
@@ -30,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -56,11 +58,16 @@ import org.slf4j.LoggerFactory;
  * An {@link org.apache.camel.language.xtokenizer.XMLTokenizeLanguage} based iterator.
  */
 public class XMLTokenExpressionIterator extends ExpressionAdapter implements NamespaceAware {
+    private static final int PIPELINE_BUFFER_SIZE = 256 * 1024;
+
     protected final String path;
     protected char mode;
     protected int group;
     protected Expression source;
     protected Map<String, String> nsmap;
+    protected boolean pipelined;
+    protected int pipelineCapacity = 1000;
+    private ExecutorService executorService;
 
     public XMLTokenExpressionIterator(String path, char mode) {
         this(null, path, mode);
@@ -77,6 +84,9 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         super.init(context);
         // group must be 1 or higher
         this.group = Math.max(group, 1);
+        if (pipelined && executorService == null) {
+            executorService = context.getExecutorServiceManager().newCachedThreadPool(this, "XMLTokenizer");
+        }
     }
 
     @Override
@@ -105,6 +115,40 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
         this.group = group;
     }
 
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Whether to extract the tokens in a background thread, while the previous tokens are being processed, such as by
+     * the splitter.
+     */
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The thread pool to use for extracting the tokens, when pipelined. A thread pool is created if none is set.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    public int getPipelineCapacity() {
+        return pipelineCapacity;
+    }
+
+    /**
+     * The maximum number of tokens the background thread can extract ahead of processing, when pipelined.
+     */
+    public void setPipelineCapacity(int pipelineCapacity) {
+        this.pipelineCapacity = pipelineCapacity;
+    }
+
     protected Iterator<?> createIterator(InputStream in, String charset)
             throws XMLStreamException, UnsupportedEncodingException {
         return createIterator(new InputStreamReader(in, charset));
@@ -152,10 +196,19 @@ public class XMLTokenExpressionIterator extends ExpressionAdapter implements Nam
             if (in == null) {
                 throw new InvalidPayloadException(exchange, InputStream.class);
             }
+            boolean pipeline = pipelined && !closeStream && executorService != null;
+            if (pipeline) {
+                // read large chunks as the document is read in a background thread
+                in = new BufferedInputStream(in, PIPELINE_BUFFER_SIZE);
+            }
             // use xml stream reader which is capable of handling reading the xml stream
             // according to <xml encoding> charset
             reader = new XmlStreamReader(in);
-            return createIterator(reader);
+            Iterator<?> answer = createIterator(reader);
+            if (pipeline) {
+                answer = new PipelinedTokenIterator(answer, executorService, pipelineCapacity);
+            }
+            return answer;
         } catch (Exception e) {
             exchange.setException(e);
             // must close input stream
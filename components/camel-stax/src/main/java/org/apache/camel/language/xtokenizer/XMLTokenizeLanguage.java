@@ -18,6 +18,7 @@ package org.apache.camel.language.xtokenizer;
 
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -42,6 +43,33 @@ import org.apache.camel.support.builder.Namespaces;
 @Language("xtokenize")
 public class XMLTokenizeLanguage extends SingleInputTypedLanguageSupport {
 
+    private boolean pipelined;
+    private int pipelineCapacity = 1000;
+    private volatile ExecutorService executorService;
+
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Whether to extract the tokens in a background thread, while the previous tokens are being processed. This allows
+     * a streaming splitter to process large XML documents faster, especially with parallel processing.
+     */
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
+    public int getPipelineCapacity() {
+        return pipelineCapacity;
+    }
+
+    /**
+     * The maximum number of tokens the background thread can extract ahead of processing, when pipelined.
+     */
+    public void setPipelineCapacity(int pipelineCapacity) {
+        this.pipelineCapacity = pipelineCapacity;
+    }
+
     @Override
     protected boolean supportResultType() {
         // result type is handled specially in tokenizer
@@ -55,6 +83,12 @@ public class XMLTokenizeLanguage extends SingleInputTypedLanguageSupport {
 
         XMLTokenExpressionIterator xml = new XMLTokenExpressionIterator(source, expression, mode);
         xml.setGroup(property(int.class, properties, 3, 1));
+        boolean pipeline = property(boolean.class, properties, 5, pipelined);
+        xml.setPipelined(pipeline);
+        xml.setPipelineCapacity(property(int.class, properties, 6, pipelineCapacity));
+        if (pipeline && getCamelContext() != null) {
+            xml.setExecutorService(getOrCreateExecutorService());
+        }
         Object obj = properties[4];
         if (obj != null) {
             Namespaces ns;
@@ -103,4 +137,12 @@ public class XMLTokenizeLanguage extends SingleInputTypedLanguageSupport {
         return answer;
     }
 
+    private synchronized ExecutorService getOrCreateExecutorService() {
+        // shared by all the pipelined expressions
+        if (executorService == null) {
+            executorService = getCamelContext().getExecutorServiceManager().newCachedThreadPool(this, "XMLTokenizer");
+        }
+        return executorService;
+    }
+
 }
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xtokenizer;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PipelinedTokenIteratorTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTokens() throws Exception {
+        MyIterator delegate = new MyIterator(5, null);
+        try (PipelinedTokenIterator it = new PipelinedTokenIterator(delegate, executor, 2)) {
+            for (int i = 0; i < 5; i++) {
+                assertTrue(it.hasNext());
+                assertEquals(i, it.next());
+            }
+            assertFalse(it.hasNext());
+        }
+        assertTrue(delegate.closed.get());
+    }
+
+    @Test
+    public void testRuntimeException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("Forced");
+        try (PipelinedTokenIterator it = new PipelinedTokenIterator(new MyIterator(2, failure), executor, 10)) {
+            assertEquals(0, it.next());
+            assertEquals(1, it.next());
+            assertSame(failure, assertThrows(IllegalStateException.class, it::hasNext));
+        }
+    }
+
+    @Test
+    public void testError() throws Exception {
+        // an error in the reader thread must not leave the consumer waiting for the next token
+        StackOverflowError failure = new StackOverflowError("Forced");
+        try (PipelinedTokenIterator it = new PipelinedTokenIterator(new MyIterator(1, failure), executor, 10)) {
+            assertEquals(0, it.next());
+            assertSame(failure, assertThrows(StackOverflowError.class, it::hasNext));
+        }
+    }
+
+    @Test
+    public void testCloseWaitsForReader() throws Exception {
+        MyIterator delegate = new MyIterator(Integer.MAX_VALUE, null);
+        PipelinedTokenIterator it = new PipelinedTokenIterator(delegate, executor, 1);
+        assertEquals(0, it.next());
+        assertEquals(1, it.next());
+
+        it.close();
+        assertTrue(delegate.closed.get());
+        // the delegate is not closed while the reader thread is still using it
+        assertFalse(delegate.closedWhileReading.get());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testCloseBeforeReaderStarted() throws Exception {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            // occupy the only thread, so the reader is queued
+            AtomicBoolean release = new AtomicBoolean();
+            single.execute(() -> {
+                while (!release.get()) {
+                    Thread.onSpinWait();
+                }
+            });
+            MyIterator delegate = new MyIterator(5, null);
+            PipelinedTokenIterator it = new PipelinedTokenIterator(delegate, single, 1);
+            it.close();
+            assertTrue(delegate.closed.get());
+            release.set(true);
+            single.shutdown();
+            assertTrue(single.awaitTermination(5, TimeUnit.SECONDS));
+            // the reader is not started after the iterator was closed
+            assertEquals(0, delegate.read.get());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    private static final class MyIterator implements Iterator<Object>, Closeable {
+
+        private final int size;
+        private final Throwable failure;
+        private final AtomicInteger read = new AtomicInteger();
+        private final AtomicBoolean reading = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean closedWhileReading = new AtomicBoolean();
+
+        private MyIterator(int size, Throwable failure) {
+            this.size = size;
+            this.failure = failure;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (read.get() < size) {
+                return true;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            return false;
+        }
+
+        @Override
+        public Object next() {
+            reading.set(true);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                reading.set(false);
+            }
+            return read.getAndIncrement();
+        }
+
+        @Override
+        public void close() {
+            closedWhileReading.set(reading.get());
+            closed.set(true);
+        }
+    }
+}
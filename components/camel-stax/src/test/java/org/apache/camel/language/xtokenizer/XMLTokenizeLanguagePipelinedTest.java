@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xtokenizer;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.builder.Namespaces;
+import org.junit.jupiter.api.Test;
+
+public class XMLTokenizeLanguagePipelinedTest extends XMLTokenizeLanguageTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        XMLTokenizeLanguage language = (XMLTokenizeLanguage) context.resolveLanguage("xtokenize");
+        language.setPipelined(true);
+        language.setPipelineCapacity(10);
+        return context;
+    }
+
+    @Test
+    public void testParallelSplitLargeDocument() throws Exception {
+        StringBuilder sb = new StringBuilder("<?xml version='1.0' encoding='UTF-8'?><c:parent xmlns:c='urn:c'>");
+        for (int i = 0; i < 5000; i++) {
+            sb.append("<c:child id='").append(i).append("'>").append(i).append("</c:child>");
+        }
+        sb.append("</c:parent>");
+
+        MockEndpoint mock = getMockEndpoint("mock:parallel");
+        mock.expectedMessageCount(5000);
+
+        template.sendBody("direct:parallel", sb.toString());
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            Namespaces ns = new Namespaces("C", "urn:c");
+
+            public void configure() {
+                from("direct:start").split().xtokenize("//C:child", ns).streaming().to("mock:result").end();
+
+                from("direct:parallel").split().xtokenize("//C:child", ns).streaming().parallelProcessing()
+                        .to("mock:parallel").end();
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xtokenizer;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.builder.Namespaces;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class XMLTokenizePipelinedModelTest extends CamelTestSupport {
+
+    @Test
+    public void testPipelinedFromModel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:start",
+                "<?xml version='1.0' encoding='UTF-8'?><c:parent xmlns:c='urn:c'><c:child>a</c:child><c:child>b</c:child></c:parent>");
+
+        MockEndpoint.assertIsSatisfied(context);
+        Object tokens = mock.getReceivedExchanges().get(0).getIn().getHeader("tokens");
+        assertInstanceOf(PipelinedTokenIterator.class, tokens);
+        try (PipelinedTokenIterator it = (PipelinedTokenIterator) tokens) {
+            assertEquals("<c:child xmlns:c=\"urn:c\">a</c:child>", it.next());
+            assertEquals("<c:child xmlns:c=\"urn:c\">b</c:child>", it.next());
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            Namespaces ns = new Namespaces("C", "urn:c");
+
+            public void configure() {
+                from("direct:start")
+                        .setHeader("tokens",
+                                expression().xtokenize().expression("//C:child").namespaces(ns).pipelined(true)
+                                        .pipelineCapacity(1).end())
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.xpath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.xpath.XPathConstants;
+
+import org.apache.camel.converter.jaxp.StaxConverter;
+
+/**
+ * Evaluates a subset of XPath while reading the document with StAX, so large documents do not need to be loaded as a
+ * DOM.
+ * <p/>
+ * Supported are absolute location paths of element steps on the child and descendant axes, such as
+ * <tt>/order/header/id</tt> or <tt>//item</tt>, optionally ending with an attribute step (<tt>/order/@id</tt>) or
+ * <tt>text()</tt>. An element step can be a name (with a namespace prefix), or <tt>*</tt>, and can have one predicate
+ * with an attribute test (<tt>[@type]</tt> or <tt>[@type='book']</tt>), or a position (<tt>[2]</tt>) on the child axis.
+ * <p/>
+ * The result is the same as evaluating the expression with JAXP as a string, number or boolean. Reading the document
+ * stops as soon as the first match is found, and elements that cannot match are skipped.
+ */
+final class StreamingXPath {
+
+    /**
+     * Returned when the document has content that is not supported, such as a DTD, and the expression must be evaluated
+     * on a DOM instead.
+     */
+    static final Object NOT_HANDLED = new Object();
+
+    private static final Pattern NCNAME = Pattern.compile("[A-Za-z_][\\w.\\-]*");
+    private static final Pattern NUMBER = Pattern.compile("\\s*-?(\\d+(\\.\\d*)?|\\.\\d+)\\s*");
+    private static final Pattern POSITION = Pattern.compile("[1-9]\\d{0,8}");
+
+    private final Step[] steps;
+    private final QName attribute;
+    private final boolean text;
+    private final boolean positional;
+
+    private StreamingXPath(Step[] steps, QName attribute, boolean text) {
+        this.steps = steps;
+        this.attribute = attribute;
+        this.text = text;
+        boolean found = false;
+        for (Step step : steps) {
+            found |= step.position > 0;
+        }
+        this.positional = found;
+    }
+
+    /**
+     * Compiles the expression.
+     *
+     * @param  text             the xpath expression
+     * @param  namespaceContext to resolve namespace prefixes
+     * @return                  the compiled expression, or <tt>null</tt> if the expression is not supported
+     */
+    static StreamingXPath compile(String text, NamespaceContext namespaceContext) {
+        String path = text.trim();
+        List<Step> steps = new ArrayList<>();
+        QName attribute = null;
+        boolean textNode = false;
+        int i = 0;
+        while (i < path.length()) {
+            if (attribute != null || textNode || path.charAt(i) != '/') {
+                return null;
+            }
+            boolean descendant = path.startsWith("//", i);
+            i += descendant ? 2 : 1;
+            int end = stepEnd(path, i);
+            if (end < 0) {
+                return null;
+            }
+            String step = path.substring(i, end);
+            i = end;
+            if (step.startsWith("@") || "text()".equals(step)) {
+                if (descendant || steps.isEmpty()) {
+                    return null;
+                }
+                if (step.startsWith("@")) {
+                    attribute = name(step.substring(1), namespaceContext);
+                    if (attribute == null) {
+                        return null;
+                    }
+                } else {
+                    textNode = true;
+                }
+            } else {
+                Step parsed = Step.parse(step, descendant, namespaceContext);
+                if (parsed == null || steps.size() >= 62) {
+                    return null;
+                }
+                steps.add(parsed);
+            }
+        }
+        if (steps.isEmpty()) {
+            return null;
+        }
+        return new StreamingXPath(steps.toArray(new Step[0]), attribute, textNode);
+    }
+
+    /**
+     * The reader factory to use, which does not support DTDs or external entities.
+     */
+    static XMLInputFactory inputFactory() {
+        return InputFactoryHolder.FACTORY;
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param  reader      the document
+     * @param  resultQName the result type, which is one of string, number or boolean
+     * @return             the result, or {@link #NOT_HANDLED} if the expression must be evaluated on a DOM instead
+     */
+    Object evaluate(XMLStreamReader reader, QName resultQName) throws XMLStreamException {
+        Object value = findFirst(reader, XPathConstants.BOOLEAN.equals(resultQName));
+        if (value == NOT_HANDLED) {
+            return value;
+        }
+        if (XPathConstants.BOOLEAN.equals(resultQName)) {
+            return value != null;
+        } else if (XPathConstants.NUMBER.equals(resultQName)) {
+            return value != null && NUMBER.matcher((String) value).matches()
+                    ? Double.valueOf(((String) value).trim()) : Double.NaN;
+        }
+        return value != null ? value : "";
+    }
+
+    private Object findFirst(XMLStreamReader reader, boolean exists) throws XMLStreamException {
+        int last = steps.length;
+        // the states of each open element, as bits of the number of steps matched so far
+        long[] states = new long[16];
+        int[][] counts = positional ? new int[16][last] : null;
+        int depth = 0;
+        states[0] = 1L;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                long parent = states[depth];
+                long current = 0;
+                for (int s = 0; s < last; s++) {
+                    if ((parent & (1L << s)) == 0) {
+                        continue;
+                    }
+                    Step step = steps[s];
+                    if (step.descendant) {
+                        current |= 1L << s;
+                    }
+                    if (step.matches(reader, counts != null ? counts[depth] : null, s)) {
+                        current |= 1L << (s + 1);
+                    }
+                }
+                if (current == 0) {
+                    // nothing can match inside this element
+                    skipElement(reader);
+                    continue;
+                }
+                depth++;
+                if (depth == states.length) {
+                    states = Arrays.copyOf(states, depth * 2);
+                    if (counts != null) {
+                        counts = Arrays.copyOf(counts, depth * 2);
+                    }
+                }
+                states[depth] = current;
+                if (counts != null) {
+                    if (counts[depth] == null) {
+                        counts[depth] = new int[last];
+                    } else {
+                        Arrays.fill(counts[depth], 0);
+                    }
+                }
+                if ((current & (1L << last)) != 0) {
+                    Object value;
+                    if (attribute != null) {
+                        value = attributeValue(reader, attribute.getNamespaceURI(), attribute.getLocalPart());
+                    } else if (exists && !text) {
+                        return Boolean.TRUE;
+                    } else {
+                        value = text ? readFirstText(reader) : readStringValue(reader);
+                        if (value != NOT_HANDLED) {
+                            // the element has been read to its end
+                            depth--;
+                        }
+                    }
+                    if (value != null) {
+                        return value;
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.DTD || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                return NOT_HANDLED;
+            }
+        }
+        return null;
+    }
+
+    private static Object readStringValue(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int level = 1;
+        while (level > 0) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    level++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    level--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    sb.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    break;
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    return NOT_HANDLED;
+                default:
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Object readFirstText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder sb = null;
+        int level = 1;
+        while (level > 0) {
+            int event = reader.next();
+            boolean isText = event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE;
+            if (level == 1 && isText) {
+                if (sb == null) {
+                    sb = new StringBuilder();
+                }
+                sb.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                continue;
+            }
+            if (event == XMLStreamConstants.ENTITY_REFERENCE) {
+                return NOT_HANDLED;
+            }
+            if (sb != null) {
+                // the first text node has ended
+                return sb.toString();
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                level++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                level--;
+            }
+        }
+        return null;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int level = 1;
+        while (level > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                level++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                level--;
+            }
+        }
+    }
+
+    private static String attributeValue(XMLStreamReader reader, String namespace, String localName) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (localName.equals(reader.getAttributeLocalName(i))
+                    && namespace.equals(nonNull(reader.getAttributeNamespace(i)))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private static String nonNull(String namespace) {
+        return namespace != null ? namespace : XMLConstants.NULL_NS_URI;
+    }
+
+    /**
+     * Finds the end of the step which starts at the given index, or -1 if the step is empty or has unbalanced quotes or
+     * brackets.
+     */
+    private static int stepEnd(String path, int start) {
+        int brackets = 0;
+        char quote = 0;
+        int i = start;
+        for (; i < path.length(); i++) {
+            char ch = path.charAt(i);
+            if (quote != 0) {
+                if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (ch == '\'' || ch == '"') {
+                quote = ch;
+            } else if (ch == '[') {
+                brackets++;
+            } else if (ch == ']') {
+                brackets--;
+            } else if (ch == '/' && brackets == 0) {
+                break;
+            }
+        }
+        return i == start || quote != 0 || brackets != 0 ? -1 : i;
+    }
+
+    /**
+     * Parses a (prefixed) name, or returns <tt>null</tt> if not a valid name or the prefix is not bound.
+     */
+    private static QName name(String name, NamespaceContext namespaceContext) {
+        int idx = name.indexOf(':');
+        String prefix = idx > 0 ? name.substring(0, idx) : null;
+        String localName = name.substring(idx + 1);
+        if (!NCNAME.matcher(localName).matches() || prefix != null && !NCNAME.matcher(prefix).matches()) {
+            return null;
+        }
+        if (prefix == null) {
+            // unprefixed names in xpath never use a default namespace
+            return new QName(XMLConstants.NULL_NS_URI, localName);
+        }
+        String namespace = namespaceContext != null ? namespaceContext.getNamespaceURI(prefix) : null;
+        if (namespace == null || namespace.isEmpty()) {
+            return null;
+        }
+        return new QName(namespace, localName);
+    }
+
+    private static final class InputFactoryHolder {
+        private static final XMLInputFactory FACTORY = StaxConverter.createXMLInputFactory(true);
+    }
+
+    private static final class Step {
+        private final boolean descendant;
+        private final QName name;
+        private final QName predicateAttribute;
+        private final String predicateValue;
+        private final int position;
+
+        private Step(boolean descendant, QName name, QName predicateAttribute, String predicateValue, int position) {
+            this.descendant = descendant;
+            this.name = name;
+            this.predicateAttribute = predicateAttribute;
+            this.predicateValue = predicateValue;
+            this.position = position;
+        }
+
+        static Step parse(String step, boolean descendant, NamespaceContext namespaceContext) {
+            int idx = step.indexOf('[');
+            String test = idx < 0 ? step : step.substring(0, idx);
+            QName name = null;
+            if (!"*".equals(test)) {
+                name = name(test, namespaceContext);
+                if (name == null) {
+                    return null;
+                }
+            }
+            if (idx < 0) {
+                return new Step(descendant, name, null, null, 0);
+            }
+            // a single predicate
+            String predicate = step.endsWith("]") ? step.substring(idx + 1, step.length() - 1).trim() : "[";
+            if (predicate.indexOf('[') >= 0 || predicate.indexOf(']') >= 0) {
+                return null;
+            }
+            if (POSITION.matcher(predicate).matches()) {
+                // position on the descendant axis depends on the parent of each element, which is not supported
+                return descendant ? null : new Step(false, name, null, null, Integer.parseInt(predicate));
+            }
+            if (!predicate.startsWith("@")) {
+                return null;
+            }
+            int eq = predicate.indexOf('=');
+            String attr = (eq < 0 ? predicate.substring(1) : predicate.substring(1, eq)).trim();
+            QName predicateAttribute = name(attr, namespaceContext);
+            if (predicateAttribute == null) {
+                return null;
+            }
+            String value = null;
+            if (eq >= 0) {
+                value = predicate.substring(eq + 1).trim();
+                if (value.length() < 2 || value.charAt(0) != value.charAt(value.length() - 1)
+                        || value.charAt(0) != '\'' && value.charAt(0) != '"'
+                        || value.indexOf(value.charAt(0), 1) != value.length() - 1) {
+                    return null;
+                }
+                value = value.substring(1, value.length() - 1);
+            }
+            return new Step(descendant, name, predicateAttribute, value, 0);
+        }
+
+        boolean matches(XMLStreamReader reader, int[] counts, int index) {
+            if (name != null && (!name.getLocalPart().equals(reader.getLocalName())
+                    || !name.getNamespaceURI().equals(nonNull(reader.getNamespaceURI())))) {
+                return false;
+            }
+            if (position > 0) {
+                return ++counts[index] == position;
+            }
+            if (predicateAttribute != null) {
+                String value = attributeValue(reader, predicateAttribute.getNamespaceURI(),
+                        predicateAttribute.getLocalPart());
+                return value != null && (predicateValue == null || predicateValue.equals(value));
+            }
+            return true;
+        }
+    }
+}
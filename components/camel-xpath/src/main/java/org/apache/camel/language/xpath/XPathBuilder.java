@@ -16,19 +16,22 @@
  */
 package org.apache.camel.language.xpath;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.namespace.QName;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
 import javax.xml.xpath.XPath;
@@ -55,6 +58,7 @@ import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.Predicate;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.RuntimeExpressionException;
+import org.apache.camel.StreamCache;
 import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.ExpressionResultTypeAware;
 import org.apache.camel.spi.Language;
@@ -64,6 +68,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.builder.Namespaces;
 import org.apache.camel.support.builder.xml.XMLConverterHelper;
+import org.apache.camel.support.builder.xml.XmlArtifactPool;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -96,17 +101,25 @@ public class XPathBuilder extends ServiceSupport
     private static final String SAXON_FACTORY_CLASS_NAME = "net.sf.saxon.xpath.XPathFactoryImpl";
     private static final String OBTAIN_ALL_NS_XPATH = "//*/namespace::*";
 
+    /**
+     * The default maximum number of pre compiled xpath expressions which are pooled for reuse
+     */
+    public static final int DEFAULT_POOL_SIZE = Math.max(16, Runtime.getRuntime().availableProcessors() * 2);
+
     private static volatile XPathFactory defaultXPathFactory;
 
     private CamelContext camelContext;
-    private final Queue<XPathExpression> pool = new ConcurrentLinkedQueue<>();
-    private final Queue<XPathExpression> poolLogNamespaces = new ConcurrentLinkedQueue<>();
+    private volatile XmlArtifactPool<XPathExpression> pool = new XmlArtifactPool<>(DEFAULT_POOL_SIZE);
+    private volatile XmlArtifactPool<XPathExpression> poolLogNamespaces = new XmlArtifactPool<>(DEFAULT_POOL_SIZE);
     private final String text;
     private final ThreadLocal<Exchange> exchange = new ThreadLocal<>();
     private final MessageVariableResolver variableResolver = new MessageVariableResolver(exchange);
     private final Map<String, String> namespaces = new ConcurrentHashMap<>();
     private boolean preCompile = true;
+    private int poolSize = DEFAULT_POOL_SIZE;
     private boolean threadSafety;
+    private boolean streaming;
+    private volatile StreamingXPath streamingXPath;
     private volatile XPathFactory xpathFactory;
     private volatile Class<?> documentType = Document.class;
     // For some reason the default expression of "a/b" on a document such as
@@ -159,11 +172,11 @@ public class XPathBuilder extends ServiceSupport
 
     @Override
     public void init(CamelContext context) {
-        if (preCompile && pool.isEmpty()) {
+        if (preCompile && pool.size() == 0) {
             LOG.trace("PreCompiling new XPathExpression and adding to pool during initialization");
             try {
                 XPathExpression xpathExpression = createXPathExpression();
-                pool.add(xpathExpression);
+                pool.release(xpathExpression);
             } catch (XPathExpressionException e) {
                 throw RuntimeCamelException.wrapRuntimeException(e);
             }
@@ -513,6 +526,36 @@ public class XPathBuilder extends ServiceSupport
         return this;
     }
 
+    /**
+     * Sets the maximum number of pre compiled xpath expressions which are pooled for reuse. The expressions are not
+     * thread safe, so each concurrent evaluation uses its own expression, and a new expression is compiled when the
+     * pool has none available. The default is twice the number of processors, and at least 16.
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder poolSize(int poolSize) {
+        setPoolSize(poolSize);
+        return this;
+    }
+
+    /**
+     * Whether to evaluate simple xpath expressions while streaming the message body, instead of loading the body as a
+     * DOM. Streaming is disabled by default, as the result can differ from a DOM, for example adjacent text and CDATA
+     * sections are always merged into one text node.
+     *
+     * This is used when the result is a string, number or boolean, and the body is a String, byte array or stream
+     * cache. The expression must be an absolute path of elements on the child and descendant axes, optionally with one
+     * attribute or position predicate per element, and ending with an attribute or <tt>text()</tt>, such as
+     * <tt>/order/header/id</tt> or <tt>//item[@type='book']/@id</tt>. Other expressions are evaluated on a DOM as
+     * usual.
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder streaming(boolean streaming) {
+        setStreaming(streaming);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -568,6 +611,27 @@ public class XPathBuilder extends ServiceSupport
         this.preCompile = preCompile;
     }
 
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("PoolSize must be positive, was: " + poolSize);
+        }
+        this.poolSize = poolSize;
+        this.pool = new XmlArtifactPool<>(poolSize);
+        this.poolLogNamespaces = new XmlArtifactPool<>(poolSize);
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     /**
      * Gets the namespace context, can be <tt>null</tt> if no custom context has been assigned.
      * <p/>
@@ -888,8 +952,15 @@ public class XPathBuilder extends ServiceSupport
      * Evaluates the expression as the given result type
      */
     protected Object evaluateAs(Exchange exchange, QName resultQName) {
+        if (streaming && !logNamespaces) {
+            Object answer = evaluateStreaming(exchange, resultQName);
+            if (answer != StreamingXPath.NOT_HANDLED) {
+                return answer;
+            }
+        }
+
         // pool a pre compiled expression from pool
-        XPathExpression xpathExpression = pool.poll();
+        XPathExpression xpathExpression = pool.acquire();
         if (xpathExpression == null) {
             LOG.trace("Creating new XPathExpression as none was available from pool");
             // no avail in pool then create one
@@ -909,19 +980,81 @@ public class XPathBuilder extends ServiceSupport
             }
             return doInEvaluateAs(xpathExpression, exchange, resultQName);
         } finally {
-            // release it back to the pool
-            pool.add(xpathExpression);
+            // release it back to the pool (discarded if the pool is full)
+            pool.release(xpathExpression);
             LOG.trace("Released XPathExpression back to pool");
         }
     }
 
+    /**
+     * Evaluates the expression while reading the payload with StAX, which is only supported for simple expressions
+     *
+     * @return the result, or {@link StreamingXPath#NOT_HANDLED} if the expression must be evaluated on a DOM
+     */
+    private Object evaluateStreaming(Exchange exchange, QName resultQName) {
+        if (!XPathConstants.STRING.equals(resultQName) && !XPathConstants.NUMBER.equals(resultQName)
+                && !XPathConstants.BOOLEAN.equals(resultQName)) {
+            return StreamingXPath.NOT_HANDLED;
+        }
+        // the streaming expression is compiled when this builder is started, if not then evaluate using DOM
+        StreamingXPath path = streamingXPath;
+        if (path == null) {
+            return StreamingXPath.NOT_HANDLED;
+        }
+
+        Object payload = source != null ? source.evaluate(exchange, Object.class) : exchange.getMessage().getBody();
+        if (payload instanceof StreamCache && !(payload instanceof InputStream)) {
+            return StreamingXPath.NOT_HANDLED;
+        }
+        if (!(payload instanceof String) && !(payload instanceof byte[]) && !(payload instanceof StreamCache)) {
+            return StreamingXPath.NOT_HANDLED;
+        }
+
+        XMLStreamReader reader = null;
+        try {
+            XMLInputFactory factory = StreamingXPath.inputFactory();
+            if (payload instanceof String) {
+                reader = factory.createXMLStreamReader(new StringReader((String) payload));
+            } else {
+                InputStream is;
+                if (payload instanceof byte[]) {
+                    is = new ByteArrayInputStream((byte[]) payload);
+                } else {
+                    ((StreamCache) payload).reset();
+                    is = (InputStream) payload;
+                }
+                String charsetName = ExchangeHelper.getCharsetName(exchange, false);
+                reader = charsetName != null
+                        ? factory.createXMLStreamReader(is, charsetName) : factory.createXMLStreamReader(is);
+            }
+            Object answer = path.evaluate(reader, resultQName);
+            LOG.trace("Done streaming evaluation of exchange: {} as: {} with result: {}", exchange, resultQName, answer);
+            return answer;
+        } catch (XMLStreamException e) {
+            // let the DOM evaluation fail with its usual error
+            LOG.trace("Cannot evaluate using streaming, will evaluate using DOM instead", e);
+            return StreamingXPath.NOT_HANDLED;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // ignore
+                }
+            }
+            if (payload instanceof StreamCache) {
+                ((StreamCache) payload).reset();
+            }
+        }
+    }
+
     private void logNamespaces(Exchange exchange) {
         InputStream is = null;
         NodeList answer = null;
         XPathExpression xpathExpression = null;
 
         try {
-            xpathExpression = poolLogNamespaces.poll();
+            xpathExpression = poolLogNamespaces.acquire();
             if (xpathExpression == null) {
                 xpathExpression = createTraceNamespaceExpression();
             }
@@ -960,7 +1093,9 @@ public class XPathBuilder extends ServiceSupport
         } finally {
             // IOHelper can handle if is is null
             IOHelper.close(is);
-            poolLogNamespaces.add(xpathExpression);
+            if (xpathExpression != null) {
+                poolLogNamespaces.release(xpathExpression);
+            }
         }
 
         if (answer != null) {
@@ -1279,6 +1414,10 @@ public class XPathBuilder extends ServiceSupport
         for (Map.Entry<String, String> entry : namespaces.entrySet()) {
             namespaceContext.add(entry.getKey(), entry.getValue());
         }
+        // simple expressions can be evaluated by streaming, unless a custom xpath engine is in use
+        if (streaming && objectModelUri == null && xpathFactory == defaultXPathFactory) {
+            streamingXPath = StreamingXPath.compile(text, namespaceContext);
+        }
 
         // create default functions if no custom assigned
         if (bodyFunction == null) {
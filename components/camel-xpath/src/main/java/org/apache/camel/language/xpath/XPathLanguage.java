@@ -43,6 +43,8 @@ public class XPathLanguage extends SingleInputTypedLanguageSupport implements Pr
     private Boolean threadSafety;
     private Boolean logNamespaces;
     private Boolean preCompile;
+    private Boolean streaming;
+    private Integer poolSize;
 
     @Override
     public Predicate createPredicate(Expression source, String expression, Object[] properties) {
@@ -127,6 +129,22 @@ public class XPathLanguage extends SingleInputTypedLanguageSupport implements Pr
         this.preCompile = preCompile;
     }
 
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public Integer getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(Integer poolSize) {
+        this.poolSize = poolSize;
+    }
+
     protected void configureBuilder(XPathBuilder builder, Object[] properties, Expression source) {
         builder.setSource(source);
 
@@ -168,6 +186,13 @@ public class XPathLanguage extends SingleInputTypedLanguageSupport implements Pr
         if (bool != null) {
             builder.setLogNamespaces(bool);
         }
+        bool = property(Boolean.class, properties, 11, streaming);
+        if (bool != null) {
+            builder.setStreaming(bool);
+        }
+        if (poolSize != null) {
+            builder.setPoolSize(poolSize);
+        }
         Map<String, String> ns = property(Map.class, properties, 10, null);
         if (ns != null && !ns.isEmpty()) {
             builder.setNamespaces(ns);
@@ -216,6 +241,13 @@ public class XPathLanguage extends SingleInputTypedLanguageSupport implements Pr
             case "precompile":
                 setPreCompile(PropertyConfigurerSupport.property(camelContext, Boolean.class, value));
                 return true;
+            case "streaming":
+                setStreaming(PropertyConfigurerSupport.property(camelContext, Boolean.class, value));
+                return true;
+            case "poolsize":
+            case "poolSize":
+                setPoolSize(PropertyConfigurerSupport.property(camelContext, Integer.class, value));
+                return true;
             default:
                 return false;
         }
@@ -23,8 +23,6 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Result;
@@ -45,6 +43,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.builder.xml.XMLConverterHelper;
+import org.apache.camel.support.builder.xml.XmlArtifactPool;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
@@ -63,8 +62,8 @@ public class XsltBuilder implements Processor {
 
     protected static final Logger LOG = LoggerFactory.getLogger(XsltBuilder.class);
     private Map<String, Object> parameters = new HashMap<>();
-    private Templates template;
-    private volatile BlockingQueue<Transformer> transformers;
+    private volatile CompiledTemplate compiled = new CompiledTemplate(null, 0);
+    private volatile int transformerCacheSize;
     private volatile SourceHandlerFactory sourceHandlerFactory;
     private ResultHandlerFactory resultHandlerFactory = new StringResultHandlerFactory();
     private boolean failOnNullBody = true;
@@ -81,17 +80,19 @@ public class XsltBuilder implements Processor {
     }
 
     public XsltBuilder(Templates templates) {
-        this.template = templates;
+        this.compiled = new CompiledTemplate(templates, 0);
     }
 
     @Override
     public String toString() {
-        return "XSLT[" + template + "]";
+        return "XSLT[" + getTemplate() + "]";
     }
 
     @Override
     public void process(Exchange exchange) throws Exception {
-        notNull(getTemplate(), "template");
+        // use the same template and pool for the whole transformation, even if the template is changed meanwhile
+        CompiledTemplate current = compiled;
+        notNull(current.template, "template");
 
         if (isDeleteOutputFile()) {
             // add on completion, so we can delete the file when the Exchange is done
@@ -99,7 +100,7 @@ public class XsltBuilder implements Processor {
             exchange.getExchangeExtension().addOnCompletion(new XsltBuilderOnCompletion(fileName));
         }
 
-        Transformer transformer = getTransformer();
+        Transformer transformer = getTransformer(current);
         configureTransformer(transformer, exchange);
 
         ResultHandler resultHandler = resultHandlerFactory.createResult(exchange);
@@ -124,7 +125,7 @@ public class XsltBuilder implements Processor {
             LOG.trace("Transform complete with result {}", result);
             resultHandler.setBody(out);
         } finally {
-            releaseTransformer(transformer);
+            releaseTransformer(current, transformer);
             // IOHelper can handle if null
             IOHelper.close(is);
         }
@@ -245,11 +246,8 @@ public class XsltBuilder implements Processor {
      * @param numberToCache the maximum number of transformers to cache
      */
     public XsltBuilder transformerCacheSize(int numberToCache) {
-        if (numberToCache > 0) {
-            transformers = new ArrayBlockingQueue<>(numberToCache);
-        } else {
-            transformers = null;
-        }
+        transformerCacheSize = Math.max(numberToCache, 0);
+        compiled = new CompiledTemplate(compiled.template, transformerCacheSize);
         return this;
     }
 
@@ -278,14 +276,36 @@ public class XsltBuilder implements Processor {
     }
 
     public void setTemplate(Templates template) {
-        this.template = template;
-        if (transformers != null) {
-            transformers.clear();
-        }
+        // swap the template together with a new pool, so transformers of the old template are not reused
+        this.compiled = new CompiledTemplate(template, transformerCacheSize);
     }
 
     public Templates getTemplate() {
-        return template;
+        return compiled.template;
+    }
+
+    /**
+     * Number of times a cached {@link Transformer} was reused, since the template was last set.
+     */
+    public long getTransformerCacheHits() {
+        XmlArtifactPool<Transformer> pool = compiled.transformers;
+        return pool != null ? pool.getHits() : 0;
+    }
+
+    /**
+     * Number of times a new {@link Transformer} was created, as none was cached, since the template was last set.
+     */
+    public long getTransformerCacheMisses() {
+        XmlArtifactPool<Transformer> pool = compiled.transformers;
+        return pool != null ? pool.getMisses() : 0;
+    }
+
+    /**
+     * Number of {@link Transformer}s currently cached.
+     */
+    public int getCachedTransformerCount() {
+        XmlArtifactPool<Transformer> pool = compiled.transformers;
+        return pool != null ? pool.size() : 0;
     }
 
     public boolean isFailOnNullBody() {
@@ -427,20 +447,20 @@ public class XsltBuilder implements Processor {
         this.xsltMessageLogger = xsltMessageLogger;
     }
 
-    private void releaseTransformer(Transformer transformer) {
-        if (transformers != null) {
+    private void releaseTransformer(CompiledTemplate current, Transformer transformer) {
+        // only the pool of the active template is reused, so a transformer created by createTransformer()
+        // after the template was changed is never pooled together with the transformers of the old template
+        if (current.transformers != null && current == compiled) {
             transformer.reset();
-            boolean result = transformers.offer(transformer);
-            if (!result) {
-                LOG.error("failed to offer() a transform");
-            }
+            // the transformer is discarded if the cache is full
+            current.transformers.release(transformer);
         }
     }
 
-    private Transformer getTransformer() throws Exception {
+    private Transformer getTransformer(CompiledTemplate current) throws Exception {
         Transformer t = null;
-        if (transformers != null) {
-            t = transformers.poll();
+        if (current.transformers != null) {
+            t = current.transformers.acquire();
         }
         if (t == null) {
             t = createTransformer();
@@ -497,6 +517,19 @@ public class XsltBuilder implements Processor {
         }
     }
 
+    /**
+     * The template together with the pool of transformers created from it.
+     */
+    private static final class CompiledTemplate {
+        private final Templates template;
+        private final XmlArtifactPool<Transformer> transformers;
+
+        private CompiledTemplate(Templates template, int transformerCacheSize) {
+            this.template = template;
+            this.transformers = transformerCacheSize > 0 ? new XmlArtifactPool<>(transformerCacheSize) : null;
+        }
+    }
+
     private static final class XsltBuilderOnCompletion extends SynchronizationAdapter {
         private final String fileName;
 
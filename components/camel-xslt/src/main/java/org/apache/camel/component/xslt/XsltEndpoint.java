@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Source;
@@ -61,6 +62,7 @@ public class XsltEndpoint extends ProcessorEndpoint {
     private static final Logger LOG = LoggerFactory.getLogger(XsltEndpoint.class);
 
     private volatile boolean cacheCleared;
+    private final AtomicBoolean reloading = new AtomicBoolean();
     private volatile XsltBuilder xslt;
     private Map<String, Object> parameters;
 
@@ -138,12 +140,29 @@ public class XsltEndpoint extends ProcessorEndpoint {
                 return;
             }
         }
-        if (!contentCache || cacheCleared) {
+        if (!contentCache) {
             loadResource(resourceUri, xslt);
+        } else if (cacheCleared) {
+            reloadResource();
         }
         super.onExchange(exchange);
     }
 
+    private void reloadResource() throws Exception {
+        if (xslt.getTemplate() == null) {
+            // nothing loaded yet, so we must wait for the stylesheet
+            loadResource(resourceUri, xslt);
+        } else if (reloading.compareAndSet(false, true)) {
+            // only one thread recompiles the stylesheet, the other threads keep using the current template,
+            // which is replaced atomically when the new template is ready
+            try {
+                loadResource(resourceUri, xslt);
+            } finally {
+                reloading.set(false);
+            }
+        }
+    }
+
     protected XsltBuilder createBuilderForCustomStylesheet(String template, Exchange exchange) throws Exception {
         InputStream is = getCamelContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, template);
         XsltBuilder builder = createXsltBuilder();
@@ -151,6 +170,16 @@ public class XsltEndpoint extends ProcessorEndpoint {
         return builder;
     }
 
+    @ManagedAttribute(description = "Number of times a cached transformer was reused")
+    public long getTransformerCacheHits() {
+        return xslt != null ? xslt.getTransformerCacheHits() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of times a new transformer was created as none was cached")
+    public long getTransformerCacheMisses() {
+        return xslt != null ? xslt.getTransformerCacheMisses() : 0;
+    }
+
     @ManagedAttribute(description = "Whether to allow to use resource template from header or not (default false).")
     public boolean isAllowTemplateFromHeader() {
         return allowTemplateFromHeader;
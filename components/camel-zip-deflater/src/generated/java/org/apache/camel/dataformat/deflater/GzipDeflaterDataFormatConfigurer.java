@@ -18,6 +18,11 @@ public class GzipDeflaterDataFormatConfigurer extends PropertyConfigurerSupport
     public boolean configure(CamelContext camelContext, Object target, String name, Object value, boolean ignoreCase) {
         GzipDeflaterDataFormat dataformat = (GzipDeflaterDataFormat) target;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "parallel": dataformat.setParallel(property(camelContext, boolean.class, value)); return true;
+        case "blocksize":
+        case "blockSize": dataformat.setBlockSize(property(camelContext, int.class, value)); return true;
+        case "executorservice":
+        case "executorService": dataformat.setExecutorService(property(camelContext, java.util.concurrent.ExecutorService.class, value)); return true;
         default: return false;
         }
     }
@@ -20,6 +20,11 @@ public class ZipDeflaterDataFormatConfigurer extends PropertyConfigurerSupport i
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "compressionlevel":
         case "compressionLevel": dataformat.setCompressionLevel(property(camelContext, int.class, value)); return true;
+        case "parallel": dataformat.setParallel(property(camelContext, boolean.class, value)); return true;
+        case "blocksize":
+        case "blockSize": dataformat.setBlockSize(property(camelContext, int.class, value)); return true;
+        case "executorservice":
+        case "executorService": dataformat.setExecutorService(property(camelContext, java.util.concurrent.ExecutorService.class, value)); return true;
         default: return false;
         }
     }
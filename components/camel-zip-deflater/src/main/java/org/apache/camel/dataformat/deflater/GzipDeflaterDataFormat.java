@@ -18,11 +18,14 @@ package org.apache.camel.dataformat.deflater;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.Deflater;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
+import org.apache.camel.support.ParallelDeflaterOutputStream;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
@@ -35,16 +38,55 @@ import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 @Dataformat("gzipDeflater")
 public class GzipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
 
+    private boolean parallel;
+    private int blockSize = ParallelDeflaterOutputStream.DEFAULT_BLOCK_SIZE;
+    private ExecutorService executorService;
+
     @Override
     public String getDataFormatName() {
         return "gzipDeflater";
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard gzip stream.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The size of the blocks that are compressed in parallel (128 KB by default).
+     */
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The thread pool to compress in parallel on. By default the common fork-join pool is used.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream stream) throws Exception {
         InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, graph);
 
-        GzipCompressorOutputStream zipOutput = new GzipCompressorOutputStream(stream);
+        OutputStream zipOutput = parallel
+                ? new ParallelDeflaterOutputStream(stream, Deflater.DEFAULT_COMPRESSION, true, blockSize, executorService)
+                : new GzipCompressorOutputStream(stream);
         try {
             IOHelper.copy(is, zipOutput);
         } finally {
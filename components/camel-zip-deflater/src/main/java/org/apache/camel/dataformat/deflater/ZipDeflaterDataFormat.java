@@ -18,6 +18,7 @@ package org.apache.camel.dataformat.deflater;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.InflaterInputStream;
@@ -26,6 +27,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
+import org.apache.camel.support.ParallelDeflaterOutputStream;
 import org.apache.camel.support.builder.OutputStreamBuilder;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
@@ -37,6 +39,9 @@ import org.apache.camel.util.IOHelper;
 public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat, DataFormatName {
 
     private int compressionLevel;
+    private boolean parallel;
+    private int blockSize = ParallelDeflaterOutputStream.DEFAULT_BLOCK_SIZE;
+    private ExecutorService executorService;
 
     public ZipDeflaterDataFormat() {
         this.compressionLevel = Deflater.DEFAULT_COMPRESSION;
@@ -59,11 +64,55 @@ public class ZipDeflaterDataFormat extends ServiceSupport implements DataFormat,
         this.compressionLevel = compressionLevel;
     }
 
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard zlib stream.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The size of the blocks that are compressed in parallel (128 KB by default).
+     */
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * The thread pool to compress in parallel on. By default the common fork-join pool is used.
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     @Override
     public void marshal(final Exchange exchange, final Object graph, final OutputStream stream) throws Exception {
         // ask for a mandatory type conversion to avoid a possible NPE beforehand as we do copy from the InputStream
         final InputStream is = exchange.getContext().getTypeConverter().mandatoryConvertTo(InputStream.class, exchange, graph);
 
+        if (parallel) {
+            OutputStream zipOutput
+                    = new ParallelDeflaterOutputStream(stream, compressionLevel, false, blockSize, executorService);
+            try {
+                IOHelper.copy(is, zipOutput);
+            } finally {
+                IOHelper.close(is, zipOutput);
+            }
+            return;
+        }
+
         final Deflater deflater = new Deflater(compressionLevel);
         final DeflaterOutputStream zipOutput = new DeflaterOutputStream(stream, deflater);
         try {
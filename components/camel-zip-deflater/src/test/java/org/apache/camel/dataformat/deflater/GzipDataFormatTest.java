@@ -18,6 +18,8 @@ package org.apache.camel.dataformat.deflater;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.zip.GZIPInputStream;
 
 import org.apache.camel.builder.RouteBuilder;
@@ -27,6 +29,7 @@ import org.apache.camel.test.junit5.CamelTestSupport;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Unit test of the gzip data format.
@@ -64,6 +67,54 @@ public class GzipDataFormatTest extends CamelTestSupport {
         assertEquals(TEXT, result, "Uncompressed something different than compressed");
     }
 
+    @Test
+    public void testMarshalTextToGZipParallel() throws Exception {
+        GzipDeflaterDataFormat gzip = new GzipDeflaterDataFormat();
+        gzip.setParallel(true);
+        gzip.setBlockSize(64);
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start").marshal(gzip).unmarshal().gzipDeflater().to("mock:result");
+            }
+        });
+        context.start();
+
+        MockEndpoint result = context.getEndpoint("mock:result", MockEndpoint.class);
+        result.expectedBodiesReceived(TEXT.getBytes(StandardCharsets.UTF_8));
+
+        sendText();
+
+        result.assertIsSatisfied();
+    }
+
+    @Test
+    public void testMarshalTextToGZipParallelFromModel() throws Exception {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+        context.getRegistry().bind("compressPool", pool);
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .marshal(dataFormat().gzipDeflater().parallel(true).blockSize(64).executorService("compressPool").end())
+                        .unmarshal().gzipDeflater()
+                        .to("mock:result");
+            }
+        });
+        context.start();
+
+        MockEndpoint result = context.getEndpoint("mock:result", MockEndpoint.class);
+        result.expectedBodiesReceived(TEXT.getBytes(StandardCharsets.UTF_8));
+
+        try {
+            sendText();
+
+            result.assertIsSatisfied();
+            // the blocks were compressed on the configured thread pool
+            assertTrue(pool.getTaskCount() > 1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
     @Test
     public void testUnMarshalTextToGzip() throws Exception {
         context.addRoutes(new RouteBuilder() {
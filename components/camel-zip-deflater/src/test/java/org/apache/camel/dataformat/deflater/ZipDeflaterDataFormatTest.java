@@ -18,6 +18,8 @@ package org.apache.camel.dataformat.deflater;
 
 import java.io.ByteArrayOutputStream;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
@@ -114,6 +116,47 @@ public class ZipDeflaterDataFormatTest extends CamelTestSupport {
         sendText();
     }
 
+    @Test
+    public void testMarshalTextToZipParallel() throws Exception {
+        ZipDeflaterDataFormat zip = new ZipDeflaterDataFormat(Deflater.BEST_COMPRESSION);
+        zip.setParallel(true);
+        zip.setBlockSize(100);
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .marshal(zip)
+                        .process(new ZippedMessageProcessor());
+            }
+        });
+        context.start();
+
+        sendText();
+    }
+
+    @Test
+    public void testMarshalTextToZipParallelFromModel() throws Exception {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+        context.getRegistry().bind("compressPool", pool);
+        context.addRoutes(new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .marshal(dataFormat().zipDeflater().compressionLevel(Deflater.BEST_COMPRESSION).parallel(true)
+                                .blockSize(100).executorService("compressPool").end())
+                        .process(new ZippedMessageProcessor());
+            }
+        });
+        context.start();
+
+        try {
+            sendText();
+
+            // the blocks were compressed on the configured thread pool
+            assertTrue(pool.getTaskCount() > 1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
     @Test
     public void testUnMarshalTextToZip() throws Exception {
         context.addRoutes(new RouteBuilder() {
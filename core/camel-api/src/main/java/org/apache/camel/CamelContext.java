@@ -1524,4 +1524,23 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     StartupSummaryLevel getStartupSummaryLevel();
 
+    /**
+     * Number of threads to use for warming up (starting the processors and services of) routes concurrently during
+     * startup. The default is 0 which warms up the routes one by one.
+     *
+     * Routes with an explicit startup order are always warmed up one by one (in their order) before the other routes.
+     * Routes that depend on each other, by using the same endpoint (such as sending to the input endpoint of another
+     * route) or a component which is not yet started, are warmed up by the same thread. The routes are then added to
+     * the lifecycle strategies and the CamelContext, and their consumers started, one by one in the startup order.
+     * Custom lifecycle strategies must be thread-safe as their onServiceAdd and onThreadPoolAdd callbacks can be
+     * invoked concurrently.
+     */
+    void setRouteStartupParallelism(int routeStartupParallelism);
+
+    /**
+     * Number of threads to use for warming up routes concurrently during startup. The default is 0 which warms up the
+     * routes one by one.
+     */
+    int getRouteStartupParallelism();
+
 }
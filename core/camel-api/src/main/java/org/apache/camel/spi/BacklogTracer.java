@@ -59,6 +59,20 @@ public interface BacklogTracer {
      */
     void setBacklogSize(int backlogSize);
 
+    /**
+     * Size in bytes of an off-heap ring buffer to use for storing the traced messages as compact binary records, which
+     * are only decoded when the traced messages are dumped. This allows to keep tracing enabled with a bounded memory
+     * cost. Zero (default) stores the traced messages as objects on the heap.
+     */
+    int getOffHeapBufferSize();
+
+    /**
+     * Size in bytes of an off-heap ring buffer to use for storing the traced messages as compact binary records, which
+     * are only decoded when the traced messages are dumped. This allows to keep tracing enabled with a bounded memory
+     * cost. Zero (default) stores the traced messages as objects on the heap.
+     */
+    void setOffHeapBufferSize(int offHeapBufferSize);
+
     /**
      * Remove the currently traced messages when dump methods are invoked
      */
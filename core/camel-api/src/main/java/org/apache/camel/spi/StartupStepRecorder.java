@@ -105,6 +105,20 @@ public interface StartupStepRecorder extends StaticService {
      */
     StartupStep beginStep(Class<?> type, String name, String description);
 
+    /**
+     * Beings a new step as a sub step of the given parent step, which can have been started by another thread.
+     * <p>
+     * Important must call {@link #endStep(StartupStep)} to end the step.
+     *
+     * @param parent      the parent step, or <tt>null</tt> to begin a top level step
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     */
+    default StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        return beginStep(type, name, description);
+    }
+
     /**
      * Ends the step
      */
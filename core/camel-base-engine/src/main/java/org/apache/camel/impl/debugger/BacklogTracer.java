@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.NamedNode;
 import org.apache.camel.Predicate;
 import org.apache.camel.spi.BacklogTracerEventMessage;
@@ -42,6 +43,10 @@ import org.apache.camel.util.json.Jsoner;
  * <p/>
  * This tracer allows to store message tracers per node in the Camel routes. The tracers is stored in a backlog queue
  * (FIFO based) which allows to pull the traced messages on demand.
+ * <p/>
+ * If an off-heap buffer size is configured, then the traced messages are instead stored as compact binary records in a
+ * fixed-size off-heap ring buffer, which are only decoded when the traced messages are dumped. This allows to keep
+ * tracing enabled at a bounded memory cost.
  */
 public final class BacklogTracer extends ServiceSupport implements org.apache.camel.spi.BacklogTracer {
 
@@ -56,6 +61,8 @@ public final class BacklogTracer extends ServiceSupport implements org.apache.ca
     private final Queue<BacklogTracerEventMessage> queue = new LinkedBlockingQueue<>(MAX_BACKLOG_SIZE);
     // how many of the last messages to keep in the backlog at total
     private int backlogSize = 1000;
+    private int offHeapBufferSize;
+    private volatile BacklogTracerRingBuffer ringBuffer;
     private boolean removeOnDump = true;
     private int bodyMaxChars = 128 * 1024;
     private boolean bodyIncludeStreams;
@@ -134,6 +141,10 @@ public final class BacklogTracer extends ServiceSupport implements org.apache.ca
         if (!enabled) {
             return;
         }
+        if (ringBuffer != null) {
+            // events are stored in the ring buffer when they are done
+            return;
+        }
 
         // ensure there is space on the queue by polling until at least single slot is free
         int drain = queue.size() - backlogSize + 1;
@@ -146,6 +157,16 @@ public final class BacklogTracer extends ServiceSupport implements org.apache.ca
         queue.add(event);
     }
 
+    /**
+     * Callback when the traced event is done processing
+     */
+    public void traceEventDone(DefaultBacklogTracerEventMessage event) {
+        BacklogTracerRingBuffer rb = ringBuffer;
+        if (enabled && rb != null) {
+            rb.add(event, backlogSize);
+        }
+    }
+
     private boolean shouldTraceFilter(Exchange exchange) {
         return predicate.matches(exchange);
     }
@@ -187,6 +208,41 @@ public final class BacklogTracer extends ServiceSupport implements org.apache.ca
         this.backlogSize = backlogSize;
     }
 
+    /**
+     * Whether the traced messages are stored in the off-heap ring buffer
+     */
+    public boolean isOffHeap() {
+        return ringBuffer != null;
+    }
+
+    /**
+     * Captures the message as a raw binary snapshot, which is only rendered as XML or JSon when the traced messages are
+     * dumped. This is used when the traced messages are stored in the off-heap ring buffer.
+     */
+    public byte[] captureMessage(Message message) {
+        return BacklogTracerMessageSnapshot.capture(message, this);
+    }
+
+    @Override
+    public int getOffHeapBufferSize() {
+        return offHeapBufferSize;
+    }
+
+    @Override
+    public void setOffHeapBufferSize(int offHeapBufferSize) {
+        if (offHeapBufferSize < 0) {
+            throw new IllegalArgumentException(
+                    "The off-heap buffer size must be zero or a positive number, was: " + offHeapBufferSize);
+        }
+        if (offHeapBufferSize == this.offHeapBufferSize) {
+            // keep the traced messages
+            return;
+        }
+        this.offHeapBufferSize = offHeapBufferSize;
+        this.ringBuffer = offHeapBufferSize > 0 ? new BacklogTracerRingBuffer(offHeapBufferSize) : null;
+        queue.clear();
+    }
+
     @Override
     public boolean isRemoveOnDump() {
         return removeOnDump;
@@ -316,7 +372,8 @@ public final class BacklogTracer extends ServiceSupport implements org.apache.ca
 
     @Override
     public long getQueueSize() {
-        return queue.size();
+        BacklogTracerRingBuffer rb = ringBuffer;
+        return rb != null ? rb.size() : queue.size();
     }
 
     @Override
@@ -325,6 +382,14 @@ public final class BacklogTracer extends ServiceSupport implements org.apache.ca
     }
 
     public List<BacklogTracerEventMessage> dumpTracedMessages(String nodeId) {
+        BacklogTracerRingBuffer rb = ringBuffer;
+        if (rb != null) {
+            if (nodeId == null) {
+                return new ArrayList<>();
+            }
+            return rb.dump(m -> nodeId.equals(m.getToNode()) || nodeId.equals(m.getRouteId()), removeOnDump);
+        }
+
         List<BacklogTracerEventMessage> answer = new ArrayList<>();
         if (nodeId != null) {
             for (BacklogTracerEventMessage message : queue) {
@@ -369,6 +434,10 @@ public final class BacklogTracer extends ServiceSupport implements org.apache.ca
 
     @Override
     public List<BacklogTracerEventMessage> dumpAllTracedMessages() {
+        BacklogTracerRingBuffer rb = ringBuffer;
+        if (rb != null) {
+            return rb.dump(null, isRemoveOnDump());
+        }
         List<BacklogTracerEventMessage> answer = new ArrayList<>(queue);
         if (isRemoveOnDump()) {
             queue.clear();
@@ -405,6 +474,10 @@ public final class BacklogTracer extends ServiceSupport implements org.apache.ca
     @Override
     public void clear() {
         queue.clear();
+        BacklogTracerRingBuffer rb = ringBuffer;
+        if (rb != null) {
+            rb.clear();
+        }
     }
 
     public long incrementTraceCounter() {
@@ -413,7 +486,7 @@ public final class BacklogTracer extends ServiceSupport implements org.apache.ca
 
     @Override
     protected void doStop() throws Exception {
-        queue.clear();
+        clear();
     }
 
 }
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.debugger;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.Message;
+import org.apache.camel.support.MessageDump;
+import org.apache.camel.support.MessageHelper;
+import org.apache.camel.util.json.Jsoner;
+
+/**
+ * Captures the values of a traced {@link Message} (exchange info, variables, properties, headers and body) as a compact
+ * binary snapshot, which is rendered as XML or JSon only when the traced message is dumped.
+ * <p/>
+ * The values are captured and rendered by {@link MessageHelper}, this class only encodes the captured
+ * {@link MessageDump} as bytes. Values which can be serialized as JSon are kept as their JSon text.
+ */
+final class BacklogTracerMessageSnapshot {
+
+    private static final int INDENT = 4;
+
+    private BacklogTracerMessageSnapshot() {
+    }
+
+    /**
+     * Captures the message as a binary snapshot
+     */
+    static byte[] capture(Message message, BacklogTracer tracer) {
+        MessageDump dump = MessageHelper.createMessageDump(message, tracer.isIncludeExchangeProperties(),
+                tracer.isIncludeExchangeVariables(), true, true, tracer.isBodyIncludeStreams(),
+                tracer.isBodyIncludeFiles(), tracer.getBodyMaxChars(), true, true);
+
+        Writer w = new Writer();
+        w.string(dump.getExchangeId());
+        w.string(dump.getExchangePattern());
+        w.string(dump.getExchangeType());
+        w.string(dump.getMessageType());
+        writeEntries(w, dump.getExchangeVariables());
+        writeEntries(w, dump.getExchangeProperties());
+        writeEntries(w, dump.getHeaders());
+        w.string(dump.getBodyType());
+        w.putLong(dump.getBodySize());
+        w.putLong(dump.getBodyPosition());
+        w.string(dump.getBody());
+        return w.toByteArray();
+    }
+
+    private static void writeEntries(Writer w, List<MessageDump.Entry> entries) {
+        if (entries == null) {
+            w.putInt(-1);
+            return;
+        }
+        w.putInt(entries.size());
+        for (MessageDump.Entry entry : entries) {
+            w.string(entry.getKey());
+            w.string(entry.getType());
+            w.string(entry.getText());
+            // strings are dumped with their (clipped) text value
+            w.string(entry.getJsonText());
+        }
+    }
+
+    /**
+     * Renders the snapshot as XML
+     */
+    static String toXml(byte[] data) {
+        return MessageHelper.dumpAsXml(read(data), INDENT);
+    }
+
+    /**
+     * Renders the snapshot as (pretty printed) JSon
+     */
+    static String toJSon(byte[] data) {
+        return Jsoner.prettyPrint(MessageHelper.dumpAsJSonObject(read(data)).toJson(), INDENT);
+    }
+
+    private static MessageDump read(byte[] data) {
+        ByteBuffer bb = ByteBuffer.wrap(data);
+        MessageDump dump = new MessageDump(string(bb), string(bb), string(bb), string(bb));
+        dump.setExchangeVariables(readEntries(bb));
+        dump.setExchangeProperties(readEntries(bb));
+        dump.setHeaders(readEntries(bb));
+        dump.setIncludeBody(true);
+        dump.setBodyType(string(bb));
+        dump.setBodySize(bb.getLong());
+        dump.setBodyPosition(bb.getLong());
+        dump.setBody(string(bb));
+        return dump;
+    }
+
+    private static List<MessageDump.Entry> readEntries(ByteBuffer bb) {
+        int count = bb.getInt();
+        if (count < 0) {
+            return null;
+        }
+        List<MessageDump.Entry> answer = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String key = string(bb);
+            String type = string(bb);
+            String text = string(bb);
+            String jsonText = string(bb);
+            Object json = null;
+            if (jsonText != null) {
+                try {
+                    json = Jsoner.deserialize(jsonText);
+                } catch (Exception e) {
+                    // use the string value
+                }
+            }
+            answer.add(new MessageDump.Entry(key, type, text, json, jsonText));
+        }
+        return answer;
+    }
+
+    private static String string(ByteBuffer bb) {
+        int len = bb.getInt();
+        if (len < 0) {
+            return null;
+        }
+        String answer = new String(bb.array(), bb.position(), len, StandardCharsets.UTF_8);
+        bb.position(bb.position() + len);
+        return answer;
+    }
+
+    /**
+     * Minimal growable big-endian writer
+     */
+    private static final class Writer {
+        private byte[] buf = new byte[256];
+        private int count;
+
+        void putInt(int v) {
+            ensure(4);
+            buf[count++] = (byte) (v >>> 24);
+            buf[count++] = (byte) (v >>> 16);
+            buf[count++] = (byte) (v >>> 8);
+            buf[count++] = (byte) v;
+        }
+
+        void putLong(long v) {
+            putInt((int) (v >>> 32));
+            putInt((int) v);
+        }
+
+        void string(String s) {
+            if (s == null) {
+                putInt(-1);
+                return;
+            }
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            putInt(b.length);
+            ensure(b.length);
+            System.arraycopy(b, 0, buf, count, b.length);
+            count += b.length;
+        }
+
+        private void ensure(int n) {
+            if (count + n > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + n));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, count);
+        }
+    }
+}
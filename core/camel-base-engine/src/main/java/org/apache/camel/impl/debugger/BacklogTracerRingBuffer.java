@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.debugger;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.apache.camel.spi.BacklogTracerEventMessage;
+
+/**
+ * A fixed-size ring buffer which stores traced messages from the {@link BacklogTracer} as compact binary records in
+ * off-heap memory.
+ * <p/>
+ * The message of each event is stored as the raw binary snapshot taken when the event was traced (see
+ * {@link BacklogTracerMessageSnapshot}), and is only rendered as XML or JSon when the traced messages are dumped. The
+ * records are only decoded back into {@link BacklogTracerEventMessage} when the traced messages are dumped. When the
+ * buffer is full, then the oldest records are discarded to make room for new records, so the memory used by tracing is
+ * bounded regardless of the message sizes.
+ */
+final class BacklogTracerRingBuffer {
+
+    private static final int FLAG_FIRST = 1;
+    private static final int FLAG_LAST = 1 << 1;
+    private static final int FLAG_REST = 1 << 2;
+    private static final int FLAG_TEMPLATE = 1 << 3;
+    // the message is stored as rendered xml and json instead of a raw snapshot
+    private static final int FLAG_RENDERED = 1 << 4;
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    // positions are absolute (ever-increasing) and wrapped using modulo capacity
+    private long head;
+    private long tail;
+    private int size;
+    private long discarded;
+
+    BacklogTracerRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be a positive number, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Number of records which has been discarded to make room for newer records, or because they were too large
+     */
+    synchronized long getDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * Number of bytes in use
+     */
+    synchronized long getUsed() {
+        return head - tail;
+    }
+
+    synchronized void clear() {
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the event as a binary record
+     *
+     * @param event   the event
+     * @param maxSize maximum number of records to keep (older records are discarded)
+     */
+    void add(DefaultBacklogTracerEventMessage event, int maxSize) {
+        // encode the small event fields outside the lock, the message snapshot is copied as-is
+        byte[] data = event.getMessageData();
+        byte[] header = encodeHeader(event, data == null);
+        int length = header.length + (data != null ? data.length : 0);
+        synchronized (this) {
+            if (length + 4 > capacity) {
+                discarded++;
+                return;
+            }
+            // make room by discarding the oldest records
+            while (size > 0 && (size >= maxSize || capacity - (head - tail) < length + 4)) {
+                int len = getInt(tail);
+                tail += 4 + len;
+                size--;
+                discarded++;
+            }
+            putInt(head, length);
+            put(head + 4, header);
+            if (data != null) {
+                put(head + 4 + header.length, data);
+            }
+            head += 4 + length;
+            size++;
+        }
+    }
+
+    /**
+     * Decodes the records into event messages
+     *
+     * @param  filter optional filter to select which records to return
+     * @param  remove whether to remove the returned records from the buffer
+     * @return        the event messages (ordered by uid)
+     */
+    synchronized List<BacklogTracerEventMessage> dump(Predicate<BacklogTracerEventMessage> filter, boolean remove) {
+        List<BacklogTracerEventMessage> answer = new ArrayList<>(size);
+        List<byte[]> keep = remove && filter != null ? new ArrayList<>() : null;
+
+        long pos = tail;
+        while (pos < head) {
+            int len = getInt(pos);
+            byte[] record = new byte[len];
+            get(pos + 4, record);
+            pos += 4 + len;
+
+            BacklogTracerEventMessage event = decode(record);
+            if (filter == null || filter.test(event)) {
+                answer.add(event);
+            } else if (keep != null) {
+                keep.add(record);
+            }
+        }
+
+        if (remove) {
+            clear();
+            if (keep != null) {
+                // write back the records which was not selected
+                for (byte[] record : keep) {
+                    putInt(head, record.length);
+                    put(head + 4, record);
+                    head += 4 + record.length;
+                    size++;
+                }
+            }
+        }
+        // records are stored when done, so sort to have same order as the events was traced
+        answer.sort(Comparator.comparingLong(BacklogTracerEventMessage::getUid));
+        return answer;
+    }
+
+    private static byte[] encodeHeader(DefaultBacklogTracerEventMessage event, boolean rendered) {
+        byte[][] strings = new byte[][] {
+                bytes(event.getLocation()), bytes(event.getRouteId()), bytes(event.getToNode()),
+                bytes(event.getExchangeId()), bytes(event.getProcessingThreadName()), bytes(event.getEndpointUri()),
+                bytes(event.getExceptionAsXml()), bytes(event.getExceptionAsJSon()),
+                // only used when there is no raw snapshot of the message
+                rendered ? bytes(event.getMessageAsXml()) : null, rendered ? bytes(event.getMessageAsJSon()) : null };
+
+        // uid, timestamp, elapsed and flags
+        int len = 8 + 8 + 8 + 1;
+        for (byte[] s : strings) {
+            len += 4 + (s != null ? s.length : 0);
+        }
+
+        ByteBuffer bb = ByteBuffer.allocate(len);
+        bb.putLong(event.getUid());
+        bb.putLong(event.getTimestamp());
+        bb.putLong(event.getElapsed());
+        int flags = 0;
+        if (event.isFirst()) {
+            flags |= FLAG_FIRST;
+        }
+        if (event.isLast()) {
+            flags |= FLAG_LAST;
+        }
+        if (event.isRest()) {
+            flags |= FLAG_REST;
+        }
+        if (event.isTemplate()) {
+            flags |= FLAG_TEMPLATE;
+        }
+        if (rendered) {
+            flags |= FLAG_RENDERED;
+        }
+        bb.put((byte) flags);
+        for (byte[] s : strings) {
+            if (s == null) {
+                bb.putInt(-1);
+            } else {
+                bb.putInt(s.length);
+                bb.put(s);
+            }
+        }
+        return bb.array();
+    }
+
+    private static DefaultBacklogTracerEventMessage decode(byte[] record) {
+        ByteBuffer bb = ByteBuffer.wrap(record);
+        long uid = bb.getLong();
+        long timestamp = bb.getLong();
+        long elapsed = bb.getLong();
+        int flags = bb.get();
+        String location = string(bb);
+        String routeId = string(bb);
+        String toNode = string(bb);
+        String exchangeId = string(bb);
+        String threadName = string(bb);
+        String endpointUri = string(bb);
+        String exceptionAsXml = string(bb);
+        String exceptionAsJSon = string(bb);
+        String messageAsXml = string(bb);
+        String messageAsJSon = string(bb);
+
+        boolean first = (flags & FLAG_FIRST) != 0;
+        boolean last = (flags & FLAG_LAST) != 0;
+        boolean rest = (flags & FLAG_REST) != 0;
+        boolean template = (flags & FLAG_TEMPLATE) != 0;
+        DefaultBacklogTracerEventMessage event;
+        if ((flags & FLAG_RENDERED) != 0) {
+            event = new DefaultBacklogTracerEventMessage(
+                    first, last, uid, timestamp, location, routeId, toNode, exchangeId, threadName, rest, template,
+                    messageAsXml, messageAsJSon);
+        } else {
+            // the remainder is the raw message snapshot which is rendered on demand
+            byte[] data = Arrays.copyOfRange(record, bb.position(), record.length);
+            event = new DefaultBacklogTracerEventMessage(
+                    first, last, uid, timestamp, location, routeId, toNode, exchangeId, threadName, rest, template, data);
+        }
+        // records are only stored when done
+        event.doneProcessing();
+        event.setElapsed(elapsed);
+        event.setEndpointUri(endpointUri);
+        event.setExceptionAsXml(exceptionAsXml);
+        event.setExceptionAsJSon(exceptionAsJSon);
+        return event;
+    }
+
+    private static byte[] bytes(String s) {
+        return s != null ? s.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String string(ByteBuffer bb) {
+        int len = bb.getInt();
+        if (len < 0) {
+            return null;
+        }
+        String answer = new String(bb.array(), bb.position(), len, StandardCharsets.UTF_8);
+        bb.position(bb.position() + len);
+        return answer;
+    }
+
+    private int getInt(long pos) {
+        byte[] b = new byte[4];
+        get(pos, b);
+        return ((b[0] & 0xFF) << 24) | ((b[1] & 0xFF) << 16) | ((b[2] & 0xFF) << 8) | (b[3] & 0xFF);
+    }
+
+    private void putInt(long pos, int value) {
+        put(pos, new byte[] { (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value });
+    }
+
+    private void put(long pos, byte[] data) {
+        int index = (int) (pos % capacity);
+        int first = Math.min(data.length, capacity - index);
+        buffer.put(index, data, 0, first);
+        if (first < data.length) {
+            // wrap around
+            buffer.put(0, data, first, data.length - first);
+        }
+    }
+
+    private void get(long pos, byte[] data) {
+        int index = (int) (pos % capacity);
+        int first = Math.min(data.length, capacity - index);
+        buffer.get(index, data, 0, first);
+        if (first < data.length) {
+            // wrap around
+            buffer.get(0, data, first, data.length - first);
+        }
+    }
+
+}
@@ -43,8 +43,9 @@ public final class DefaultBacklogTracerEventMessage implements BacklogTracerEven
     private String endpointUri;
     private final boolean rest;
     private final boolean template;
-    private final String messageAsXml;
-    private final String messageAsJSon;
+    private final byte[] messageData;
+    private String messageAsXml;
+    private String messageAsJSon;
     private String exceptionAsXml;
     private String exceptionAsJSon;
     private long duration;
@@ -54,6 +55,14 @@ public final class DefaultBacklogTracerEventMessage implements BacklogTracerEven
                                             String location, String routeId, String toNode, String exchangeId,
                                             boolean rest, boolean template,
                                             String messageAsXml, String messageAsJSon) {
+        this(first, last, uid, timestamp, location, routeId, toNode, exchangeId, Thread.currentThread().getName(), rest,
+             template, messageAsXml, messageAsJSon);
+    }
+
+    public DefaultBacklogTracerEventMessage(boolean first, boolean last, long uid, long timestamp,
+                                            String location, String routeId, String toNode, String exchangeId,
+                                            String threadName, boolean rest, boolean template,
+                                            String messageAsXml, String messageAsJSon) {
         this.watch = new StopWatch();
         this.first = first;
         this.last = last;
@@ -67,7 +76,30 @@ public final class DefaultBacklogTracerEventMessage implements BacklogTracerEven
         this.template = template;
         this.messageAsXml = messageAsXml;
         this.messageAsJSon = messageAsJSon;
-        this.threadName = Thread.currentThread().getName();
+        this.messageData = null;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Creates an event where the message is kept as a raw binary snapshot, which is only rendered as XML or JSon when
+     * requested.
+     */
+    public DefaultBacklogTracerEventMessage(boolean first, boolean last, long uid, long timestamp,
+                                            String location, String routeId, String toNode, String exchangeId,
+                                            String threadName, boolean rest, boolean template, byte[] messageData) {
+        this.watch = new StopWatch();
+        this.first = first;
+        this.last = last;
+        this.uid = uid;
+        this.timestamp = timestamp;
+        this.location = location;
+        this.routeId = routeId;
+        this.toNode = toNode;
+        this.exchangeId = exchangeId;
+        this.rest = rest;
+        this.template = template;
+        this.messageData = messageData;
+        this.threadName = threadName;
     }
 
     /**
@@ -133,13 +165,26 @@ public final class DefaultBacklogTracerEventMessage implements BacklogTracerEven
         return threadName;
     }
 
+    /**
+     * The raw binary snapshot of the message, or <tt>null</tt> if the message was rendered when traced
+     */
+    byte[] getMessageData() {
+        return messageData;
+    }
+
     @Override
     public String getMessageAsXml() {
+        if (messageAsXml == null && messageData != null) {
+            messageAsXml = BacklogTracerMessageSnapshot.toXml(messageData);
+        }
         return messageAsXml;
     }
 
     @Override
     public String getMessageAsJSon() {
+        if (messageAsJSon == null && messageData != null) {
+            messageAsJSon = BacklogTracerMessageSnapshot.toJSon(messageData);
+        }
         return messageAsJSon;
     }
 
@@ -239,7 +284,7 @@ public final class DefaultBacklogTracerEventMessage implements BacklogTracerEven
             sb.append(prefix).append("  <toNode>").append(routeId).append("</toNode>\n");
         }
         sb.append(prefix).append("  <exchangeId>").append(exchangeId).append("</exchangeId>\n");
-        sb.append(prefix).append(messageAsXml).append("\n");
+        sb.append(prefix).append(getMessageAsXml()).append("\n");
         if (exceptionAsXml != null) {
             sb.append(prefix).append(exceptionAsXml).append("\n");
         }
@@ -286,7 +331,7 @@ public final class DefaultBacklogTracerEventMessage implements BacklogTracerEven
         jo.put("failed", isFailed());
         try {
             // parse back to json object and avoid double message root
-            JsonObject msg = (JsonObject) Jsoner.deserialize(messageAsJSon);
+            JsonObject msg = (JsonObject) Jsoner.deserialize(getMessageAsJSon());
             msg = msg.getMap("message");
             jo.put("message", msg);
 
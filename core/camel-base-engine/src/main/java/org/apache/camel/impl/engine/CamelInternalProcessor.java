@@ -636,16 +636,10 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
                 long timestamp = System.currentTimeMillis();
                 String toNode = processorDefinition.getId();
                 String exchangeId = exchange.getExchangeId();
-                boolean includeExchangeProperties = backlogTracer.isIncludeExchangeProperties();
-                boolean includeExchangeVariables = backlogTracer.isIncludeExchangeVariables();
-                String messageAsXml = MessageHelper.dumpAsXml(exchange.getIn(), includeExchangeProperties,
-                        includeExchangeVariables, true, 4,
-                        true, backlogTracer.isBodyIncludeStreams(), backlogTracer.isBodyIncludeFiles(),
-                        backlogTracer.getBodyMaxChars());
-                String messageAsJSon = MessageHelper.dumpAsJSon(exchange.getIn(), includeExchangeProperties,
-                        includeExchangeVariables, true, 4,
-                        true, backlogTracer.isBodyIncludeStreams(), backlogTracer.isBodyIncludeFiles(),
-                        backlogTracer.getBodyMaxChars(), true);
+                // off-heap stores a raw snapshot of the message which is only rendered when dumped
+                byte[] messageData = backlogTracer.isOffHeap() ? backlogTracer.captureMessage(exchange.getIn()) : null;
+                String messageAsXml = messageData == null ? dumpAsXml(exchange) : null;
+                String messageAsJSon = messageData == null ? dumpAsJSon(exchange) : null;
 
                 // if first we should add a pseudo trace message as well, so we have a starting message (eg from the route)
                 String routeId = routeDefinition != null ? routeDefinition.getRouteId() : null;
@@ -653,16 +647,16 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
                     // use route as pseudo source when first
                     String source = LoggerHelper.getLineNumberLoggerName(routeDefinition);
                     final long created = exchange.getClock().getCreated();
-                    DefaultBacklogTracerEventMessage pseudoFirst = new DefaultBacklogTracerEventMessage(
-                            true, false, backlogTracer.incrementTraceCounter(), created, source, routeId, null, exchangeId,
-                            rest, template, messageAsXml, messageAsJSon);
+                    DefaultBacklogTracerEventMessage pseudoFirst = newEvent(
+                            true, false, created, source, routeId, null, exchangeId,
+                            messageData, messageAsXml, messageAsJSon);
                     backlogTracer.traceEvent(pseudoFirst);
                     exchange.getExchangeExtension().addOnCompletion(createOnCompletion(source, pseudoFirst));
                 }
                 String source = LoggerHelper.getLineNumberLoggerName(processorDefinition);
-                DefaultBacklogTracerEventMessage event = new DefaultBacklogTracerEventMessage(
-                        false, false, backlogTracer.incrementTraceCounter(), timestamp, source, routeId, toNode, exchangeId,
-                        rest, template, messageAsXml, messageAsJSon);
+                DefaultBacklogTracerEventMessage event = newEvent(
+                        false, false, timestamp, source, routeId, toNode, exchangeId,
+                        messageData, messageAsXml, messageAsJSon);
                 backlogTracer.traceEvent(event);
 
                 return event;
@@ -671,6 +665,34 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             return null;
         }
 
+        private DefaultBacklogTracerEventMessage newEvent(
+                boolean first, boolean last, long timestamp, String source, String routeId, String toNode,
+                String exchangeId, byte[] messageData, String messageAsXml, String messageAsJSon) {
+            long uid = backlogTracer.incrementTraceCounter();
+            if (messageData != null) {
+                return new DefaultBacklogTracerEventMessage(
+                        first, last, uid, timestamp, source, routeId, toNode, exchangeId, Thread.currentThread().getName(),
+                        rest, template, messageData);
+            }
+            return new DefaultBacklogTracerEventMessage(
+                    first, last, uid, timestamp, source, routeId, toNode, exchangeId, rest, template,
+                    messageAsXml, messageAsJSon);
+        }
+
+        private String dumpAsXml(Exchange exchange) {
+            return MessageHelper.dumpAsXml(exchange.getIn(), backlogTracer.isIncludeExchangeProperties(),
+                    backlogTracer.isIncludeExchangeVariables(), true, 4,
+                    true, backlogTracer.isBodyIncludeStreams(), backlogTracer.isBodyIncludeFiles(),
+                    backlogTracer.getBodyMaxChars());
+        }
+
+        private String dumpAsJSon(Exchange exchange) {
+            return MessageHelper.dumpAsJSon(exchange.getIn(), backlogTracer.isIncludeExchangeProperties(),
+                    backlogTracer.isIncludeExchangeVariables(), true, 4,
+                    true, backlogTracer.isBodyIncludeStreams(), backlogTracer.isBodyIncludeFiles(),
+                    backlogTracer.getBodyMaxChars(), true);
+        }
+
         private SynchronizationAdapter createOnCompletion(String source, DefaultBacklogTracerEventMessage pseudoFirst) {
             return new SynchronizationAdapter() {
                 @Override
@@ -678,27 +700,21 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
                     // create pseudo last
                     String routeId = routeDefinition != null ? routeDefinition.getRouteId() : null;
                     String exchangeId = exchange.getExchangeId();
-                    boolean includeExchangeProperties = backlogTracer.isIncludeExchangeProperties();
-                    boolean includeExchangeVariables = backlogTracer.isIncludeExchangeVariables();
                     long created = exchange.getClock().getCreated();
-                    String messageAsXml = MessageHelper.dumpAsXml(exchange.getIn(), includeExchangeProperties,
-                            includeExchangeVariables, true, 4,
-                            true, backlogTracer.isBodyIncludeStreams(), backlogTracer.isBodyIncludeFiles(),
-                            backlogTracer.getBodyMaxChars());
-                    String messageAsJSon
-                            = MessageHelper.dumpAsJSon(exchange.getIn(), includeExchangeProperties, includeExchangeVariables,
-                                    true, 4,
-                                    true, backlogTracer.isBodyIncludeStreams(), backlogTracer.isBodyIncludeFiles(),
-                                    backlogTracer.getBodyMaxChars(), true);
-                    DefaultBacklogTracerEventMessage pseudoLast = new DefaultBacklogTracerEventMessage(
-                            false, true, backlogTracer.incrementTraceCounter(), created, source, routeId, null,
-                            exchangeId, rest, template, messageAsXml, messageAsJSon);
+                    byte[] messageData = backlogTracer.isOffHeap() ? backlogTracer.captureMessage(exchange.getIn()) : null;
+                    String messageAsXml = messageData == null ? dumpAsXml(exchange) : null;
+                    String messageAsJSon = messageData == null ? dumpAsJSon(exchange) : null;
+                    DefaultBacklogTracerEventMessage pseudoLast = newEvent(
+                            false, true, created, source, routeId, null, exchangeId,
+                            messageData, messageAsXml, messageAsJSon);
                     backlogTracer.traceEvent(pseudoLast);
                     doneProcessing(exchange, pseudoLast);
                     doneProcessing(exchange, pseudoFirst);
                     // to not be confused then lets store duration on first/last as (first = 0, last = total time to process)
                     pseudoLast.setElapsed(pseudoFirst.getElapsed());
                     pseudoFirst.setElapsed(0);
+                    backlogTracer.traceEventDone(pseudoFirst);
+                    backlogTracer.traceEventDone(pseudoLast);
                 }
             };
         }
@@ -707,6 +723,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         public void after(Exchange exchange, DefaultBacklogTracerEventMessage data) throws Exception {
             if (data != null) {
                 doneProcessing(exchange, data);
+                backlogTracer.traceEventDone(data);
             }
         }
 
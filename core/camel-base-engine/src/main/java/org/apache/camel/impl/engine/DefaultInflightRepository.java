@@ -37,6 +37,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * By default only (striped) counters are maintained, which keeps the per exchange overhead low. The inflight exchanges
+ * are only registered in a map when browsing is enabled (see {@link #setInflightBrowseEnabled(boolean)}), which is
+ * needed for {@link #browse()} and {@link #oldest(String)}.
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
@@ -45,7 +49,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
     private final LongAdder size = new LongAdder();
     private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
-    private boolean inflightExchangeEnabled;
+    private volatile boolean inflightExchangeEnabled;
 
     @Override
     public void add(Exchange exchange) {
@@ -61,7 +65,7 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         size.decrement();
 
         if (inflightExchangeEnabled) {
-            inflight.remove(exchange.getExchangeId());
+            inflight.remove(exchange.getExchangeId(), exchange);
         }
     }
 
@@ -110,6 +114,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
     @Override
     public void setInflightBrowseEnabled(boolean inflightBrowseEnabled) {
         this.inflightExchangeEnabled = inflightBrowseEnabled;
+        if (!inflightBrowseEnabled) {
+            // exchanges are no longer tracked so discard any existing to not leak them
+            inflight.clear();
+        }
     }
 
     @Override
@@ -169,27 +177,22 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             return null;
         }
 
-        Stream<Exchange> values;
-
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
-            // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+        // find the exchange with the longest duration (no need to sort all of them)
+        Exchange oldest = null;
+        long max = -1;
+        for (Exchange exchange : inflight.values()) {
+            if (fromRouteId != null && !fromRouteId.equals(exchange.getFromRouteId())) {
+                continue;
+            }
+            long duration = getExchangeDuration(exchange);
+            if (oldest == null || duration > max) {
+                oldest = exchange;
+                max = duration;
+            }
         }
 
-        // sort by duration and grab the first
-        Exchange first = values.sorted((e1, e2) -> {
-            long d1 = getExchangeDuration(e1);
-            long d2 = getExchangeDuration(e2);
-            // need the biggest number first
-            return -1 * Long.compare(d1, d2);
-        }).findFirst().orElse(null);
-
-        if (first != null) {
-            return new InflightExchangeEntry(first);
+        if (oldest != null) {
+            return new InflightExchangeEntry(oldest);
         } else {
             return null;
         }
@@ -19,17 +19,27 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.apache.camel.CamelContext;
+import org.apache.camel.Component;
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
 import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
@@ -38,8 +48,10 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.StringHelper;
 import org.apache.camel.util.URISupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -287,6 +299,12 @@ final class InternalRouteStartupManager {
 
     void doWarmUpRoutes(AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup)
             throws FailedToStartRouteException {
+        int parallelism = camelContext.getRouteStartupParallelism();
+        if (parallelism > 1 && inputs.size() > 1) {
+            doWarmUpRoutesInParallel(camelContext, inputs, autoStartup, parallelism);
+            return;
+        }
+
         // now prepare the routes by starting its services before we start the
         // input
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -298,23 +316,195 @@ final class InternalRouteStartupManager {
             // routes as all routes
             // will then be prepared in time before we start inputs which will
             // consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
-            StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
-                    routeService.getId(),
-                    "Warump Route");
+            doWarmUpRoute(camelContext, entry.getValue().getRouteService(), autoStartup);
+        }
+    }
+
+    private void doWarmUpRoute(AbstractCamelContext camelContext, RouteService routeService, boolean autoStartup)
+            throws FailedToStartRouteException {
+        StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
+                routeService.getId(),
+                "Warump Route");
+        try {
+            LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            // ensure we setup before warmup
+            routeService.setUp();
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+            camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
+        }
+    }
+
+    private void doWarmUpRoutesInParallel(
+            AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup,
+            int parallelism)
+            throws FailedToStartRouteException {
+        // routes with an explicit startup order may depend on each other, so they are warmed up one by one
+        // (in their order) before the other routes
+        List<RouteService> routeServices = new ArrayList<>();
+        for (DefaultRouteStartupOrder order : inputs.values()) {
+            if (order.getRoute().getStartupOrder() != null) {
+                doWarmUpRoute(camelContext, order.getRouteService(), autoStartup);
+            } else {
+                routeServices.add(order.getRouteService());
+            }
+        }
+
+        // setup the routes first, so we know which endpoints they use
+        for (RouteService routeService : routeServices) {
             try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
                 setupRoute.set(routeService.getRoute());
-                // ensure we setup before warmup
                 routeService.setUp();
+            } finally {
+                setupRoute.remove();
+            }
+        }
+
+        // routes sharing an endpoint (or a component not yet started) are warmed up by the same thread (in order)
+        List<List<RouteService>> groups = groupRoutesByDependencies(camelContext, routeServices);
+        if (groups.size() <= 1) {
+            for (RouteService routeService : routeServices) {
+                doWarmUpRoute(camelContext, routeService, autoStartup);
+            }
+            return;
+        }
+        doWarmUpRouteServicesInParallel(camelContext, groups, autoStartup, Math.min(parallelism, groups.size()));
+
+        // the routes are then added to the lifecycle strategies and the CamelContext one by one in the startup order
+        // so this is done in the same order as when routes are warmed up sequentially
+        for (RouteService routeService : routeServices) {
+            try {
+                setupRoute.set(routeService.getRoute());
                 routeService.warmUp();
             } finally {
                 setupRoute.remove();
-                camelContext.getCamelContextExtension().getStartupStepRecorder().endStep(step);
             }
         }
     }
 
+    private void doWarmUpRouteServicesInParallel(
+            AbstractCamelContext camelContext, List<List<RouteService>> groups, boolean autoStartup, int threads)
+            throws FailedToStartRouteException {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        // the steps of the routes are recorded as sub steps of this step, as they are begun by other threads
+        StartupStep parent = recorder.beginStep(CamelContext.class, camelContext.getName(), "Warmup Routes");
+
+        LOG.debug("Warming up {} groups of routes using {} threads", groups.size(), threads);
+        ExecutorService executor
+                = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteWarmUp", threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(groups.size());
+            for (List<RouteService> group : groups) {
+                futures.add(executor.submit(() -> {
+                    // starting routes is thread bound
+                    camelContext.setStartingRoutes(true);
+                    try {
+                        for (RouteService routeService : group) {
+                            StartupStep step = recorder.beginStep(parent, Route.class, routeService.getId(), "Warump Route");
+                            try {
+                                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(),
+                                        autoStartup);
+                                setupRoute.set(routeService.getRoute());
+                                routeService.warmUpServices();
+                            } finally {
+                                setupRoute.remove();
+                                recorder.endStep(step);
+                            }
+                        }
+                    } finally {
+                        camelContext.setStartingRoutes(false);
+                    }
+                    return null;
+                }));
+            }
+
+            // wait for all the routes to be warmed up, and fail with the error of the first group (in startup order)
+            Throwable cause = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeCamelException("Interrupted while warming up routes", e);
+                } catch (ExecutionException e) {
+                    Throwable t = e.getCause();
+                    if (t instanceof Error) {
+                        throw (Error) t;
+                    }
+                    if (cause == null) {
+                        cause = t;
+                    }
+                }
+            }
+            if (cause instanceof FailedToStartRouteException) {
+                throw (FailedToStartRouteException) cause;
+            } else if (cause != null) {
+                throw RuntimeCamelException.wrapRuntimeException(cause);
+            }
+        } finally {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+            recorder.endStep(parent);
+        }
+    }
+
+    /**
+     * Groups the routes that depend on each other, which is when they use the same endpoint (such as a route sending to
+     * the input endpoint of another route), or a component which is not yet started. The groups, and the routes in each
+     * group, are kept in the startup order.
+     */
+    static List<List<RouteService>> groupRoutesByDependencies(
+            CamelContext camelContext, List<RouteService> routeServices) {
+        int size = routeServices.size();
+        int[] roots = new int[size];
+        Map<Object, Integer> owners = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            roots[i] = i;
+            for (Object dependency : gatherDependencies(camelContext, routeServices.get(i))) {
+                Integer owner = owners.putIfAbsent(dependency, i);
+                if (owner != null) {
+                    // union the two groups, using the earliest route as the root
+                    int a = findRoot(roots, owner);
+                    int b = findRoot(roots, i);
+                    roots[Math.max(a, b)] = Math.min(a, b);
+                }
+            }
+        }
+
+        Map<Integer, List<RouteService>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            groups.computeIfAbsent(findRoot(roots, i), k -> new ArrayList<>()).add(routeServices.get(i));
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static Set<Object> gatherDependencies(CamelContext camelContext, RouteService routeService) {
+        Set<Endpoint> endpoints = new LinkedHashSet<>();
+        if (routeService.getRoute().getEndpoint() != null) {
+            endpoints.add(routeService.getRoute().getEndpoint());
+        }
+        endpoints.addAll(routeService.gatherEndpoints());
+
+        Set<Object> answer = new HashSet<>();
+        for (Endpoint endpoint : endpoints) {
+            answer.add(endpoint.getEndpointKey());
+            String scheme = StringHelper.before(endpoint.getEndpointUri(), ":");
+            Component component = scheme != null ? camelContext.hasComponent(scheme) : null;
+            if (component != null && !ServiceHelper.isStarted(component)) {
+                answer.add(component);
+            }
+        }
+        return answer;
+    }
+
+    private static int findRoot(int[] roots, int index) {
+        while (roots[index] != index) {
+            index = roots[index];
+        }
+        return index;
+    }
+
     void doResumeRouteConsumers(
             AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes)
             throws Exception {
@@ -63,6 +63,7 @@ public class RouteService extends ChildServiceSupport {
     private Consumer input;
     private final AtomicBoolean setUpDone = new AtomicBoolean();
     private final AtomicBoolean warmUpDone = new AtomicBoolean();
+    private final AtomicBoolean servicesDone = new AtomicBoolean();
     private final AtomicBoolean endpointDone = new AtomicBoolean();
 
     public RouteService(Route route) {
@@ -123,6 +124,21 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
+    /**
+     * Warms up the route services (starts the endpoint, route processors and child services) without publishing the
+     * route to the lifecycle strategies and the CamelContext, which is done by {@link #warmUp()}.
+     * <p/>
+     * This allows routes that do not share any endpoints to warm up their services in parallel, while the route is
+     * still published in the startup order.
+     */
+    public void warmUpServices() throws FailedToStartRouteException {
+        try {
+            doWarmUpServices();
+        } catch (Exception e) {
+            throw new FailedToStartRouteException(getId(), e.getLocalizedMessage(), e);
+        }
+    }
+
     public void setUp() throws FailedToStartRouteException {
         if (setUpDone.compareAndSet(false, true)) {
             try {
@@ -175,7 +191,7 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
-    protected synchronized void doWarmUp() throws Exception {
+    protected synchronized void doWarmUpServices() throws Exception {
         if (endpointDone.compareAndSet(false, true)) {
             // endpoints should only be started once as they can be reused on other routes
             // and whatnot, thus their lifecycle is to start once, and only to stop when Camel shutdown
@@ -183,14 +199,22 @@ public class RouteService extends ChildServiceSupport {
             ServiceHelper.startService(route.getEndpoint());
         }
 
-        if (warmUpDone.compareAndSet(false, true)) {
-
+        if (servicesDone.compareAndSet(false, true)) {
             try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
                 // warm up the route first
                 route.warmUp();
 
                 startChildServices(route, childServices);
+            }
+        }
+    }
 
+    protected synchronized void doWarmUp() throws Exception {
+        doWarmUpServices();
+
+        if (warmUpDone.compareAndSet(false, true)) {
+
+            try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
                 // fire event
                 EventHelper.notifyRouteAdded(camelContext, route);
             }
@@ -278,6 +302,7 @@ public class RouteService extends ChildServiceSupport {
         input = null;
         childServices = null;
         warmUpDone.set(false);
+        servicesDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
         setUpDone.set(false);
@@ -322,6 +347,7 @@ public class RouteService extends ChildServiceSupport {
         input = null;
         childServices = null;
         warmUpDone.set(false);
+        servicesDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
     }
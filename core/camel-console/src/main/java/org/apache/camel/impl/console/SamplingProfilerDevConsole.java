@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.console;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.spi.annotations.DevConsole;
+import org.apache.camel.support.InflightSamplingProfiler;
+import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.json.JsonObject;
+
+@DevConsole(name = "sampling-profiler", displayName = "Sampling Profiler",
+            description = "Samples inflight exchanges to find hot routes and processors (flame graph)")
+public class SamplingProfilerDevConsole extends AbstractDevConsole {
+
+    /**
+     * Action to perform such as start, stop, or reset the profiler
+     */
+    public static final String ACTION = "action";
+
+    /**
+     * Interval in millis between samples (used when starting the profiler)
+     */
+    public static final String INTERVAL = "interval";
+
+    public SamplingProfilerDevConsole() {
+        super("camel", "sampling-profiler", "Sampling Profiler",
+              "Samples inflight exchanges to find hot routes and processors (flame graph)");
+    }
+
+    @Override
+    protected String doCallText(Map<String, Object> options) {
+        InflightSamplingProfiler profiler = InflightSamplingProfiler.getOrCreate(getCamelContext());
+        String action = (String) options.get(ACTION);
+        if (action != null) {
+            String error = doAction(profiler, action, (String) options.get(INTERVAL));
+            return error != null ? error : "";
+        }
+
+        // the collapsed stack format can be used as-is by flame graph tools
+        return profiler.dumpCollapsedStacks();
+    }
+
+    @Override
+    protected JsonObject doCallJson(Map<String, Object> options) {
+        InflightSamplingProfiler profiler = InflightSamplingProfiler.getOrCreate(getCamelContext());
+        String action = (String) options.get(ACTION);
+        JsonObject root = new JsonObject();
+        if (action != null) {
+            String error = doAction(profiler, action, (String) options.get(INTERVAL));
+            if (error != null) {
+                root.put("error", error);
+            }
+        }
+
+        root.put("sampling", profiler.isSampling());
+        root.put("interval", profiler.getSampleInterval());
+        root.put("samples", profiler.getSamples());
+        final List<JsonObject> list = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : profiler.getStacks().entrySet()) {
+            JsonObject jo = new JsonObject();
+            jo.put("stack", entry.getKey());
+            jo.put("count", entry.getValue());
+            list.add(jo);
+        }
+        root.put("stacks", list);
+        return root;
+    }
+
+    /**
+     * Performs the action
+     *
+     * @return an error message if the action could not be performed, or <tt>null</tt> if success
+     */
+    protected String doAction(InflightSamplingProfiler profiler, String action, String interval) {
+        if ("start".equals(action)) {
+            long millis = 0;
+            if (interval != null) {
+                try {
+                    millis = Long.parseLong(interval.trim());
+                } catch (NumberFormatException e) {
+                    return "Invalid interval: " + interval;
+                }
+            }
+            // restarts sampling if the interval is changed (same as the JMX operation)
+            profiler.startSampling(millis);
+        } else if ("stop".equals(action)) {
+            profiler.stopSampling();
+        } else if ("reset".equals(action)) {
+            profiler.reset();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.console;
+
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.console.DevConsole;
+import org.apache.camel.support.InflightSamplingProfiler;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.json.JsonObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SamplingProfilerDevConsoleTest extends ContextTestSupport {
+
+    @Test
+    public void testStartRestartAndStop() throws Exception {
+        DevConsole con = PluginHelper.getDevConsoleResolver(context).resolveDevConsole("sampling-profiler");
+        Assertions.assertNotNull(con);
+        Assertions.assertFalse(context.getInflightRepository().isInflightBrowseEnabled());
+
+        JsonObject out = (JsonObject) con.call(DevConsole.MediaType.JSON, Map.of("action", "start", "interval", "50"));
+        Assertions.assertTrue(out.getBoolean("sampling"));
+        Assertions.assertEquals(50L, out.getLong("interval"));
+        Assertions.assertTrue(context.getInflightRepository().isInflightBrowseEnabled());
+
+        // a new interval restarts the profiler, as the JMX operation does
+        out = (JsonObject) con.call(DevConsole.MediaType.JSON, Map.of("action", "start", "interval", "25"));
+        Assertions.assertTrue(out.getBoolean("sampling"));
+        Assertions.assertEquals(25L, out.getLong("interval"));
+
+        out = (JsonObject) con.call(DevConsole.MediaType.JSON, Map.of("action", "start", "interval", "abc"));
+        Assertions.assertEquals("Invalid interval: abc", out.getString("error"));
+        Assertions.assertEquals(25L, out.getLong("interval"));
+
+        out = (JsonObject) con.call(DevConsole.MediaType.JSON, Map.of("action", "stop"));
+        Assertions.assertFalse(out.getBoolean("sampling"));
+        // inflight browse is restored
+        Assertions.assertFalse(context.getInflightRepository().isInflightBrowseEnabled());
+    }
+
+    @Test
+    public void testStopsWithContext() throws Exception {
+        InflightSamplingProfiler profiler = InflightSamplingProfiler.getOrCreate(context);
+        profiler.startSampling(10);
+        Assertions.assertTrue(profiler.isSampling());
+
+        context.stop();
+
+        Assertions.assertFalse(profiler.isSampling());
+    }
+}
@@ -53,6 +53,9 @@ public class BindyDataFormat extends DataFormatDefinition {
     @XmlAttribute
     @Metadata(label = "advanced")
     private String locale;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "false")
+    private String lazyLoad;
 
     public BindyDataFormat() {
         super("bindy");
@@ -66,6 +69,7 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.allowEmptyStream = builder.allowEmptyStream;
         this.unwrapSingleInstance = builder.unwrapSingleInstance;
         this.locale = builder.locale;
+        this.lazyLoad = builder.lazyLoad;
     }
 
     public String getType() {
@@ -149,6 +153,19 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public String getLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should produce an iterator that reads and binds the lines on the fly, instead of
+     * reading all the lines into a list of models. The iterator can be used with the Splitter in streaming mode, to
+     * process large CSV files with a low memory footprint. This option is only supported by the Csv type.
+     */
+    public void setLazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
     //
     // Fluent builder api
     //
@@ -212,6 +229,15 @@ public class BindyDataFormat extends DataFormatDefinition {
         return this;
     }
 
+    public BindyDataFormat lazyLoad(boolean lazyLoad) {
+        return lazyLoad(Boolean.toString(lazyLoad));
+    }
+
+    public BindyDataFormat lazyLoad(String lazyLoad) {
+        this.lazyLoad = lazyLoad;
+        return this;
+    }
+
     /**
      * {@code Builder} is a specific builder for {@link BindyDataFormat}.
      */
@@ -224,6 +250,7 @@ public class BindyDataFormat extends DataFormatDefinition {
         private String allowEmptyStream;
         private String unwrapSingleInstance;
         private String locale;
+        private String lazyLoad;
 
         /**
          * Whether to use Csv, Fixed, or KeyValue.
@@ -299,6 +326,26 @@ public class BindyDataFormat extends DataFormatDefinition {
             return this;
         }
 
+        /**
+         * Whether the unmarshalling should produce an iterator that reads and binds the lines on the fly, instead of
+         * reading all the lines into a list of models. The iterator can be used with the Splitter in streaming mode, to
+         * process large CSV files with a low memory footprint. This option is only supported by the Csv type.
+         */
+        public Builder lazyLoad(String lazyLoad) {
+            this.lazyLoad = lazyLoad;
+            return this;
+        }
+
+        /**
+         * Whether the unmarshalling should produce an iterator that reads and binds the lines on the fly, instead of
+         * reading all the lines into a list of models. The iterator can be used with the Splitter in streaming mode, to
+         * process large CSV files with a low memory footprint. This option is only supported by the Csv type.
+         */
+        public Builder lazyLoad(boolean lazyLoad) {
+            this.lazyLoad = Boolean.toString(lazyLoad);
+            return this;
+        }
+
         @Override
         public BindyDataFormat end() {
             return new BindyDataFormat(this);
@@ -118,6 +118,9 @@ public class CsvDataFormat extends DataFormatDefinition {
     @Metadata(javaType = "java.lang.Boolean")
     private String useOrderedMaps;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String useRecordView;
+    @XmlAttribute
     @Metadata(label = "advanced")
     private String recordConverterRef;
     @XmlAttribute
@@ -167,6 +170,7 @@ public class CsvDataFormat extends DataFormatDefinition {
         this.lazyLoad = builder.lazyLoad;
         this.useMaps = builder.useMaps;
         this.useOrderedMaps = builder.useOrderedMaps;
+        this.useRecordView = builder.useRecordView;
         this.recordConverterRef = builder.recordConverterRef;
         this.captureHeaderRecord = builder.captureHeaderRecord;
     }
@@ -449,6 +453,19 @@ public class CsvDataFormat extends DataFormatDefinition {
         this.useOrderedMaps = useOrderedMaps;
     }
 
+    public String getUseRecordView() {
+        return useRecordView;
+    }
+
+    /**
+     * Whether the unmarshalling should produce record views (CsvRecordView) for the lines values instead of lists. A
+     * record view is a read-only list over the values of the parsed record, which can also be read by column name, so
+     * the values are not copied into a new list or map.
+     */
+    public void setUseRecordView(String useRecordView) {
+        this.useRecordView = useRecordView;
+    }
+
     public String getRecordConverterRef() {
         return recordConverterRef;
     }
@@ -536,6 +553,7 @@ public class CsvDataFormat extends DataFormatDefinition {
         private String lazyLoad;
         private String useMaps;
         private String useOrderedMaps;
+        private String useRecordView;
         private String recordConverterRef;
         private String captureHeaderRecord;
 
@@ -833,6 +851,26 @@ public class CsvDataFormat extends DataFormatDefinition {
             return this;
         }
 
+        /**
+         * Whether the unmarshalling should produce record views (CsvRecordView) for the lines values instead of lists.
+         * A record view is a read-only list over the values of the parsed record, which can also be read by column
+         * name, so the values are not copied into a new list or map.
+         */
+        public Builder useRecordView(String useRecordView) {
+            this.useRecordView = useRecordView;
+            return this;
+        }
+
+        /**
+         * Whether the unmarshalling should produce record views (CsvRecordView) for the lines values instead of lists.
+         * A record view is a read-only list over the values of the parsed record, which can also be read by column
+         * name, so the values are not copied into a new list or map.
+         */
+        public Builder useRecordView(boolean useRecordView) {
+            this.useRecordView = Boolean.toString(useRecordView);
+            return this;
+        }
+
         /**
          * Refers to a custom <tt>CsvRecordConverter</tt> to lookup from the registry to use.
          */
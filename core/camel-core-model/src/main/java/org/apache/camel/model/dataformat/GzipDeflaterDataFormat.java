@@ -16,6 +16,9 @@
  */
 package org.apache.camel.model.dataformat;
 
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlTransient;
 
@@ -28,20 +31,118 @@ import org.apache.camel.spi.Metadata;
  */
 @Metadata(firstVersion = "2.0.0", label = "dataformat,transformation", title = "GZip Deflater")
 @XmlRootElement(name = "gzipDeflater")
+@XmlAccessorType(XmlAccessType.FIELD)
 public class GzipDeflaterDataFormat extends DataFormatDefinition {
 
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "false")
+    private String parallel;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "131072")
+    private String blockSize;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
+    private String executorService;
+
     public GzipDeflaterDataFormat() {
         super("gzipDeflater");
     }
 
+    private GzipDeflaterDataFormat(Builder builder) {
+        this();
+        this.parallel = builder.parallel;
+        this.blockSize = builder.blockSize;
+        this.executorService = builder.executorService;
+    }
+
+    public String getParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard gzip stream.
+     */
+    public void setParallel(String parallel) {
+        this.parallel = parallel;
+    }
+
+    public String getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The size in bytes of the blocks that are compressed in parallel.
+     */
+    public void setBlockSize(String blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public String getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Refers to a custom thread pool to compress the blocks in parallel on. By default the common fork-join pool is
+     * used.
+     */
+    public void setExecutorService(String executorService) {
+        this.executorService = executorService;
+    }
+
     /**
      * {@code Builder} is a specific builder for {@link GzipDeflaterDataFormat}.
      */
     @XmlTransient
     public static class Builder implements DataFormatBuilder<GzipDeflaterDataFormat> {
+
+        private String parallel;
+        private String blockSize;
+        private String executorService;
+
+        /**
+         * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard gzip stream.
+         */
+        public Builder parallel(String parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard gzip stream.
+         */
+        public Builder parallel(boolean parallel) {
+            this.parallel = Boolean.toString(parallel);
+            return this;
+        }
+
+        /**
+         * The size in bytes of the blocks that are compressed in parallel.
+         */
+        public Builder blockSize(String blockSize) {
+            this.blockSize = blockSize;
+            return this;
+        }
+
+        /**
+         * The size in bytes of the blocks that are compressed in parallel.
+         */
+        public Builder blockSize(int blockSize) {
+            this.blockSize = Integer.toString(blockSize);
+            return this;
+        }
+
+        /**
+         * Refers to a custom thread pool to compress the blocks in parallel on. By default the common fork-join pool is
+         * used.
+         */
+        public Builder executorService(String executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
         @Override
         public GzipDeflaterDataFormat end() {
-            return new GzipDeflaterDataFormat();
+            return new GzipDeflaterDataFormat(this);
         }
     }
 }
@@ -37,6 +37,15 @@ public class ZipDeflaterDataFormat extends DataFormatDefinition {
     @XmlAttribute
     @Metadata(javaType = "java.lang.Integer", defaultValue = "-1", enums = "-1,0,1,2,3,4,5,6,7,8,9")
     private String compressionLevel;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "false")
+    private String parallel;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "131072")
+    private String blockSize;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
+    private String executorService;
 
     public ZipDeflaterDataFormat() {
         super("zipDeflater");
@@ -45,6 +54,9 @@ public class ZipDeflaterDataFormat extends DataFormatDefinition {
     private ZipDeflaterDataFormat(Builder builder) {
         this();
         this.compressionLevel = builder.compressionLevel;
+        this.parallel = builder.parallel;
+        this.blockSize = builder.blockSize;
+        this.executorService = builder.executorService;
     }
 
     public String getCompressionLevel() {
@@ -59,6 +71,40 @@ public class ZipDeflaterDataFormat extends DataFormatDefinition {
         this.compressionLevel = compressionLevel;
     }
 
+    public String getParallel() {
+        return parallel;
+    }
+
+    /**
+     * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard zlib stream.
+     */
+    public void setParallel(String parallel) {
+        this.parallel = parallel;
+    }
+
+    public String getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * The size in bytes of the blocks that are compressed in parallel.
+     */
+    public void setBlockSize(String blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public String getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Refers to a custom thread pool to compress the blocks in parallel on. By default the common fork-join pool is
+     * used.
+     */
+    public void setExecutorService(String executorService) {
+        this.executorService = executorService;
+    }
+
     /**
      * {@code Builder} is a specific builder for {@link ZipDeflaterDataFormat}.
      */
@@ -66,6 +112,9 @@ public class ZipDeflaterDataFormat extends DataFormatDefinition {
     public static class Builder implements DataFormatBuilder<ZipDeflaterDataFormat> {
 
         private String compressionLevel;
+        private String parallel;
+        private String blockSize;
+        private String executorService;
 
         /**
          * To specify a specific compression between 0-9. -1 is default compression, 0 is no compression, and 9 is the
@@ -85,6 +134,47 @@ public class ZipDeflaterDataFormat extends DataFormatDefinition {
             return this;
         }
 
+        /**
+         * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard zlib stream.
+         */
+        public Builder parallel(String parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard zlib stream.
+         */
+        public Builder parallel(boolean parallel) {
+            this.parallel = Boolean.toString(parallel);
+            return this;
+        }
+
+        /**
+         * The size in bytes of the blocks that are compressed in parallel.
+         */
+        public Builder blockSize(String blockSize) {
+            this.blockSize = blockSize;
+            return this;
+        }
+
+        /**
+         * The size in bytes of the blocks that are compressed in parallel.
+         */
+        public Builder blockSize(int blockSize) {
+            this.blockSize = Integer.toString(blockSize);
+            return this;
+        }
+
+        /**
+         * Refers to a custom thread pool to compress the blocks in parallel on. By default the common fork-join pool is
+         * used.
+         */
+        public Builder executorService(String executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
         @Override
         public ZipDeflaterDataFormat end() {
             return new ZipDeflaterDataFormat(this);
@@ -39,6 +39,12 @@ public class XMLTokenizerExpression extends NamespaceAwareExpression {
     @XmlAttribute
     @Metadata(javaType = "java.lang.Integer")
     private String group;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "false")
+    private String pipelined;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "1000")
+    private String pipelineCapacity;
 
     public XMLTokenizerExpression() {
     }
@@ -55,6 +61,8 @@ public class XMLTokenizerExpression extends NamespaceAwareExpression {
         super(builder);
         this.mode = builder.mode;
         this.group = builder.group;
+        this.pipelined = builder.pipelined;
+        this.pipelineCapacity = builder.pipelineCapacity;
     }
 
     @Override
@@ -90,6 +98,29 @@ public class XMLTokenizerExpression extends NamespaceAwareExpression {
         this.group = group;
     }
 
+    public String getPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Whether to extract the tokens in a background thread, while the previous tokens are being processed. This allows
+     * a streaming splitter to process large XML documents faster, especially with parallel processing.
+     */
+    public void setPipelined(String pipelined) {
+        this.pipelined = pipelined;
+    }
+
+    public String getPipelineCapacity() {
+        return pipelineCapacity;
+    }
+
+    /**
+     * The maximum number of tokens the background thread can extract ahead of processing, when pipelined.
+     */
+    public void setPipelineCapacity(String pipelineCapacity) {
+        this.pipelineCapacity = pipelineCapacity;
+    }
+
     /**
      * {@code Builder} is a specific builder for {@link XMLTokenizerExpression}.
      */
@@ -98,6 +129,8 @@ public class XMLTokenizerExpression extends NamespaceAwareExpression {
 
         private String mode;
         private String group;
+        private String pipelined;
+        private String pipelineCapacity;
 
         /**
          * The extraction mode. The available extraction modes are:
@@ -137,6 +170,40 @@ public class XMLTokenizerExpression extends NamespaceAwareExpression {
             return this;
         }
 
+        /**
+         * Whether to extract the tokens in a background thread, while the previous tokens are being processed. This
+         * allows a streaming splitter to process large XML documents faster, especially with parallel processing.
+         */
+        public Builder pipelined(String pipelined) {
+            this.pipelined = pipelined;
+            return this;
+        }
+
+        /**
+         * Whether to extract the tokens in a background thread, while the previous tokens are being processed. This
+         * allows a streaming splitter to process large XML documents faster, especially with parallel processing.
+         */
+        public Builder pipelined(boolean pipelined) {
+            this.pipelined = Boolean.toString(pipelined);
+            return this;
+        }
+
+        /**
+         * The maximum number of tokens the background thread can extract ahead of processing, when pipelined.
+         */
+        public Builder pipelineCapacity(String pipelineCapacity) {
+            this.pipelineCapacity = pipelineCapacity;
+            return this;
+        }
+
+        /**
+         * The maximum number of tokens the background thread can extract ahead of processing, when pipelined.
+         */
+        public Builder pipelineCapacity(int pipelineCapacity) {
+            this.pipelineCapacity = Integer.toString(pipelineCapacity);
+            return this;
+        }
+
         @Override
         public XMLTokenizerExpression end() {
             return new XMLTokenizerExpression(this);
@@ -65,6 +65,9 @@ public class XPathExpression extends NamespaceAwareExpression {
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "true")
     private String preCompile;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "false")
+    private String streaming;
 
     public XPathExpression() {
     }
@@ -89,6 +92,7 @@ public class XPathExpression extends NamespaceAwareExpression {
         this.logNamespaces = builder.logNamespaces;
         this.threadSafety = builder.threadSafety;
         this.preCompile = builder.preCompile;
+        this.streaming = builder.streaming;
     }
 
     @Override
@@ -218,6 +222,22 @@ public class XPathExpression extends NamespaceAwareExpression {
         this.preCompile = preCompile;
     }
 
+    public String getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to evaluate simple xpath expressions while streaming the message body with StAX, instead of loading the
+     * body as a DOM. This is used when the result is a string, number or boolean, and the expression is an absolute
+     * path of elements, such as /order/header/id. Other expressions are evaluated on a DOM as usual.
+     * <p/>
+     * Streaming is disabled by default, as the result can differ from a DOM, for example adjacent text and CDATA
+     * sections are always merged into one text node.
+     */
+    public void setStreaming(String streaming) {
+        this.streaming = streaming;
+    }
+
     /**
      * {@code Builder} is a specific builder for {@link XPathExpression}.
      */
@@ -234,6 +254,7 @@ public class XPathExpression extends NamespaceAwareExpression {
         private String logNamespaces;
         private String threadSafety;
         private String preCompile;
+        private String streaming;
 
         /**
          * Class for document type to use
@@ -382,6 +403,32 @@ public class XPathExpression extends NamespaceAwareExpression {
             return this;
         }
 
+        /**
+         * Whether to evaluate simple xpath expressions while streaming the message body with StAX, instead of loading
+         * the body as a DOM. This is used when the result is a string, number or boolean, and the expression is an
+         * absolute path of elements, such as /order/header/id. Other expressions are evaluated on a DOM as usual.
+         * <p/>
+         * Streaming is disabled by default, as the result can differ from a DOM, for example adjacent text and CDATA
+         * sections are always merged into one text node.
+         */
+        public Builder streaming(String streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Whether to evaluate simple xpath expressions while streaming the message body with StAX, instead of loading
+         * the body as a DOM. This is used when the result is a string, number or boolean, and the expression is an
+         * absolute path of elements, such as /order/header/id. Other expressions are evaluated on a DOM as usual.
+         * <p/>
+         * Streaming is disabled by default, as the result can differ from a DOM, for example adjacent text and CDATA
+         * sections are always merged into one text node.
+         */
+        public Builder streaming(boolean streaming) {
+            this.streaming = Boolean.toString(streaming);
+            return this;
+        }
+
         @Override
         public XPathExpression end() {
             return new XPathExpression(this);
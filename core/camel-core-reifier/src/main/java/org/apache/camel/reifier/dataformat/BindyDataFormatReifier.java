@@ -43,6 +43,9 @@ public class BindyDataFormatReifier extends DataFormatReifier<BindyDataFormat> {
         properties.put("classType", or(definition.getClassType(), definition.getClassTypeAsString()));
         properties.put("unwrapSingleInstance", definition.getUnwrapSingleInstance());
         properties.put("allowEmptyStream", definition.getAllowEmptyStream());
+        if ("Csv".equals(definition.getType())) {
+            properties.put("lazyLoad", definition.getLazyLoad());
+        }
     }
 
 }
@@ -30,6 +30,9 @@ public class GzipDataFormatReifier extends DataFormatReifier<GzipDeflaterDataFor
 
     @Override
     protected void prepareDataFormatConfig(Map<String, Object> properties) {
+        properties.put("parallel", definition.getParallel());
+        properties.put("blockSize", definition.getBlockSize());
+        properties.put("executorService", asRef(definition.getExecutorService()));
     }
 
 }
@@ -31,6 +31,9 @@ public class ZipDataFormatReifier extends DataFormatReifier<ZipDeflaterDataForma
     @Override
     protected void prepareDataFormatConfig(Map<String, Object> properties) {
         properties.put("compressionLevel", definition.getCompressionLevel());
+        properties.put("parallel", definition.getParallel());
+        properties.put("blockSize", definition.getBlockSize());
+        properties.put("executorService", asRef(definition.getExecutorService()));
     }
 
 }
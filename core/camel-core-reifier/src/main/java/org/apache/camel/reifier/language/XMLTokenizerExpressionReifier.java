@@ -47,12 +47,14 @@ public class XMLTokenizerExpressionReifier extends SingleInputTypedExpressionRei
     }
 
     protected Object[] createProperties() {
-        Object[] properties = new Object[5];
+        Object[] properties = new Object[7];
         properties[0] = asResultType();
         properties[1] = parseString(definition.getSource());
         properties[2] = parseString(definition.getMode());
         properties[3] = parseInt(definition.getGroup());
         properties[4] = definition.getNamespaces();
+        properties[5] = parseBoolean(definition.getPipelined());
+        properties[6] = parseInt(definition.getPipelineCapacity());
         return properties;
     }
 
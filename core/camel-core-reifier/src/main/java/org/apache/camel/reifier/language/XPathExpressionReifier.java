@@ -52,7 +52,7 @@ public class XPathExpressionReifier extends SingleInputTypedExpressionReifier<XP
     }
 
     protected Object[] createProperties() {
-        Object[] properties = new Object[11];
+        Object[] properties = new Object[12];
         properties[0] = asResultType();
         properties[1] = parseString(definition.getSource());
         properties[2] = definition.getDocumentType();
@@ -64,6 +64,7 @@ public class XPathExpressionReifier extends SingleInputTypedExpressionReifier<XP
         properties[8] = parseBoolean(definition.getPreCompile());
         properties[9] = parseBoolean(definition.getLogNamespaces());
         properties[10] = definition.getNamespaces();
+        properties[11] = parseBoolean(definition.getStreaming());
         return properties;
     }
 
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.builder.xml;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPathConstants;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.converter.stream.ByteArrayInputStreamCache;
+import org.apache.camel.language.xpath.XPathBuilder;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class XPathStreamingTest extends ContextTestSupport {
+
+    private static final String ORDER = "<?xml version='1.0'?>"
+                                        + "<order id='1' xmlns:c='urn:customer'>"
+                                        + "<header><id>A-1</id><c:name>Camel</c:name></header>"
+                                        + "<items>"
+                                        + "<item type='book' price='10'>Camel in Action<note>2nd</note></item>"
+                                        + "<item type='cd' price='5.5'><![CDATA[Rock & <Roll>]]> live</item>"
+                                        + "<item type='book'><!-- no price -->Camel &amp; Java<note/>tail</item>"
+                                        + "</items>"
+                                        + "<total>15.50</total><empty/>"
+                                        + "</order>";
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .filter(expression().xpath().expression("/order/header[@type='new']/id").streaming(true).end())
+                        .to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testSameResultAsDom() throws Exception {
+        String[] expressions = {
+                "/order/header/id", "/order/header/id/text()", "/order/@id", "/order/header/c:name", "//item",
+                "//item/@price", "/order/items/item[2]", "/order/items/item[2]/text()", "/order/items/item[3]/text()",
+                "//item[@type='book']/note", "//item[@type=\"cd\"]/@price", "//item[@price]", "/order/*/item[3]",
+                "//note", "/order/total", "/order/empty", "/order/empty/text()", "/order/missing", "/order/@missing",
+                "/order/items/item[4]", "/*/header/*", "//items//note", "/order//c:name" };
+        QName[] types = { XPathConstants.STRING, XPathConstants.NUMBER, XPathConstants.BOOLEAN };
+
+        for (String expression : expressions) {
+            for (QName type : types) {
+                Object expected = evaluate(expression, type, false, ORDER);
+                assertEquals(expected, evaluate(expression, type, true, ORDER), expression + " as " + type);
+                assertEquals(expected, evaluate(expression, type, true, ORDER.getBytes(StandardCharsets.UTF_8)),
+                        expression + " as " + type);
+                assertEquals(expected,
+                        evaluate(expression, type, true,
+                                new ByteArrayInputStreamCache(
+                                        new ByteArrayInputStream(ORDER.getBytes(StandardCharsets.UTF_8)))),
+                        expression + " as " + type);
+            }
+        }
+    }
+
+    @Test
+    public void testShortCircuit() throws Exception {
+        // the streaming evaluation stops at the first match, and does not read the rest of the document
+        String xml = "<order><header><id>A-1</id></header><items>" + "<item/>".repeat(1000);
+        assertEquals("A-1", evaluate("/order/header/id", XPathConstants.STRING, true, xml));
+        assertEquals(Boolean.TRUE, evaluate("/order/header", XPathConstants.BOOLEAN, true, xml));
+    }
+
+    @Test
+    public void testStreamingDisabledByDefault() throws Exception {
+        // the document is not complete, so it can only be evaluated by streaming
+        String xml = "<order><header><id>A-1</id></header><items>";
+        assertThrows(TypeConversionException.class,
+                () -> XPathBuilder.xpath("/order/header/id").evaluate(context, xml, String.class));
+        assertEquals("A-1", evaluate("/order/header/id", XPathConstants.STRING, true, xml));
+    }
+
+    @Test
+    public void testStreamingFromModel() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        // the document is not complete, so the predicate can only be evaluated by streaming
+        template.sendBody("direct:start", "<order><header type='new'><id>A-1</id></header><items>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testFallbackToDom() throws Exception {
+        // not supported by streaming, so evaluated using DOM
+        assertEquals("3", evaluate("count(//item)", XPathConstants.STRING, true, ORDER));
+        assertEquals("Camel in Action2nd", evaluate("//item[1]", XPathConstants.STRING, true, ORDER));
+        // documents with a DTD are parsed as DOM, which rejects them as usual
+        assertThrows(TypeConversionException.class, () -> evaluate("/order/total", XPathConstants.STRING, true,
+                "<!DOCTYPE order><order><total>15.50</total></order>"));
+    }
+
+    private Object evaluate(String expression, QName type, boolean streaming, Object body) {
+        XPathBuilder builder = XPathBuilder.xpath(expression).namespace("c", "urn:customer").streaming(streaming);
+        builder.setResultQName(type);
+        builder.setCamelContext(context);
+        builder.start();
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        return builder.evaluate(exchange);
+    }
+}
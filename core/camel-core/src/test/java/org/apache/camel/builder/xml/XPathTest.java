@@ -468,4 +468,16 @@ public class XPathTest extends ContextTestSupport {
         assertEquals("cheese", name);
     }
 
+    @Test
+    public void testXPathPoolSize() throws Exception {
+        XPathBuilder builder = XPathBuilder.xpath("/foo/bar").poolSize(1);
+        assertEquals(1, builder.getPoolSize());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("cheese", builder.evaluate(context, "<foo><bar>cheese</bar></foo>"));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setPoolSize(0));
+    }
+
 }
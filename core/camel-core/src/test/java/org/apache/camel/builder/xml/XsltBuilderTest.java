@@ -21,9 +21,11 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.transform.Source;
 import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
 import javax.xml.transform.sax.SAXSource;
 
 import org.w3c.dom.Document;
@@ -70,6 +72,33 @@ public class XsltBuilderTest extends ContextTestSupport {
         assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>", exchange.getMessage().getBody());
     }
 
+    @Test
+    public void testXsltCreateTransformerOverride() throws Exception {
+        URL styleSheet = getClass().getResource("example.xsl");
+
+        AtomicInteger created = new AtomicInteger();
+        XsltBuilder builder = new XsltBuilder() {
+            @Override
+            protected Transformer createTransformer() throws Exception {
+                created.incrementAndGet();
+                return super.createTransformer();
+            }
+        };
+        builder.transformerCacheSize(1);
+        builder.setTransformerURL(styleSheet);
+
+        for (int i = 0; i < 3; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody("<hello>world!</hello>");
+            builder.process(exchange);
+            assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>",
+                    exchange.getMessage().getBody());
+        }
+
+        // the transformer is created by the overridden method once, and then reused from the cache
+        assertEquals(1, created.get());
+    }
+
     @Test
     public void testXsltTransformerUrl() throws Exception {
         URL styleSheet = getClass().getResource("example.xsl");
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class XsltTransformerCacheTest extends ContextTestSupport {
+
+    private static final String URI = "xslt:org/apache/camel/component/xslt/example.xsl?transformerCacheSize=2";
+
+    @Test
+    public void testTransformerCache() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+        mock.allMessages().body().isEqualTo("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>");
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "<hello>world!</hello>");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        XsltEndpoint endpoint = context.getEndpoint(URI, XsltEndpoint.class);
+        assertEquals(1, endpoint.getTransformerCacheMisses());
+        assertEquals(4, endpoint.getTransformerCacheHits());
+    }
+
+    @Test
+    public void testReloadStylesheet() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        mock.allMessages().body().isEqualTo("<?xml version=\"1.0\" encoding=\"UTF-8\"?><goodbye>world!</goodbye>");
+
+        XsltEndpoint endpoint = context.getEndpoint(URI, XsltEndpoint.class);
+        template.sendBody("direct:start", "<hello>world!</hello>");
+        Object before = endpoint.getXslt().getTemplate();
+
+        endpoint.clearCachedStylesheet();
+        template.sendBody("direct:start", "<hello>world!</hello>");
+
+        assertMockEndpointsSatisfied();
+        assertFalse(endpoint.isCacheCleared());
+        assertNotSame(before, endpoint.getXslt().getTemplate());
+        // the transformers of the old stylesheet are not reused
+        assertEquals(1, endpoint.getTransformerCacheMisses());
+        assertEquals(0, endpoint.getTransformerCacheHits());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to(URI).to("mock:result");
+            }
+        };
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.camel.support.DefaultExchange;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class DefaultInflightRepositoryTest extends ContextTestSupport {
 
@@ -47,4 +49,34 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testDefaultInflightRepositoryBrowse() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+
+        // exchanges are only counted when browse is disabled
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        assertEquals(1, repo.size());
+        assertEquals(0, repo.browse().size());
+        assertNull(repo.oldest(null));
+        repo.remove(e1);
+
+        repo.setInflightBrowseEnabled(true);
+        repo.add(e1);
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        assertEquals(2, repo.size());
+        assertEquals(2, repo.browse().size());
+        assertNotNull(repo.oldest(null));
+
+        // disabling browse discards the tracked exchanges
+        repo.setInflightBrowseEnabled(false);
+        assertEquals(2, repo.size());
+        assertEquals(0, repo.browse().size());
+
+        repo.remove(e1);
+        repo.remove(e2);
+        assertEquals(0, repo.size());
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.LifecycleStrategySupport;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupParallelismTest extends ContextTestSupport {
+
+    private final Map<String, String> threads = new ConcurrentHashMap<>();
+    private final List<String> addedRoutes = new ArrayList<>();
+    private final List<String> addedRoutesThreads = new ArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setRouteStartupParallelism(4);
+        BacklogStartupStepRecorder recorder = new BacklogStartupStepRecorder();
+        context.getCamelContextExtension().setStartupStepRecorder(recorder);
+        context.addLifecycleStrategy(new LifecycleStrategySupport() {
+            @Override
+            public void onRoutesAdd(Collection<Route> routes) {
+                for (Route route : routes) {
+                    addedRoutes.add(route.getRouteId());
+                    addedRoutesThreads.add(Thread.currentThread().getName());
+                }
+            }
+        });
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupParallelism() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        // routes with startup order are warmed up by the caller
+        assertFalse(threads.get("seda").contains("RouteWarmUp"), threads.get("seda"));
+        // and the others in parallel
+        for (int i = 0; i < 5; i++) {
+            assertTrue(threads.get("route" + i).contains("RouteWarmUp"), threads.get("route" + i));
+        }
+
+        // routes sending to the same endpoint are warmed up by the same thread
+        assertEquals(threads.get("shared0"), threads.get("shared1"));
+        // as are routes sending to the input endpoint of another route
+        assertEquals(threads.get("caller"), threads.get("callee"));
+
+        // the consumers are still started in the startup order
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals(11, order.size());
+        assertEquals("seda://foo", order.get(0).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://start", order.get(1).getRoute().getEndpoint().getEndpointUri());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("direct://route" + i, order.get(i + 2).getRoute().getEndpoint().getEndpointUri());
+        }
+
+        // and the routes are added to the lifecycle strategies one by one in the startup order
+        assertEquals(List.of("seda", "start", "route0", "route1", "route2", "route3", "route4", "shared0", "shared1",
+                "caller", "callee"), addedRoutes);
+        for (String name : addedRoutesThreads) {
+            assertFalse(name.contains("RouteWarmUp"), name);
+        }
+    }
+
+    @Test
+    public void testRouteStartupParallelismSteps() throws Exception {
+        List<StartupStep> steps = context.getCamelContextExtension().getStartupStepRecorder().steps()
+                .collect(Collectors.toList());
+        StartupStep parent = steps.stream().filter(s -> "Warmup Routes".equals(s.getDescription())).findFirst()
+                .orElseThrow();
+
+        // the routes warmed up by other threads are recorded as sub steps of the parallel warm up
+        List<StartupStep> routes = steps.stream()
+                .filter(s -> "Warump Route".equals(s.getDescription()) && s.getParentId() == parent.getId())
+                .collect(Collectors.toList());
+        assertEquals(9, routes.size());
+        for (StartupStep step : routes) {
+            assertEquals(parent.getLevel() + 1, step.getLevel());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("start").startupOrder(2).to("seda:foo");
+
+                from("seda:foo").routeId("seda").startupOrder(1).process(new ThreadRecorder("seda")).to("mock:result");
+
+                for (int i = 0; i < 5; i++) {
+                    from("direct:route" + i).routeId("route" + i).process(new ThreadRecorder("route" + i)).to("mock:route" + i);
+                }
+
+                from("direct:shared0").routeId("shared0").process(new ThreadRecorder("shared0")).to("mock:shared");
+                from("direct:shared1").routeId("shared1").process(new ThreadRecorder("shared1")).to("mock:shared");
+
+                from("direct:caller").routeId("caller").process(new ThreadRecorder("caller")).to("direct:callee");
+                from("direct:callee").routeId("callee").process(new ThreadRecorder("callee")).to("mock:callee");
+            }
+        };
+    }
+
+    private final class ThreadRecorder extends ServiceSupport implements Processor {
+
+        private final String name;
+
+        private ThreadRecorder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            threads.put(name, Thread.currentThread().getName());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelDeflaterOutputStreamTest {
+
+    private final ExecutorService pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testGzipRoundTrip() throws Exception {
+        byte[] data = createData(3 * 1024 * 1024 + 123);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ParallelDeflaterOutputStream out
+                = new ParallelDeflaterOutputStream(bos, Deflater.DEFAULT_COMPRESSION, true, 64 * 1024, pool)) {
+            // mix of single byte and bulk writes across block boundaries
+            out.write(data[0]);
+            out.write(data, 1, 100000);
+            out.write(data, 100001, data.length - 100001);
+        }
+
+        assertArrayEquals(data, gunzip(bos.toByteArray()));
+    }
+
+    @Test
+    public void testCompressionRatioCloseToSingleThreaded() throws Exception {
+        byte[] data = createData(2 * 1024 * 1024);
+
+        ByteArrayOutputStream single = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(single)) {
+            out.write(data);
+        }
+        ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+        try (ParallelDeflaterOutputStream out = new ParallelDeflaterOutputStream(parallel)) {
+            out.write(data);
+        }
+
+        // the preset dictionary keeps the overhead of the independent blocks small
+        assertTrue(parallel.size() < single.size() * 1.05,
+                "Parallel size " + parallel.size() + " should be close to " + single.size());
+    }
+
+    @Test
+    public void testZlibRoundTrip() throws Exception {
+        byte[] data = createData(500 * 1000);
+
+        for (int level = Deflater.DEFAULT_COMPRESSION; level <= Deflater.BEST_COMPRESSION; level++) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ParallelDeflaterOutputStream out = new ParallelDeflaterOutputStream(bos, level, false, 32 * 1024, pool)) {
+                out.write(data);
+            }
+
+            try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+                assertArrayEquals(data, in.readAllBytes(), "Level " + level);
+            }
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        new ParallelDeflaterOutputStream(bos).close();
+
+        assertEquals(0, gunzip(bos.toByteArray()).length);
+    }
+
+    @Test
+    public void testFlush() throws Exception {
+        byte[] data = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ParallelDeflaterOutputStream out = new ParallelDeflaterOutputStream(bos);
+        out.write(data);
+        int header = bos.size();
+        out.flush();
+        assertTrue(bos.size() > header, "Flush should write the compressed data");
+
+        out.write(data);
+        out.close();
+        assertThrows(IOException.class, () -> out.write(1));
+
+        assertEquals("Hello WorldHello World", new String(gunzip(bos.toByteArray()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWriteAfterPartialFlush() throws Exception {
+        byte[] data = createData(300 * 1000);
+        // runs of zeros, which would match the unused zero tail of the flushed block
+        for (int i = 2000; i < data.length; i += 8192) {
+            Arrays.fill(data, i, Math.min(i + 4096, data.length), (byte) 0);
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ParallelDeflaterOutputStream out = new ParallelDeflaterOutputStream(bos)) {
+            // the flush submits a partly filled block, which must not prime the next block with its unused tail
+            out.write(data, 0, 1000);
+            out.flush();
+            out.write(data, 1000, data.length - 1000);
+        }
+
+        assertArrayEquals(data, gunzip(bos.toByteArray()));
+    }
+
+    @Test
+    public void testSmallFlushes() throws Exception {
+        byte[] data = createData(200 * 1000);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ParallelDeflaterOutputStream out
+                = new ParallelDeflaterOutputStream(bos, Deflater.DEFAULT_COMPRESSION, false, 16 * 1024, pool)) {
+            // blocks smaller than the dictionary, so the dictionary spans several blocks
+            for (int off = 0; off < data.length; off += 777) {
+                out.write(data, off, Math.min(777, data.length - off));
+                out.flush();
+            }
+        }
+
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+    }
+
+    private static byte[] createData(int size) {
+        // compressible but not trivial data
+        Random random = new Random(42);
+        String[] words = { "camel", "route", "exchange", "message", "body", "header", "processor", "endpoint" };
+        StringBuilder sb = new StringBuilder(size + 32);
+        while (sb.length() < size) {
+            sb.append(words[random.nextInt(words.length)]).append(random.nextInt(1000)).append(' ');
+        }
+        return sb.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
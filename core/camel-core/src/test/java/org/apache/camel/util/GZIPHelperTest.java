@@ -62,6 +62,20 @@ public class GZIPHelperTest {
 
     }
 
+    @Test
+    public void testCompressParallelAndUnCompressData() throws IOException {
+        byte[] data = sampleString.repeat(50000).getBytes();
+
+        byte[] compressed = GZIPHelper.compressGZIP(data, null);
+        assertTrue(compressed.length < data.length, "The data should be compressed.");
+        InputStream inputStream = GZIPHelper.uncompressGzip("gzip", new ByteArrayInputStream(compressed));
+        assertArrayEquals(data, IOConverter.toBytes(inputStream));
+
+        inputStream = GZIPHelper.compressGzip("gzip", new ByteArrayInputStream(data), null);
+        inputStream = GZIPHelper.uncompressGzip("gzip", inputStream);
+        assertArrayEquals(data, IOConverter.toBytes(inputStream));
+    }
+
     @Test
     public void testIsGzipMessage() {
         assertTrue(GZIPHelper.isGzip(createMessageWithContentEncodingHeader("gzip")));
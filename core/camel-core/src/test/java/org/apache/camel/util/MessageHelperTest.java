@@ -29,6 +29,7 @@ import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultHeaderFilterStrategy;
 import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.MessageDump;
 import org.apache.camel.support.MessageHelper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -301,4 +302,29 @@ public class MessageHelperTest {
         assertTrue(out.contains("Hello World"));
     }
 
+    @Test
+    public void testCreateMessageDump() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        context.start();
+
+        message = new DefaultExchange(context).getIn();
+        message.setBody("Hello World");
+        message.setHeader("foo", 123);
+        message.getExchange().setProperty("bar", "Bye World");
+
+        String xml = MessageHelper.dumpAsXml(message, true, false, true, 2, true, true, true, 1000);
+        String json = MessageHelper.dumpAsJSonObject(message, true, false, true, true, true, true, 1000).toJson();
+
+        MessageDump dump = MessageHelper.createMessageDump(message, true, false, true, true, true, true, 1000, true, true);
+        // the captured values are not affected when the message is changed afterwards
+        message.setBody("Changed");
+        message.setHeader("foo", 456);
+
+        assertEquals(xml, MessageHelper.dumpAsXml(dump, 2));
+        assertEquals(json, MessageHelper.dumpAsJSonObject(dump).toJson());
+        assertTrue(xml.contains("<header key=\"foo\" type=\"java.lang.Integer\">123</header>"));
+
+        context.stop();
+    }
+
 }
@@ -36,6 +36,8 @@ public class TracerConfigurationPropertiesConfigurer extends org.apache.camel.su
         case "includeExchangeProperties": target.setIncludeExchangeProperties(property(camelContext, boolean.class, value)); return true;
         case "includeexchangevariables":
         case "includeExchangeVariables": target.setIncludeExchangeVariables(property(camelContext, boolean.class, value)); return true;
+        case "offheapbuffersize":
+        case "offHeapBufferSize": target.setOffHeapBufferSize(property(camelContext, int.class, value)); return true;
         case "removeondump":
         case "removeOnDump": target.setRemoveOnDump(property(camelContext, boolean.class, value)); return true;
         case "standby": target.setStandby(property(camelContext, boolean.class, value)); return true;
@@ -69,6 +71,8 @@ public class TracerConfigurationPropertiesConfigurer extends org.apache.camel.su
         case "includeExchangeProperties": return boolean.class;
         case "includeexchangevariables":
         case "includeExchangeVariables": return boolean.class;
+        case "offheapbuffersize":
+        case "offHeapBufferSize": return int.class;
         case "removeondump":
         case "removeOnDump": return boolean.class;
         case "standby": return boolean.class;
@@ -103,6 +107,8 @@ public class TracerConfigurationPropertiesConfigurer extends org.apache.camel.su
         case "includeExchangeProperties": return target.isIncludeExchangeProperties();
         case "includeexchangevariables":
         case "includeExchangeVariables": return target.isIncludeExchangeVariables();
+        case "offheapbuffersize":
+        case "offHeapBufferSize": return target.getOffHeapBufferSize();
         case "removeondump":
         case "removeOnDump": return target.isRemoveOnDump();
         case "standby": return target.isStandby();
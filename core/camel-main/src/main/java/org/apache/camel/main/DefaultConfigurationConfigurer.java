@@ -183,6 +183,7 @@ public final class DefaultConfigurationConfigurer {
         if (config.getStartupSummaryLevel() != null) {
             camelContext.setStartupSummaryLevel(config.getStartupSummaryLevel());
         }
+        camelContext.setRouteStartupParallelism(config.getRouteStartupParallelism());
 
         if (config.getShutdownTimeout() > 0) {
             camelContext.getShutdownStrategy().setTimeout(config.getShutdownTimeout());
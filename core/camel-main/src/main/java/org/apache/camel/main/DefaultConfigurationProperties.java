@@ -36,6 +36,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String description;
     @Metadata(defaultValue = "Default")
     private StartupSummaryLevel startupSummaryLevel;
+    private int routeStartupParallelism;
     private int durationMaxSeconds;
     private int durationMaxIdleSeconds;
     private int durationMaxMessages;
@@ -185,6 +186,25 @@ public abstract class DefaultConfigurationProperties<T> {
         this.startupSummaryLevel = startupSummaryLevel;
     }
 
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    /**
+     * Number of threads to use for warming up (starting the processors and services of) routes concurrently during
+     * startup. The default is 0 which warms up the routes one by one.
+     *
+     * Routes with an explicit startup order are always warmed up one by one (in their order) before the other routes.
+     * Routes that depend on each other, by using the same endpoint (such as sending to the input endpoint of another
+     * route) or a component which is not yet started, are warmed up by the same thread. The routes are then added to
+     * the lifecycle strategies and the CamelContext, and their consumers started, one by one in the startup order.
+     * Custom lifecycle strategies must be thread-safe as their onServiceAdd and onThreadPoolAdd callbacks can be
+     * invoked concurrently.
+     */
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
     public int getDurationMaxSeconds() {
         return durationMaxSeconds;
     }
@@ -1605,6 +1625,22 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Number of threads to use for warming up (starting the processors and services of) routes concurrently during
+     * startup. The default is 0 which warms up the routes one by one.
+     *
+     * Routes with an explicit startup order are always warmed up one by one (in their order) before the other routes.
+     * Routes that depend on each other, by using the same endpoint (such as sending to the input endpoint of another
+     * route) or a component which is not yet started, are warmed up by the same thread. The routes are then added to
+     * the lifecycle strategies and the CamelContext, and their consumers started, one by one in the startup order.
+     * Custom lifecycle strategies must be thread-safe as their onServiceAdd and onThreadPoolAdd callbacks can be
+     * invoked concurrently.
+     */
+    public T withRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+        return (T) this;
+    }
+
     /**
      * To specify for how long time in seconds to keep running the JVM before automatic terminating the JVM. You can use
      * this to run Camel for a short while.
@@ -34,6 +34,8 @@ public class TracerConfigurationProperties implements BootstrapCloseable {
     private boolean standby;
     @Metadata(label = "advanced", defaultValue = "1000")
     private int backlogSize = 1000;
+    @Metadata(label = "advanced")
+    private int offHeapBufferSize;
     @Metadata(label = "advanced", defaultValue = "true")
     private boolean removeOnDump = true;
     @Metadata(label = "advanced", defaultValue = "131072")
@@ -104,10 +106,31 @@ public class TracerConfigurationProperties implements BootstrapCloseable {
         this.backlogSize = backlogSize;
     }
 
+    public int getOffHeapBufferSize() {
+        return offHeapBufferSize;
+    }
+
+    /**
+     * Size in bytes of an off-heap ring buffer to use for storing the traced messages as compact binary records. This
+     * allows to keep tracing enabled with a bounded memory cost. Zero (default) stores the traced messages on the heap.
+     */
+    public void setOffHeapBufferSize(int offHeapBufferSize) {
+        this.offHeapBufferSize = offHeapBufferSize;
+    }
+
     public boolean isRemoveOnDump() {
         return removeOnDump;
     }
 
+    /**
+     * Size in bytes of an off-heap ring buffer to use for storing the traced messages as compact binary records. This
+     * allows to keep tracing enabled with a bounded memory cost. Zero (default) stores the traced messages on the heap.
+     */
+    public TracerConfigurationProperties withOffHeapBufferSize(int offHeapBufferSize) {
+        this.offHeapBufferSize = offHeapBufferSize;
+        return this;
+    }
+
     /**
      * Whether all traced messages should be removed when the tracer is dumping. By default, the messages are removed,
      * which means that dumping will not contain previous dumped messages.
@@ -45,6 +45,12 @@ public interface ManagedBacklogTracerMBean {
     @ManagedAttribute(description = "Number of maximum traced messages in total to keep in the backlog (FIFO queue)")
     void setBacklogSize(int backlogSize);
 
+    @ManagedAttribute(description = "Size in bytes of off-heap ring buffer storing traced messages as binary records (0 = on-heap queue)")
+    int getOffHeapBufferSize();
+
+    @ManagedAttribute(description = "Size in bytes of off-heap ring buffer storing traced messages as binary records (0 = on-heap queue)")
+    void setOffHeapBufferSize(int offHeapBufferSize);
+
     @ManagedAttribute(description = "Whether to remove traced message from backlog when dumping trace messages")
     boolean isRemoveOnDump();
 
@@ -41,4 +41,22 @@ public interface ManagedInflightRepositoryMBean extends ManagedServiceMBean {
     @ManagedOperation(description = "List all the exchanges that origins from the given route, which are currently inflight, limited and sorted")
     TabularData browse(String fromRouteId, int limit, boolean sortByLongestDuration);
 
+    @ManagedAttribute(description = "Whether the sampling profiler is sampling the inflight exchanges")
+    boolean isSampling();
+
+    @ManagedAttribute(description = "Number of samples taken by the sampling profiler")
+    long getSamples();
+
+    @ManagedOperation(description = "Starts the sampling profiler which samples the inflight exchanges at the given interval (millis)")
+    void startSampling(long interval);
+
+    @ManagedOperation(description = "Stops the sampling profiler")
+    void stopSampling();
+
+    @ManagedOperation(description = "Clears the samples recorded by the sampling profiler")
+    void resetSampling();
+
+    @ManagedOperation(description = "Dumps the samples recorded by the sampling profiler in collapsed stack format (for flame graphs)")
+    String dumpSamplesAsCollapsedStacks();
+
 }
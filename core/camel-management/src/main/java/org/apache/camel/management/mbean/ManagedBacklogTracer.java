@@ -86,6 +86,16 @@ public class ManagedBacklogTracer implements ManagedBacklogTracerMBean {
         backlogTracer.setBacklogSize(backlogSize);
     }
 
+    @Override
+    public int getOffHeapBufferSize() {
+        return backlogTracer.getOffHeapBufferSize();
+    }
+
+    @Override
+    public void setOffHeapBufferSize(int offHeapBufferSize) {
+        backlogTracer.setOffHeapBufferSize(offHeapBufferSize);
+    }
+
     @Override
     public boolean isRemoveOnDump() {
         return backlogTracer.isRemoveOnDump();
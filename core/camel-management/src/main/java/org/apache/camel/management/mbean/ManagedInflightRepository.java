@@ -30,6 +30,7 @@ import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedInflightRepositoryMBean;
 import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.support.InflightSamplingProfiler;
 
 /**
  *
@@ -100,4 +101,34 @@ public class ManagedInflightRepository extends ManagedService implements Managed
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
+
+    @Override
+    public boolean isSampling() {
+        return InflightSamplingProfiler.getOrCreate(getContext()).isSampling();
+    }
+
+    @Override
+    public long getSamples() {
+        return InflightSamplingProfiler.getOrCreate(getContext()).getSamples();
+    }
+
+    @Override
+    public void startSampling(long interval) {
+        InflightSamplingProfiler.getOrCreate(getContext()).startSampling(interval);
+    }
+
+    @Override
+    public void stopSampling() {
+        InflightSamplingProfiler.getOrCreate(getContext()).stopSampling();
+    }
+
+    @Override
+    public void resetSampling() {
+        InflightSamplingProfiler.getOrCreate(getContext()).reset();
+    }
+
+    @Override
+    public String dumpSamplesAsCollapsedStacks() {
+        return InflightSamplingProfiler.getOrCreate(getContext()).dumpCollapsedStacks();
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.debugger.DefaultBacklogTracerEventMessage;
+import org.apache.camel.spi.BacklogTracerEventMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class BacklogTracerOffHeapTest extends ManagementTestSupport {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testBacklogTracerOffHeap() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on
+                = new ObjectName("org.apache.camel:context=" + context.getManagementName() + ",type=tracer,name=BacklogTracer");
+        assertTrue(mbeanServer.isRegistered(on));
+
+        mbeanServer.setAttribute(on, new Attribute("OffHeapBufferSize", 64 * 1024));
+        Integer size = (Integer) mbeanServer.getAttribute(on, "OffHeapBufferSize");
+        assertEquals(64 * 1024, size.intValue());
+
+        getMockEndpoint("mock:foo").expectedMessageCount(2);
+        getMockEndpoint("mock:bar").expectedMessageCount(2);
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        List<Exchange> exchanges = getMockEndpoint("mock:foo").getReceivedExchanges();
+
+        List<BacklogTracerEventMessage> events = (List<BacklogTracerEventMessage>) mbeanServer.invoke(on, "dumpTracedMessages",
+                new Object[] { "foo" }, new String[] { "java.lang.String" });
+        assertEquals(2, events.size());
+
+        BacklogTracerEventMessage event1 = events.get(0);
+        assertEquals("foo", event1.getToNode());
+        assertEquals(exchanges.get(0).getExchangeId(), event1.getExchangeId());
+        assertTrue(event1.isDone());
+        assertTrue(event1.getMessageAsXml().contains("Hello World"));
+        assertTrue(event1.getMessageAsJSon().contains("Hello World"));
+        assertEquals("mock://foo", ((DefaultBacklogTracerEventMessage) event1).getEndpointUri());
+
+        BacklogTracerEventMessage event2 = events.get(1);
+        assertEquals("foo", event2.getToNode());
+        assertTrue(event2.getMessageAsXml().contains("Bye World"));
+
+        // remaining events are first, bar, and last for each exchange
+        events = (List<BacklogTracerEventMessage>) mbeanServer.invoke(on, "dumpAllTracedMessages", null, null);
+        assertEquals(6, events.size());
+        assertTrue(events.get(0).isFirst());
+        assertEquals("bar", events.get(1).getToNode());
+        assertTrue(events.get(2).isLast());
+        assertFalse(events.get(2).isFirst());
+
+        events = (List<BacklogTracerEventMessage>) mbeanServer.invoke(on, "dumpAllTracedMessages", null, null);
+        assertEquals(0, events.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testBacklogTracerOffHeapRendersSameAsHeap() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on
+                = new ObjectName("org.apache.camel:context=" + context.getManagementName() + ",type=tracer,name=BacklogTracer");
+
+        template.sendBodyAndHeaders("direct:start", "Hello <World>", Map.of("counter", 123, "name", "Camel"));
+        List<BacklogTracerEventMessage> heap = (List<BacklogTracerEventMessage>) mbeanServer.invoke(on,
+                "dumpTracedMessages", new Object[] { "foo" }, new String[] { "java.lang.String" });
+
+        mbeanServer.setAttribute(on, new Attribute("OffHeapBufferSize", 64 * 1024));
+        template.sendBodyAndHeaders("direct:start", "Hello <World>", Map.of("counter", 123, "name", "Camel"));
+        List<BacklogTracerEventMessage> offHeap = (List<BacklogTracerEventMessage>) mbeanServer.invoke(on,
+                "dumpTracedMessages", new Object[] { "foo" }, new String[] { "java.lang.String" });
+
+        assertEquals(1, heap.size());
+        assertEquals(1, offHeap.size());
+        String heapId = heap.get(0).getExchangeId();
+        String offHeapId = offHeap.get(0).getExchangeId();
+        assertEquals(heap.get(0).getMessageAsXml().replace(heapId, "id"),
+                offHeap.get(0).getMessageAsXml().replace(offHeapId, "id"));
+        assertEquals(heap.get(0).getMessageAsJSon().replace(heapId, "id"),
+                offHeap.get(0).getMessageAsJSon().replace(offHeapId, "id"));
+
+        // setting the same size again keeps the traced messages
+        template.sendBody("direct:start", "Bye World");
+        mbeanServer.setAttribute(on, new Attribute("OffHeapBufferSize", 64 * 1024));
+        Long queueSize = (Long) mbeanServer.getAttribute(on, "QueueSize");
+        // first, bar and last of the previous message, and all 4 events of this message
+        assertEquals(7, queueSize.longValue());
+    }
+
+    @Test
+    public void testBacklogTracerOffHeapDiscardOldest() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on
+                = new ObjectName("org.apache.camel:context=" + context.getManagementName() + ",type=tracer,name=BacklogTracer");
+
+        // small buffer that can only hold a few records
+        mbeanServer.setAttribute(on, new Attribute("OffHeapBufferSize", 4 * 1024));
+
+        for (int i = 0; i < 50; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+
+        Long queueSize = (Long) mbeanServer.getAttribute(on, "QueueSize");
+        assertTrue(queueSize > 0 && queueSize < 200, "Should have discarded oldest records: " + queueSize);
+
+        String xml = (String) mbeanServer.invoke(on, "dumpAllTracedMessagesAsXml", null, null);
+        assertTrue(xml.contains("Message 49<"));
+        assertFalse(xml.contains("Message 0<"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                context.setUseBreadcrumb(false);
+                context.setBacklogTracing(true);
+
+                from("direct:start")
+                        .to("mock:foo").id("foo")
+                        .to("mock:bar").id("bar");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_SERVICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedInflightRepositorySamplingTest extends ManagementTestSupport {
+
+    @Test
+    public void testSampling() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName name = getCamelObjectName(TYPE_SERVICE, "DefaultInflightRepository");
+
+        assertFalse((Boolean) mbeanServer.getAttribute(name, "Sampling"));
+        mbeanServer.invoke(name, "startSampling", new Object[] { 5L }, new String[] { "long" });
+        assertTrue((Boolean) mbeanServer.getAttribute(name, "Sampling"));
+
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+        template.sendBody("direct:start", "Hello World");
+        assertMockEndpointsSatisfied();
+
+        mbeanServer.invoke(name, "stopSampling", null, null);
+        assertFalse((Boolean) mbeanServer.getAttribute(name, "Sampling"));
+        // inflight browse was turned on for sampling only
+        assertFalse(context.getInflightRepository().isInflightBrowseEnabled());
+
+        Long samples = (Long) mbeanServer.getAttribute(name, "Samples");
+        assertTrue(samples > 0, "Should have samples");
+
+        String dump = (String) mbeanServer.invoke(name, "dumpSamplesAsCollapsedStacks", null, null);
+        assertTrue(dump.contains("foo;myDelay "), dump);
+
+        mbeanServer.invoke(name, "resetSampling", null, null);
+        samples = (Long) mbeanServer.getAttribute(name, "Samples");
+        assertEquals(0, samples.longValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .delay(500).id("myDelay")
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
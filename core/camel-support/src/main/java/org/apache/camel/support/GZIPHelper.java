@@ -20,6 +20,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -61,6 +63,32 @@ public final class GZIPHelper {
         }
     }
 
+    /**
+     * Compresses the stream as gzip where blocks of the data are compressed in parallel.
+     *
+     * @param contentEncoding the content encoding, the stream is only compressed if this is gzip
+     * @param in              the stream to compress
+     * @param executor        the executor to compress on, or <tt>null</tt> to use the common fork-join pool
+     * @see                   ParallelDeflaterOutputStream
+     */
+    public static InputStream compressGzip(String contentEncoding, InputStream in, Executor executor) throws IOException {
+        if (isGzip(contentEncoding)) {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            ParallelDeflaterOutputStream gzip = new ParallelDeflaterOutputStream(
+                    os, Deflater.DEFAULT_COMPRESSION, true, ParallelDeflaterOutputStream.DEFAULT_BLOCK_SIZE, executor);
+            try {
+                IOHelper.copy(in, gzip);
+                gzip.finish();
+                return new ByteArrayInputStream(os.toByteArray());
+            } finally {
+                IOHelper.close(gzip, "gzip");
+                IOHelper.close(os, "byte array output stream");
+            }
+        } else {
+            return in;
+        }
+    }
+
     public static InputStream compressGzip(String contentEncoding, byte[] data) throws IOException {
         if (isGzip(contentEncoding)) {
             ByteArrayOutputStream os = null;
@@ -93,6 +121,31 @@ public final class GZIPHelper {
         }
     }
 
+    /**
+     * Compresses the data as gzip where blocks of the data are compressed in parallel. Data that fits in a single block
+     * is compressed on the calling thread.
+     *
+     * @param data     the data to compress
+     * @param executor the executor to compress on, or <tt>null</tt> to use the common fork-join pool
+     * @see            ParallelDeflaterOutputStream
+     */
+    public static byte[] compressGZIP(byte[] data, Executor executor) throws IOException {
+        if (data.length <= ParallelDeflaterOutputStream.DEFAULT_BLOCK_SIZE) {
+            return compressGZIP(data);
+        }
+        ByteArrayOutputStream os = new ByteArrayOutputStream(data.length / 2);
+        ParallelDeflaterOutputStream gzip = new ParallelDeflaterOutputStream(
+                os, Deflater.DEFAULT_COMPRESSION, true, ParallelDeflaterOutputStream.DEFAULT_BLOCK_SIZE, executor);
+        try {
+            gzip.write(data);
+            gzip.finish();
+            return os.toByteArray();
+        } finally {
+            IOHelper.close(gzip, "gzip");
+            IOHelper.close(os, "byte array output stream");
+        }
+    }
+
     public static boolean isGzip(Message message) {
         return isGzip(message.getHeader(Exchange.CONTENT_ENCODING, String.class), message.getExchange());
     }
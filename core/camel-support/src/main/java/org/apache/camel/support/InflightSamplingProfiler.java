@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A low-overhead sampling profiler which at a fixed rate samples the exchanges currently inflight in the
+ * {@link InflightRepository}, and records in which route and processor (node id) they are being processed.
+ * <p/>
+ * The samples can be dumped in the <i>collapsed stack</i> format (one line per unique stack with the number of samples)
+ * which can be used as input for flame graph tools.
+ * <p/>
+ * The profiler is a {@link CamelContext} plugin, use {@link #getOrCreate(CamelContext)} to look it up. It is added as a
+ * service to the {@link CamelContext} so sampling stops when the context is stopped.
+ */
+public class InflightSamplingProfiler extends ServiceSupport implements CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InflightSamplingProfiler.class);
+
+    private final ConcurrentMap<String, LongAdder> stacks = new ConcurrentHashMap<>();
+    private final LongAdder samples = new LongAdder();
+    private CamelContext camelContext;
+    private ScheduledExecutorService executorService;
+    private long sampleInterval = 20;
+    private int maxStacks = 10000;
+    private boolean restoreInflightBrowse;
+
+    /**
+     * Gets the profiler from the {@link CamelContext}, creating it if not already present.
+     */
+    public static InflightSamplingProfiler getOrCreate(CamelContext camelContext) {
+        InflightSamplingProfiler answer
+                = camelContext.getCamelContextExtension().getContextPlugin(InflightSamplingProfiler.class);
+        if (answer == null) {
+            synchronized (InflightSamplingProfiler.class) {
+                answer = camelContext.getCamelContextExtension().getContextPlugin(InflightSamplingProfiler.class);
+                if (answer == null) {
+                    answer = new InflightSamplingProfiler();
+                    answer.setCamelContext(camelContext);
+                    try {
+                        // tie the profiler to the lifecycle of the context
+                        camelContext.addService(answer, true, true);
+                    } catch (Exception e) {
+                        throw RuntimeCamelException.wrapRuntimeException(e);
+                    }
+                    camelContext.getCamelContextExtension().addContextPlugin(InflightSamplingProfiler.class, answer);
+                }
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public long getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Interval in millis between taking samples of the inflight exchanges.
+     */
+    public void setSampleInterval(long sampleInterval) {
+        this.sampleInterval = sampleInterval;
+    }
+
+    public int getMaxStacks() {
+        return maxStacks;
+    }
+
+    /**
+     * Maximum number of unique stacks to keep. When the limit is hit, then samples of new stacks are discarded.
+     */
+    public void setMaxStacks(int maxStacks) {
+        this.maxStacks = maxStacks;
+    }
+
+    /**
+     * Whether the profiler is currently sampling
+     */
+    public synchronized boolean isSampling() {
+        return executorService != null;
+    }
+
+    /**
+     * Total number of samples taken (one per inflight exchange per interval)
+     */
+    public long getSamples() {
+        return samples.sum();
+    }
+
+    /**
+     * Clears the recorded samples
+     */
+    public void reset() {
+        stacks.clear();
+        samples.reset();
+    }
+
+    /**
+     * The recorded samples as a map of stack (frames separated by semicolon) to number of samples, sorted by stack.
+     */
+    public Map<String, Long> getStacks() {
+        Map<String, Long> answer = new TreeMap<>();
+        stacks.forEach((k, v) -> answer.put(k, v.sum()));
+        return Collections.unmodifiableMap(answer);
+    }
+
+    /**
+     * Dumps the recorded samples in the collapsed stack format (<tt>frame1;frame2;frame3 count</tt>) which can be used
+     * for generating flame graphs.
+     */
+    public String dumpCollapsedStacks() {
+        StringBuilder sb = new StringBuilder();
+        getStacks().forEach((k, v) -> sb.append(k).append(' ').append(v).append('\n'));
+        return sb.toString();
+    }
+
+    /**
+     * Takes a single sample of all the current inflight exchanges.
+     */
+    public void sample() {
+        InflightRepository repo = camelContext.getInflightRepository();
+        for (InflightRepository.InflightExchange ie : repo.browse()) {
+            String key = asStack(ie);
+            LongAdder counter = stacks.get(key);
+            if (counter == null) {
+                if (stacks.size() >= maxStacks) {
+                    continue;
+                }
+                counter = stacks.computeIfAbsent(key, k -> new LongAdder());
+            }
+            counter.increment();
+            samples.increment();
+        }
+    }
+
+    protected String asStack(InflightRepository.InflightExchange ie) {
+        String from = ie.getFromRouteId();
+        String at = ie.getAtRouteId();
+        String node = ie.getNodeId();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(frame(from));
+        if (at != null && !at.equals(from)) {
+            sb.append(';').append(frame(at));
+        }
+        if (node != null) {
+            sb.append(';').append(frame(node));
+        }
+        return sb.toString();
+    }
+
+    private static String frame(String name) {
+        if (name == null) {
+            return "unknown";
+        }
+        // semicolon and space are separators in the collapsed stack format
+        return name.replace(';', ':').replace(' ', '_');
+    }
+
+    /**
+     * Starts sampling the inflight exchanges (does nothing if already sampling).
+     */
+    public synchronized void startSampling() {
+        if (executorService != null) {
+            return;
+        }
+        ObjectHelper.notNull(camelContext, "CamelContext", this);
+
+        // sampling requires browsing the inflight exchanges
+        InflightRepository repo = camelContext.getInflightRepository();
+        if (!repo.isInflightBrowseEnabled()) {
+            LOG.info("Enabling inflight browse on InflightRepository as required by sampling profiler");
+            repo.setInflightBrowseEnabled(true);
+            restoreInflightBrowse = true;
+        }
+        scheduleSampling();
+    }
+
+    /**
+     * Starts sampling the inflight exchanges at the given interval. If already sampling at another interval, then
+     * sampling is restarted with the new interval.
+     *
+     * @param interval interval in millis between samples, or 0 or negative to keep the current interval
+     */
+    public synchronized void startSampling(long interval) {
+        if (interval > 0 && interval != sampleInterval) {
+            sampleInterval = interval;
+            if (executorService != null) {
+                // reschedule without touching the inflight browse setting
+                camelContext.getExecutorServiceManager().shutdown(executorService);
+                executorService = null;
+                scheduleSampling();
+                return;
+            }
+        }
+        startSampling();
+    }
+
+    private void scheduleSampling() {
+        executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                "InflightSamplingProfiler");
+        LOG.debug("Scheduling sampling profiler to run every {} millis.", sampleInterval);
+        executorService.scheduleAtFixedRate(() -> {
+            try {
+                sample();
+            } catch (Exception e) {
+                LOG.debug("Error sampling inflight exchanges due to {}. This exception is ignored.", e.getMessage(), e);
+            }
+        }, sampleInterval, sampleInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sampling the inflight exchanges. The recorded samples are kept until {@link #reset()}.
+     */
+    public synchronized void stopSampling() {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        if (restoreInflightBrowse) {
+            // turn off browsing again if it was turned on by this profiler
+            camelContext.getInflightRepository().setInflightBrowseEnabled(false);
+            restoreInflightBrowse = false;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        stopSampling();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+
+/**
+ * The values of a {@link org.apache.camel.Message} as they are dumped by
+ * {@link MessageHelper#dumpAsXml(MessageDump, int)} and {@link MessageHelper#dumpAsJSonObject(MessageDump)}.
+ * <p/>
+ * The values are captured with
+ * {@link MessageHelper#createMessageDump(org.apache.camel.Message, boolean, boolean, boolean, boolean, boolean, boolean, int, boolean, boolean)},
+ * so they can be kept and rendered later, after the message has changed.
+ */
+public final class MessageDump {
+
+    private final String exchangeId;
+    private final String exchangePattern;
+    private final String exchangeType;
+    private final String messageType;
+    private List<Entry> exchangeVariables;
+    private List<Entry> exchangeProperties;
+    private List<Entry> headers;
+    private boolean includeBody;
+    private String bodyType;
+    private long bodySize = -1;
+    private long bodyPosition = -1;
+    private String body;
+
+    public MessageDump(String exchangeId, String exchangePattern, String exchangeType, String messageType) {
+        this.exchangeId = exchangeId;
+        this.exchangePattern = exchangePattern;
+        this.exchangeType = exchangeType;
+        this.messageType = messageType;
+    }
+
+    public String getExchangeId() {
+        return exchangeId;
+    }
+
+    public String getExchangePattern() {
+        return exchangePattern;
+    }
+
+    public String getExchangeType() {
+        return exchangeType;
+    }
+
+    public String getMessageType() {
+        return messageType;
+    }
+
+    public List<Entry> getExchangeVariables() {
+        return exchangeVariables;
+    }
+
+    /**
+     * The exchange variables sorted by key, or <tt>null</tt> to not include exchange variables
+     */
+    public void setExchangeVariables(List<Entry> exchangeVariables) {
+        this.exchangeVariables = exchangeVariables;
+    }
+
+    public List<Entry> getExchangeProperties() {
+        return exchangeProperties;
+    }
+
+    /**
+     * The exchange properties sorted by key, or <tt>null</tt> to not include exchange properties
+     */
+    public void setExchangeProperties(List<Entry> exchangeProperties) {
+        this.exchangeProperties = exchangeProperties;
+    }
+
+    public List<Entry> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * The headers sorted by key, or <tt>null</tt> if the message has no headers
+     */
+    public void setHeaders(List<Entry> headers) {
+        this.headers = headers;
+    }
+
+    public boolean isIncludeBody() {
+        return includeBody;
+    }
+
+    public void setIncludeBody(boolean includeBody) {
+        this.includeBody = includeBody;
+    }
+
+    public String getBodyType() {
+        return bodyType;
+    }
+
+    public void setBodyType(String bodyType) {
+        this.bodyType = bodyType;
+    }
+
+    public long getBodySize() {
+        return bodySize;
+    }
+
+    /**
+     * The number of elements when the body is a collection or an array, or <tt>-1</tt>
+     */
+    public void setBodySize(long bodySize) {
+        this.bodySize = bodySize;
+    }
+
+    public long getBodyPosition() {
+        return bodyPosition;
+    }
+
+    /**
+     * The position when the body is a stream cache, or <tt>-1</tt>
+     */
+    public void setBodyPosition(long bodyPosition) {
+        this.bodyPosition = bodyPosition;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * The body as it is logged
+     */
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    /**
+     * An exchange variable, exchange property or header.
+     */
+    public static final class Entry {
+
+        private final String key;
+        private final String type;
+        private final String text;
+        private final Object json;
+        private final String jsonText;
+
+        /**
+         * @param key      the key
+         * @param type     the type of the value, or <tt>null</tt> if the value is <tt>null</tt>
+         * @param text     the value as it is logged, used in XML, and in JSon when the value cannot be serialized as
+         *                 JSon
+         * @param json     the value when it can be serialized as JSon, otherwise <tt>null</tt>
+         * @param jsonText the value serialized as JSon, if it was serialized to find out whether it can be
+         */
+        public Entry(String key, String type, String text, Object json, String jsonText) {
+            this.key = key;
+            this.type = type;
+            this.text = text;
+            this.json = json;
+            this.jsonText = jsonText;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public Object getJson() {
+            return json;
+        }
+
+        public String getJsonText() {
+            return jsonText;
+        }
+    }
+}
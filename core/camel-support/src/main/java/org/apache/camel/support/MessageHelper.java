@@ -25,6 +25,7 @@ import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -492,6 +493,19 @@ public final class MessageHelper {
             Message message, boolean includeExchangeProperties, boolean includeExchangeVariables,
             boolean includeBody, int indent, boolean allowCachedStreams, boolean allowStreams,
             boolean allowFiles, int maxChars) {
+        MessageDump dump = createMessageDump(message, includeExchangeProperties, includeExchangeVariables, includeBody,
+                allowCachedStreams, allowStreams, allowFiles, maxChars, true, false);
+        return dumpAsXml(dump, indent);
+    }
+
+    /**
+     * Dumps the captured values of a message as a generic XML structure.
+     *
+     * @param  dump   the captured values of the message
+     * @param  indent number of spaces to indent
+     * @return        the XML
+     */
+    public static String dumpAsXml(MessageDump dump, int indent) {
         StringBuilder sb = new StringBuilder();
 
         StringBuilder prefix = new StringBuilder();
@@ -499,157 +513,163 @@ public final class MessageHelper {
 
         // include exchangeId/exchangePattern/type as attribute on the <message> tag
         sb.append(prefix);
-        String messageType = ObjectHelper.classCanonicalName(message);
-        String exchangeType = ObjectHelper.classCanonicalName(message.getExchange());
-        sb.append("<message exchangeId=\"").append(message.getExchange().getExchangeId())
-                .append("\" exchangePattern=\"").append(message.getExchange().getPattern().name())
-                .append("\" exchangeType=\"").append(exchangeType)
-                .append("\" messageType=\"").append(messageType).append("\">\n");
+        sb.append("<message exchangeId=\"").append(dump.getExchangeId())
+                .append("\" exchangePattern=\"").append(dump.getExchangePattern())
+                .append("\" exchangeType=\"").append(dump.getExchangeType())
+                .append("\" messageType=\"").append(dump.getMessageType()).append("\">\n");
 
-        // exchange variables
-        if (includeExchangeVariables && message.getExchange().hasVariables()) {
+        appendXml(sb, prefix, dump.getExchangeVariables(), "exchangeVariables", "exchangeVariable");
+        appendXml(sb, prefix, dump.getExchangeProperties(), "exchangeProperties", "exchangeProperty");
+        appendXml(sb, prefix, dump.getHeaders(), "headers", "header");
+
+        if (dump.isIncludeBody()) {
             sb.append(prefix);
-            sb.append("  <exchangeVariables>\n");
-            // sort the exchange variables so they are listed A..Z
-            Map<String, Object> variables = new TreeMap<>(message.getExchange().getVariables());
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                String key = entry.getKey();
-                Object value = entry.getValue();
-                String type = ObjectHelper.classCanonicalName(value);
-                sb.append(prefix);
-                sb.append("    <exchangeVariable key=\"").append(key).append("\"");
-                if (type != null) {
-                    sb.append(" type=\"").append(type).append("\"");
-                }
-                sb.append(">");
+            sb.append("  <body");
+            if (dump.getBodyType() != null) {
+                sb.append(" type=\"").append(dump.getBodyType()).append("\"");
+            }
+            if (dump.getBodySize() != -1) {
+                sb.append(" size=\"").append(dump.getBodySize()).append("\"");
+            }
+            if (dump.getBodyPosition() != -1) {
+                sb.append(" position=\"").append(dump.getBodyPosition()).append("\"");
+            }
+            sb.append(">");
 
-                // dump value as XML, use Camel type converter to convert to String
-                if (value != null) {
-                    try {
-                        String xml = extractValueForLogging(value, message, allowCachedStreams, allowStreams, allowFiles,
-                                maxChars);
-                        if (xml != null) {
-                            // must always xml encode
-                            sb.append(StringHelper.xmlEncode(xml));
-                        }
-                    } catch (Exception e) {
-                        // ignore as the body is for logging purpose
-                    }
-                }
-                sb.append("</exchangeVariable>\n");
+            if (dump.getBody() != null) {
+                // must always xml encode
+                sb.append(StringHelper.xmlEncode(dump.getBody()));
             }
-            sb.append(prefix);
-            sb.append("  </exchangeVariables>\n");
+
+            sb.append("</body>\n");
         }
-        // exchange properties
-        if (includeExchangeProperties && message.getExchange().hasProperties()) {
-            sb.append(prefix);
-            sb.append("  <exchangeProperties>\n");
-            // sort the exchange properties so they are listed A..Z
-            Map<String, Object> properties = new TreeMap<>(message.getExchange().getAllProperties());
-            for (Map.Entry<String, Object> entry : properties.entrySet()) {
-                String key = entry.getKey();
-                // skip message history
-                if (Exchange.MESSAGE_HISTORY.equals(key)) {
-                    continue;
-                }
-                Object value = entry.getValue();
-                String type = ObjectHelper.classCanonicalName(value);
-                sb.append(prefix);
-                sb.append("    <exchangeProperty key=\"").append(key).append("\"");
-                if (type != null) {
-                    sb.append(" type=\"").append(type).append("\"");
-                }
-                sb.append(">");
 
-                // dump value as XML, use Camel type converter to convert to String
-                if (value != null) {
-                    try {
-                        String xml = extractValueForLogging(value, message, allowCachedStreams, allowStreams, allowFiles,
-                                maxChars);
-                        if (xml != null) {
-                            // must always xml encode
-                            sb.append(StringHelper.xmlEncode(xml));
-                        }
-                    } catch (Exception e) {
-                        // ignore as the body is for logging purpose
-                    }
-                }
-                sb.append("</exchangeProperty>\n");
-            }
+        sb.append(prefix);
+        sb.append("</message>");
+        return sb.toString();
+    }
+
+    private static void appendXml(
+            StringBuilder sb, CharSequence prefix, List<MessageDump.Entry> entries, String group, String tag) {
+        if (entries == null) {
+            return;
+        }
+        sb.append(prefix);
+        sb.append("  <").append(group).append(">\n");
+        for (MessageDump.Entry entry : entries) {
             sb.append(prefix);
-            sb.append("  </exchangeProperties>\n");
+            sb.append("    <").append(tag).append(" key=\"").append(entry.getKey()).append("\"");
+            if (entry.getType() != null) {
+                sb.append(" type=\"").append(entry.getType()).append("\"");
+            }
+            sb.append(">");
+            if (entry.getText() != null) {
+                // must always xml encode
+                sb.append(StringHelper.xmlEncode(entry.getText()));
+            }
+            sb.append("</").append(tag).append(">\n");
+        }
+        sb.append(prefix);
+        sb.append("  </").append(group).append(">\n");
+    }
+
+    /**
+     * Captures the values of the message which are dumped as XML or JSon, so they can be rendered later.
+     *
+     * @param  message                   the message
+     * @param  includeExchangeProperties whether or not to include exchange properties
+     * @param  includeExchangeVariables  whether or not to include exchange variables
+     * @param  includeBody               whether or not to include the message body
+     * @param  allowCachedStreams        whether to include message body if they are stream cache based
+     * @param  allowStreams              whether to include message body if they are stream based
+     * @param  allowFiles                whether to include message body if they are file based
+     * @param  maxChars                  clip body after maximum chars (to avoid very big messages). Use 0 or negative
+     *                                   value to not limit at all.
+     * @param  xml                       whether the values are rendered as XML
+     * @param  json                      whether the values are rendered as JSon
+     * @return                           the captured values
+     */
+    public static MessageDump createMessageDump(
+            Message message, boolean includeExchangeProperties, boolean includeExchangeVariables,
+            boolean includeBody, boolean allowCachedStreams, boolean allowStreams, boolean allowFiles, int maxChars,
+            boolean xml, boolean json) {
+        Exchange exchange = message.getExchange();
+        MessageDump dump = new MessageDump(
+                exchange.getExchangeId(), exchange.getPattern().name(),
+                ObjectHelper.classCanonicalName(exchange), ObjectHelper.classCanonicalName(message));
+
+        // exchange variables
+        if (includeExchangeVariables && exchange.hasVariables()) {
+            dump.setExchangeVariables(createDumpEntries(exchange.getVariables(), false, message, allowCachedStreams,
+                    allowStreams, allowFiles, maxChars, xml, json));
+        }
+        // exchange properties
+        if (includeExchangeProperties && exchange.hasProperties()) {
+            dump.setExchangeProperties(createDumpEntries(exchange.getAllProperties(), true, message, allowCachedStreams,
+                    allowStreams, allowFiles, maxChars, xml, json));
         }
         // headers
         if (message.hasHeaders()) {
-            sb.append(prefix);
-            sb.append("  <headers>\n");
-            // sort the headers so they are listed A..Z
-            Map<String, Object> headers = new TreeMap<>(message.getHeaders());
-            for (Map.Entry<String, Object> entry : headers.entrySet()) {
-                Object value = entry.getValue();
-                String type = ObjectHelper.classCanonicalName(value);
-                sb.append(prefix);
-                sb.append("    <header key=\"").append(entry.getKey()).append("\"");
-                if (type != null) {
-                    sb.append(" type=\"").append(type).append("\"");
-                }
-                sb.append(">");
-
-                // dump value as XML, use Camel type converter to convert to String
-                if (value != null) {
-                    try {
-                        String xml = extractValueForLogging(value, message, allowCachedStreams, allowStreams, allowFiles,
-                                maxChars);
-                        if (xml != null) {
-                            // must always xml encode
-                            sb.append(StringHelper.xmlEncode(xml));
-                        }
-                    } catch (Exception e) {
-                        // ignore as the body is for logging purpose
-                    }
-                }
-                sb.append("</header>\n");
-            }
-            sb.append(prefix);
-            sb.append("  </headers>\n");
+            dump.setHeaders(createDumpEntries(message.getHeaders(), false, message, allowCachedStreams,
+                    allowStreams, allowFiles, maxChars, xml, json));
         }
         if (includeBody) {
-            sb.append(prefix);
-            sb.append("  <body");
+            dump.setIncludeBody(true);
             Object body = message.getBody();
-            String type = ObjectHelper.classCanonicalName(body);
-            if (type != null) {
-                sb.append(" type=\"").append(type).append("\"");
-            }
+            dump.setBodyType(ObjectHelper.classCanonicalName(body));
             if (body instanceof Collection) {
-                long size = ((Collection<?>) body).size();
-                sb.append(" size=\"").append(size).append("\"");
+                dump.setBodySize(((Collection<?>) body).size());
             }
             if (body != null && body.getClass().isArray()) {
-                int size = Array.getLength(body);
-                sb.append(" size=\"").append(size).append("\"");
+                dump.setBodySize(Array.getLength(body));
             }
             if (body instanceof StreamCache) {
-                long pos = ((StreamCache) body).position();
-                if (pos != -1) {
-                    sb.append(" position=\"").append(pos).append("\"");
-                }
+                dump.setBodyPosition(((StreamCache) body).position());
             }
-            sb.append(">");
+            dump.setBody(extractBodyForLogging(message, null, allowCachedStreams, allowStreams, allowFiles, maxChars));
+        }
+        return dump;
+    }
 
-            String xml = extractBodyForLogging(message, null, allowCachedStreams, allowStreams, allowFiles, maxChars);
-            if (xml != null) {
-                // must always xml encode
-                sb.append(StringHelper.xmlEncode(xml));
+    private static List<MessageDump.Entry> createDumpEntries(
+            Map<String, Object> values, boolean skipMessageHistory, Message message, boolean allowCachedStreams,
+            boolean allowStreams, boolean allowFiles, int maxChars, boolean xml, boolean json) {
+        List<MessageDump.Entry> answer = new ArrayList<>(values.size());
+        // sort the values so they are listed A..Z
+        for (Map.Entry<String, Object> entry : new TreeMap<>(values).entrySet()) {
+            String key = entry.getKey();
+            if (skipMessageHistory && Exchange.MESSAGE_HISTORY.equals(key)) {
+                continue;
             }
-
-            sb.append("</body>\n");
+            Object value = entry.getValue();
+            String text = null;
+            Object jsonValue = null;
+            String jsonText = null;
+            if (value != null) {
+                if (json) {
+                    if (value instanceof String) {
+                        jsonValue = value;
+                    } else {
+                        jsonText = Jsoner.trySerialize(value);
+                        if (jsonText != null) {
+                            // use the value as-is because it can be serialized in json
+                            jsonValue = value;
+                        }
+                    }
+                }
+                // use Camel type converter to convert to String, unless the value is only dumped as json as-is
+                if (xml || jsonValue == null) {
+                    try {
+                        text = extractValueForLogging(value, message, allowCachedStreams, allowStreams, allowFiles,
+                                maxChars);
+                    } catch (Exception e) {
+                        // ignore as the value is for logging purpose
+                    }
+                }
+            }
+            answer.add(new MessageDump.Entry(key, ObjectHelper.classCanonicalName(value), text, jsonValue, jsonText));
         }
-
-        sb.append(prefix);
-        sb.append("</message>");
-        return sb.toString();
+        return answer;
     }
 
     /**
@@ -947,155 +967,68 @@ public final class MessageHelper {
     public static JsonObject dumpAsJSonObject(
             Message message, boolean includeExchangeProperties, boolean includeExchangeVariables, boolean includeBody,
             boolean allowCachedStreams, boolean allowStreams, boolean allowFiles, int maxChars) {
+        MessageDump dump = createMessageDump(message, includeExchangeProperties, includeExchangeVariables, includeBody,
+                allowCachedStreams, allowStreams, allowFiles, maxChars, false, true);
+        return dumpAsJSonObject(dump);
+    }
 
+    /**
+     * Dumps the captured values of a message as a generic JSon Object.
+     *
+     * @param  dump the captured values of the message
+     * @return      the JSon Object
+     */
+    public static JsonObject dumpAsJSonObject(MessageDump dump) {
         JsonObject root = new JsonObject();
         JsonObject jo = new JsonObject();
         root.put("message", jo);
-        jo.put("exchangeId", message.getExchange().getExchangeId());
-        jo.put("exchangePattern", message.getExchange().getPattern().name());
-        jo.put("exchangeType", ObjectHelper.classCanonicalName(message.getExchange()));
-        jo.put("messageType", ObjectHelper.classCanonicalName(message));
+        jo.put("exchangeId", dump.getExchangeId());
+        jo.put("exchangePattern", dump.getExchangePattern());
+        jo.put("exchangeType", dump.getExchangeType());
+        jo.put("messageType", dump.getMessageType());
 
-        // exchange variables
-        if (includeExchangeVariables && message.getExchange().hasVariables()) {
-            JsonArray arr = new JsonArray();
-            // sort the exchange variables so they are listed A..Z
-            Map<String, Object> properties = new TreeMap<>(message.getExchange().getVariables());
-            for (Map.Entry<String, Object> entry : properties.entrySet()) {
-                Object value = entry.getValue();
-                String type = ObjectHelper.classCanonicalName(value);
-                JsonObject jh = new JsonObject();
-                String key = entry.getKey();
-                jh.put("key", key);
-                if (type != null) {
-                    jh.put("type", type);
-                }
-                if (value != null) {
-                    Object s = Jsoner.trySerialize(value);
-                    if (s == null) {
-                        // cannot JSon serialize out of the box, so we need to use string value
-                        try {
-                            s = extractValueForLogging(value, message, allowCachedStreams, allowStreams, allowFiles, maxChars);
-                        } catch (Exception e) {
-                            // ignore
-                        }
-                    } else {
-                        // use the value as-is because it can be serialized in json
-                        s = value;
-                    }
-                    jh.put("value", s);
-                }
-                arr.add(jh);
-            }
-            if (!arr.isEmpty()) {
-                jo.put("exchangeVariables", arr);
-            }
-        }
-        // exchange properties
-        if (includeExchangeProperties && message.getExchange().hasProperties()) {
-            JsonArray arr = new JsonArray();
-            // sort the exchange properties so they are listed A..Z
-            Map<String, Object> properties = new TreeMap<>(message.getExchange().getAllProperties());
-            for (Map.Entry<String, Object> entry : properties.entrySet()) {
-                Object value = entry.getValue();
-                String type = ObjectHelper.classCanonicalName(value);
-                JsonObject jh = new JsonObject();
-                String key = entry.getKey();
-                // skip message history
-                if (Exchange.MESSAGE_HISTORY.equals(key)) {
-                    continue;
-                }
-                jh.put("key", key);
-                if (type != null) {
-                    jh.put("type", type);
-                }
-                if (value != null) {
-                    Object s = Jsoner.trySerialize(value);
-                    if (s == null) {
-                        // cannot JSon serialize out of the box, so we need to use string value
-                        try {
-                            s = extractValueForLogging(value, message, allowCachedStreams, allowStreams, allowFiles, maxChars);
-                        } catch (Exception e) {
-                            // ignore
-                        }
-                    } else {
-                        // use the value as-is because it can be serialized in json
-                        s = value;
-                    }
-                    jh.put("value", s);
-                }
-                arr.add(jh);
-            }
-            if (!arr.isEmpty()) {
-                jo.put("exchangeProperties", arr);
-            }
-        }
-        // headers
-        if (message.hasHeaders()) {
-            JsonArray arr = new JsonArray();
-            // sort the headers so they are listed A..Z
-            Map<String, Object> headers = new TreeMap<>(message.getHeaders());
-            for (Map.Entry<String, Object> entry : headers.entrySet()) {
-                Object value = entry.getValue();
-                String type = ObjectHelper.classCanonicalName(value);
-                JsonObject jh = new JsonObject();
-                jh.put("key", entry.getKey());
-                if (type != null) {
-                    jh.put("type", type);
-                }
-                // dump header value as JSon, use Camel type converter to convert to String
-                if (value != null) {
-                    Object s = Jsoner.trySerialize(value);
-                    if (s == null) {
-                        // cannot JSon serialize out of the box, so we need to use string value
-                        try {
-                            s = extractValueForLogging(value, message, allowCachedStreams, allowStreams, allowFiles, maxChars);
-                        } catch (Exception e) {
-                            // ignore
-                        }
-                    } else {
-                        // use the value as-is because it can be serialized in json
-                        s = value;
-                    }
-                    jh.put("value", s);
-                }
-                arr.add(jh);
-            }
-            if (!arr.isEmpty()) {
-                jo.put("headers", arr);
-            }
-        }
-        if (includeBody) {
+        appendJSon(jo, dump.getExchangeVariables(), "exchangeVariables");
+        appendJSon(jo, dump.getExchangeProperties(), "exchangeProperties");
+        appendJSon(jo, dump.getHeaders(), "headers");
+
+        if (dump.isIncludeBody()) {
             JsonObject jb = new JsonObject();
             jo.put("body", jb);
-            Object body = message.getBody();
-            String type = ObjectHelper.classCanonicalName(body);
-            if (type != null) {
-                jb.put("type", type);
+            if (dump.getBodyType() != null) {
+                jb.put("type", dump.getBodyType());
             }
-            if (body instanceof Collection) {
-                long size = ((Collection<?>) body).size();
-                jb.put("size", size);
+            if (dump.getBodySize() != -1) {
+                jb.put("size", dump.getBodySize());
             }
-            if (body != null && body.getClass().isArray()) {
-                int size = Array.getLength(body);
-                jb.put("size", size);
+            if (dump.getBodyPosition() != -1) {
+                jb.put("position", dump.getBodyPosition());
             }
-            if (body instanceof StreamCache) {
-                long pos = ((StreamCache) body).position();
-                if (pos != -1) {
-                    jb.put("position", pos);
-                }
-            }
-            String data = extractBodyForLogging(message, null, allowCachedStreams, allowStreams, allowFiles, maxChars);
-            if (data != null) {
-                jb.put("value", Jsoner.escape(data));
+            if (dump.getBody() != null) {
+                jb.put("value", Jsoner.escape(dump.getBody()));
             }
         }
 
         return root;
     }
 
+    private static void appendJSon(JsonObject jo, List<MessageDump.Entry> entries, String group) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+        JsonArray arr = new JsonArray();
+        for (MessageDump.Entry entry : entries) {
+            JsonObject jh = new JsonObject();
+            jh.put("key", entry.getKey());
+            if (entry.getType() != null) {
+                jh.put("type", entry.getType());
+                // the value as-is if it can be serialized in json, otherwise its string value
+                jh.put("value", entry.getJson() != null ? entry.getJson() : entry.getText());
+            }
+            arr.add(jh);
+        }
+        jo.put(group, arr);
+    }
+
     /**
      * Dumps the exception as a generic XML structure.
      *
@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * An {@link OutputStream} that compresses the data in independent blocks in parallel, in the same way as
+ * <a href="https://zlib.net/pigz/">pigz</a>, while producing a single standard gzip (or zlib) stream.
+ * <p/>
+ * The data is split into blocks of {@link #getBlockSize()} bytes which are deflated on the given {@link Executor} (the
+ * common {@link ForkJoinPool} by default). Each block is primed with the last 32 KB of the data written before it as
+ * preset dictionary, so the compression ratio is close to single-threaded compression, and is ended with a sync flush
+ * so the compressed blocks can be concatenated into one deflate stream. The checksum is computed on the calling thread,
+ * and the compressed blocks are written in order from the calling thread as they complete. The number of blocks in
+ * flight is bounded, so memory usage does not depend on the size of the data.
+ * <p/>
+ * The output can be read by any gzip (or zlib) decoder, such as {@link java.util.zip.GZIPInputStream}.
+ * <p/>
+ * This class is not thread-safe.
+ */
+public class ParallelDeflaterOutputStream extends OutputStream {
+
+    /**
+     * The default block size (128 KB), which is the same as pigz.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private final OutputStream out;
+    private final int level;
+    private final boolean gzip;
+    private final int blockSize;
+    private final Executor executor;
+    private final int maxPending;
+    private final Checksum checksum;
+    private final Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+    private byte[] block;
+    private int count;
+    // the last (up to) 32 KB of data submitted so far, a new array per block as it is used by the compressing task
+    private byte[] dictionary;
+    private long totalIn;
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Creates a gzip stream with the default compression level and block size, using the common fork-join pool.
+     */
+    public ParallelDeflaterOutputStream(OutputStream out) throws IOException {
+        this(out, Deflater.DEFAULT_COMPRESSION, true, DEFAULT_BLOCK_SIZE, null);
+    }
+
+    /**
+     * Creates a stream that compresses in parallel.
+     *
+     * @param  out         the stream to write the compressed data to
+     * @param  level       the compression level (0-9 or -1 for the default)
+     * @param  gzip        whether to write the gzip format, or else the zlib format
+     * @param  blockSize   the size of the blocks that are compressed in parallel
+     * @param  executor    the executor to compress the blocks on, or <tt>null</tt> to use the common fork-join pool
+     * @throws IOException is thrown if the header could not be written
+     */
+    public ParallelDeflaterOutputStream(OutputStream out, int level, boolean gzip, int blockSize,
+                                        Executor executor) throws IOException {
+        ObjectHelper.notNull(out, "out");
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive, was: " + blockSize);
+        }
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        this.out = out;
+        this.level = level;
+        this.gzip = gzip;
+        this.blockSize = blockSize;
+        this.executor = executor != null ? executor : ForkJoinPool.commonPool();
+        int parallelism = this.executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) this.executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        // enough blocks in flight to keep all threads busy while the head block is written
+        this.maxPending = Math.max(2, parallelism * 2);
+        this.checksum = gzip ? new CRC32() : new Adler32();
+        this.block = new byte[blockSize];
+        writeHeader();
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        block[count++] = (byte) b;
+        if (count == blockSize) {
+            submit(false);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        ObjectHelper.notNull(b, "b");
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            int n = Math.min(len, blockSize - count);
+            System.arraycopy(b, off, block, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count == blockSize) {
+                submit(false);
+            }
+        }
+    }
+
+    /**
+     * Compresses the buffered data and writes all compressed data to the underlying stream, before flushing it.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (count > 0) {
+            submit(false);
+        }
+        while (!pending.isEmpty()) {
+            writePending();
+        }
+        out.flush();
+    }
+
+    /**
+     * Finishes writing the compressed data to the underlying stream without closing it.
+     */
+    public void finish() throws IOException {
+        if (!finished) {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            // the last block is always submitted, even if empty, as it carries the final deflate block
+            submit(true);
+            while (!pending.isEmpty()) {
+                writePending();
+            }
+            writeTrailer();
+            finished = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            try {
+                finish();
+            } finally {
+                closed = true;
+                for (CompletableFuture<byte[]> future : pending) {
+                    future.cancel(false);
+                }
+                pending.clear();
+                out.close();
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (finished) {
+            throw new IOException("Stream finished");
+        }
+    }
+
+    private void submit(boolean last) throws IOException {
+        final byte[] input = block;
+        final int length = count;
+        final byte[] dictionary = this.dictionary;
+
+        checksum.update(input, 0, length);
+        totalIn += length;
+        pending.add(CompletableFuture.supplyAsync(() -> deflate(level, dictionary, input, length, last), executor));
+
+        // a block submitted by flush is only partly filled, so only its valid bytes continue the dictionary
+        this.dictionary = nextDictionary(dictionary, input, length);
+        block = last ? null : new byte[blockSize];
+        count = 0;
+
+        while (pending.size() >= maxPending) {
+            writePending();
+        }
+    }
+
+    private void writePending() throws IOException {
+        CompletableFuture<byte[]> future = pending.poll();
+        try {
+            out.write(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Error compressing block", cause);
+        }
+    }
+
+    private static byte[] nextDictionary(byte[] dictionary, byte[] input, int length) {
+        if (length >= DICTIONARY_SIZE) {
+            return Arrays.copyOfRange(input, length - DICTIONARY_SIZE, length);
+        }
+        if (length == 0) {
+            return dictionary;
+        }
+        int keep = dictionary != null ? Math.min(dictionary.length, DICTIONARY_SIZE - length) : 0;
+        byte[] answer = new byte[keep + length];
+        if (keep > 0) {
+            System.arraycopy(dictionary, dictionary.length - keep, answer, 0, keep);
+        }
+        System.arraycopy(input, 0, answer, keep, length);
+        return answer;
+    }
+
+    private static byte[] deflate(int level, byte[] dictionary, byte[] input, int length, boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(input, 0, length);
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buf = new byte[Math.min(Math.max(length, 512), 64 * 1024)];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buf);
+                    bos.write(buf, 0, n);
+                }
+            } else {
+                // sync flush ends the block on a byte boundary without marking it as the last block
+                int n;
+                do {
+                    n = deflater.deflate(buf, 0, buf.length, Deflater.SYNC_FLUSH);
+                    bos.write(buf, 0, n);
+                } while (n == buf.length);
+            }
+            return bos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        if (gzip) {
+            // magic, deflate, no flags, no modification time, no extra flags, unknown OS
+            out.write(new byte[] {
+                    (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff });
+        } else {
+            int cmf = 0x78;
+            int flevel;
+            if (level == Deflater.DEFAULT_COMPRESSION || level == 6) {
+                flevel = 2;
+            } else if (level < 2) {
+                flevel = 0;
+            } else if (level < 6) {
+                flevel = 1;
+            } else {
+                flevel = 3;
+            }
+            int flg = flevel << 6;
+            flg += 31 - ((cmf << 8) + flg) % 31;
+            out.write(new byte[] { (byte) cmf, (byte) flg });
+        }
+    }
+
+    private void writeTrailer() throws IOException {
+        int sum = (int) checksum.getValue();
+        if (gzip) {
+            int size = (int) totalIn;
+            out.write(new byte[] {
+                    (byte) sum, (byte) (sum >> 8), (byte) (sum >> 16), (byte) (sum >> 24),
+                    (byte) size, (byte) (size >> 8), (byte) (size >> 16), (byte) (size >> 24) });
+        } else {
+            out.write(new byte[] { (byte) (sum >> 24), (byte) (sum >> 16), (byte) (sum >> 8), (byte) sum });
+        }
+    }
+}
@@ -78,7 +78,8 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     };
 
     private final AtomicInteger stepCounter = new AtomicInteger();
-    private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    // the steps are nested per thread, as routes can be warmed up in parallel
+    private final ThreadLocal<Deque<StartupStep>> currentSteps = ThreadLocal.withInitial(ArrayDeque::new);
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -87,10 +88,6 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     private String recordingDir;
     private String recordingProfile = "default";
 
-    public DefaultStartupStepRecorder() {
-        currentSteps.offerFirst(0);
-    }
-
     public boolean isEnabled() {
         return enabled;
     }
@@ -156,21 +153,27 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     @Override
     public void doStop() throws Exception {
         enabled = false;
-        currentSteps.clear();
+        currentSteps.remove();
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
-        if (enabled) {
-            int level = currentSteps.size() - 1;
+        return beginStep(currentSteps.get().peekFirst(), type, name, description);
+    }
+
+    @Override
+    public StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        if (enabled && parent != DISABLED_STEP) {
+            int level = parent != null ? parent.getLevel() + 1 : 0;
             if (maxDepth != -1 && level >= maxDepth) {
                 return DISABLED_STEP;
             }
             int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
-            int pid = parent != null ? parent : 0;
+            int pid = parent != null ? parent.getId() : 0;
             StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
-            onBeginStep(step);
-            currentSteps.offerFirst(id);
+            synchronized (this) {
+                onBeginStep(step);
+            }
+            currentSteps.get().offerFirst(step);
             return step;
         } else {
             return DISABLED_STEP;
@@ -179,9 +182,11 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            currentSteps.get().remove(step);
             step.endStep();
-            onEndStep(step);
+            synchronized (this) {
+                onEndStep(step);
+            }
         }
     }
 
@@ -2201,6 +2201,7 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "allowEmptyStream": def.setAllowEmptyStream(val); break;
                 case "classType": def.setClassTypeAsString(val); break;
+                case "lazyLoad": def.setLazyLoad(val); break;
                 case "locale": def.setLocale(val); break;
                 case "type": def.setType(val); break;
                 case "unwrapSingleInstance": def.setUnwrapSingleInstance(val); break;
@@ -2275,6 +2276,7 @@ public class ModelParser extends BaseParser {
                 case "trim": def.setTrim(val); break;
                 case "useMaps": def.setUseMaps(val); break;
                 case "useOrderedMaps": def.setUseOrderedMaps(val); break;
+                case "useRecordView": def.setUseRecordView(val); break;
                 default: return identifiedTypeAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -2369,8 +2371,15 @@ public class ModelParser extends BaseParser {
         }, noElementHandler(), noValueHandler());
     }
     protected GzipDeflaterDataFormat doParseGzipDeflaterDataFormat() throws IOException, XmlPullParserException {
-        return doParse(new GzipDeflaterDataFormat(),
-            identifiedTypeAttributeHandler(), noElementHandler(), noValueHandler());
+        return doParse(new GzipDeflaterDataFormat(), (def, key, val) -> {
+            switch (key) {
+                case "blockSize": def.setBlockSize(val); break;
+                case "executorService": def.setExecutorService(val); break;
+                case "parallel": def.setParallel(val); break;
+                default: return identifiedTypeAttributeHandler().accept(def, key, val);
+            }
+            return true;
+        }, noElementHandler(), noValueHandler());
     }
     protected HL7DataFormat doParseHL7DataFormat() throws IOException, XmlPullParserException {
         return doParse(new HL7DataFormat(), (def, key, val) -> {
@@ -2770,11 +2779,14 @@ public class ModelParser extends BaseParser {
     }
     protected ZipDeflaterDataFormat doParseZipDeflaterDataFormat() throws IOException, XmlPullParserException {
         return doParse(new ZipDeflaterDataFormat(), (def, key, val) -> {
-            if ("compressionLevel".equals(key)) {
-                def.setCompressionLevel(val);
-                return true;
+            switch (key) {
+                case "blockSize": def.setBlockSize(val); break;
+                case "compressionLevel": def.setCompressionLevel(val); break;
+                case "executorService": def.setExecutorService(val); break;
+                case "parallel": def.setParallel(val); break;
+                default: return identifiedTypeAttributeHandler().accept(def, key, val);
             }
-            return identifiedTypeAttributeHandler().accept(def, key, val);
+            return true;
         }, noElementHandler(), noValueHandler());
     }
     protected ZipFileDataFormat doParseZipFileDataFormat() throws IOException, XmlPullParserException {
@@ -3036,6 +3048,8 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "group": def.setGroup(val); break;
                 case "mode": def.setMode(val); break;
+                case "pipelineCapacity": def.setPipelineCapacity(val); break;
+                case "pipelined": def.setPipelined(val); break;
                 default: return singleInputTypedExpressionDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -3060,6 +3074,7 @@ public class ModelParser extends BaseParser {
                 case "preCompile": def.setPreCompile(val); break;
                 case "resultQName": def.setResultQName(val); break;
                 case "saxon": def.setSaxon(val); break;
+                case "streaming": def.setStreaming(val); break;
                 case "threadSafety": def.setThreadSafety(val); break;
                 default: return singleInputTypedExpressionDefinitionAttributeHandler().accept(def, key, val);
             }
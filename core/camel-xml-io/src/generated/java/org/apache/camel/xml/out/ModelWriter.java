@@ -3190,6 +3190,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("classType", def.getClassTypeAsString());
         doWriteAttribute("locale", def.getLocale());
         doWriteAttribute("type", def.getType());
+        doWriteAttribute("lazyLoad", def.getLazyLoad());
         doWriteAttribute("allowEmptyStream", def.getAllowEmptyStream());
         endElement(name);
     }
@@ -3257,6 +3258,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("ignoreSurroundingSpaces", def.getIgnoreSurroundingSpaces());
         doWriteAttribute("quoteDisabled", def.getQuoteDisabled());
         doWriteAttribute("useOrderedMaps", def.getUseOrderedMaps());
+        doWriteAttribute("useRecordView", def.getUseRecordView());
         doWriteAttribute("ignoreHeaderCase", def.getIgnoreHeaderCase());
         doWriteAttribute("recordSeparatorDisabled", def.getRecordSeparatorDisabled());
         doWriteAttribute("captureHeaderRecord", def.getCaptureHeaderRecord());
@@ -3407,6 +3409,9 @@ public class ModelWriter extends BaseWriter {
             throws IOException {
         startElement(name);
         doWriteIdentifiedTypeAttributes(def);
+        doWriteAttribute("executorService", def.getExecutorService());
+        doWriteAttribute("parallel", def.getParallel());
+        doWriteAttribute("blockSize", def.getBlockSize());
         endElement(name);
     }
     protected void doWriteHL7DataFormat(
@@ -3818,7 +3823,10 @@ public class ModelWriter extends BaseWriter {
             throws IOException {
         startElement(name);
         doWriteIdentifiedTypeAttributes(def);
+        doWriteAttribute("executorService", def.getExecutorService());
+        doWriteAttribute("parallel", def.getParallel());
         doWriteAttribute("compressionLevel", def.getCompressionLevel());
+        doWriteAttribute("blockSize", def.getBlockSize());
         endElement(name);
     }
     protected void doWriteZipFileDataFormat(
@@ -4236,7 +4244,9 @@ public class ModelWriter extends BaseWriter {
             throws IOException {
         startElement(name);
         doWriteSingleInputTypedExpressionDefinitionAttributes(def);
+        doWriteAttribute("pipelined", def.getPipelined());
         doWriteAttribute("mode", def.getMode());
+        doWriteAttribute("pipelineCapacity", def.getPipelineCapacity());
         doWriteAttribute("group", def.getGroup());
         doWriteNamespaces(def);
         doWriteValue(def.getExpression());
@@ -4249,6 +4259,7 @@ public class ModelWriter extends BaseWriter {
         startElement(name);
         doWriteSingleInputTypedExpressionDefinitionAttributes(def);
         doWriteAttribute("preCompile", def.getPreCompile());
+        doWriteAttribute("streaming", def.getStreaming());
         doWriteAttribute("objectModel", def.getObjectModel());
         doWriteAttribute("logNamespaces", def.getLogNamespaces());
         doWriteAttribute("threadSafety", def.getThreadSafety());
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.builder.xml;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of compiled XML artifacts, such as XSLT {@link javax.xml.transform.Transformer}s or
+ * {@link javax.xml.xpath.XPathExpression}s. These are not thread safe, so each artifact is used by one thread at a
+ * time.
+ * <p/>
+ * The pool is lock-free. Pooled artifacts are kept in slots, and a thread claims a slot with compare-and-set. Each
+ * thread starts looking at a slot derived from its thread id, so a thread tends to reuse the artifact it released
+ * before, and threads rarely compete for the same slot. When the pool has no artifact available, the caller creates a
+ * new one. When the pool is full, a released artifact is discarded.
+ *
+ * @param <T> the type of the pooled artifacts
+ */
+public final class XmlArtifactPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    /**
+     * Creates a pool.
+     *
+     * @param capacity the maximum number of pooled artifacts
+     */
+    public XmlArtifactPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Acquires an artifact from the pool.
+     *
+     * @return the artifact, or <tt>null</tt> if no artifact is available, in which case the caller should create a new
+     *         artifact
+     */
+    public T acquire() {
+        int len = slots.length();
+        int start = startIndex(len);
+        for (int i = 0; i < len; i++) {
+            int idx = (start + i) % len;
+            T artifact = slots.get(idx);
+            if (artifact != null && slots.compareAndSet(idx, artifact, null)) {
+                hits.increment();
+                return artifact;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Releases the artifact back to the pool, after it has been used.
+     *
+     * @param  artifact the artifact
+     * @return          <tt>true</tt> if the artifact was pooled, <tt>false</tt> if it was discarded as the pool is full
+     */
+    public boolean release(T artifact) {
+        int len = slots.length();
+        int start = startIndex(len);
+        for (int i = 0; i < len; i++) {
+            int idx = (start + i) % len;
+            if (slots.get(idx) == null && slots.compareAndSet(idx, null, artifact)) {
+                return true;
+            }
+        }
+        discarded.increment();
+        return false;
+    }
+
+    /**
+     * Removes all the pooled artifacts.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    /**
+     * The maximum number of pooled artifacts.
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * The number of artifacts currently pooled.
+     */
+    public int size() {
+        int answer = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Number of times an artifact was acquired from the pool.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times no artifact was available in the pool, so a new artifact had to be created.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of times a released artifact was discarded, as the pool was full.
+     */
+    public long getDiscarded() {
+        return discarded.sum();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int startIndex(int len) {
+        // spread the thread ids, so threads start at different slots
+        long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return Math.floorMod((int) (id ^ (id >>> 32)), len);
+    }
+
+    @Override
+    public String toString() {
+        return "XmlArtifactPool[capacity=" + slots.length() + ", hits=" + getHits() + ", misses=" + getMisses()
+               + ", discarded=" + getDiscarded() + "]";
+    }
+}
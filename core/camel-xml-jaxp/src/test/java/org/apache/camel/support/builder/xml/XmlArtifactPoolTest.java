@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.builder.xml;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XmlArtifactPoolTest {
+
+    @Test
+    public void testAcquireRelease() {
+        XmlArtifactPool<Object> pool = new XmlArtifactPool<>(2);
+        assertNull(pool.acquire());
+        assertEquals(1, pool.getMisses());
+
+        Object a = new Object();
+        Object b = new Object();
+        Object c = new Object();
+        assertTrue(pool.release(a));
+        assertTrue(pool.release(b));
+        assertFalse(pool.release(c));
+        assertEquals(2, pool.size());
+        assertEquals(1, pool.getDiscarded());
+
+        Object first = pool.acquire();
+        Object second = pool.acquire();
+        assertTrue(first == a && second == b || first == b && second == a);
+        assertNull(pool.acquire());
+        assertEquals(2, pool.getHits());
+        assertEquals(2, pool.getMisses());
+
+        // the same thread gets back what it released
+        pool.release(first);
+        assertSame(first, pool.acquire());
+
+        pool.release(first);
+        pool.clear();
+        assertEquals(0, pool.size());
+        assertThrows(IllegalArgumentException.class, () -> new XmlArtifactPool<>(0));
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        XmlArtifactPool<AtomicInteger> pool = new XmlArtifactPool<>(4);
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    AtomicInteger artifact = pool.acquire();
+                    if (artifact == null) {
+                        artifact = new AtomicInteger();
+                    }
+                    // an artifact must only be in use by one thread at a time
+                    if (artifact.incrementAndGet() != 1) {
+                        errors.incrementAndGet();
+                    }
+                    artifact.decrementAndGet();
+                    pool.release(artifact);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executor.shutdownNow();
+        assertEquals(0, errors.get());
+        assertEquals(80000, pool.getHits() + pool.getMisses());
+    }
+}
@@ -1149,6 +1149,82 @@ public interface ActivemqComponentBuilderFactory {
             doSetProperty("includeSentJMSMessageID", includeSentJMSMessageID);
             return this;
         }
+        /**
+         * Only applicable when sending to JMS destination using InOnly (eg fire
+         * and forget). Sets the maximum number of messages (from different
+         * exchanges) to send in the same local JMS transaction, which is
+         * committed when this many messages has been sent, or the
+         * producerBatchTimeout has elapsed. The exchanges continue routing when
+         * the transaction has been committed. Enabling this option implies
+         * producerSessionCache.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param producerBatchSize the value to set
+         * @return the dsl builder
+         */
+        default ActivemqComponentBuilder producerBatchSize(
+                int producerBatchSize) {
+            doSetProperty("producerBatchSize", producerBatchSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more messages before
+         * committing the batch of sent messages, when using producerBatchSize.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param producerBatchTimeout the value to set
+         * @return the dsl builder
+         */
+        default ActivemqComponentBuilder producerBatchTimeout(
+                long producerBatchTimeout) {
+            doSetProperty("producerBatchTimeout", producerBatchTimeout);
+            return this;
+        }
+        /**
+         * Whether the producer should send using JMS sessions and message
+         * producers (per destination) which are cached and reused, instead of
+         * using Spring JmsTemplate which creates them per message (unless using
+         * a caching or pooled connection factory). This option cannot be used
+         * together with transacted.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param producerSessionCache the value to set
+         * @return the dsl builder
+         */
+        default ActivemqComponentBuilder producerSessionCache(
+                boolean producerSessionCache) {
+            doSetProperty("producerSessionCache", producerSessionCache);
+            return this;
+        }
+        /**
+         * The maximum number of idle JMS sessions to keep when using
+         * producerSessionCache or producerBatchSize. Sessions created by
+         * additional concurrent senders are closed after use.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 10
+         * Group: producer (advanced)
+         * 
+         * @param producerSessionCacheSize the value to set
+         * @return the dsl builder
+         */
+        default ActivemqComponentBuilder producerSessionCacheSize(
+                int producerSessionCacheSize) {
+            doSetProperty("producerSessionCacheSize", producerSessionCacheSize);
+            return this;
+        }
         /**
          * Sets the cache level by name for the reply consumer when doing
          * request/reply over JMS. This option only applies when using fixed
@@ -2169,6 +2245,10 @@ public interface ActivemqComponentBuilderFactory {
             case "disableTimeToLive": getOrCreateConfiguration((ActiveMQComponent) component).setDisableTimeToLive((boolean) value); return true;
             case "forceSendOriginalMessage": getOrCreateConfiguration((ActiveMQComponent) component).setForceSendOriginalMessage((boolean) value); return true;
             case "includeSentJMSMessageID": getOrCreateConfiguration((ActiveMQComponent) component).setIncludeSentJMSMessageID((boolean) value); return true;
+            case "producerBatchSize": getOrCreateConfiguration((ActiveMQComponent) component).setProducerBatchSize((int) value); return true;
+            case "producerBatchTimeout": getOrCreateConfiguration((ActiveMQComponent) component).setProducerBatchTimeout((long) value); return true;
+            case "producerSessionCache": getOrCreateConfiguration((ActiveMQComponent) component).setProducerSessionCache((boolean) value); return true;
+            case "producerSessionCacheSize": getOrCreateConfiguration((ActiveMQComponent) component).setProducerSessionCacheSize((int) value); return true;
             case "replyToCacheLevelName": getOrCreateConfiguration((ActiveMQComponent) component).setReplyToCacheLevelName((java.lang.String) value); return true;
             case "replyToDestinationSelectorName": getOrCreateConfiguration((ActiveMQComponent) component).setReplyToDestinationSelectorName((java.lang.String) value); return true;
             case "streamMessageTypeEnabled": getOrCreateConfiguration((ActiveMQComponent) component).setStreamMessageTypeEnabled((boolean) value); return true;
@@ -1083,6 +1083,81 @@ public interface AmqpComponentBuilderFactory {
             doSetProperty("includeSentJMSMessageID", includeSentJMSMessageID);
             return this;
         }
+        /**
+         * Only applicable when sending to JMS destination using InOnly (eg fire
+         * and forget). Sets the maximum number of messages (from different
+         * exchanges) to send in the same local JMS transaction, which is
+         * committed when this many messages has been sent, or the
+         * producerBatchTimeout has elapsed. The exchanges continue routing when
+         * the transaction has been committed. Enabling this option implies
+         * producerSessionCache.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param producerBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AmqpComponentBuilder producerBatchSize(int producerBatchSize) {
+            doSetProperty("producerBatchSize", producerBatchSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more messages before
+         * committing the batch of sent messages, when using producerBatchSize.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param producerBatchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AmqpComponentBuilder producerBatchTimeout(
+                long producerBatchTimeout) {
+            doSetProperty("producerBatchTimeout", producerBatchTimeout);
+            return this;
+        }
+        /**
+         * Whether the producer should send using JMS sessions and message
+         * producers (per destination) which are cached and reused, instead of
+         * using Spring JmsTemplate which creates them per message (unless using
+         * a caching or pooled connection factory). This option cannot be used
+         * together with transacted.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param producerSessionCache the value to set
+         * @return the dsl builder
+         */
+        default AmqpComponentBuilder producerSessionCache(
+                boolean producerSessionCache) {
+            doSetProperty("producerSessionCache", producerSessionCache);
+            return this;
+        }
+        /**
+         * The maximum number of idle JMS sessions to keep when using
+         * producerSessionCache or producerBatchSize. Sessions created by
+         * additional concurrent senders are closed after use.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 10
+         * Group: producer (advanced)
+         * 
+         * @param producerSessionCacheSize the value to set
+         * @return the dsl builder
+         */
+        default AmqpComponentBuilder producerSessionCacheSize(
+                int producerSessionCacheSize) {
+            doSetProperty("producerSessionCacheSize", producerSessionCacheSize);
+            return this;
+        }
         /**
          * Sets the cache level by name for the reply consumer when doing
          * request/reply over JMS. This option only applies when using fixed
@@ -2074,6 +2149,10 @@ public interface AmqpComponentBuilderFactory {
             case "disableTimeToLive": getOrCreateConfiguration((AMQPComponent) component).setDisableTimeToLive((boolean) value); return true;
             case "forceSendOriginalMessage": getOrCreateConfiguration((AMQPComponent) component).setForceSendOriginalMessage((boolean) value); return true;
             case "includeSentJMSMessageID": getOrCreateConfiguration((AMQPComponent) component).setIncludeSentJMSMessageID((boolean) value); return true;
+            case "producerBatchSize": getOrCreateConfiguration((AMQPComponent) component).setProducerBatchSize((int) value); return true;
+            case "producerBatchTimeout": getOrCreateConfiguration((AMQPComponent) component).setProducerBatchTimeout((long) value); return true;
+            case "producerSessionCache": getOrCreateConfiguration((AMQPComponent) component).setProducerSessionCache((boolean) value); return true;
+            case "producerSessionCacheSize": getOrCreateConfiguration((AMQPComponent) component).setProducerSessionCacheSize((int) value); return true;
             case "replyToCacheLevelName": getOrCreateConfiguration((AMQPComponent) component).setReplyToCacheLevelName((java.lang.String) value); return true;
             case "replyToDestinationSelectorName": getOrCreateConfiguration((AMQPComponent) component).setReplyToDestinationSelectorName((java.lang.String) value); return true;
             case "streamMessageTypeEnabled": getOrCreateConfiguration((AMQPComponent) component).setStreamMessageTypeEnabled((boolean) value); return true;
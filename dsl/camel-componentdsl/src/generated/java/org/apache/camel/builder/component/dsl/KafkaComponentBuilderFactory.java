@@ -744,6 +744,28 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("preValidateHostAndPort", preValidateHostAndPort);
             return this;
         }
+        /**
+         * The number of threads used by each consumer to process the records it
+         * retrieves. The default is 1, which processes the records one by one
+         * on the consumer thread. When using more threads, then records with
+         * the same key are still processed in order (by one thread at a time),
+         * and the offsets are only committed up to the last record which all
+         * previous records in the same partition have been processed. This
+         * option cannot be used together with allowManualCommit, and is not in
+         * use when batching is enabled.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder processingThreads(int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer should read from the beginning or the end on
          * startup: SeekPolicy.BEGINNING: read from the beginning.
@@ -2312,6 +2334,7 @@ public interface KafkaComponentBuilderFactory {
             case "pollOnError": getOrCreateConfiguration((KafkaComponent) component).setPollOnError((org.apache.camel.component.kafka.PollOnError) value); return true;
             case "pollTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setPollTimeoutMs((java.lang.Long) value); return true;
             case "preValidateHostAndPort": getOrCreateConfiguration((KafkaComponent) component).setPreValidateHostAndPort((boolean) value); return true;
+            case "processingThreads": getOrCreateConfiguration((KafkaComponent) component).setProcessingThreads((int) value); return true;
             case "seekTo": getOrCreateConfiguration((KafkaComponent) component).setSeekTo((org.apache.camel.component.kafka.SeekPolicy) value); return true;
             case "sessionTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setSessionTimeoutMs((java.lang.Integer) value); return true;
             case "specificAvroReader": getOrCreateConfiguration((KafkaComponent) component).setSpecificAvroReader((boolean) value); return true;
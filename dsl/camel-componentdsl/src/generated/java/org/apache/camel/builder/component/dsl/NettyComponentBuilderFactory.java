@@ -663,6 +663,28 @@ public interface NettyComponentBuilderFactory {
             doSetProperty("producerPoolMaxIdle", producerPoolMaxIdle);
             return this;
         }
+        /**
+         * Sets the maximum number of exchanges which can use the same pooled
+         * channel at the same time (pipelining), which allows sending more
+         * requests without waiting for the replies of the previous requests on
+         * the channel. The default value of 1 turns off pipelining. Important:
+         * When using pipelining then the replies must be correlated to the
+         * requests, so you must configure a NettyCamelStateCorrelationManager
+         * via the correlationManager option.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolMaxPipelined the value to set
+         * @return the dsl builder
+         */
+        default NettyComponentBuilder producerPoolMaxPipelined(
+                int producerPoolMaxPipelined) {
+            doSetProperty("producerPoolMaxPipelined", producerPoolMaxPipelined);
+            return this;
+        }
         /**
          * Sets the cap on the number of objects that can be allocated by the
          * pool (checked out to clients, or idle awaiting checkout) at a given
@@ -858,6 +880,25 @@ public interface NettyComponentBuilderFactory {
             doSetProperty("nativeTransport", nativeTransport);
             return this;
         }
+        /**
+         * The native transport to use when nativeTransport is enabled. The
+         * default auto uses KQueue if available, and otherwise Epoll. Use epoll
+         * or kqueue to require the given transport, and fail if it is not
+         * available.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: auto
+         * Group: advanced
+         * 
+         * @param nativeTransportType the value to set
+         * @return the dsl builder
+         */
+        default NettyComponentBuilder nativeTransportType(
+                java.lang.String nativeTransportType) {
+            doSetProperty("nativeTransportType", nativeTransportType);
+            return this;
+        }
         /**
          * Allows to configure additional netty options using option. as prefix.
          * For example option.child.keepAlive=false to set the netty option
@@ -1437,6 +1478,7 @@ public interface NettyComponentBuilderFactory {
             case "producerPoolBlockWhenExhausted": getOrCreateConfiguration((NettyComponent) component).setProducerPoolBlockWhenExhausted((boolean) value); return true;
             case "producerPoolEnabled": getOrCreateConfiguration((NettyComponent) component).setProducerPoolEnabled((boolean) value); return true;
             case "producerPoolMaxIdle": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMaxIdle((int) value); return true;
+            case "producerPoolMaxPipelined": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMaxPipelined((int) value); return true;
             case "producerPoolMaxTotal": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMaxTotal((int) value); return true;
             case "producerPoolMaxWait": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMaxWait((long) value); return true;
             case "producerPoolMinEvictableIdle": getOrCreateConfiguration((NettyComponent) component).setProducerPoolMinEvictableIdle((long) value); return true;
@@ -1448,6 +1490,7 @@ public interface NettyComponentBuilderFactory {
             case "autowiredEnabled": ((NettyComponent) component).setAutowiredEnabled((boolean) value); return true;
             case "channelGroup": getOrCreateConfiguration((NettyComponent) component).setChannelGroup((io.netty.channel.group.ChannelGroup) value); return true;
             case "nativeTransport": getOrCreateConfiguration((NettyComponent) component).setNativeTransport((boolean) value); return true;
+            case "nativeTransportType": getOrCreateConfiguration((NettyComponent) component).setNativeTransportType((java.lang.String) value); return true;
             case "options": getOrCreateConfiguration((NettyComponent) component).setOptions((java.util.Map) value); return true;
             case "receiveBufferSize": getOrCreateConfiguration((NettyComponent) component).setReceiveBufferSize((int) value); return true;
             case "receiveBufferSizePredictor": getOrCreateConfiguration((NettyComponent) component).setReceiveBufferSizePredictor((int) value); return true;
@@ -682,6 +682,28 @@ public interface NettyHttpComponentBuilderFactory {
             doSetProperty("producerPoolMaxIdle", producerPoolMaxIdle);
             return this;
         }
+        /**
+         * Sets the maximum number of exchanges which can use the same pooled
+         * channel at the same time (pipelining), which allows sending more
+         * requests without waiting for the replies of the previous requests on
+         * the channel. The default value of 1 turns off pipelining. Important:
+         * When using pipelining then the replies must be correlated to the
+         * requests, so you must configure a NettyCamelStateCorrelationManager
+         * via the correlationManager option.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolMaxPipelined the value to set
+         * @return the dsl builder
+         */
+        default NettyHttpComponentBuilder producerPoolMaxPipelined(
+                int producerPoolMaxPipelined) {
+            doSetProperty("producerPoolMaxPipelined", producerPoolMaxPipelined);
+            return this;
+        }
         /**
          * Sets the cap on the number of objects that can be allocated by the
          * pool (checked out to clients, or idle awaiting checkout) at a given
@@ -897,6 +919,25 @@ public interface NettyHttpComponentBuilderFactory {
             doSetProperty("nativeTransport", nativeTransport);
             return this;
         }
+        /**
+         * The native transport to use when nativeTransport is enabled. The
+         * default auto uses KQueue if available, and otherwise Epoll. Use epoll
+         * or kqueue to require the given transport, and fail if it is not
+         * available.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: auto
+         * Group: advanced
+         * 
+         * @param nativeTransportType the value to set
+         * @return the dsl builder
+         */
+        default NettyHttpComponentBuilder nativeTransportType(
+                java.lang.String nativeTransportType) {
+            doSetProperty("nativeTransportType", nativeTransportType);
+            return this;
+        }
         /**
          * To use a custom
          * org.apache.camel.component.netty.http.NettyHttpBinding for binding
@@ -1516,6 +1557,7 @@ public interface NettyHttpComponentBuilderFactory {
             case "producerPoolBlockWhenExhausted": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolBlockWhenExhausted((boolean) value); return true;
             case "producerPoolEnabled": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolEnabled((boolean) value); return true;
             case "producerPoolMaxIdle": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolMaxIdle((int) value); return true;
+            case "producerPoolMaxPipelined": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolMaxPipelined((int) value); return true;
             case "producerPoolMaxTotal": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolMaxTotal((int) value); return true;
             case "producerPoolMaxWait": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolMaxWait((long) value); return true;
             case "producerPoolMinEvictableIdle": getOrCreateConfiguration((NettyHttpComponent) component).setProducerPoolMinEvictableIdle((long) value); return true;
@@ -1528,6 +1570,7 @@ public interface NettyHttpComponentBuilderFactory {
             case "channelGroup": getOrCreateConfiguration((NettyHttpComponent) component).setChannelGroup((io.netty.channel.group.ChannelGroup) value); return true;
             case "headerFilterStrategy": ((NettyHttpComponent) component).setHeaderFilterStrategy((org.apache.camel.spi.HeaderFilterStrategy) value); return true;
             case "nativeTransport": getOrCreateConfiguration((NettyHttpComponent) component).setNativeTransport((boolean) value); return true;
+            case "nativeTransportType": getOrCreateConfiguration((NettyHttpComponent) component).setNativeTransportType((java.lang.String) value); return true;
             case "nettyHttpBinding": ((NettyHttpComponent) component).setNettyHttpBinding((org.apache.camel.component.netty.http.NettyHttpBinding) value); return true;
             case "options": getOrCreateConfiguration((NettyHttpComponent) component).setOptions((java.util.Map) value); return true;
             case "receiveBufferSize": getOrCreateConfiguration((NettyHttpComponent) component).setReceiveBufferSize((int) value); return true;
@@ -776,6 +776,44 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("headerFilterStrategy", headerFilterStrategy);
             return this;
         }
+        /**
+         * The maximum size in bytes of a response body received by the async
+         * client (useAsyncClient) when disableStreamCache is enabled, as the
+         * response body is then kept in memory. The exchange fails if the
+         * response body is larger.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 10485760
+         * Group: producer (advanced)
+         * 
+         * @param asyncMaxResponseBodySize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncMaxResponseBodySize(
+                int asyncMaxResponseBodySize) {
+            doSetProperty("asyncMaxResponseBodySize", asyncMaxResponseBodySize);
+            return this;
+        }
+        /**
+         * The maximum size in bytes of a response body received by the async
+         * client (useAsyncClient) when disableStreamCache is enabled, as the
+         * response body is then kept in memory. The exchange fails if the
+         * response body is larger.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 10485760
+         * Group: producer (advanced)
+         * 
+         * @param asyncMaxResponseBodySize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder asyncMaxResponseBodySize(
+                String asyncMaxResponseBodySize) {
+            doSetProperty("asyncMaxResponseBodySize", asyncMaxResponseBodySize);
+            return this;
+        }
         /**
          * Whether to clear expired cookies before sending the HTTP request.
          * This ensures the cookies store does not keep growing by adding new
@@ -1196,6 +1234,49 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("preserveHostHeader", preserveHostHeader);
             return this;
         }
+        /**
+         * Whether the producer should use the non-blocking HttpClient 5 async
+         * client instead of the classic blocking client. The async client does
+         * not block the calling thread while waiting for the response, and
+         * negotiates HTTP/2 for secure connections. Notice that the httpClient
+         * options are only applied to the classic client, and a custom
+         * HttpClientConfigurer must support the async client.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(
+                boolean useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
+        /**
+         * Whether the producer should use the non-blocking HttpClient 5 async
+         * client instead of the classic blocking client. The async client does
+         * not block the calling thread while waiting for the response, and
+         * negotiates HTTP/2 for secure connections. Notice that the httpClient
+         * options are only applied to the classic client, and a custom
+         * HttpClientConfigurer must support the async client.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param useAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder useAsyncClient(
+                String useAsyncClient) {
+            doSetProperty("useAsyncClient", useAsyncClient);
+            return this;
+        }
         /**
          * To set a custom HTTP User-Agent request header.
          * 
@@ -1309,6 +1390,40 @@ public interface HttpEndpointBuilderFactory {
             doSetProperty("connectionsPerRoute", connectionsPerRoute);
             return this;
         }
+        /**
+         * Sets a custom HttpAsyncClient to be used by the producer when
+         * useAsyncClient is enabled.
+         * 
+         * The option is a:
+         * &lt;code&gt;org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient&lt;/code&gt; type.
+         * 
+         * Group: advanced
+         * 
+         * @param httpAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpAsyncClient(
+                org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient httpAsyncClient) {
+            doSetProperty("httpAsyncClient", httpAsyncClient);
+            return this;
+        }
+        /**
+         * Sets a custom HttpAsyncClient to be used by the producer when
+         * useAsyncClient is enabled.
+         * 
+         * The option will be converted to a
+         * &lt;code&gt;org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient&lt;/code&gt; type.
+         * 
+         * Group: advanced
+         * 
+         * @param httpAsyncClient the value to set
+         * @return the dsl builder
+         */
+        default AdvancedHttpEndpointBuilder httpAsyncClient(
+                String httpAsyncClient) {
+            doSetProperty("httpAsyncClient", httpAsyncClient);
+            return this;
+        }
         /**
          * Sets a custom HttpClient to be used by the producer.
          * 
@@ -1248,6 +1248,52 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("preValidateHostAndPort", preValidateHostAndPort);
             return this;
         }
+        /**
+         * The number of threads used by each consumer to process the records it
+         * retrieves. The default is 1, which processes the records one by one
+         * on the consumer thread. When using more threads, then records with
+         * the same key are still processed in order (by one thread at a time),
+         * and the offsets are only committed up to the last record which all
+         * previous records in the same partition have been processed. This
+         * option cannot be used together with allowManualCommit, and is not in
+         * use when batching is enabled.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder processingThreads(
+                int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
+        /**
+         * The number of threads used by each consumer to process the records it
+         * retrieves. The default is 1, which processes the records one by one
+         * on the consumer thread. When using more threads, then records with
+         * the same key are still processed in order (by one thread at a time),
+         * and the offsets are only committed up to the last record which all
+         * previous records in the same partition have been processed. This
+         * option cannot be used together with allowManualCommit, and is not in
+         * use when batching is enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder processingThreads(
+                String processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer should read from the beginning or the end on
          * startup: SeekPolicy.BEGINNING: read from the beginning.
@@ -1585,6 +1585,25 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("nativeTransport", nativeTransport);
             return this;
         }
+        /**
+         * The native transport to use when nativeTransport is enabled. The
+         * default auto uses KQueue if available, and otherwise Epoll. Use epoll
+         * or kqueue to require the given transport, and fail if it is not
+         * available.
+         * 
+         * The option is a: &lt;code&gt;String&lt;/code&gt; type.
+         * 
+         * Default: auto
+         * Group: advanced
+         * 
+         * @param nativeTransportType the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointConsumerBuilder nativeTransportType(
+                String nativeTransportType) {
+            doSetProperty("nativeTransportType", nativeTransportType);
+            return this;
+        }
         /**
          * Allows to configure additional netty options using option. as prefix.
          * For example option.child.keepAlive=false to set the netty option
@@ -3076,6 +3095,50 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("producerPoolMaxIdle", producerPoolMaxIdle);
             return this;
         }
+        /**
+         * Sets the maximum number of exchanges which can use the same pooled
+         * channel at the same time (pipelining), which allows sending more
+         * requests without waiting for the replies of the previous requests on
+         * the channel. The default value of 1 turns off pipelining. Important:
+         * When using pipelining then the replies must be correlated to the
+         * requests, so you must configure a NettyCamelStateCorrelationManager
+         * via the correlationManager option.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolMaxPipelined the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder producerPoolMaxPipelined(
+                int producerPoolMaxPipelined) {
+            doSetProperty("producerPoolMaxPipelined", producerPoolMaxPipelined);
+            return this;
+        }
+        /**
+         * Sets the maximum number of exchanges which can use the same pooled
+         * channel at the same time (pipelining), which allows sending more
+         * requests without waiting for the replies of the previous requests on
+         * the channel. The default value of 1 turns off pipelining. Important:
+         * When using pipelining then the replies must be correlated to the
+         * requests, so you must configure a NettyCamelStateCorrelationManager
+         * via the correlationManager option.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolMaxPipelined the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder producerPoolMaxPipelined(
+                String producerPoolMaxPipelined) {
+            doSetProperty("producerPoolMaxPipelined", producerPoolMaxPipelined);
+            return this;
+        }
         /**
          * Sets the cap on the number of objects that can be allocated by the
          * pool (checked out to clients, or idle awaiting checkout) at a given
@@ -3402,6 +3465,25 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("nativeTransport", nativeTransport);
             return this;
         }
+        /**
+         * The native transport to use when nativeTransport is enabled. The
+         * default auto uses KQueue if available, and otherwise Epoll. Use epoll
+         * or kqueue to require the given transport, and fail if it is not
+         * available.
+         * 
+         * The option is a: &lt;code&gt;String&lt;/code&gt; type.
+         * 
+         * Default: auto
+         * Group: advanced
+         * 
+         * @param nativeTransportType the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder nativeTransportType(
+                String nativeTransportType) {
+            doSetProperty("nativeTransportType", nativeTransportType);
+            return this;
+        }
         /**
          * Allows to configure additional netty options using option. as prefix.
          * For example option.child.keepAlive=false to set the netty option
@@ -4633,6 +4715,25 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("nativeTransport", nativeTransport);
             return this;
         }
+        /**
+         * The native transport to use when nativeTransport is enabled. The
+         * default auto uses KQueue if available, and otherwise Epoll. Use epoll
+         * or kqueue to require the given transport, and fail if it is not
+         * available.
+         * 
+         * The option is a: &lt;code&gt;String&lt;/code&gt; type.
+         * 
+         * Default: auto
+         * Group: advanced
+         * 
+         * @param nativeTransportType the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointBuilder nativeTransportType(
+                String nativeTransportType) {
+            doSetProperty("nativeTransportType", nativeTransportType);
+            return this;
+        }
         /**
          * Allows to configure additional netty options using option. as prefix.
          * For example option.child.keepAlive=false to set the netty option
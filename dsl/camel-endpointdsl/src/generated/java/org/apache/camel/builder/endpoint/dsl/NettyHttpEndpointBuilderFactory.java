@@ -2007,6 +2007,25 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("nativeTransport", nativeTransport);
             return this;
         }
+        /**
+         * The native transport to use when nativeTransport is enabled. The
+         * default auto uses KQueue if available, and otherwise Epoll. Use epoll
+         * or kqueue to require the given transport, and fail if it is not
+         * available.
+         * 
+         * The option is a: &lt;code&gt;String&lt;/code&gt; type.
+         * 
+         * Default: auto
+         * Group: advanced
+         * 
+         * @param nativeTransportType the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointConsumerBuilder nativeTransportType(
+                String nativeTransportType) {
+            doSetProperty("nativeTransportType", nativeTransportType);
+            return this;
+        }
         /**
          * To use a custom
          * org.apache.camel.component.netty.http.NettyHttpBinding for binding
@@ -3440,6 +3459,50 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("producerPoolMaxIdle", producerPoolMaxIdle);
             return this;
         }
+        /**
+         * Sets the maximum number of exchanges which can use the same pooled
+         * channel at the same time (pipelining), which allows sending more
+         * requests without waiting for the replies of the previous requests on
+         * the channel. The default value of 1 turns off pipelining. Important:
+         * When using pipelining then the replies must be correlated to the
+         * requests, so you must configure a NettyCamelStateCorrelationManager
+         * via the correlationManager option.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolMaxPipelined the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointProducerBuilder producerPoolMaxPipelined(
+                int producerPoolMaxPipelined) {
+            doSetProperty("producerPoolMaxPipelined", producerPoolMaxPipelined);
+            return this;
+        }
+        /**
+         * Sets the maximum number of exchanges which can use the same pooled
+         * channel at the same time (pipelining), which allows sending more
+         * requests without waiting for the replies of the previous requests on
+         * the channel. The default value of 1 turns off pipelining. Important:
+         * When using pipelining then the replies must be correlated to the
+         * requests, so you must configure a NettyCamelStateCorrelationManager
+         * via the correlationManager option.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: producer (advanced)
+         * 
+         * @param producerPoolMaxPipelined the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointProducerBuilder producerPoolMaxPipelined(
+                String producerPoolMaxPipelined) {
+            doSetProperty("producerPoolMaxPipelined", producerPoolMaxPipelined);
+            return this;
+        }
         /**
          * Sets the cap on the number of objects that can be allocated by the
          * pool (checked out to clients, or idle awaiting checkout) at a given
@@ -3860,6 +3923,25 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("nativeTransport", nativeTransport);
             return this;
         }
+        /**
+         * The native transport to use when nativeTransport is enabled. The
+         * default auto uses KQueue if available, and otherwise Epoll. Use epoll
+         * or kqueue to require the given transport, and fail if it is not
+         * available.
+         * 
+         * The option is a: &lt;code&gt;String&lt;/code&gt; type.
+         * 
+         * Default: auto
+         * Group: advanced
+         * 
+         * @param nativeTransportType the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointProducerBuilder nativeTransportType(
+                String nativeTransportType) {
+            doSetProperty("nativeTransportType", nativeTransportType);
+            return this;
+        }
         /**
          * To use a custom
          * org.apache.camel.component.netty.http.NettyHttpBinding for binding
@@ -5132,6 +5214,25 @@ public interface NettyHttpEndpointBuilderFactory {
             doSetProperty("nativeTransport", nativeTransport);
             return this;
         }
+        /**
+         * The native transport to use when nativeTransport is enabled. The
+         * default auto uses KQueue if available, and otherwise Epoll. Use epoll
+         * or kqueue to require the given transport, and fail if it is not
+         * available.
+         * 
+         * The option is a: &lt;code&gt;String&lt;/code&gt; type.
+         * 
+         * Default: auto
+         * Group: advanced
+         * 
+         * @param nativeTransportType the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyHttpEndpointBuilder nativeTransportType(
+                String nativeTransportType) {
+            doSetProperty("nativeTransportType", nativeTransportType);
+            return this;
+        }
         /**
          * To use a custom
          * org.apache.camel.component.netty.http.NettyHttpBinding for binding
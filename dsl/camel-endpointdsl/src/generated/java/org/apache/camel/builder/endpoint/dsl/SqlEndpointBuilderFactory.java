@@ -1808,6 +1808,82 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("lazyStartProducer", lazyStartProducer);
             return this;
         }
+        /**
+         * If set greater than zero, then the producer collects the parameters
+         * from many concurrent exchanges, and executes them together as a
+         * single JDBC batch when this number of exchanges has been collected,
+         * or when the microBatchTimeout has elapsed. Each exchange is then
+         * continued with its own update count. This can only be used for
+         * insert/update/delete queries, and cannot be combined with the batch
+         * option or outputType=StreamList.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchSize(
+                int microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
+        /**
+         * If set greater than zero, then the producer collects the parameters
+         * from many concurrent exchanges, and executes them together as a
+         * single JDBC batch when this number of exchanges has been collected,
+         * or when the microBatchTimeout has elapsed. Each exchange is then
+         * continued with its own update count. This can only be used for
+         * insert/update/delete queries, and cannot be combined with the batch
+         * option or outputType=StreamList.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchSize(
+                String microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for collecting exchanges into a
+         * batch, when microBatchSize is in use.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param microBatchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchTimeout(
+                long microBatchTimeout) {
+            doSetProperty("microBatchTimeout", microBatchTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for collecting exchanges into a
+         * batch, when microBatchSize is in use.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param microBatchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchTimeout(
+                String microBatchTimeout) {
+            doSetProperty("microBatchTimeout", microBatchTimeout);
+            return this;
+        }
         /**
          * If enabled then the populateStatement method from
          * org.apache.camel.component.sql.SqlPrepareStatementStrategy is always
@@ -106,4 +106,24 @@ public class BindyCsvDataFormatDsl {
   public fun locale(locale: String) {
     def.locale = locale
   }
+
+  /**
+   * Whether the unmarshalling should produce an iterator that reads and binds the lines on the fly,
+   * instead of reading all the lines into a list of models. The iterator can be used with the Splitter
+   * in streaming mode, to process large CSV files with a low memory footprint. This option is only
+   * supported by the Csv type.
+   */
+  public fun lazyLoad(lazyLoad: Boolean) {
+    def.lazyLoad = lazyLoad.toString()
+  }
+
+  /**
+   * Whether the unmarshalling should produce an iterator that reads and binds the lines on the fly,
+   * instead of reading all the lines into a list of models. The iterator can be used with the Splitter
+   * in streaming mode, to process large CSV files with a low memory footprint. This option is only
+   * supported by the Csv type.
+   */
+  public fun lazyLoad(lazyLoad: String) {
+    def.lazyLoad = lazyLoad
+  }
 }
@@ -347,6 +347,24 @@ public class CsvDataFormatDsl {
     def.useOrderedMaps = useOrderedMaps
   }
 
+  /**
+   * Whether the unmarshalling should produce record views (CsvRecordView) for the lines values
+   * instead of lists. A record view is a read-only list over the values of the parsed record, which
+   * can also be read by column name, so the values are not copied into a new list or map.
+   */
+  public fun useRecordView(useRecordView: Boolean) {
+    def.useRecordView = useRecordView.toString()
+  }
+
+  /**
+   * Whether the unmarshalling should produce record views (CsvRecordView) for the lines values
+   * instead of lists. A record view is a read-only list over the values of the parsed record, which
+   * can also be read by column name, so the values are not copied into a new list or map.
+   */
+  public fun useRecordView(useRecordView: String) {
+    def.useRecordView = useRecordView
+  }
+
   /**
    * Refers to a custom CsvRecordConverter to lookup from the registry to use.
    */
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.kotlin.dataformats
 
+import kotlin.Boolean
+import kotlin.Int
 import kotlin.String
 import kotlin.Unit
 import org.apache.camel.kotlin.CamelDslMarker
@@ -42,4 +44,42 @@ public class GzipDeflaterDataFormatDsl {
   public fun id(id: String) {
     def.id = id
   }
+
+  /**
+   * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard
+   * gzip stream.
+   */
+  public fun parallel(parallel: Boolean) {
+    def.parallel = parallel.toString()
+  }
+
+  /**
+   * Whether to compress blocks of the data in parallel (like pigz) while still producing a standard
+   * gzip stream.
+   */
+  public fun parallel(parallel: String) {
+    def.parallel = parallel
+  }
+
+  /**
+   * The size in bytes of the blocks that are compressed in parallel.
+   */
+  public fun blockSize(blockSize: Int) {
+    def.blockSize = blockSize.toString()
+  }
+
+  /**
+   * The size in bytes of the blocks that are compressed in parallel.
+   */
+  public fun blockSize(blockSize: String) {
+    def.blockSize = blockSize
+  }
+
+  /**
+   * Refers to a custom thread pool to compress the blocks in parallel on. By default the common
+   * fork-join pool is used.
+   */
+  public fun executorService(executorService: String) {
+    def.executorService = executorService
+  }
 }
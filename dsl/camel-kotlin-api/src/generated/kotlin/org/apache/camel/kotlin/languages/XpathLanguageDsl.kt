@@ -155,6 +155,28 @@ public class XpathLanguageDsl(
     def.preCompile = preCompile
   }
 
+  /**
+   * Whether to evaluate simple xpath expressions while streaming the message body with StAX,
+   * instead of loading the body as a DOM. This is used when the result is a string, number or boolean,
+   * and the expression is an absolute path of elements, such as /order/header/id. Other expressions
+   * are evaluated on a DOM as usual. Streaming is disabled by default, as the result can differ from a
+   * DOM, for example adjacent text and CDATA sections are always merged into one text node.
+   */
+  public fun streaming(streaming: Boolean) {
+    def.streaming = streaming.toString()
+  }
+
+  /**
+   * Whether to evaluate simple xpath expressions while streaming the message body with StAX,
+   * instead of loading the body as a DOM. This is used when the result is a string, number or boolean,
+   * and the expression is an absolute path of elements, such as /order/header/id. Other expressions
+   * are evaluated on a DOM as usual. Streaming is disabled by default, as the result can differ from a
+   * DOM, for example adjacent text and CDATA sections are always merged into one text node.
+   */
+  public fun streaming(streaming: String) {
+    def.streaming = streaming
+  }
+
   /**
    * Injects the XML Namespaces of prefix - uri mappings
    */
@@ -77,6 +77,40 @@ public class XtokenizeLanguageDsl(
     def.group = group
   }
 
+  /**
+   * Whether to extract the tokens in a background thread, while the previous tokens are being
+   * processed. This allows a streaming splitter to process large XML documents faster, especially with
+   * parallel processing.
+   */
+  public fun pipelined(pipelined: Boolean) {
+    def.pipelined = pipelined.toString()
+  }
+
+  /**
+   * Whether to extract the tokens in a background thread, while the previous tokens are being
+   * processed. This allows a streaming splitter to process large XML documents faster, especially with
+   * parallel processing.
+   */
+  public fun pipelined(pipelined: String) {
+    def.pipelined = pipelined
+  }
+
+  /**
+   * The maximum number of tokens the background thread can extract ahead of processing, when
+   * pipelined.
+   */
+  public fun pipelineCapacity(pipelineCapacity: Int) {
+    def.pipelineCapacity = pipelineCapacity.toString()
+  }
+
+  /**
+   * The maximum number of tokens the background thread can extract ahead of processing, when
+   * pipelined.
+   */
+  public fun pipelineCapacity(pipelineCapacity: String) {
+    def.pipelineCapacity = pipelineCapacity
+  }
+
   /**
    * Injects the XML Namespaces of prefix - uri mappings
    */
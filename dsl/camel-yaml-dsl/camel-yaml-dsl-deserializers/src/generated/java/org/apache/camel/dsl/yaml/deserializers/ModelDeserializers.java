@@ -1402,6 +1402,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "allowEmptyStream", type = "boolean", description = "Whether to allow empty streams in the unmarshal process. If true, no exception will be thrown when a body without records is provided.", displayName = "Allow Empty Stream"),
                     @YamlProperty(name = "classType", type = "string", description = "Name of model class to use.", displayName = "Class Type"),
                     @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id"),
+                    @YamlProperty(name = "lazyLoad", type = "boolean", description = "Whether the unmarshalling should produce an iterator that reads and binds the lines on the fly, instead of reading all the lines into a list of models. The iterator can be used with the Splitter in streaming mode, to process large CSV files with a low memory footprint. This option is only supported by the Csv type.", displayName = "Lazy Load"),
                     @YamlProperty(name = "locale", type = "string", description = "To configure a default locale to use, such as us for united states. To use the JVM platform default locale then use the name default", displayName = "Locale"),
                     @YamlProperty(name = "type", type = "enum:Csv,Fixed,KeyValue", description = "Whether to use Csv, Fixed, or KeyValue.", displayName = "Type"),
                     @YamlProperty(name = "unwrapSingleInstance", type = "boolean", description = "When unmarshalling should a single instance be unwrapped and returned instead of wrapped in a java.util.List.", displayName = "Unwrap Single Instance")
@@ -1437,6 +1438,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setId(val);
                     break;
                 }
+                case "lazyLoad": {
+                    String val = asText(node);
+                    target.setLazyLoad(val);
+                    break;
+                }
                 case "locale": {
                     String val = asText(node);
                     target.setLocale(val);
@@ -2967,7 +2973,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "trailingDelimiter", type = "boolean", description = "Sets whether or not to add a trailing delimiter.", displayName = "Trailing Delimiter"),
                     @YamlProperty(name = "trim", type = "boolean", description = "Sets whether or not to trim leading and trailing blanks.", displayName = "Trim"),
                     @YamlProperty(name = "useMaps", type = "boolean", description = "Whether the unmarshalling should produce maps (HashMap)for the lines values instead of lists. It requires to have header (either defined or collected).", displayName = "Use Maps"),
-                    @YamlProperty(name = "useOrderedMaps", type = "boolean", description = "Whether the unmarshalling should produce ordered maps (LinkedHashMap) for the lines values instead of lists. It requires to have header (either defined or collected).", displayName = "Use Ordered Maps")
+                    @YamlProperty(name = "useOrderedMaps", type = "boolean", description = "Whether the unmarshalling should produce ordered maps (LinkedHashMap) for the lines values instead of lists. It requires to have header (either defined or collected).", displayName = "Use Ordered Maps"),
+                    @YamlProperty(name = "useRecordView", type = "boolean", description = "Whether the unmarshalling should produce record views (CsvRecordView) for the lines values instead of lists. A record view is a read-only list over the values of the parsed record, which can also be read by column name, so the values are not copied into a new list or map.", displayName = "Use Record View")
             }
     )
     public static class CsvDataFormatDeserializer extends YamlDeserializerBase<CsvDataFormat> {
@@ -3140,6 +3147,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setUseOrderedMaps(val);
                     break;
                 }
+                case "useRecordView": {
+                    String val = asText(node);
+                    target.setUseRecordView(val);
+                    break;
+                }
                 default: {
                     return false;
                 }
@@ -6523,7 +6535,12 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             displayName = "GZip Deflater",
             description = "Compress and decompress messages using java.util.zip.GZIPStream.",
             deprecated = false,
-            properties = @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id")
+            properties = {
+                    @YamlProperty(name = "blockSize", type = "number", defaultValue = "131072", description = "The size in bytes of the blocks that are compressed in parallel.", displayName = "Block Size"),
+                    @YamlProperty(name = "executorService", type = "string", description = "Refers to a custom thread pool to compress the blocks in parallel on. By default the common fork-join pool is used.", displayName = "Executor Service"),
+                    @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id"),
+                    @YamlProperty(name = "parallel", type = "boolean", description = "Whether to compress blocks of the data in parallel (like pigz) while still producing a standard gzip stream.", displayName = "Parallel")
+            }
     )
     public static class GzipDeflaterDataFormatDeserializer extends YamlDeserializerBase<GzipDeflaterDataFormat> {
         public GzipDeflaterDataFormatDeserializer() {
@@ -6540,11 +6557,26 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                 String propertyName, Node node) {
             propertyKey = org.apache.camel.util.StringHelper.dashToCamelCase(propertyKey);
             switch(propertyKey) {
+                case "blockSize": {
+                    String val = asText(node);
+                    target.setBlockSize(val);
+                    break;
+                }
+                case "executorService": {
+                    String val = asText(node);
+                    target.setExecutorService(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
                     break;
                 }
+                case "parallel": {
+                    String val = asText(node);
+                    target.setParallel(val);
+                    break;
+                }
                 default: {
                     return false;
                 }
@@ -20591,6 +20623,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string", description = "Sets the id of this node", displayName = "Id"),
                     @YamlProperty(name = "mode", type = "enum:i,w,u,t", defaultValue = "i", description = "The extraction mode. The available extraction modes are: i - injecting the contextual namespace bindings into the extracted token (default) w - wrapping the extracted token in its ancestor context u - unwrapping the extracted token to its child content t - extracting the text content of the specified element", displayName = "Mode"),
                     @YamlProperty(name = "namespace", type = "array:org.apache.camel.model.PropertyDefinition", description = "Injects the XML Namespaces of prefix - uri mappings", displayName = "Namespace"),
+                    @YamlProperty(name = "pipelineCapacity", type = "number", defaultValue = "1000", description = "The maximum number of tokens the background thread can extract ahead of processing, when pipelined.", displayName = "Pipeline Capacity"),
+                    @YamlProperty(name = "pipelined", type = "boolean", description = "Whether to extract the tokens in a background thread, while the previous tokens are being processed. This allows a streaming splitter to process large XML documents faster, especially with parallel processing.", displayName = "Pipelined"),
                     @YamlProperty(name = "resultType", type = "string", description = "Sets the class of the result type (type from output)", displayName = "Result Type"),
                     @YamlProperty(name = "source", type = "string", description = "Source to use, instead of message body. You can prefix with variable:, header:, or property: to specify kind of source. Otherwise, the source is assumed to be a variable. Use empty or null to use default source, which is the message body.", displayName = "Source"),
                     @YamlProperty(name = "trim", type = "boolean", description = "Whether to trim the value to remove leading and trailing whitespaces and line breaks", displayName = "Trim")
@@ -20641,6 +20675,16 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setNamespace(val);
                     break;
                 }
+                case "pipelineCapacity": {
+                    String val = asText(node);
+                    target.setPipelineCapacity(val);
+                    break;
+                }
+                case "pipelined": {
+                    String val = asText(node);
+                    target.setPipelined(val);
+                    break;
+                }
                 case "resultType": {
                     String val = asText(node);
                     target.setResultTypeName(val);
@@ -20694,6 +20738,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "resultType", type = "string", description = "Sets the class of the result type (type from output)", displayName = "Result Type"),
                     @YamlProperty(name = "saxon", type = "boolean", description = "Whether to use Saxon.", displayName = "Saxon"),
                     @YamlProperty(name = "source", type = "string", description = "Source to use, instead of message body. You can prefix with variable:, header:, or property: to specify kind of source. Otherwise, the source is assumed to be a variable. Use empty or null to use default source, which is the message body.", displayName = "Source"),
+                    @YamlProperty(name = "streaming", type = "boolean", description = "Whether to evaluate simple xpath expressions while streaming the message body with StAX, instead of loading the body as a DOM. This is used when the result is a string, number or boolean, and the expression is an absolute path of elements, such as /order/header/id. Other expressions are evaluated on a DOM as usual. Streaming is disabled by default, as the result can differ from a DOM, for example adjacent text and CDATA sections are always merged into one text node.", displayName = "Streaming"),
                     @YamlProperty(name = "threadSafety", type = "boolean", description = "Whether to enable thread-safety for the returned result of the xpath expression. This applies to when using NODESET as the result type, and the returned set has multiple elements. In this situation there can be thread-safety issues if you process the NODESET concurrently such as from a Camel Splitter EIP in parallel processing mode. This option prevents concurrency issues by doing defensive copies of the nodes. It is recommended to turn this option on if you are using camel-saxon or Saxon in your application. Saxon has thread-safety issues which can be prevented by turning this option on.", displayName = "Thread Safety"),
                     @YamlProperty(name = "trim", type = "boolean", description = "Whether to trim the value to remove leading and trailing whitespaces and line breaks", displayName = "Trim")
             }
@@ -20778,6 +20823,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setSource(val);
                     break;
                 }
+                case "streaming": {
+                    String val = asText(node);
+                    target.setStreaming(val);
+                    break;
+                }
                 case "threadSafety": {
                     String val = asText(node);
                     target.setThreadSafety(val);
@@ -21063,8 +21113,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             description = "Compress and decompress streams using java.util.zip.Deflater and java.util.zip.Inflater.",
             deprecated = false,
             properties = {
+                    @YamlProperty(name = "blockSize", type = "number", defaultValue = "131072", description = "The size in bytes of the blocks that are compressed in parallel.", displayName = "Block Size"),
                     @YamlProperty(name = "compressionLevel", type = "enum:-1,0,1,2,3,4,5,6,7,8,9", defaultValue = "-1", description = "To specify a specific compression between 0-9. -1 is default compression, 0 is no compression, and 9 is the best compression.", displayName = "Compression Level"),
-                    @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id")
+                    @YamlProperty(name = "executorService", type = "string", description = "Refers to a custom thread pool to compress the blocks in parallel on. By default the common fork-join pool is used.", displayName = "Executor Service"),
+                    @YamlProperty(name = "id", type = "string", description = "The id of this node", displayName = "Id"),
+                    @YamlProperty(name = "parallel", type = "boolean", description = "Whether to compress blocks of the data in parallel (like pigz) while still producing a standard zlib stream.", displayName = "Parallel")
             }
     )
     public static class ZipDeflaterDataFormatDeserializer extends YamlDeserializerBase<ZipDeflaterDataFormat> {
@@ -21082,16 +21135,31 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                 String propertyName, Node node) {
             propertyKey = org.apache.camel.util.StringHelper.dashToCamelCase(propertyKey);
             switch(propertyKey) {
+                case "blockSize": {
+                    String val = asText(node);
+                    target.setBlockSize(val);
+                    break;
+                }
                 case "compressionLevel": {
                     String val = asText(node);
                     target.setCompressionLevel(val);
                     break;
                 }
+                case "executorService": {
+                    String val = asText(node);
+                    target.setExecutorService(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
                     break;
                 }
+                case "parallel": {
+                    String val = asText(node);
+                    target.setParallel(val);
+                    break;
+                }
                 default: {
                     return false;
                 }